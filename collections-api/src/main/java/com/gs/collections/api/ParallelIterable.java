@@ -35,6 +35,8 @@ import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.multimap.Multimap;
 import com.gs.collections.api.set.MutableSet;
@@ -231,6 +233,59 @@ public interface ParallelIterable<T>
      */
     double sumOfDouble(DoubleFunction<? super T> function);
 
+    /**
+     * Returns the final result of evaluating function using each element of the iterable in parallel. Each batch
+     * starts from a new value created by injectedValueFactory, and the per-batch results are merged using combiner.
+     * Ordered iterables merge the results in encounter order, so combiner only needs to be associative.
+     *
+     * @since 6.1
+     */
+    <IV> IV injectInto(
+            Function0<? extends IV> injectedValueFactory,
+            Function2<? super IV, ? super T, ? extends IV> function,
+            Function2<? super IV, ? super IV, ? extends IV> combiner);
+
+    /**
+     * Returns the result of combining the elements of the iterable in parallel using function, which must be
+     * associative. Ordered iterables combine the elements in encounter order.
+     *
+     * @throws java.util.NoSuchElementException if the iterable is empty
+     * @since 6.1
+     */
+    T reduce(Function2<? super T, ? super T, ? extends T> function);
+
+    /**
+     * Groups and sums the values using the two specified functions. Each batch is summed into its own map in
+     * parallel and the partial sums are merged at the end.
+     *
+     * @since 6.1
+     */
+    <V> ObjectLongMap<V> sumByInt(Function<T, V> groupBy, IntFunction<? super T> function);
+
+    /**
+     * Groups and sums the values using the two specified functions. Each batch is summed into its own map in
+     * parallel and the partial sums are merged at the end.
+     *
+     * @since 6.1
+     */
+    <V> ObjectDoubleMap<V> sumByFloat(Function<T, V> groupBy, FloatFunction<? super T> function);
+
+    /**
+     * Groups and sums the values using the two specified functions. Each batch is summed into its own map in
+     * parallel and the partial sums are merged at the end.
+     *
+     * @since 6.1
+     */
+    <V> ObjectLongMap<V> sumByLong(Function<T, V> groupBy, LongFunction<? super T> function);
+
+    /**
+     * Groups and sums the values using the two specified functions. Each batch is summed into its own map in
+     * parallel and the partial sums are merged at the end.
+     *
+     * @since 6.1
+     */
+    <V> ObjectDoubleMap<V> sumByDouble(Function<T, V> groupBy, DoubleFunction<? super T> function);
+
     String makeString();
 
     String makeString(String separator);
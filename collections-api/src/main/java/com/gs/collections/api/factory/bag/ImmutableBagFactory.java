@@ -58,4 +58,20 @@ public interface ImmutableBagFactory
     <T> ImmutableBag<T> ofAll(Iterable<? extends T> items);
 
     <T> ImmutableBag<T> withAll(Iterable<? extends T> items);
+
+    /**
+     * Returns an empty persistent bag, which adds and removes single occurrences in O(log n) time by sharing
+     * structure with the bag it was derived from.
+     *
+     * @since 6.1
+     */
+    <T> ImmutableBag<T> emptyPersistent();
+
+    /**
+     * Returns a persistent bag with the given items.
+     *
+     * @see #emptyPersistent()
+     * @since 6.1
+     */
+    <T> ImmutableBag<T> withAllPersistent(Iterable<? extends T> items);
 }
@@ -73,4 +73,21 @@ public interface ImmutableMapFactory
     <K, V> ImmutableMap<K, V> ofAll(Map<K, V> map);
 
     <K, V> ImmutableMap<K, V> withAll(Map<K, V> map);
+
+    /**
+     * Returns an empty persistent map. Unlike the other immutable maps, {@link ImmutableMap#newWithKeyValue(Object, Object)}
+     * and {@link ImmutableMap#newWithoutKey(Object)} on a persistent map copy only O(log n) of its structure and
+     * return another persistent map, which suits maps that are large and updated incrementally.
+     *
+     * @since 6.1
+     */
+    <K, V> ImmutableMap<K, V> emptyPersistent();
+
+    /**
+     * Returns a persistent map with the entries of {@code map}.
+     *
+     * @see #emptyPersistent()
+     * @since 6.1
+     */
+    <K, V> ImmutableMap<K, V> withAllPersistent(Map<K, V> map);
 }
@@ -107,4 +107,14 @@ public interface ImmutableSortedMapFactory
     <K, V> ImmutableSortedMap<K, V> ofSortedMap(SortedMap<K, V> map);
 
     <K, V> ImmutableSortedMap<K, V> withSortedMap(SortedMap<K, V> map);
+
+    /**
+     * Same as {@link #withSortedMap(SortedMap)}, but if the keys are all {@link Long}s or all {@link Integer}s in
+     * natural order, the returned map also keeps a primitive copy of them in a cache-friendly search order. This
+     * speeds up {@code get}, {@code containsKey}, {@code floorKey}, {@code ceilingKey} and the range views of large
+     * maps. Maps with any other keys or with a comparator are returned in the usual layout.
+     *
+     * @since 6.1
+     */
+    <K, V> ImmutableSortedMap<K, V> withSortedMapSearchOptimized(SortedMap<K, V> map);
 }
@@ -76,4 +76,20 @@ public interface ImmutableSetFactory
     <T> ImmutableSet<T> ofAll(Iterable<? extends T> items);
 
     <T> ImmutableSet<T> withAll(Iterable<? extends T> items);
+
+    /**
+     * Returns an empty persistent set, whose {@link ImmutableSet#newWith(Object)} and
+     * {@link ImmutableSet#newWithout(Object)} share all but O(log n) of their structure with the original set.
+     *
+     * @since 6.1
+     */
+    <T> ImmutableSet<T> emptyPersistent();
+
+    /**
+     * Returns a persistent set with the given items.
+     *
+     * @see #emptyPersistent()
+     * @since 6.1
+     */
+    <T> ImmutableSet<T> withAllPersistent(Iterable<? extends T> items);
 }
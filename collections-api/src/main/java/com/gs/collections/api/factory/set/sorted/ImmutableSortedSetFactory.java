@@ -79,4 +79,13 @@ public interface ImmutableSortedSetFactory
     <T> ImmutableSortedSet<T> ofSortedSet(SortedSet<T> set);
 
     <T> ImmutableSortedSet<T> withSortedSet(SortedSet<T> set);
+
+    /**
+     * Same as {@link #withSortedSet(SortedSet)}, but a set of {@link Long}s or {@link Integer}s in natural order also
+     * keeps a primitive copy of its elements in a cache-friendly search order, which speeds up {@code contains},
+     * {@code floor}, {@code ceiling} and the range views of large sets.
+     *
+     * @since 6.1
+     */
+    <T> ImmutableSortedSet<T> withSortedSetSearchOptimized(SortedSet<T> set);
 }
@@ -71,6 +71,15 @@ public interface ParallelListIterable<T>
      */
     <V> ParallelListIterable<V> flatCollect(Function<? super T, ? extends Iterable<V>> function);
 
+    /**
+     * Returns the first element, in list order, that satisfies the predicate, or null if no element does. Unlike
+     * {@link #detect(Predicate)}, which returns whichever match a batch finds first, this waits for the batches in
+     * order; batches after the earliest match found so far stop evaluating the predicate.
+     *
+     * @since 6.1
+     */
+    T detectFirst(Predicate<? super T> predicate);
+
     <V> ListMultimap<V, T> groupBy(Function<? super T, ? extends V> function);
 
     <V> ListMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function);
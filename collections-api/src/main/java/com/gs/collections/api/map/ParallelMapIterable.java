@@ -0,0 +1,54 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.api.map;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.bag.ParallelUnsortedBag;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.set.ParallelUnsortedSetIterable;
+import com.gs.collections.api.tuple.Pair;
+
+/**
+ * A ParallelMapIterable offers parallel views of the keys, values and entries of a map. The views split the backing
+ * storage of the map directly, so no intermediate copy of the entries is made. Evaluation occurs in parallel. All code
+ * blocks passed in must be stateless or thread-safe.
+ *
+ * @since 6.1
+ */
+@Beta
+public interface ParallelMapIterable<K, V>
+{
+    /**
+     * Calls the procedure with each key-value pair of the map, in parallel.
+     */
+    void forEachKeyValue(Procedure2<? super K, ? super V> procedure);
+
+    /**
+     * Returns a parallel iterable of the keys of the map.
+     */
+    ParallelUnsortedSetIterable<K> keysView();
+
+    /**
+     * Returns a parallel iterable of the values of the map.
+     */
+    ParallelUnsortedBag<V> valuesView();
+
+    /**
+     * Returns a parallel iterable of the key-value pairs of the map.
+     */
+    ParallelUnsortedSetIterable<Pair<K, V>> keyValuesView();
+}
@@ -78,6 +78,20 @@ public interface ImmutableSortedMap<K, V>
 
     ImmutableMap<V, K> flipUniqueValues();
 
+    /**
+     * Returns the greatest key less than or equal to {@code key}, or {@code null} if there is no such key.
+     *
+     * @since 6.1
+     */
+    K floorKey(K key);
+
+    /**
+     * Returns the least key greater than or equal to {@code key}, or {@code null} if there is no such key.
+     *
+     * @since 6.1
+     */
+    K ceilingKey(K key);
+
     ImmutableSortedMap<K, V> select(Predicate2<? super K, ? super V> predicate);
 
     ImmutableSortedMap<K, V> reject(Predicate2<? super K, ? super V> predicate);
@@ -17,8 +17,11 @@
 package com.gs.collections.api.multimap;
 
 import java.util.Collection;
+import java.util.concurrent.ExecutorService;
 
+import com.gs.collections.api.ParallelIterable;
 import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.bag.Bag;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
@@ -192,6 +195,15 @@ public interface Multimap<K, V>
      */
     RichIterable<Pair<K, RichIterable<V>>> keyMultiValuePairsView();
 
+    /**
+     * Returns a parallel view of the pair of a key and a view of the values mapped to that key. Where the backing map
+     * supports it, the view is split directly over the map's storage instead of a copy of the pairs.
+     *
+     * @since 6.1
+     */
+    @Beta
+    ParallelIterable<Pair<K, RichIterable<V>>> asParallelKeyMultiValuePairsView(ExecutorService executorService, int batchSize);
+
     /**
      * Returns a lazy view of all of the key/value pairs.
      */
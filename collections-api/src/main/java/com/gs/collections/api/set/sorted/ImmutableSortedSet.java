@@ -133,4 +133,18 @@ public interface ImmutableSortedSet<T>
     ImmutableSortedSet<T> symmetricDifference(SetIterable<? extends T> setB);
 
     ImmutableSortedSet<SortedSetIterable<T>> powerSet();
+
+    /**
+     * Returns the greatest element less than or equal to {@code element}, or {@code null} if there is no such element.
+     *
+     * @since 6.1
+     */
+    T floor(T element);
+
+    /**
+     * Returns the least element greater than or equal to {@code element}, or {@code null} if there is no such element.
+     *
+     * @since 6.1
+     */
+    T ceiling(T element);
 }
@@ -102,4 +102,14 @@ public final class ImmutableBagFactoryImpl implements ImmutableBagFactory
         }
         return this.of((T[]) Iterate.toArray(items));
     }
+
+    public <T> ImmutableBag<T> emptyPersistent()
+    {
+        return ImmutableHashTrieBag.newBag();
+    }
+
+    public <T> ImmutableBag<T> withAllPersistent(Iterable<? extends T> items)
+    {
+        return ImmutableHashTrieBag.newBag(items);
+    }
 }
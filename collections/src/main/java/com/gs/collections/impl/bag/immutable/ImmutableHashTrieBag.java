@@ -0,0 +1,499 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.bag.immutable;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.bag.Bag;
+import com.gs.collections.api.bag.ImmutableBag;
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.primitive.IntPredicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.multimap.bag.ImmutableBagMultimap;
+import com.gs.collections.api.ordered.OrderedIterable;
+import com.gs.collections.api.set.ImmutableSet;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.map.immutable.ImmutableHashTrieMap;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.multimap.bag.HashBagMultimap;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import net.jcip.annotations.Immutable;
+
+/**
+ * An ImmutableHashTrieBag is a persistent bag that stores the occurrences of each item in an
+ * {@link ImmutableHashTrieMap}, so {@link #newWith(Object)} and {@link #newWithout(Object)} cost
+ * O(log<sub>32</sub> n) and share all untouched trie nodes with the original bag. Use a {@link Builder} for bulk
+ * changes.
+ *
+ * @since 6.1
+ */
+@Beta
+@Immutable
+public final class ImmutableHashTrieBag<T>
+        extends AbstractImmutableBag<T>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final ImmutableHashTrieBag<?> EMPTY = new ImmutableHashTrieBag<Object>(ImmutableHashTrieMap.<Object, Integer>newMap(), 0);
+
+    private final ImmutableHashTrieMap<T, Integer> occurrences;
+    private final int size;
+
+    private ImmutableHashTrieBag(ImmutableHashTrieMap<T, Integer> occurrences, int size)
+    {
+        this.occurrences = occurrences;
+        this.size = size;
+    }
+
+    public static <T> ImmutableHashTrieBag<T> newBag()
+    {
+        return (ImmutableHashTrieBag<T>) EMPTY;
+    }
+
+    public static <T> ImmutableHashTrieBag<T> newBag(Iterable<? extends T> elements)
+    {
+        if (elements instanceof ImmutableHashTrieBag<?>)
+        {
+            return (ImmutableHashTrieBag<T>) elements;
+        }
+        return ImmutableHashTrieBag.<T>newBuilder().addAll(elements).build();
+    }
+
+    public static <T> ImmutableHashTrieBag<T> newBagWith(T... elements)
+    {
+        Builder<T> builder = ImmutableHashTrieBag.newBuilder();
+        for (T element : elements)
+        {
+            builder.add(element);
+        }
+        return builder.build();
+    }
+
+    public static <T> Builder<T> newBuilder()
+    {
+        return new Builder<T>(ImmutableHashTrieMap.<T, Integer>newBuilder(), 0);
+    }
+
+    /**
+     * Returns a builder that starts from the elements of this bag. This bag is not affected by changes to the builder.
+     */
+    public Builder<T> toBuilder()
+    {
+        return new Builder<T>(this.occurrences.toBuilder(), this.size);
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    public int sizeDistinct()
+    {
+        return this.occurrences.size();
+    }
+
+    public int occurrencesOf(Object item)
+    {
+        Integer count = this.occurrences.get(item);
+        return count == null ? 0 : count.intValue();
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        return this.occurrences.containsKey(object);
+    }
+
+    public void forEachWithOccurrences(final ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        this.occurrences.forEachKeyValue(new Procedure2<T, Integer>()
+        {
+            public void value(T each, Integer count)
+            {
+                objectIntProcedure.value(each, count.intValue());
+            }
+        });
+    }
+
+    public ImmutableHashTrieBag<T> newWith(T element)
+    {
+        int count = this.occurrencesOf(element);
+        return new ImmutableHashTrieBag<T>(this.occurrences.newWithKeyValue(element, count + 1), this.size + 1);
+    }
+
+    public ImmutableHashTrieBag<T> newWithout(T element)
+    {
+        int count = this.occurrencesOf(element);
+        if (count == 0)
+        {
+            return this;
+        }
+        if (this.size == 1)
+        {
+            return ImmutableHashTrieBag.newBag();
+        }
+        ImmutableHashTrieMap<T, Integer> newOccurrences = count == 1
+                ? this.occurrences.newWithoutKey(element)
+                : this.occurrences.newWithKeyValue(element, count - 1);
+        return new ImmutableHashTrieBag<T>(newOccurrences, this.size - 1);
+    }
+
+    public ImmutableHashTrieBag<T> newWithAll(Iterable<? extends T> elements)
+    {
+        return this.toBuilder().addAll(elements).build();
+    }
+
+    /**
+     * Returns a bag without any occurrences of the given elements.
+     */
+    public ImmutableHashTrieBag<T> newWithoutAll(Iterable<? extends T> elements)
+    {
+        Builder<T> builder = this.toBuilder();
+        for (T element : elements)
+        {
+            builder.removeOccurrences(element, builder.occurrencesOf(element));
+        }
+        return builder.build();
+    }
+
+    public ImmutableBag<T> toImmutable()
+    {
+        return this;
+    }
+
+    public MutableMap<T, Integer> toMapOfItemToCount()
+    {
+        return UnifiedMap.newMap(this.occurrences);
+    }
+
+    public ImmutableBag<T> selectByOccurrences(final IntPredicate predicate)
+    {
+        final MutableBag<T> result = HashBag.newBag();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                if (predicate.accept(occurrences))
+                {
+                    result.addOccurrences(each, occurrences);
+                }
+            }
+        });
+        return result.toImmutable();
+    }
+
+    public ImmutableBag<T> select(Predicate<? super T> predicate)
+    {
+        return this.select(predicate, HashBag.<T>newBag()).toImmutable();
+    }
+
+    public ImmutableBag<T> reject(Predicate<? super T> predicate)
+    {
+        return this.reject(predicate, HashBag.<T>newBag()).toImmutable();
+    }
+
+    public <S> ImmutableBag<S> selectInstancesOf(final Class<S> clazz)
+    {
+        final MutableBag<S> result = HashBag.newBag();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                if (clazz.isInstance(each))
+                {
+                    result.addOccurrences((S) each, occurrences);
+                }
+            }
+        });
+        return result.toImmutable();
+    }
+
+    public <V> ImmutableBag<V> collect(Function<? super T, ? extends V> function)
+    {
+        return this.collect(function, HashBag.<V>newBag()).toImmutable();
+    }
+
+    public <V> ImmutableBag<V> collectIf(Predicate<? super T> predicate, Function<? super T, ? extends V> function)
+    {
+        return this.collectIf(predicate, function, HashBag.<V>newBag()).toImmutable();
+    }
+
+    public <V> ImmutableBag<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.flatCollect(function, HashBag.<V>newBag()).toImmutable();
+    }
+
+    public <V> ImmutableBagMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.groupBy(function, HashBagMultimap.<V, T>newMultimap()).toImmutable();
+    }
+
+    public <V> ImmutableBagMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.groupByEach(function, HashBagMultimap.<V, T>newMultimap()).toImmutable();
+    }
+
+    public T getFirst()
+    {
+        return this.occurrences.keysView().getFirst();
+    }
+
+    public T getLast()
+    {
+        return this.occurrences.keysView().getLast();
+    }
+
+    public void each(final Procedure<? super T> procedure)
+    {
+        this.occurrences.forEachKeyValue(new Procedure2<T, Integer>()
+        {
+            public void value(T each, Integer count)
+            {
+                for (int i = count.intValue(); i > 0; i--)
+                {
+                    procedure.value(each);
+                }
+            }
+        });
+    }
+
+    public Iterator<T> iterator()
+    {
+        return new HashTrieBagIterator<T>(this.occurrences.keyValuesView().iterator());
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Bag))
+        {
+            return false;
+        }
+        Bag<?> bag = (Bag<?>) other;
+        if (this.size != bag.size() || this.sizeDistinct() != bag.sizeDistinct())
+        {
+            return false;
+        }
+        for (Iterator<Pair<T, Integer>> iterator = this.occurrences.keyValuesView().iterator(); iterator.hasNext(); )
+        {
+            Pair<T, Integer> each = iterator.next();
+            if (each.getTwo().intValue() != bag.occurrencesOf(each.getOne()))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        final int[] sum = new int[1];
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                sum[0] += (each == null ? 0 : each.hashCode()) ^ occurrences;
+            }
+        });
+        return sum[0];
+    }
+
+    /**
+     * @deprecated in 6.0. Use {@link OrderedIterable#zip(Iterable)} instead.
+     */
+    @Deprecated
+    public <S> ImmutableBag<Pair<T, S>> zip(Iterable<S> that)
+    {
+        return this.zip(that, HashBag.<Pair<T, S>>newBag()).toImmutable();
+    }
+
+    /**
+     * @deprecated in 6.0. Use {@link OrderedIterable#zipWithIndex()} instead.
+     */
+    @Deprecated
+    public ImmutableSet<Pair<T, Integer>> zipWithIndex()
+    {
+        return this.zipWithIndex(UnifiedSet.<Pair<T, Integer>>newSet()).toImmutable();
+    }
+
+    protected Object writeReplace()
+    {
+        return new ImmutableBagSerializationProxy<T>(this);
+    }
+
+    /**
+     * A Builder applies a batch of changes to an ImmutableHashTrieBag, editing the trie nodes it has already copied in
+     * place. See {@link ImmutableHashTrieMap.Builder}.
+     * <p>
+     * A Builder is not thread-safe.
+     */
+    public static final class Builder<T>
+    {
+        private final ImmutableHashTrieMap.Builder<T, Integer> delegate;
+        private int size;
+
+        private Builder(ImmutableHashTrieMap.Builder<T, Integer> delegate, int size)
+        {
+            this.delegate = delegate;
+            this.size = size;
+        }
+
+        public int size()
+        {
+            return this.size;
+        }
+
+        public int occurrencesOf(Object item)
+        {
+            Integer count = this.delegate.get(item);
+            return count == null ? 0 : count.intValue();
+        }
+
+        public Builder<T> add(T element)
+        {
+            return this.addOccurrences(element, 1);
+        }
+
+        public Builder<T> addAll(Iterable<? extends T> elements)
+        {
+            if (elements instanceof Bag<?>)
+            {
+                ((Bag<T>) elements).forEachWithOccurrences(new ObjectIntProcedure<T>()
+                {
+                    public void value(T each, int occurrences)
+                    {
+                        Builder.this.addOccurrences(each, occurrences);
+                    }
+                });
+                return this;
+            }
+            for (T element : elements)
+            {
+                this.addOccurrences(element, 1);
+            }
+            return this;
+        }
+
+        public Builder<T> addOccurrences(T element, int occurrences)
+        {
+            if (occurrences < 0)
+            {
+                throw new IllegalArgumentException("Cannot add a negative number of occurrences");
+            }
+            if (occurrences > 0)
+            {
+                this.delegate.put(element, this.occurrencesOf(element) + occurrences);
+                this.size += occurrences;
+            }
+            return this;
+        }
+
+        public Builder<T> remove(Object element)
+        {
+            return this.removeOccurrences(element, 1);
+        }
+
+        public Builder<T> removeOccurrences(Object element, int occurrences)
+        {
+            if (occurrences < 0)
+            {
+                throw new IllegalArgumentException("Cannot remove a negative number of occurrences");
+            }
+            int count = this.occurrencesOf(element);
+            if (count == 0 || occurrences == 0)
+            {
+                return this;
+            }
+            if (occurrences >= count)
+            {
+                this.delegate.remove(element);
+                this.size -= count;
+            }
+            else
+            {
+                this.delegate.put((T) element, count - occurrences);
+                this.size -= occurrences;
+            }
+            return this;
+        }
+
+        public ImmutableHashTrieBag<T> build()
+        {
+            ImmutableHashTrieMap<T, Integer> occurrences = this.delegate.build();
+            return this.size == 0 ? ImmutableHashTrieBag.<T>newBag() : new ImmutableHashTrieBag<T>(occurrences, this.size);
+        }
+    }
+
+    private static final class HashTrieBagIterator<T> implements Iterator<T>
+    {
+        private final Iterator<Pair<T, Integer>> entries;
+        private T current;
+        private int remaining;
+
+        private HashTrieBagIterator(Iterator<Pair<T, Integer>> entries)
+        {
+            this.entries = entries;
+        }
+
+        public boolean hasNext()
+        {
+            return this.remaining > 0 || this.entries.hasNext();
+        }
+
+        public T next()
+        {
+            if (this.remaining == 0)
+            {
+                if (!this.entries.hasNext())
+                {
+                    throw new NoSuchElementException();
+                }
+                Pair<T, Integer> entry = this.entries.next();
+                this.current = entry.getOne();
+                this.remaining = entry.getTwo().intValue();
+            }
+            this.remaining--;
+            return this.current;
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot remove from an ImmutableHashTrieBag");
+        }
+    }
+}
@@ -29,6 +29,7 @@ import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 
+import com.gs.collections.api.LazyIterable;
 import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.bag.Bag;
 import com.gs.collections.api.bag.sorted.ImmutableSortedBag;
@@ -71,6 +72,18 @@ import com.gs.collections.impl.Counter;
 import com.gs.collections.impl.bag.mutable.AbstractMutableBag;
 import com.gs.collections.impl.block.factory.Predicates2;
 import com.gs.collections.impl.block.procedure.checked.CheckedProcedure2;
+import com.gs.collections.impl.lazy.parallel.AbstractBatch;
+import com.gs.collections.impl.lazy.parallel.AbstractParallelIterable;
+import com.gs.collections.impl.lazy.parallel.Batch;
+import com.gs.collections.impl.lazy.parallel.bag.sorted.AbstractParallelSortedBag;
+import com.gs.collections.impl.lazy.parallel.bag.sorted.RootSortedBagBatch;
+import com.gs.collections.impl.lazy.parallel.bag.sorted.SelectSortedBagBatch;
+import com.gs.collections.impl.lazy.parallel.bag.sorted.SortedBagBatch;
+import com.gs.collections.impl.lazy.parallel.list.CollectListBatch;
+import com.gs.collections.impl.lazy.parallel.list.DistinctBatch;
+import com.gs.collections.impl.lazy.parallel.list.FlatCollectListBatch;
+import com.gs.collections.impl.lazy.parallel.list.ListBatch;
+import com.gs.collections.impl.list.Interval;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.list.mutable.primitive.BooleanArrayList;
 import com.gs.collections.impl.list.mutable.primitive.ByteArrayList;
@@ -80,6 +93,7 @@ import com.gs.collections.impl.list.mutable.primitive.FloatArrayList;
 import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
 import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
 import com.gs.collections.impl.list.mutable.primitive.ShortArrayList;
+import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
 import com.gs.collections.impl.map.sorted.mutable.TreeSortedMap;
 import com.gs.collections.impl.multimap.bag.sorted.TreeBagMultimap;
 import com.gs.collections.impl.partition.bag.sorted.PartitionTreeBag;
@@ -87,6 +101,7 @@ import com.gs.collections.impl.set.mutable.UnifiedSet;
 import com.gs.collections.impl.set.sorted.mutable.TreeSortedSet;
 import com.gs.collections.impl.stack.mutable.ArrayStack;
 import com.gs.collections.impl.utility.Iterate;
+import com.gs.collections.impl.utility.LazyIterate;
 import com.gs.collections.impl.utility.ListIterate;
 import com.gs.collections.impl.utility.OrderedIterate;
 import com.gs.collections.impl.utility.internal.IterableIterate;
@@ -163,6 +178,38 @@ public class TreeBag<T>
         return new TreeBag<E>(comparator, iterable);
     }
 
+    /**
+     * Returns an empty bag whose counts are kept in a {@link TreeSortedMap#newBTreeMap() B+-tree backed map}.
+     *
+     * @since 6.1
+     */
+    @Beta
+    public static <E> TreeBag<E> newBTreeBag()
+    {
+        return new TreeBag<E>(TreeSortedMap.<E, Counter>newBTreeMap());
+    }
+
+    /**
+     * @since 6.1
+     */
+    @Beta
+    public static <E> TreeBag<E> newBTreeBag(Comparator<? super E> comparator)
+    {
+        return new TreeBag<E>(TreeSortedMap.<E, Counter>newBTreeMap(comparator));
+    }
+
+    /**
+     * Returns a bag that uses {@code occurrences} to hold the number of occurrences of each item. The map is adopted
+     * rather than copied, so it must not be used by the caller afterwards, and every counter must be positive.
+     *
+     * @since 6.1
+     */
+    @Beta
+    public static <E> TreeBag<E> newBagFromOccurrences(MutableSortedMap<E, Counter> occurrences)
+    {
+        return new TreeBag<E>(occurrences);
+    }
+
     public static <E> TreeBag<E> newBagWith(E... elements)
     {
         //noinspection SSBasedInspection
@@ -667,12 +714,12 @@ public class TreeBag<T>
 
     public MutableSortedBag<T> newEmpty()
     {
-        return TreeBag.newBag(this.items.comparator());
+        return new TreeBag<T>(this.items.newEmpty());
     }
 
     public <P> MutableSortedBag<T> selectWith(final Predicate2<? super T, ? super P> predicate, final P parameter)
     {
-        final MutableSortedBag<T> result = TreeBag.newBag(this.comparator());
+        final MutableSortedBag<T> result = this.newEmpty();
         this.forEachWithOccurrences(new ObjectIntProcedure<T>()
         {
             public void value(T each, int occurrences)
@@ -688,7 +735,7 @@ public class TreeBag<T>
 
     public <P> MutableSortedBag<T> rejectWith(final Predicate2<? super T, ? super P> predicate, final P parameter)
     {
-        final MutableSortedBag<T> result = TreeBag.newBag(this.comparator());
+        final MutableSortedBag<T> result = this.newEmpty();
         this.forEachWithOccurrences(new ObjectIntProcedure<T>()
         {
             public void value(T each, int index)
@@ -768,7 +815,7 @@ public class TreeBag<T>
         {
             throw new IllegalArgumentException();
         }
-        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".asParallel() not implemented yet");
+        return new TreeBagParallelIterable(executorService, batchSize);
     }
 
     @Override
@@ -801,7 +848,7 @@ public class TreeBag<T>
 
     public MutableSortedBag<T> reject(final Predicate<? super T> predicate)
     {
-        final MutableSortedBag<T> result = TreeBag.newBag(this.comparator());
+        final MutableSortedBag<T> result = this.newEmpty();
         this.forEachWithOccurrences(new ObjectIntProcedure<T>()
         {
             public void value(T each, int index)
@@ -976,19 +1023,19 @@ public class TreeBag<T>
 
     public MutableSortedBag<T> takeWhile(Predicate<? super T> predicate)
     {
-        MutableSortedBag<T> result = TreeBag.newBag(this.comparator());
+        MutableSortedBag<T> result = this.newEmpty();
         return IterableIterate.takeWhile(this, predicate, result);
     }
 
     public MutableSortedBag<T> dropWhile(Predicate<? super T> predicate)
     {
-        MutableSortedBag<T> result = TreeBag.newBag(this.comparator());
+        MutableSortedBag<T> result = this.newEmpty();
         return IterableIterate.dropWhile(this, predicate, result);
     }
 
     public MutableSortedBag<T> select(final Predicate<? super T> predicate)
     {
-        final MutableSortedBag<T> result = TreeBag.newBag(this.comparator());
+        final MutableSortedBag<T> result = this.newEmpty();
         this.forEachWithOccurrences(new ObjectIntProcedure<T>()
         {
             public void value(T each, int occurrences)
@@ -1253,4 +1300,178 @@ public class TreeBag<T>
             this.currentKeyPosition--;
         }
     }
+
+    private final class TreeBagBatch extends AbstractBatch<T> implements RootSortedBagBatch<T>
+    {
+        private final Object[] items;
+        private final int[] occurrences;
+        private final int chunkStartIndex;
+        private final int chunkEndIndex;
+
+        private TreeBagBatch(Object[] items, int[] occurrences, int chunkStartIndex, int chunkEndIndex)
+        {
+            this.items = items;
+            this.occurrences = occurrences;
+            this.chunkStartIndex = chunkStartIndex;
+            this.chunkEndIndex = chunkEndIndex;
+        }
+
+        public void forEach(Procedure<? super T> procedure)
+        {
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
+            {
+                T each = (T) this.items[i];
+                for (int j = 0; j < this.occurrences[i]; j++)
+                {
+                    procedure.value(each);
+                }
+            }
+        }
+
+        public void forEachWithOccurrences(ObjectIntProcedure<? super T> procedure)
+        {
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
+            {
+                procedure.value((T) this.items[i], this.occurrences[i]);
+            }
+        }
+
+        public boolean anySatisfy(Predicate<? super T> predicate)
+        {
+            return this.shortCircuit(predicate, true);
+        }
+
+        public boolean allSatisfy(Predicate<? super T> predicate)
+        {
+            return !this.shortCircuit(predicate, false);
+        }
+
+        private boolean shortCircuit(Predicate<? super T> predicate, boolean expected)
+        {
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
+            {
+                if (predicate.accept((T) this.items[i]) == expected)
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        public T detect(Predicate<? super T> predicate)
+        {
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
+            {
+                T each = (T) this.items[i];
+                if (predicate.accept(each))
+                {
+                    return each;
+                }
+            }
+            return null;
+        }
+
+        public SortedBagBatch<T> select(Predicate<? super T> predicate)
+        {
+            return new SelectSortedBagBatch<T>(this, predicate);
+        }
+
+        public <V> ListBatch<V> collect(Function<? super T, ? extends V> function)
+        {
+            return new CollectListBatch<T, V>(this, function);
+        }
+
+        public <V> ListBatch<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
+        {
+            return new FlatCollectListBatch<T, V>(this, function);
+        }
+
+        public Batch<T> distinct(ConcurrentHashMap<T, Boolean> distinct)
+        {
+            return new DistinctBatch<T>(this, distinct);
+        }
+    }
+
+    private final class TreeBagParallelIterable extends AbstractParallelSortedBag<T, RootSortedBagBatch<T>>
+    {
+        private final ExecutorService executorService;
+        private final int batchSize;
+
+        private TreeBagParallelIterable(ExecutorService executorService, int batchSize)
+        {
+            this.executorService = executorService;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public Comparator<? super T> comparator()
+        {
+            return TreeBag.this.comparator();
+        }
+
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return this.executorService;
+        }
+
+        @Override
+        public int getBatchSize()
+        {
+            return this.batchSize;
+        }
+
+        @Override
+        public LazyIterable<RootSortedBagBatch<T>> split()
+        {
+            // The backing tree cannot be split by index, so take one ordered pass over the distinct items and split that
+            int distinctCount = TreeBag.this.items.size();
+            if (distinctCount == 0)
+            {
+                return LazyIterate.empty();
+            }
+            final Object[] items = new Object[distinctCount];
+            final int[] occurrences = new int[distinctCount];
+            TreeBag.this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+            {
+                private int index;
+
+                public void value(T each, int count)
+                {
+                    items[this.index] = each;
+                    occurrences[this.index] = count;
+                    this.index++;
+                }
+            });
+            final int size = distinctCount;
+            final int chunkSize = this.batchSize;
+            return Interval.zeroToBy(size - 1, chunkSize).collect(new Function<Integer, RootSortedBagBatch<T>>()
+            {
+                public RootSortedBagBatch<T> valueOf(Integer chunkStartIndex)
+                {
+                    return new TreeBagBatch(items, occurrences, chunkStartIndex, Math.min(chunkStartIndex + chunkSize, size));
+                }
+            });
+        }
+
+        public void forEach(Procedure<? super T> procedure)
+        {
+            AbstractParallelIterable.forEach(this, procedure);
+        }
+
+        public boolean anySatisfy(Predicate<? super T> predicate)
+        {
+            return AbstractParallelIterable.anySatisfy(this, predicate);
+        }
+
+        public boolean allSatisfy(Predicate<? super T> predicate)
+        {
+            return AbstractParallelIterable.allSatisfy(this, predicate);
+        }
+
+        public T detect(Predicate<? super T> predicate)
+        {
+            return AbstractParallelIterable.detect(this, predicate);
+        }
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.block.procedure;
+
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.procedure.Procedure;
+
+/**
+ * Implementation of {@link Procedure} that folds each element into the result seen so far using the
+ * {@link Function2}, starting from the first element rather than from an injected value.
+ *
+ * @since 6.1
+ */
+public class ReduceProcedure<T> implements Procedure<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final Function2<? super T, ? super T, ? extends T> function;
+    private boolean visitedAtLeastOnce;
+    private T result;
+
+    public ReduceProcedure(Function2<? super T, ? super T, ? extends T> function)
+    {
+        this.function = function;
+    }
+
+    public void value(T each)
+    {
+        if (this.visitedAtLeastOnce)
+        {
+            this.result = this.function.value(this.result, each);
+        }
+        else
+        {
+            this.visitedAtLeastOnce = true;
+            this.result = each;
+        }
+    }
+
+    public boolean isVisitedAtLeastOnce()
+    {
+        return this.visitedAtLeastOnce;
+    }
+
+    public T getResult()
+    {
+        if (!this.visitedAtLeastOnce)
+        {
+            throw new NoSuchElementException();
+        }
+        return this.result;
+    }
+}
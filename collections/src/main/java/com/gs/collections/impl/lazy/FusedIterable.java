@@ -0,0 +1,452 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.impl.block.factory.Functions;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.utility.Iterate;
+import net.jcip.annotations.Immutable;
+
+/**
+ * A FusedIterable applies a chain of select, reject and collect stages to a source iterable in a single pass.
+ * <p>
+ * Nesting {@link SelectIterable}, {@link RejectIterable} and {@link CollectIterable} wraps the procedure passed to
+ * each terminal operation once per stage, and builds one iterator per stage. A FusedIterable links its stages once,
+ * when the pipeline is built, and hands the head of the chain to the root iterable's
+ * {@link Iterate#forEachWith(Iterable, Procedure2, Object)} with the terminal procedure as the parameter. A
+ * terminal operation therefore iterates the root directly without allocating an adapter per stage, and
+ * {@link #iterator()} returns a single iterator however many stages there are.
+ * <p>
+ * Fusion is opt-in: start a pipeline with {@link #adapt(Iterable)} or
+ * {@link com.gs.collections.impl.utility.LazyIterate#fuse(Iterable)}, and each select, reject or collect appends a
+ * stage rather than adding a level of nesting. While the pipeline holds only collect stages, size, emptiness, first
+ * and last are answered from the source without applying the functions, as {@link CollectIterable} does.
+ *
+ * @since 6.1
+ */
+@Beta
+@Immutable
+public class FusedIterable<T>
+        extends AbstractLazyIterable<T>
+{
+    private static final int SELECT = 0;
+    private static final int REJECT = 1;
+    private static final int COLLECT = 2;
+
+    private static final Object FILTERED = new Object();
+
+    private final Iterable<Object> adapted;
+    private final int[] kinds;
+    private final Object[] operations;
+    private final Stage head;
+    private final boolean collectOnly;
+
+    private FusedIterable(Iterable<?> adapted, int[] kinds, Object[] operations)
+    {
+        this.adapted = (Iterable<Object>) adapted;
+        this.kinds = kinds;
+        this.operations = operations;
+        Stage result = TerminalStage.INSTANCE;
+        boolean onlyCollects = true;
+        for (int i = kinds.length - 1; i >= 0; i--)
+        {
+            switch (kinds[i])
+            {
+                case SELECT:
+                    result = new SelectStage((Predicate<Object>) operations[i], result);
+                    onlyCollects = false;
+                    break;
+                case REJECT:
+                    result = new RejectStage((Predicate<Object>) operations[i], result);
+                    onlyCollects = false;
+                    break;
+                default:
+                    result = new CollectStage((Function<Object, Object>) operations[i], result);
+                    break;
+            }
+        }
+        this.head = result;
+        this.collectOnly = onlyCollects;
+    }
+
+    /**
+     * Starts a fused pipeline over the specified iterable.
+     */
+    public static <T> FusedIterable<T> adapt(Iterable<T> iterable)
+    {
+        return new FusedIterable<T>(iterable, new int[0], new Object[0]);
+    }
+
+    @Override
+    public LazyIterable<T> select(Predicate<? super T> predicate)
+    {
+        return this.append(SELECT, predicate);
+    }
+
+    @Override
+    public LazyIterable<T> reject(Predicate<? super T> predicate)
+    {
+        return this.append(REJECT, predicate);
+    }
+
+    @Override
+    public <V> LazyIterable<V> collect(Function<? super T, ? extends V> function)
+    {
+        return this.append(COLLECT, function);
+    }
+
+    @Override
+    public <P> LazyIterable<T> selectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.select(Predicates.bind(predicate, parameter));
+    }
+
+    @Override
+    public <P> LazyIterable<T> rejectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.reject(Predicates.bind(predicate, parameter));
+    }
+
+    @Override
+    public <P, V> LazyIterable<V> collectWith(Function2<? super T, ? super P, ? extends V> function, P parameter)
+    {
+        return this.collect(Functions.bind(function, parameter));
+    }
+
+    private <V> FusedIterable<V> append(int kind, Object operation)
+    {
+        int length = this.kinds.length;
+        int[] newKinds = new int[length + 1];
+        Object[] newOperations = new Object[length + 1];
+        System.arraycopy(this.kinds, 0, newKinds, 0, length);
+        System.arraycopy(this.operations, 0, newOperations, 0, length);
+        newKinds[length] = kind;
+        newOperations[length] = operation;
+        return new FusedIterable<V>(this.adapted, newKinds, newOperations);
+    }
+
+    public void each(Procedure<? super T> procedure)
+    {
+        Iterate.forEachWith(this.adapted, this.head, (Procedure<Object>) procedure);
+    }
+
+    @Override
+    public void forEachWithIndex(final ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        this.each(new Procedure<T>()
+        {
+            private int index;
+
+            public void value(T each)
+            {
+                objectIntProcedure.value(each, this.index++);
+            }
+        });
+    }
+
+    @Override
+    public <P> void forEachWith(final Procedure2<? super T, ? super P> procedure, final P parameter)
+    {
+        this.each(new Procedure<T>()
+        {
+            public void value(T each)
+            {
+                procedure.value(each, parameter);
+            }
+        });
+    }
+
+    public Iterator<T> iterator()
+    {
+        return new FusedIterator();
+    }
+
+    @Override
+    public int size()
+    {
+        return this.collectOnly ? Iterate.sizeOf(this.adapted) : super.size();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.collectOnly ? Iterate.isEmpty(this.adapted) : super.isEmpty();
+    }
+
+    @Override
+    public boolean notEmpty()
+    {
+        return !this.isEmpty();
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        if (!this.collectOnly)
+        {
+            return super.toArray();
+        }
+        Object[] array = Iterate.toArray(this.adapted);
+        for (int i = 0; i < array.length; i++)
+        {
+            array[i] = this.head.apply(array[i]);
+        }
+        return array;
+    }
+
+    @Override
+    public T getFirst()
+    {
+        if (!this.collectOnly)
+        {
+            return super.getFirst();
+        }
+        if (Iterate.isEmpty(this.adapted))
+        {
+            return null;
+        }
+        return (T) this.head.apply(Iterate.getFirst(this.adapted));
+    }
+
+    @Override
+    public T getLast()
+    {
+        if (!this.collectOnly)
+        {
+            return super.getLast();
+        }
+        if (Iterate.isEmpty(this.adapted))
+        {
+            return null;
+        }
+        return (T) this.head.apply(Iterate.getLast(this.adapted));
+    }
+
+    @Override
+    public boolean anySatisfy(Predicate<? super T> predicate)
+    {
+        return Iterate.anySatisfyWith(this.adapted, this.head, (Predicate<Object>) predicate);
+    }
+
+    @Override
+    public <P> boolean anySatisfyWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.anySatisfy(Predicates.bind(predicate, parameter));
+    }
+
+    @Override
+    public boolean allSatisfy(Predicate<? super T> predicate)
+    {
+        return !this.anySatisfy(Predicates.not(predicate));
+    }
+
+    @Override
+    public <P> boolean allSatisfyWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.allSatisfy(Predicates.bind(predicate, parameter));
+    }
+
+    @Override
+    public boolean noneSatisfy(Predicate<? super T> predicate)
+    {
+        return !this.anySatisfy(predicate);
+    }
+
+    @Override
+    public <P> boolean noneSatisfyWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.noneSatisfy(Predicates.bind(predicate, parameter));
+    }
+
+    /**
+     * One link of the chain. As a procedure it pushes a value through the rest of the chain into the terminal
+     * procedure passed as the parameter, and as a predicate it answers whether the value survives the rest of the
+     * chain and satisfies the predicate passed as the parameter.
+     */
+    private abstract static class Stage
+            implements Procedure2<Object, Procedure<Object>>, Predicate2<Object, Predicate<Object>>
+    {
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Returns the value at the end of the rest of the chain, or {@link #FILTERED} if a stage drops it.
+         */
+        abstract Object apply(Object each);
+    }
+
+    private static final class SelectStage extends Stage
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Predicate<Object> predicate;
+        private final Stage next;
+
+        private SelectStage(Predicate<Object> predicate, Stage next)
+        {
+            this.predicate = predicate;
+            this.next = next;
+        }
+
+        public void value(Object each, Procedure<Object> procedure)
+        {
+            if (this.predicate.accept(each))
+            {
+                this.next.value(each, procedure);
+            }
+        }
+
+        public boolean accept(Object each, Predicate<Object> predicate)
+        {
+            return this.predicate.accept(each) && this.next.accept(each, predicate);
+        }
+
+        @Override
+        Object apply(Object each)
+        {
+            return this.predicate.accept(each) ? this.next.apply(each) : FILTERED;
+        }
+    }
+
+    private static final class RejectStage extends Stage
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Predicate<Object> predicate;
+        private final Stage next;
+
+        private RejectStage(Predicate<Object> predicate, Stage next)
+        {
+            this.predicate = predicate;
+            this.next = next;
+        }
+
+        public void value(Object each, Procedure<Object> procedure)
+        {
+            if (!this.predicate.accept(each))
+            {
+                this.next.value(each, procedure);
+            }
+        }
+
+        public boolean accept(Object each, Predicate<Object> predicate)
+        {
+            return !this.predicate.accept(each) && this.next.accept(each, predicate);
+        }
+
+        @Override
+        Object apply(Object each)
+        {
+            return this.predicate.accept(each) ? FILTERED : this.next.apply(each);
+        }
+    }
+
+    private static final class CollectStage extends Stage
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Function<Object, Object> function;
+        private final Stage next;
+
+        private CollectStage(Function<Object, Object> function, Stage next)
+        {
+            this.function = function;
+            this.next = next;
+        }
+
+        public void value(Object each, Procedure<Object> procedure)
+        {
+            this.next.value(this.function.valueOf(each), procedure);
+        }
+
+        public boolean accept(Object each, Predicate<Object> predicate)
+        {
+            return this.next.accept(this.function.valueOf(each), predicate);
+        }
+
+        @Override
+        Object apply(Object each)
+        {
+            return this.next.apply(this.function.valueOf(each));
+        }
+    }
+
+    private static final class TerminalStage extends Stage
+    {
+        private static final long serialVersionUID = 1L;
+        private static final TerminalStage INSTANCE = new TerminalStage();
+
+        public void value(Object each, Procedure<Object> procedure)
+        {
+            procedure.value(each);
+        }
+
+        public boolean accept(Object each, Predicate<Object> predicate)
+        {
+            return predicate.accept(each);
+        }
+
+        @Override
+        Object apply(Object each)
+        {
+            return each;
+        }
+    }
+
+    private final class FusedIterator implements Iterator<T>
+    {
+        private final Iterator<Object> iterator = FusedIterable.this.adapted.iterator();
+        private final Stage head = FusedIterable.this.head;
+        private Object next = FILTERED;
+
+        public boolean hasNext()
+        {
+            while (this.next == FILTERED && this.iterator.hasNext())
+            {
+                this.next = this.head.apply(this.iterator.next());
+            }
+            return this.next != FILTERED;
+        }
+
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            Object result = this.next;
+            this.next = FILTERED;
+            return (T) result;
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot remove from a fused iterator");
+        }
+    }
+}
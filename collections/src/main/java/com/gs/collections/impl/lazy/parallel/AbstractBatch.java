@@ -19,6 +19,7 @@ package com.gs.collections.impl.lazy.parallel;
 import java.util.Comparator;
 
 import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function2;
 import com.gs.collections.api.block.function.primitive.DoubleFunction;
 import com.gs.collections.api.block.function.primitive.FloatFunction;
 import com.gs.collections.api.block.function.primitive.IntFunction;
@@ -27,10 +28,12 @@ import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.impl.block.procedure.CountProcedure;
 import com.gs.collections.impl.block.procedure.DoubleSumResultHolder;
+import com.gs.collections.impl.block.procedure.InjectIntoProcedure;
 import com.gs.collections.impl.block.procedure.MaxByProcedure;
 import com.gs.collections.impl.block.procedure.MaxComparatorProcedure;
 import com.gs.collections.impl.block.procedure.MinByProcedure;
 import com.gs.collections.impl.block.procedure.MinComparatorProcedure;
+import com.gs.collections.impl.block.procedure.ReduceProcedure;
 import com.gs.collections.impl.block.procedure.SumOfDoubleProcedure;
 import com.gs.collections.impl.block.procedure.SumOfFloatProcedure;
 import com.gs.collections.impl.block.procedure.SumOfIntProcedure;
@@ -117,4 +120,18 @@ public abstract class AbstractBatch<T> implements Batch<T>
         this.forEach(procedure);
         return procedure;
     }
+
+    public <IV> IV injectInto(IV injectedValue, Function2<? super IV, ? super T, ? extends IV> function)
+    {
+        InjectIntoProcedure<IV, T> procedure = new InjectIntoProcedure<IV, T>(injectedValue, function);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
+    public T reduce(Function2<? super T, ? super T, ? extends T> function)
+    {
+        ReduceProcedure<T> procedure = new ReduceProcedure<T>(function);
+        this.forEach(procedure);
+        return procedure.isVisitedAtLeastOnce() ? procedure.getResult() : null;
+    }
 }
@@ -37,6 +37,8 @@ import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.list.ParallelListIterable;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.ParallelUnsortedSetIterable;
@@ -603,6 +605,84 @@ public abstract class AbstractMultiReaderParallelIterable<T, PI extends Parallel
         }
     }
 
+    public <IV> IV injectInto(Function0<? extends IV> injectedValueFactory, Function2<? super IV, ? super T, ? extends IV> function, Function2<? super IV, ? super IV, ? extends IV> combiner)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.injectInto(injectedValueFactory, function, combiner);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public T reduce(Function2<? super T, ? super T, ? extends T> function)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.reduce(function);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public <V> ObjectLongMap<V> sumByInt(Function<T, V> groupBy, IntFunction<? super T> function)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.sumByInt(groupBy, function);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public <V> ObjectDoubleMap<V> sumByFloat(Function<T, V> groupBy, FloatFunction<? super T> function)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.sumByFloat(groupBy, function);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public <V> ObjectLongMap<V> sumByLong(Function<T, V> groupBy, LongFunction<? super T> function)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.sumByLong(groupBy, function);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public <V> ObjectDoubleMap<V> sumByDouble(Function<T, V> groupBy, DoubleFunction<? super T> function)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.sumByDouble(groupBy, function);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
     public String makeString()
     {
         this.lock.readLock().lock();
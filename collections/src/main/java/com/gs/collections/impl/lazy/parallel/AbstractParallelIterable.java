@@ -17,6 +17,7 @@
 package com.gs.collections.impl.lazy.parallel;
 
 import java.io.IOException;
+import java.lang.reflect.Array;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.NoSuchElementException;
@@ -27,6 +28,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.gs.collections.api.LazyIterable;
 import com.gs.collections.api.ParallelIterable;
@@ -44,19 +46,26 @@ import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.ObjectDoubleProcedure;
+import com.gs.collections.api.block.procedure.primitive.ObjectLongProcedure;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
+import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.Counter;
 import com.gs.collections.impl.bag.mutable.HashBag;
 import com.gs.collections.impl.bag.sorted.mutable.TreeBag;
 import com.gs.collections.impl.block.factory.Comparators;
 import com.gs.collections.impl.block.factory.Functions2;
 import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.block.factory.PrimitiveFunctions;
 import com.gs.collections.impl.block.factory.Procedures;
+import com.gs.collections.impl.block.procedure.BagAddOccurrencesProcedure;
 import com.gs.collections.impl.block.procedure.CollectionAddProcedure;
 import com.gs.collections.impl.block.procedure.DoubleSumResultHolder;
 import com.gs.collections.impl.block.procedure.MapCollectProcedure;
@@ -68,10 +77,13 @@ import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
 import com.gs.collections.impl.map.mutable.ConcurrentHashMapUnsafe;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectLongHashMap;
 import com.gs.collections.impl.map.sorted.mutable.TreeSortedMap;
 import com.gs.collections.impl.set.mutable.SetAdapter;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
 import com.gs.collections.impl.set.sorted.mutable.TreeSortedSet;
+import com.gs.collections.impl.tuple.Tuples;
 
 @Beta
 public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements ParallelIterable<T>
@@ -101,149 +113,194 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
             }
             catch (InterruptedException e)
             {
+                AbstractParallelIterable.cancelAll(futuresList);
                 Thread.currentThread().interrupt();
                 throw new RuntimeException(e);
             }
             catch (ExecutionException e)
             {
+                AbstractParallelIterable.cancelAll(futuresList);
                 throw new RuntimeException(e);
             }
         }
     }
 
-    protected static <T> boolean anySatisfy(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, final Predicate<? super T> predicate)
+    protected static <T> boolean anySatisfy(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Predicate<? super T> predicate)
     {
-        final CompletionService<Boolean> completionService = new ExecutorCompletionService<Boolean>(parallelIterable.getExecutorService());
-        MutableSet<Future<Boolean>> futures = parallelIterable.split().collect(new Function<RootBatch<T>, Future<Boolean>>()
+        final ShortCircuitPredicate<T> shortCircuitPredicate = new ShortCircuitPredicate<T>(predicate, true);
+        return AbstractParallelIterable.shortCircuit(parallelIterable, new Function<RootBatch<T>, Boolean>()
         {
-            public Future<Boolean> valueOf(final RootBatch<T> batch)
+            public Boolean valueOf(RootBatch<T> batch)
             {
-                return completionService.submit(new Callable<Boolean>()
-                {
-                    public Boolean call()
-                    {
-                        return batch.anySatisfy(predicate);
-                    }
-                });
+                return batch.anySatisfy(shortCircuitPredicate);
             }
-        }, UnifiedSet.<Future<Boolean>>newSet());
+        }, shortCircuitPredicate, Boolean.TRUE, Boolean.FALSE);
+    }
 
-        while (futures.notEmpty())
+    protected static <T> boolean allSatisfy(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Predicate<? super T> predicate)
+    {
+        final ShortCircuitPredicate<T> shortCircuitPredicate = new ShortCircuitPredicate<T>(predicate, false);
+        return AbstractParallelIterable.shortCircuit(parallelIterable, new Function<RootBatch<T>, Boolean>()
         {
-            try
+            public Boolean valueOf(RootBatch<T> batch)
             {
-                Future<Boolean> future = completionService.take();
-                if (future.get())
-                {
-                    for (Future<Boolean> eachFuture : futures)
-                    {
-                        eachFuture.cancel(true);
-                    }
-                    return true;
-                }
-                futures.remove(future);
-            }
-            catch (InterruptedException e)
-            {
-                Thread.currentThread().interrupt();
-                throw new RuntimeException(e);
+                return batch.allSatisfy(shortCircuitPredicate);
             }
-            catch (ExecutionException e)
+        }, shortCircuitPredicate, Boolean.FALSE, Boolean.TRUE);
+    }
+
+    protected static <T> T detect(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Predicate<? super T> predicate)
+    {
+        final ShortCircuitPredicate<T> shortCircuitPredicate = new ShortCircuitPredicate<T>(predicate, true);
+        return AbstractParallelIterable.shortCircuit(parallelIterable, new Function<RootBatch<T>, T>()
+        {
+            public T valueOf(RootBatch<T> batch)
             {
-                throw new RuntimeException(e);
+                return batch.detect(shortCircuitPredicate);
             }
-        }
-        return false;
+        }, shortCircuitPredicate, null, null);
     }
 
-    protected static <T> boolean allSatisfy(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, final Predicate<? super T> predicate)
+    /**
+     * Returns the earliest element in encounter order that satisfies {@code predicate}. Every batch is submitted in
+     * order and awaited in the same order, so the first non-null result is the earliest match. Each batch records its
+     * index when it finds a match; batches after the earliest recorded match stop evaluating the predicate and return no
+     * result, and batches that have not started by the time the answer is known are cancelled. Root batches stop at their first match;
+     * other batches finish their loop without evaluating the predicate again.
+     */
+    protected static <T> T detectFirst(AbstractParallelIterable<T, ? extends Batch<T>> parallelIterable, Predicate<? super T> predicate)
     {
-        final CompletionService<Boolean> completionService = new ExecutorCompletionService<Boolean>(parallelIterable.getExecutorService());
-        MutableSet<Future<Boolean>> futures = parallelIterable.split().collect(new Function<RootBatch<T>, Future<Boolean>>()
+        AtomicInteger firstMatchingBatchIndex = new AtomicInteger(Integer.MAX_VALUE);
+        MutableList<Future<T>> futures = FastList.newList();
+        int batchIndex = 0;
+        for (final Batch<T> batch : parallelIterable.split())
         {
-            public Future<Boolean> valueOf(final RootBatch<T> batch)
+            final DetectFirstPredicate<T> batchPredicate = new DetectFirstPredicate<T>(predicate, batchIndex, firstMatchingBatchIndex);
+            futures.add(parallelIterable.getExecutorService().submit(new Callable<T>()
             {
-                return completionService.submit(new Callable<Boolean>()
+                public T call()
                 {
-                    public Boolean call()
+                    T result = AbstractParallelIterable.detectInBatch(batch, batchPredicate);
+                    if (batchPredicate.isSkipped())
                     {
-                        return batch.allSatisfy(predicate);
+                        return null;
                     }
-                });
-            }
-        }, UnifiedSet.<Future<Boolean>>newSet());
+                    if (result != null)
+                    {
+                        batchPredicate.matched();
+                    }
+                    return result;
+                }
+            }));
+            batchIndex++;
+        }
 
-        while (futures.notEmpty())
+        for (Future<T> future : futures)
         {
             try
             {
-                Future<Boolean> future = completionService.take();
-                if (!future.get())
+                T result = future.get();
+                if (result != null)
                 {
-                    for (Future<Boolean> eachFuture : futures)
-                    {
-                        eachFuture.cancel(true);
-                    }
-                    return false;
+                    AbstractParallelIterable.cancelAll(futures);
+                    return result;
                 }
-                futures.remove(future);
             }
             catch (InterruptedException e)
             {
+                AbstractParallelIterable.cancelAll(futures);
                 Thread.currentThread().interrupt();
                 throw new RuntimeException(e);
             }
             catch (ExecutionException e)
             {
+                AbstractParallelIterable.cancelAll(futures);
                 throw new RuntimeException(e);
             }
         }
-        return true;
+        return null;
     }
 
-    protected static <T> T detect(final AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, final Predicate<? super T> predicate)
+    private static <T> T detectInBatch(Batch<T> batch, Predicate<? super T> predicate)
     {
-        LazyIterable<? extends RootBatch<T>> chunks = parallelIterable.split();
-        LazyIterable<Future<T>> futures = chunks.collect(new Function<RootBatch<T>, Future<T>>()
+        if (batch instanceof RootBatch<?>)
         {
-            public Future<T> valueOf(final RootBatch<T> chunk)
+            return ((RootBatch<T>) batch).detect(predicate);
+        }
+        DetectProcedure<T> procedure = new DetectProcedure<T>(predicate);
+        batch.forEach(procedure);
+        return procedure.result;
+    }
+
+    /**
+     * Evaluates every batch and returns the first batch result, in completion order, that is equal to
+     * {@code shortCircuitResult} (or any non-null result when {@code shortCircuitResult} is null). As soon as such a
+     * result is seen the shared predicate is cancelled, so batches that are still running stop at their next element,
+     * and batches that have not started yet are cancelled without being run.
+     */
+    private static <T, V> V shortCircuit(
+            AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable,
+            final Function<RootBatch<T>, V> batchFunction,
+            ShortCircuitPredicate<T> shortCircuitPredicate,
+            V shortCircuitResult,
+            V defaultResult)
+    {
+        final CompletionService<V> completionService = new ExecutorCompletionService<V>(parallelIterable.getExecutorService());
+        MutableSet<Future<V>> futures = parallelIterable.split().collect(new Function<RootBatch<T>, Future<V>>()
+        {
+            public Future<V> valueOf(final RootBatch<T> batch)
             {
-                return parallelIterable.getExecutorService().submit(new Callable<T>()
+                return completionService.submit(new Callable<V>()
                 {
-                    public T call()
+                    public V call()
                     {
-                        return chunk.detect(predicate);
+                        return batchFunction.valueOf(batch);
                     }
                 });
             }
-        });
-        // The call to toList() is important to stop the lazy evaluation and force all the Runnables to start executing.
-        MutableList<Future<T>> futuresList = futures.toList();
-        for (Future<T> future : futuresList)
+        }, UnifiedSet.<Future<V>>newSet());
+
+        while (futures.notEmpty())
         {
             try
             {
-                T eachResult = future.get();
-                if (eachResult != null)
+                Future<V> future = completionService.take();
+                V result = future.get();
+                if (shortCircuitResult == null ? result != null : shortCircuitResult.equals(result))
                 {
-                    for (Future<T> eachFutureToCancel : futuresList)
-                    {
-                        eachFutureToCancel.cancel(true);
-                    }
-                    return eachResult;
+                    shortCircuitPredicate.cancel();
+                    AbstractParallelIterable.cancelAll(futures);
+                    return result;
                 }
+                futures.remove(future);
             }
             catch (InterruptedException e)
             {
+                shortCircuitPredicate.cancel();
+                AbstractParallelIterable.cancelAll(futures);
                 Thread.currentThread().interrupt();
                 throw new RuntimeException(e);
             }
             catch (ExecutionException e)
             {
+                shortCircuitPredicate.cancel();
+                AbstractParallelIterable.cancelAll(futures);
                 throw new RuntimeException(e);
             }
         }
-        return null;
+        return defaultResult;
+    }
+
+    /**
+     * Cancels the futures that have not started yet. Running batches are not interrupted; they are expected to notice
+     * cancellation through their {@link ShortCircuitPredicate} or to finish on their own.
+     */
+    protected static void cancelAll(Iterable<? extends Future<?>> futures)
+    {
+        for (Future<?> future : futures)
+        {
+            future.cancel(false);
+        }
     }
 
     public abstract ExecutorService getExecutorService();
@@ -254,7 +311,7 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     protected abstract boolean isOrdered();
 
-    protected <S, V> void collectCombine(Function<Batch<T>, V> function, Procedure2<S, V> combineProcedure, S state)
+    protected <S, V> void collectCombine(Function<? super B, V> function, Procedure2<S, V> combineProcedure, S state)
     {
         if (this.isOrdered())
         {
@@ -266,12 +323,12 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         }
     }
 
-    private <S, V> void collectCombineOrdered(final Function<Batch<T>, V> function, Procedure2<S, V> combineProcedure, S state)
+    private <S, V> void collectCombineOrdered(final Function<? super B, V> function, Procedure2<S, V> combineProcedure, S state)
     {
-        LazyIterable<? extends Batch<T>> chunks = this.split();
-        LazyIterable<Future<V>> futures = chunks.collect(new Function<Batch<T>, Future<V>>()
+        LazyIterable<B> chunks = this.split();
+        LazyIterable<Future<V>> futures = chunks.collect(new Function<B, Future<V>>()
         {
-            public Future<V> valueOf(final Batch<T> chunk)
+            public Future<V> valueOf(final B chunk)
             {
                 return AbstractParallelIterable.this.getExecutorService().submit(new Callable<V>()
                 {
@@ -302,12 +359,12 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         }
     }
 
-    private <S, V> void collectCombineUnordered(final Function<Batch<T>, V> function, Procedure2<S, V> combineProcedure, S state)
+    private <S, V> void collectCombineUnordered(final Function<? super B, V> function, Procedure2<S, V> combineProcedure, S state)
     {
-        LazyIterable<? extends Batch<T>> chunks = this.split();
-        MutableList<Callable<V>> callables = chunks.collect(new Function<Batch<T>, Callable<V>>()
+        LazyIterable<B> chunks = this.split();
+        MutableList<Callable<V>> callables = chunks.collect(new Function<B, Callable<V>>()
         {
-            public Callable<V> valueOf(final Batch<T> chunk)
+            public Callable<V> valueOf(final B chunk)
             {
                 return new Callable<V>()
                 {
@@ -349,14 +406,14 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         }
     }
 
-    private T collectReduce(Function<Batch<T>, T> map, Function2<T, T, T> function2)
+    private T collectReduce(Function<Batch<T>, T> map, Function2<? super T, ? super T, ? extends T> function2)
     {
         return this.isOrdered()
                 ? this.collectReduceOrdered(map, function2)
                 : this.collectReduceUnordered(map, function2);
     }
 
-    private T collectReduceOrdered(final Function<Batch<T>, T> map, Function2<T, T, T> function2)
+    private T collectReduceOrdered(final Function<Batch<T>, T> map, Function2<? super T, ? super T, ? extends T> function2)
     {
         LazyIterable<? extends Batch<T>> chunks = this.split();
         LazyIterable<Future<T>> futures = chunks.collect(new Function<Batch<T>, Future<T>>()
@@ -413,7 +470,7 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         }
     }
 
-    private T collectReduceUnordered(final Function<Batch<T>, T> map, Function2<T, T, T> function2)
+    private T collectReduceUnordered(final Function<Batch<T>, T> map, Function2<? super T, ? super T, ? extends T> function2)
     {
         LazyIterable<? extends Batch<T>> chunks = this.split();
         MutableList<Callable<T>> callables = chunks.collect(new Function<Batch<T>, Callable<T>>()
@@ -599,25 +656,75 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     public Object[] toArray()
     {
-        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".toArray() not implemented yet");
+        return this.toArray(new Object[0]);
     }
 
+    /**
+     * Each batch is materialized in parallel, then every batch is copied concurrently into its own region of the
+     * result array, so neither pass runs serially over all the elements.
+     */
     public <E> E[] toArray(E[] array)
     {
-        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".toArray() not implemented yet");
-    }
+        MutableList<FastList<T>> batches = FastList.newList();
+        this.collectCombine(AbstractParallelIterable.<T>batchToFastList(), AbstractParallelIterable.<FastList<T>>addToList(), batches);
 
-    public MutableList<T> toList()
-    {
-        Function<Batch<T>, FastList<T>> map = new Function<Batch<T>, FastList<T>>()
+        int size = 0;
+        for (int i = 0; i < batches.size(); i++)
         {
-            public FastList<T> valueOf(Batch<T> batch)
+            size += batches.get(i).size();
+        }
+        E[] result = array.length < size
+                ? (E[]) Array.newInstance(array.getClass().getComponentType(), size)
+                : array;
+        if (result.length > size)
+        {
+            result[size] = null;
+        }
+
+        MutableList<Future<?>> futures = FastList.newList(batches.size());
+        int destinationIndex = 0;
+        for (int i = 0; i < batches.size(); i++)
+        {
+            final FastList<T> batch = batches.get(i);
+            if (batch.notEmpty())
             {
-                FastList<T> list = FastList.newList();
-                batch.forEach(CollectionAddProcedure.on(list));
-                return list;
+                final E[] target = result;
+                final int batchDestinationIndex = destinationIndex;
+                futures.add(this.getExecutorService().submit(new Runnable()
+                {
+                    public void run()
+                    {
+                        batch.toArray(target, 0, batch.size() - 1, batchDestinationIndex);
+                    }
+                }));
+                destinationIndex += batch.size();
             }
-        };
+        }
+        for (int i = 0; i < futures.size(); i++)
+        {
+            try
+            {
+                futures.get(i).get();
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            catch (ExecutionException e)
+            {
+                if (e.getCause() instanceof ArrayStoreException)
+                {
+                    throw (ArrayStoreException) e.getCause();
+                }
+                throw new RuntimeException(e);
+            }
+        }
+        return result;
+    }
+
+    public MutableList<T> toList()
+    {
         Procedure2<MutableList<T>, FastList<T>> reduce = new Procedure2<MutableList<T>, FastList<T>>()
         {
             public void value(MutableList<T> accumulator, FastList<T> each)
@@ -626,18 +733,42 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
             }
         };
         MutableList<T> state = new CompositeFastList<T>();
-        this.collectCombine(map, reduce, state);
+        this.collectCombine(AbstractParallelIterable.<T>batchToFastList(), reduce, state);
         return state;
     }
 
+    private static <V> Procedure2<MutableList<V>, V> addToList()
+    {
+        return new Procedure2<MutableList<V>, V>()
+        {
+            public void value(MutableList<V> accumulator, V each)
+            {
+                accumulator.add(each);
+            }
+        };
+    }
+
+    private static <T> Function<Batch<T>, FastList<T>> batchToFastList()
+    {
+        return new Function<Batch<T>, FastList<T>>()
+        {
+            public FastList<T> valueOf(Batch<T> batch)
+            {
+                FastList<T> list = FastList.newList();
+                batch.forEach(CollectionAddProcedure.on(list));
+                return list;
+            }
+        };
+    }
+
     public MutableList<T> toSortedList()
     {
-        return this.toList().toSortedList();
+        return this.toSortedFastList(null);
     }
 
     public MutableList<T> toSortedList(Comparator<? super T> comparator)
     {
-        return this.toList().toSortedList(comparator);
+        return this.toSortedFastList(comparator);
     }
 
     public <V extends Comparable<? super V>> MutableList<T> toSortedListBy(Function<? super T, ? extends V> function)
@@ -655,9 +786,7 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     public MutableSortedSet<T> toSortedSet()
     {
-        MutableSortedSet<T> result = TreeSortedSet.<T>newSet().asSynchronized();
-        this.forEach(CollectionAddProcedure.on(result));
-        return result;
+        return this.toSortedSetWith(null);
     }
 
     public <V extends Comparable<? super V>> MutableSortedSet<T> toSortedSetBy(Function<? super T, ? extends V> function)
@@ -667,23 +796,45 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     public MutableBag<T> toBag()
     {
-        MutableBag<T> result = HashBag.<T>newBag().asSynchronized();
-        this.forEach(CollectionAddProcedure.on(result));
+        Function<Batch<T>, MutableBag<T>> map = new Function<Batch<T>, MutableBag<T>>()
+        {
+            public MutableBag<T> valueOf(Batch<T> batch)
+            {
+                MutableBag<T> bag = HashBag.newBag();
+                batch.forEach(CollectionAddProcedure.on(bag));
+                return bag;
+            }
+        };
+        MutableBag<T> result = HashBag.newBag();
+        this.collectCombine(map, AbstractParallelIterable.<T>addAllOccurrences(), result);
         return result;
     }
 
+    protected static <V> Procedure2<MutableBag<V>, MutableBag<V>> addAllOccurrences()
+    {
+        return new Procedure2<MutableBag<V>, MutableBag<V>>()
+        {
+            public void value(MutableBag<V> accumulator, MutableBag<V> each)
+            {
+                each.forEachWithOccurrences(BagAddOccurrencesProcedure.on(accumulator));
+            }
+        };
+    }
+
     public MutableSortedBag<T> toSortedBag()
     {
-        MutableSortedBag<T> result = TreeBag.<T>newBag().asSynchronized();
-        this.forEach(CollectionAddProcedure.on(result));
-        return result;
+        return this.toSortedBagWith(null);
     }
 
     public MutableSortedBag<T> toSortedBag(Comparator<? super T> comparator)
     {
-        MutableSortedBag<T> result = TreeBag.newBag(comparator).asSynchronized();
-        this.forEach(CollectionAddProcedure.on(result));
-        return result;
+        return this.toSortedBagWith(comparator);
+    }
+
+    private MutableSortedBag<T> toSortedBagWith(Comparator<? super T> comparator)
+    {
+        FastList<T> sorted = this.toSortedFastList(comparator);
+        return TreeBag.newBagFromOccurrences(new TreeSortedMap<T, Counter>(SortedRuns.countedSortedMapView(sorted, comparator)));
     }
 
     public <V extends Comparable<? super V>> MutableSortedBag<T> toSortedBagBy(Function<? super T, ? extends V> function)
@@ -693,36 +844,106 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     public MutableSortedSet<T> toSortedSet(Comparator<? super T> comparator)
     {
-        MutableSortedSet<T> result = TreeSortedSet.newSet(comparator).asSynchronized();
-        this.forEach(CollectionAddProcedure.on(result));
-        return result;
+        return this.toSortedSetWith(comparator);
+    }
+
+    private MutableSortedSet<T> toSortedSetWith(Comparator<? super T> comparator)
+    {
+        FastList<T> sorted = this.toSortedFastList(comparator);
+        return new TreeSortedSet<T>(SortedRuns.distinctSortedSetView(sorted, comparator));
+    }
+
+    /**
+     * Sorts each batch on the executor and then merges the sorted batches, instead of adding every element to a
+     * single synchronized sorted collection.
+     */
+    private FastList<T> toSortedFastList(final Comparator<? super T> comparator)
+    {
+        Function<Batch<T>, FastList<T>> map = new Function<Batch<T>, FastList<T>>()
+        {
+            public FastList<T> valueOf(Batch<T> batch)
+            {
+                FastList<T> list = FastList.newList();
+                batch.forEach(CollectionAddProcedure.on(list));
+                return list.sortThis(comparator);
+            }
+        };
+        MutableList<FastList<T>> runs = FastList.newList();
+        this.collectCombine(map, AbstractParallelIterable.<FastList<T>>addToList(), runs);
+        return SortedRuns.merge(this.getExecutorService(), runs, comparator);
     }
 
     public <NK, NV> MutableMap<NK, NV> toMap(
-            Function<? super T, ? extends NK> keyFunction,
-            Function<? super T, ? extends NV> valueFunction)
+            final Function<? super T, ? extends NK> keyFunction,
+            final Function<? super T, ? extends NV> valueFunction)
     {
-        MutableMap<NK, NV> map = UnifiedMap.<NK, NV>newMap().asSynchronized();
-        this.forEach(new MapCollectProcedure<T, NK, NV>(map, keyFunction, valueFunction));
-        return map;
+        Function<Batch<T>, MutableMap<NK, NV>> map = new Function<Batch<T>, MutableMap<NK, NV>>()
+        {
+            public MutableMap<NK, NV> valueOf(Batch<T> batch)
+            {
+                MutableMap<NK, NV> batchMap = UnifiedMap.newMap();
+                batch.forEach(new MapCollectProcedure<T, NK, NV>(batchMap, keyFunction, valueFunction));
+                return batchMap;
+            }
+        };
+        Procedure2<MutableMap<NK, NV>, MutableMap<NK, NV>> combineProcedure = new Procedure2<MutableMap<NK, NV>, MutableMap<NK, NV>>()
+        {
+            public void value(MutableMap<NK, NV> accumulator, MutableMap<NK, NV> each)
+            {
+                accumulator.putAll(each);
+            }
+        };
+        MutableMap<NK, NV> result = UnifiedMap.newMap();
+        this.collectCombine(map, combineProcedure, result);
+        return result;
     }
 
     public <NK, NV> MutableSortedMap<NK, NV> toSortedMap(
             Function<? super T, ? extends NK> keyFunction,
             Function<? super T, ? extends NV> valueFunction)
     {
-        MutableSortedMap<NK, NV> sortedMap = TreeSortedMap.<NK, NV>newMap().asSynchronized();
-        this.forEach(new MapCollectProcedure<T, NK, NV>(sortedMap, keyFunction, valueFunction));
-        return sortedMap;
+        return this.toSortedMapWith(null, keyFunction, valueFunction);
     }
 
     public <NK, NV> MutableSortedMap<NK, NV> toSortedMap(Comparator<? super NK> comparator,
             Function<? super T, ? extends NK> keyFunction,
             Function<? super T, ? extends NV> valueFunction)
     {
-        MutableSortedMap<NK, NV> sortedMap = TreeSortedMap.<NK, NV>newMap(comparator).asSynchronized();
-        this.forEach(new MapCollectProcedure<T, NK, NV>(sortedMap, keyFunction, valueFunction));
-        return sortedMap;
+        return this.toSortedMapWith(comparator, keyFunction, valueFunction);
+    }
+
+    private <NK, NV> MutableSortedMap<NK, NV> toSortedMapWith(
+            Comparator<? super NK> comparator,
+            final Function<? super T, ? extends NK> keyFunction,
+            final Function<? super T, ? extends NV> valueFunction)
+    {
+        final Comparator<? super NK> nonNullComparator = SortedRuns.nullSafeComparator(comparator);
+        final Comparator<Pair<NK, NV>> pairComparator = new Comparator<Pair<NK, NV>>()
+        {
+            public int compare(Pair<NK, NV> pair1, Pair<NK, NV> pair2)
+            {
+                return nonNullComparator.compare(pair1.getOne(), pair2.getOne());
+            }
+        };
+        Function<Batch<T>, FastList<Pair<NK, NV>>> map = new Function<Batch<T>, FastList<Pair<NK, NV>>>()
+        {
+            public FastList<Pair<NK, NV>> valueOf(Batch<T> batch)
+            {
+                final FastList<Pair<NK, NV>> list = FastList.newList();
+                batch.forEach(new Procedure<T>()
+                {
+                    public void value(T each)
+                    {
+                        list.add(Tuples.<NK, NV>pair(keyFunction.valueOf(each), valueFunction.valueOf(each)));
+                    }
+                });
+                return list.sortThis(pairComparator);
+            }
+        };
+        MutableList<FastList<Pair<NK, NV>>> runs = FastList.newList();
+        this.collectCombine(map, AbstractParallelIterable.<FastList<Pair<NK, NV>>>addToList(), runs);
+        FastList<Pair<NK, NV>> sorted = SortedRuns.merge(this.getExecutorService(), runs, pairComparator);
+        return new TreeSortedMap<NK, NV>(SortedRuns.sortedMapView(sorted, comparator));
     }
 
     public <K, V> MapIterable<K, V> aggregateBy(
@@ -879,6 +1100,148 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         return this.sumOfDoubleOrdered(map);
     }
 
+    public <IV> IV injectInto(
+            final Function0<? extends IV> injectedValueFactory,
+            final Function2<? super IV, ? super T, ? extends IV> function,
+            Function2<? super IV, ? super IV, ? extends IV> combiner)
+    {
+        Function<Batch<T>, IV> map = new Function<Batch<T>, IV>()
+        {
+            public IV valueOf(Batch<T> batch)
+            {
+                return batch.injectInto(injectedValueFactory.value(), function);
+            }
+        };
+        MutableList<IV> results = FastList.newList();
+        this.collectCombine(map, AbstractParallelIterable.<IV>addToList(), results);
+        if (results.isEmpty())
+        {
+            return injectedValueFactory.value();
+        }
+        IV result = results.getFirst();
+        for (int i = 1; i < results.size(); i++)
+        {
+            result = combiner.value(result, results.get(i));
+        }
+        return result;
+    }
+
+    public T reduce(final Function2<? super T, ? super T, ? extends T> function)
+    {
+        Function<Batch<T>, T> map = new Function<Batch<T>, T>()
+        {
+            public T valueOf(Batch<T> batch)
+            {
+                return batch.reduce(function);
+            }
+        };
+        return this.collectReduce(map, function);
+    }
+
+    public <V> ObjectLongMap<V> sumByInt(final Function<T, V> groupBy, final IntFunction<? super T> function)
+    {
+        Function<Batch<T>, ObjectLongHashMap<V>> map = new Function<Batch<T>, ObjectLongHashMap<V>>()
+        {
+            public ObjectLongHashMap<V> valueOf(Batch<T> batch)
+            {
+                return batch.injectInto(ObjectLongHashMap.<V>newMap(), PrimitiveFunctions.sumByIntFunction(groupBy, function));
+            }
+        };
+        ObjectLongHashMap<V> result = ObjectLongHashMap.newMap();
+        this.collectCombineUnordered(map, AbstractParallelIterable.<V>addAllLongValues(), result);
+        return result;
+    }
+
+    public <V> ObjectDoubleMap<V> sumByFloat(final Function<T, V> groupBy, final FloatFunction<? super T> function)
+    {
+        Function<Batch<T>, ObjectDoubleHashMap<V>> map = new Function<Batch<T>, ObjectDoubleHashMap<V>>()
+        {
+            public ObjectDoubleHashMap<V> valueOf(Batch<T> batch)
+            {
+                return batch.injectInto(ObjectDoubleHashMap.<V>newMap(), PrimitiveFunctions.sumByFloatFunction(groupBy, function));
+            }
+        };
+        ObjectDoubleHashMap<V> result = ObjectDoubleHashMap.newMap();
+        this.collectCombine(map, AbstractParallelIterable.<V>addAllDoubleValues(), result);
+        return result;
+    }
+
+    public <V> ObjectLongMap<V> sumByLong(final Function<T, V> groupBy, final LongFunction<? super T> function)
+    {
+        Function<Batch<T>, ObjectLongHashMap<V>> map = new Function<Batch<T>, ObjectLongHashMap<V>>()
+        {
+            public ObjectLongHashMap<V> valueOf(Batch<T> batch)
+            {
+                return batch.injectInto(ObjectLongHashMap.<V>newMap(), PrimitiveFunctions.sumByLongFunction(groupBy, function));
+            }
+        };
+        ObjectLongHashMap<V> result = ObjectLongHashMap.newMap();
+        this.collectCombineUnordered(map, AbstractParallelIterable.<V>addAllLongValues(), result);
+        return result;
+    }
+
+    public <V> ObjectDoubleMap<V> sumByDouble(final Function<T, V> groupBy, final DoubleFunction<? super T> function)
+    {
+        Function<Batch<T>, ObjectDoubleHashMap<V>> map = new Function<Batch<T>, ObjectDoubleHashMap<V>>()
+        {
+            public ObjectDoubleHashMap<V> valueOf(Batch<T> batch)
+            {
+                return batch.injectInto(ObjectDoubleHashMap.<V>newMap(), PrimitiveFunctions.sumByDoubleFunction(groupBy, function));
+            }
+        };
+        ObjectDoubleHashMap<V> result = ObjectDoubleHashMap.newMap();
+        this.collectCombine(map, AbstractParallelIterable.<V>addAllDoubleValues(), result);
+        return result;
+    }
+
+    private static <V> Procedure2<ObjectLongHashMap<V>, ObjectLongHashMap<V>> addAllLongValues()
+    {
+        return new Procedure2<ObjectLongHashMap<V>, ObjectLongHashMap<V>>()
+        {
+            public void value(final ObjectLongHashMap<V> accumulator, ObjectLongHashMap<V> each)
+            {
+                if (accumulator.isEmpty())
+                {
+                    accumulator.putAll(each);
+                }
+                else
+                {
+                    each.forEachKeyValue(new ObjectLongProcedure<V>()
+                    {
+                        public void value(V key, long value)
+                        {
+                            accumulator.addToValue(key, value);
+                        }
+                    });
+                }
+            }
+        };
+    }
+
+    private static <V> Procedure2<ObjectDoubleHashMap<V>, ObjectDoubleHashMap<V>> addAllDoubleValues()
+    {
+        return new Procedure2<ObjectDoubleHashMap<V>, ObjectDoubleHashMap<V>>()
+        {
+            public void value(final ObjectDoubleHashMap<V> accumulator, ObjectDoubleHashMap<V> each)
+            {
+                if (accumulator.isEmpty())
+                {
+                    accumulator.putAll(each);
+                }
+                else
+                {
+                    each.forEachKeyValue(new ObjectDoubleProcedure<V>()
+                    {
+                        public void value(V key, double value)
+                        {
+                            accumulator.addToValue(key, value);
+                        }
+                    });
+                }
+            }
+        };
+    }
+
     private long sumOfLongOrdered(final LongFunction<Batch<T>> map)
     {
         LazyIterable<? extends Batch<T>> chunks = this.split();
@@ -976,4 +1339,25 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         });
         return result;
     }
+
+    private static final class DetectProcedure<T> implements Procedure<T>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Predicate<? super T> predicate;
+        private T result;
+
+        private DetectProcedure(Predicate<? super T> predicate)
+        {
+            this.predicate = predicate;
+        }
+
+        public void value(T each)
+        {
+            if (this.result == null && this.predicate.accept(each))
+            {
+                this.result = each;
+            }
+        }
+    }
 }
@@ -36,6 +36,8 @@ import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.list.ParallelListIterable;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.ParallelUnsortedSetIterable;
@@ -404,6 +406,54 @@ public abstract class AbstractSynchronizedParallelIterable<T, PI extends Paralle
         }
     }
 
+    public <IV> IV injectInto(Function0<? extends IV> injectedValueFactory, Function2<? super IV, ? super T, ? extends IV> function, Function2<? super IV, ? super IV, ? extends IV> combiner)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.injectInto(injectedValueFactory, function, combiner);
+        }
+    }
+
+    public T reduce(Function2<? super T, ? super T, ? extends T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.reduce(function);
+        }
+    }
+
+    public <V> ObjectLongMap<V> sumByInt(Function<T, V> groupBy, IntFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.sumByInt(groupBy, function);
+        }
+    }
+
+    public <V> ObjectDoubleMap<V> sumByFloat(Function<T, V> groupBy, FloatFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.sumByFloat(groupBy, function);
+        }
+    }
+
+    public <V> ObjectLongMap<V> sumByLong(Function<T, V> groupBy, LongFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.sumByLong(groupBy, function);
+        }
+    }
+
+    public <V> ObjectDoubleMap<V> sumByDouble(Function<T, V> groupBy, DoubleFunction<? super T> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.sumByDouble(groupBy, function);
+        }
+    }
+
     public String makeString()
     {
         synchronized (this.lock)
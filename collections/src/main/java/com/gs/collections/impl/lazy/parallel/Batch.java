@@ -20,6 +20,7 @@ import java.util.Comparator;
 
 import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function2;
 import com.gs.collections.api.block.function.primitive.DoubleFunction;
 import com.gs.collections.api.block.function.primitive.FloatFunction;
 import com.gs.collections.api.block.function.primitive.IntFunction;
@@ -56,5 +57,9 @@ public interface Batch<T>
     DoubleSumResultHolder sumOfFloat(FloatFunction<? super T> function);
 
     DoubleSumResultHolder sumOfDouble(DoubleFunction<? super T> function);
+
+    <IV> IV injectInto(IV injectedValue, Function2<? super IV, ? super T, ? extends IV> function);
+
+    T reduce(Function2<? super T, ? super T, ? extends T> function);
 }
 
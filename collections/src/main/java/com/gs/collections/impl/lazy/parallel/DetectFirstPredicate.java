@@ -0,0 +1,71 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.gs.collections.api.block.predicate.Predicate;
+
+/**
+ * Wraps the predicate of one batch of an ordered detect. Once an earlier batch has matched, this batch is skipped: the
+ * next element is accepted without evaluating the wrapped predicate, which ends the batch's scan, and
+ * {@link #isSkipped()} tells the caller to discard the element the scan stopped at rather than report it as a match.
+ */
+final class DetectFirstPredicate<T> implements Predicate<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final Predicate<? super T> predicate;
+    private final int batchIndex;
+    private final AtomicInteger firstMatchingBatchIndex;
+    private boolean skipped;
+
+    DetectFirstPredicate(Predicate<? super T> predicate, int batchIndex, AtomicInteger firstMatchingBatchIndex)
+    {
+        this.predicate = predicate;
+        this.batchIndex = batchIndex;
+        this.firstMatchingBatchIndex = firstMatchingBatchIndex;
+    }
+
+    public boolean accept(T each)
+    {
+        if (this.firstMatchingBatchIndex.get() < this.batchIndex)
+        {
+            this.skipped = true;
+            return true;
+        }
+        return this.predicate.accept(each);
+    }
+
+    /**
+     * Returns true if this batch stopped because an earlier batch matched, in which case it has no result of its own.
+     * Only meaningful on the thread that ran the batch.
+     */
+    public boolean isSkipped()
+    {
+        return this.skipped;
+    }
+
+    public void matched()
+    {
+        int current = this.firstMatchingBatchIndex.get();
+        while (this.batchIndex < current && !this.firstMatchingBatchIndex.compareAndSet(current, this.batchIndex))
+        {
+            current = this.firstMatchingBatchIndex.get();
+        }
+    }
+}
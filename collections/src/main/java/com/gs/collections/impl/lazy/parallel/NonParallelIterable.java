@@ -17,6 +17,7 @@
 package com.gs.collections.impl.lazy.parallel;
 
 import java.util.Comparator;
+import java.util.Iterator;
 
 import com.gs.collections.api.ParallelIterable;
 import com.gs.collections.api.RichIterable;
@@ -36,6 +37,8 @@ import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.api.map.primitive.ObjectLongMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
@@ -254,6 +257,42 @@ public abstract class NonParallelIterable<T, RI extends RichIterable<T>> impleme
         return this.delegate.sumOfDouble(function);
     }
 
+    public <IV> IV injectInto(Function0<? extends IV> injectedValueFactory, Function2<? super IV, ? super T, ? extends IV> function, Function2<? super IV, ? super IV, ? extends IV> combiner)
+    {
+        return this.delegate.injectInto(injectedValueFactory.value(), function);
+    }
+
+    public T reduce(Function2<? super T, ? super T, ? extends T> function)
+    {
+        Iterator<T> iterator = this.delegate.iterator();
+        T result = iterator.next();
+        while (iterator.hasNext())
+        {
+            result = function.value(result, iterator.next());
+        }
+        return result;
+    }
+
+    public <V> ObjectLongMap<V> sumByInt(Function<T, V> groupBy, IntFunction<? super T> function)
+    {
+        return this.delegate.sumByInt(groupBy, function);
+    }
+
+    public <V> ObjectDoubleMap<V> sumByFloat(Function<T, V> groupBy, FloatFunction<? super T> function)
+    {
+        return this.delegate.sumByFloat(groupBy, function);
+    }
+
+    public <V> ObjectLongMap<V> sumByLong(Function<T, V> groupBy, LongFunction<? super T> function)
+    {
+        return this.delegate.sumByLong(groupBy, function);
+    }
+
+    public <V> ObjectDoubleMap<V> sumByDouble(Function<T, V> groupBy, DoubleFunction<? super T> function)
+    {
+        return this.delegate.sumByDouble(groupBy, function);
+    }
+
     @Override
     public String toString()
     {
@@ -27,5 +27,7 @@ public interface OrderedBatch<T> extends Batch<T>
 
     <V> ListBatch<V> collect(Function<? super T, ? extends V> function);
 
+    <V> ListBatch<V> flatCollect(Function<? super T, ? extends Iterable<V>> function);
+
     Batch<T> distinct(ConcurrentHashMap<T, Boolean> distinct);
 }
@@ -90,20 +90,6 @@ public class ParallelSelectIterable<T> extends AbstractParallelIterableImpl<T, B
         return new NonParallelUnsortedBag<V>(this.parallelIterable.toBag().select(this.predicate).flatCollect(function));
     }
 
-    @Override
-    public Object[] toArray()
-    {
-        // TODO: Implement in parallel
-        return this.parallelIterable.toList().select(this.predicate).toArray();
-    }
-
-    @Override
-    public <E> E[] toArray(E[] array)
-    {
-        // TODO: Implement in parallel
-        return this.parallelIterable.toList().select(this.predicate).toArray(array);
-    }
-
     private static final class SelectAllSatisfyPredicate<T> implements Predicate<T>
     {
         private final Predicate<? super T> left;
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel;
+
+import com.gs.collections.api.block.predicate.Predicate;
+
+/**
+ * Wraps a predicate shared by all the batches of a short-circuiting operation. Once {@link #cancel()} is called, every
+ * batch still scanning sees {@code resultIfCancelled} on its next element, which ends its loop without evaluating the
+ * wrapped predicate again. Results produced after cancellation are discarded by the caller.
+ */
+final class ShortCircuitPredicate<T> implements Predicate<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final Predicate<? super T> predicate;
+    private final boolean resultIfCancelled;
+    private volatile boolean cancelled;
+
+    ShortCircuitPredicate(Predicate<? super T> predicate, boolean resultIfCancelled)
+    {
+        this.predicate = predicate;
+        this.resultIfCancelled = resultIfCancelled;
+    }
+
+    public boolean accept(T each)
+    {
+        return this.cancelled ? this.resultIfCancelled : this.predicate.accept(each);
+    }
+
+    public void cancel()
+    {
+        this.cancelled = true;
+    }
+}
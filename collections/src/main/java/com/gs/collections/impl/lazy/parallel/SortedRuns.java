@@ -0,0 +1,408 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.Counter;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.block.factory.Functions;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.tuple.ImmutableEntry;
+
+/**
+ * Merges the sorted runs produced by the batches of a parallel iterable. Runs are merged pairwise and each round of
+ * merges runs concurrently on the executor. Ties are taken from the earlier run, so the merge is stable with respect
+ * to the order of the runs.
+ * <p>
+ * The sorted views returned by this class are unmodifiable, and are meant to be passed to the copy constructors of
+ * {@link java.util.TreeSet} and {@link java.util.TreeMap}, which build balanced trees from sorted input in linear time.
+ */
+final class SortedRuns
+{
+    private SortedRuns()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    public static <T> FastList<T> merge(
+            ExecutorService executorService,
+            MutableList<FastList<T>> runs,
+            Comparator<? super T> comparator)
+    {
+        final Comparator<? super T> nonNullComparator = SortedRuns.nullSafeComparator(comparator);
+        MutableList<FastList<T>> currentRuns = runs;
+        while (currentRuns.size() > 1)
+        {
+            MutableList<Future<FastList<T>>> futures = FastList.newList(currentRuns.size() / 2);
+            for (int i = 0; i + 1 < currentRuns.size(); i += 2)
+            {
+                final FastList<T> left = currentRuns.get(i);
+                final FastList<T> right = currentRuns.get(i + 1);
+                futures.add(executorService.submit(new Callable<FastList<T>>()
+                {
+                    public FastList<T> call()
+                    {
+                        return SortedRuns.merge(left, right, nonNullComparator);
+                    }
+                }));
+            }
+            MutableList<FastList<T>> nextRuns = FastList.newList(futures.size() + 1);
+            for (int i = 0; i < futures.size(); i++)
+            {
+                nextRuns.add(SortedRuns.get(futures.get(i)));
+            }
+            if (currentRuns.size() % 2 == 1)
+            {
+                nextRuns.add(currentRuns.getLast());
+            }
+            currentRuns = nextRuns;
+        }
+        return currentRuns.isEmpty() ? FastList.<T>newList() : currentRuns.getFirst();
+    }
+
+    public static <T> Comparator<? super T> nullSafeComparator(Comparator<? super T> comparator)
+    {
+        if (comparator == null)
+        {
+            return Comparators.naturalOrder();
+        }
+        return comparator;
+    }
+
+    public static <T> FastList<T> merge(FastList<T> left, FastList<T> right, Comparator<? super T> comparator)
+    {
+        int leftSize = left.size();
+        int rightSize = right.size();
+        FastList<T> result = FastList.newList(leftSize + rightSize);
+        int leftIndex = 0;
+        int rightIndex = 0;
+        while (leftIndex < leftSize && rightIndex < rightSize)
+        {
+            T leftItem = left.get(leftIndex);
+            T rightItem = right.get(rightIndex);
+            if (comparator.compare(rightItem, leftItem) < 0)
+            {
+                result.add(rightItem);
+                rightIndex++;
+            }
+            else
+            {
+                result.add(leftItem);
+                leftIndex++;
+            }
+        }
+        while (leftIndex < leftSize)
+        {
+            result.add(left.get(leftIndex++));
+        }
+        while (rightIndex < rightSize)
+        {
+            result.add(right.get(rightIndex++));
+        }
+        return result;
+    }
+
+    /**
+     * Returns a view of the distinct elements of {@code sorted}, keeping the first of each group of equal elements.
+     */
+    public static <T> SortedSet<T> distinctSortedSetView(FastList<T> sorted, Comparator<? super T> comparator)
+    {
+        Comparator<? super T> nonNullComparator = SortedRuns.nullSafeComparator(comparator);
+        FastList<T> distinct = FastList.newList(sorted.size());
+        for (int i = 0; i < sorted.size(); i++)
+        {
+            T each = sorted.get(i);
+            if (distinct.isEmpty() || nonNullComparator.compare(distinct.getLast(), each) != 0)
+            {
+                distinct.add(each);
+            }
+        }
+        return new SortedListSetView<T>(distinct, comparator);
+    }
+
+    /**
+     * Returns a view of {@code sortedPairs} keyed by their first elements. For each group of equal keys the first key
+     * and the last value are kept, matching the behavior of repeated calls to {@link Map#put(Object, Object)}.
+     */
+    public static <K, V> SortedMap<K, V> sortedMapView(FastList<Pair<K, V>> sortedPairs, Comparator<? super K> comparator)
+    {
+        Comparator<? super K> nonNullComparator = SortedRuns.nullSafeComparator(comparator);
+        FastList<Map.Entry<K, V>> entries = FastList.newList(sortedPairs.size());
+        for (int i = 0; i < sortedPairs.size(); i++)
+        {
+            Pair<K, V> each = sortedPairs.get(i);
+            if (!entries.isEmpty() && nonNullComparator.compare(entries.getLast().getKey(), each.getOne()) == 0)
+            {
+                K key = entries.getLast().getKey();
+                entries.set(entries.size() - 1, ImmutableEntry.of(key, each.getTwo()));
+            }
+            else
+            {
+                entries.add(ImmutableEntry.of(each.getOne(), each.getTwo()));
+            }
+        }
+        return new SortedListMapView<K, V>(entries, comparator);
+    }
+
+    /**
+     * Returns a view of the distinct elements of {@code sorted} mapped to the number of times each occurs, keeping the
+     * first of each group of equal elements.
+     */
+    public static <T> SortedMap<T, Counter> countedSortedMapView(FastList<T> sorted, Comparator<? super T> comparator)
+    {
+        Comparator<? super T> nonNullComparator = SortedRuns.nullSafeComparator(comparator);
+        FastList<Map.Entry<T, Counter>> entries = FastList.newList();
+        int runStart = 0;
+        for (int i = 1; i <= sorted.size(); i++)
+        {
+            if (i == sorted.size() || nonNullComparator.compare(sorted.get(runStart), sorted.get(i)) != 0)
+            {
+                entries.add(ImmutableEntry.of(sorted.get(runStart), new Counter(i - runStart)));
+                runStart = i;
+            }
+        }
+        return new SortedListMapView<T, Counter>(entries, comparator);
+    }
+
+    /**
+     * Returns the index of the first item of {@code sorted} that is not less than {@code key}, or the size of the list
+     * if there is none.
+     */
+    private static <T, K> int lowerBound(
+            List<T> sorted,
+            Function<? super T, ? extends K> keyFunction,
+            K key,
+            Comparator<? super K> comparator)
+    {
+        int low = 0;
+        int high = sorted.size();
+        while (low < high)
+        {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(keyFunction.valueOf(sorted.get(middle)), key) < 0)
+            {
+                low = middle + 1;
+            }
+            else
+            {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static <V> V get(Future<V> future)
+    {
+        try
+        {
+            return future.get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        catch (ExecutionException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static final class SortedListSetView<T> extends AbstractSet<T> implements SortedSet<T>
+    {
+        private final MutableList<T> delegate;
+        private final Comparator<? super T> comparator;
+
+        private SortedListSetView(MutableList<T> delegate, Comparator<? super T> comparator)
+        {
+            this.delegate = delegate;
+            this.comparator = comparator;
+        }
+
+        @Override
+        public Iterator<T> iterator()
+        {
+            return this.delegate.asUnmodifiable().iterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return this.delegate.size();
+        }
+
+        public Comparator<? super T> comparator()
+        {
+            return this.comparator;
+        }
+
+        public SortedSet<T> subSet(T fromElement, T toElement)
+        {
+            if (SortedRuns.nullSafeComparator(this.comparator).compare(fromElement, toElement) > 0)
+            {
+                throw new IllegalArgumentException("fromElement is greater than toElement");
+            }
+            return this.range(this.indexOf(fromElement), this.indexOf(toElement));
+        }
+
+        public SortedSet<T> headSet(T toElement)
+        {
+            return this.range(0, this.indexOf(toElement));
+        }
+
+        public SortedSet<T> tailSet(T fromElement)
+        {
+            return this.range(this.indexOf(fromElement), this.delegate.size());
+        }
+
+        private int indexOf(T element)
+        {
+            return SortedRuns.lowerBound(
+                    this.delegate,
+                    Functions.<T>getPassThru(),
+                    element,
+                    SortedRuns.nullSafeComparator(this.comparator));
+        }
+
+        private SortedSet<T> range(int fromIndex, int toIndex)
+        {
+            return new SortedListSetView<T>(this.delegate.subList(fromIndex, toIndex), this.comparator);
+        }
+
+        public T first()
+        {
+            if (this.delegate.isEmpty())
+            {
+                throw new NoSuchElementException();
+            }
+            return this.delegate.getFirst();
+        }
+
+        public T last()
+        {
+            if (this.delegate.isEmpty())
+            {
+                throw new NoSuchElementException();
+            }
+            return this.delegate.getLast();
+        }
+    }
+
+    private static final class SortedListMapView<K, V> extends AbstractMap<K, V> implements SortedMap<K, V>
+    {
+        private final MutableList<Map.Entry<K, V>> entries;
+        private final Comparator<? super K> comparator;
+
+        private SortedListMapView(MutableList<Map.Entry<K, V>> entries, Comparator<? super K> comparator)
+        {
+            this.entries = entries;
+            this.comparator = comparator;
+        }
+
+        @Override
+        public Set<Map.Entry<K, V>> entrySet()
+        {
+            return new AbstractSet<Map.Entry<K, V>>()
+            {
+                @Override
+                public Iterator<Map.Entry<K, V>> iterator()
+                {
+                    return SortedListMapView.this.entries.asUnmodifiable().iterator();
+                }
+
+                @Override
+                public int size()
+                {
+                    return SortedListMapView.this.entries.size();
+                }
+            };
+        }
+
+        public Comparator<? super K> comparator()
+        {
+            return this.comparator;
+        }
+
+        public SortedMap<K, V> subMap(K fromKey, K toKey)
+        {
+            if (SortedRuns.nullSafeComparator(this.comparator).compare(fromKey, toKey) > 0)
+            {
+                throw new IllegalArgumentException("fromKey is greater than toKey");
+            }
+            return this.range(this.indexOf(fromKey), this.indexOf(toKey));
+        }
+
+        public SortedMap<K, V> headMap(K toKey)
+        {
+            return this.range(0, this.indexOf(toKey));
+        }
+
+        public SortedMap<K, V> tailMap(K fromKey)
+        {
+            return this.range(this.indexOf(fromKey), this.entries.size());
+        }
+
+        private int indexOf(K key)
+        {
+            return SortedRuns.lowerBound(
+                    this.entries,
+                    Functions.<K>getKeyFunction(),
+                    key,
+                    SortedRuns.nullSafeComparator(this.comparator));
+        }
+
+        private SortedMap<K, V> range(int fromIndex, int toIndex)
+        {
+            return new SortedListMapView<K, V>(this.entries.subList(fromIndex, toIndex), this.comparator);
+        }
+
+        public K firstKey()
+        {
+            if (this.entries.isEmpty())
+            {
+                throw new NoSuchElementException();
+            }
+            return this.entries.getFirst().getKey();
+        }
+
+        public K lastKey()
+        {
+            if (this.entries.isEmpty())
+            {
+                throw new NoSuchElementException();
+            }
+            return this.entries.getLast().getKey();
+        }
+    }
+}
@@ -32,6 +32,7 @@ import com.gs.collections.impl.block.factory.Functions;
 import com.gs.collections.impl.block.factory.Predicates;
 import com.gs.collections.impl.block.procedure.BagAddOccurrencesProcedure;
 import com.gs.collections.impl.lazy.parallel.AbstractParallelIterable;
+import com.gs.collections.impl.lazy.parallel.ParallelDistinctIterable;
 import com.gs.collections.impl.multimap.bag.SynchronizedPutHashBagMultimap;
 
 @Beta
@@ -45,7 +46,7 @@ public abstract class AbstractParallelUnsortedBag<T, B extends UnsortedBagBatch<
 
     public ParallelUnsortedSetIterable<T> asUnique()
     {
-        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".asUnique() not implemented yet");
+        return new ParallelDistinctIterable<T>(this);
     }
 
     public ParallelUnsortedBag<T> select(Predicate<? super T> predicate)
@@ -90,14 +91,23 @@ public abstract class AbstractParallelUnsortedBag<T, B extends UnsortedBagBatch<
 
     public <V> ParallelUnsortedBag<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
     {
-        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".flatCollect() not implemented yet");
+        return new ParallelFlatCollectUnsortedBag<T, V>(this, function);
     }
 
     @Override
     public MutableBag<T> toBag()
     {
-        MutableBag<T> result = HashBag.<T>newBag().asSynchronized();
-        this.forEachWithOccurrences(BagAddOccurrencesProcedure.on(result));
+        Function<B, MutableBag<T>> map = new Function<B, MutableBag<T>>()
+        {
+            public MutableBag<T> valueOf(B batch)
+            {
+                MutableBag<T> bag = HashBag.newBag();
+                batch.forEachWithOccurrences(BagAddOccurrencesProcedure.on(bag));
+                return bag;
+            }
+        };
+        MutableBag<T> result = HashBag.newBag();
+        this.collectCombine(map, AbstractParallelIterable.<T>addAllOccurrences(), result);
         return result;
     }
 
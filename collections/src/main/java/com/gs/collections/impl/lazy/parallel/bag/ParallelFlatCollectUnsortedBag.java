@@ -0,0 +1,123 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.bag;
+
+import java.util.concurrent.ExecutorService;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.impl.utility.Iterate;
+
+@Beta
+public class ParallelFlatCollectUnsortedBag<T, V> extends AbstractParallelUnsortedBag<V, UnsortedBagBatch<V>>
+{
+    private final AbstractParallelUnsortedBag<T, ? extends UnsortedBagBatch<T>> parallelIterable;
+    private final Function<? super T, ? extends Iterable<V>> function;
+
+    public ParallelFlatCollectUnsortedBag(AbstractParallelUnsortedBag<T, ? extends UnsortedBagBatch<T>> parallelIterable, Function<? super T, ? extends Iterable<V>> function)
+    {
+        this.parallelIterable = parallelIterable;
+        this.function = function;
+    }
+
+    @Override
+    public ExecutorService getExecutorService()
+    {
+        return this.parallelIterable.getExecutorService();
+    }
+
+    @Override
+    public int getBatchSize()
+    {
+        return this.parallelIterable.getBatchSize();
+    }
+
+    @Override
+    public LazyIterable<UnsortedBagBatch<V>> split()
+    {
+        return this.parallelIterable.split().collect(new Function<UnsortedBagBatch<T>, UnsortedBagBatch<V>>()
+        {
+            public UnsortedBagBatch<V> valueOf(UnsortedBagBatch<T> eachBatch)
+            {
+                return new FlatCollectUnsortedBagBatch<T, V>(eachBatch, ParallelFlatCollectUnsortedBag.this.function);
+            }
+        });
+    }
+
+    public void forEach(final Procedure<? super V> procedure)
+    {
+        this.parallelIterable.forEach(new Procedure<T>()
+        {
+            public void value(T each)
+            {
+                Iterate.forEach(ParallelFlatCollectUnsortedBag.this.function.valueOf(each), procedure);
+            }
+        });
+    }
+
+    public void forEachWithOccurrences(final ObjectIntProcedure<? super V> procedure)
+    {
+        this.parallelIterable.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                for (V eachValue : ParallelFlatCollectUnsortedBag.this.function.valueOf(each))
+                {
+                    procedure.value(eachValue, occurrences);
+                }
+            }
+        });
+    }
+
+    public boolean anySatisfy(final Predicate<? super V> predicate)
+    {
+        return this.parallelIterable.anySatisfy(new Predicate<T>()
+        {
+            public boolean accept(T each)
+            {
+                return Iterate.anySatisfy(ParallelFlatCollectUnsortedBag.this.function.valueOf(each), predicate);
+            }
+        });
+    }
+
+    public boolean allSatisfy(final Predicate<? super V> predicate)
+    {
+        return this.parallelIterable.allSatisfy(new Predicate<T>()
+        {
+            public boolean accept(T each)
+            {
+                return Iterate.allSatisfy(ParallelFlatCollectUnsortedBag.this.function.valueOf(each), predicate);
+            }
+        });
+    }
+
+    public V detect(final Predicate<? super V> predicate)
+    {
+        T resultItem = this.parallelIterable.detect(new Predicate<T>()
+        {
+            public boolean accept(T each)
+            {
+                return Iterate.anySatisfy(ParallelFlatCollectUnsortedBag.this.function.valueOf(each), predicate);
+            }
+        });
+        return resultItem == null ? null : Iterate.detect(this.function.valueOf(resultItem), predicate);
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.bag.sorted;
+
+import java.util.Comparator;
+
+import com.gs.collections.api.ParallelIterable;
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.bag.sorted.ParallelSortedBag;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.list.ParallelListIterable;
+import com.gs.collections.api.multimap.sortedbag.MutableSortedBagMultimap;
+import com.gs.collections.api.multimap.sortedbag.SortedBagMultimap;
+import com.gs.collections.impl.block.factory.Functions;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.lazy.parallel.AbstractParallelIterable;
+import com.gs.collections.impl.lazy.parallel.ParallelDistinctIterable;
+import com.gs.collections.impl.lazy.parallel.list.ParallelCollectListIterable;
+import com.gs.collections.impl.lazy.parallel.list.ParallelFlatCollectListIterable;
+import com.gs.collections.impl.multimap.bag.sorted.TreeBagMultimap;
+
+/**
+ * @since 6.1
+ */
+@Beta
+public abstract class AbstractParallelSortedBag<T, B extends SortedBagBatch<T>> extends AbstractParallelIterable<T, B> implements ParallelSortedBag<T>
+{
+    public abstract Comparator<? super T> comparator();
+
+    @Override
+    protected boolean isOrdered()
+    {
+        return true;
+    }
+
+    public ParallelIterable<T> asUnique()
+    {
+        return new ParallelDistinctIterable<T>(this);
+    }
+
+    public void forEachWithOccurrences(final ObjectIntProcedure<? super T> procedure)
+    {
+        this.collectCombine(new Function<B, Object>()
+        {
+            public Object valueOf(B batch)
+            {
+                batch.forEachWithOccurrences(procedure);
+                return null;
+            }
+        }, new Procedure2<Object, Object>()
+        {
+            public void value(Object state, Object each)
+            {
+            }
+        }, null);
+    }
+
+    public ParallelSortedBag<T> select(Predicate<? super T> predicate)
+    {
+        return new ParallelSelectSortedBag<T>(this, predicate);
+    }
+
+    public <P> ParallelSortedBag<T> selectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.select(Predicates.bind(predicate, parameter));
+    }
+
+    public <S> ParallelSortedBag<S> selectInstancesOf(Class<S> clazz)
+    {
+        return (ParallelSortedBag<S>) this.select(Predicates.instanceOf(clazz));
+    }
+
+    public ParallelSortedBag<T> reject(Predicate<? super T> predicate)
+    {
+        return this.select(Predicates.not(predicate));
+    }
+
+    public <P> ParallelSortedBag<T> rejectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.reject(Predicates.bind(predicate, parameter));
+    }
+
+    public <V> ParallelListIterable<V> collect(Function<? super T, ? extends V> function)
+    {
+        return new ParallelCollectListIterable<T, V>(this, function);
+    }
+
+    public <P, V> ParallelListIterable<V> collectWith(Function2<? super T, ? super P, ? extends V> function, P parameter)
+    {
+        return this.collect(Functions.bind(function, parameter));
+    }
+
+    public <V> ParallelListIterable<V> collectIf(Predicate<? super T> predicate, Function<? super T, ? extends V> function)
+    {
+        return this.select(predicate).collect(function);
+    }
+
+    public <V> ParallelListIterable<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return new ParallelFlatCollectListIterable<T, V>(this, function);
+    }
+
+    public <V> SortedBagMultimap<V, T> groupBy(final Function<? super T, ? extends V> function)
+    {
+        final Comparator<? super T> comparator = this.comparator();
+        MutableSortedBagMultimap<V, T> result = TreeBagMultimap.newMultimap(comparator);
+        this.collectCombine(new Function<B, MutableSortedBagMultimap<V, T>>()
+        {
+            public MutableSortedBagMultimap<V, T> valueOf(B batch)
+            {
+                final MutableSortedBagMultimap<V, T> multimap = TreeBagMultimap.newMultimap(comparator);
+                batch.forEachWithOccurrences(new ObjectIntProcedure<T>()
+                {
+                    public void value(T each, int occurrences)
+                    {
+                        V key = function.valueOf(each);
+                        for (int i = 0; i < occurrences; i++)
+                        {
+                            multimap.put(key, each);
+                        }
+                    }
+                });
+                return multimap;
+            }
+        }, AbstractParallelSortedBag.<V, T>putAll(), result);
+        return result;
+    }
+
+    public <V> SortedBagMultimap<V, T> groupByEach(final Function<? super T, ? extends Iterable<V>> function)
+    {
+        final Comparator<? super T> comparator = this.comparator();
+        MutableSortedBagMultimap<V, T> result = TreeBagMultimap.newMultimap(comparator);
+        this.collectCombine(new Function<B, MutableSortedBagMultimap<V, T>>()
+        {
+            public MutableSortedBagMultimap<V, T> valueOf(B batch)
+            {
+                final MutableSortedBagMultimap<V, T> multimap = TreeBagMultimap.newMultimap(comparator);
+                batch.forEachWithOccurrences(new ObjectIntProcedure<T>()
+                {
+                    public void value(T each, int occurrences)
+                    {
+                        for (V key : function.valueOf(each))
+                        {
+                            for (int i = 0; i < occurrences; i++)
+                            {
+                                multimap.put(key, each);
+                            }
+                        }
+                    }
+                });
+                return multimap;
+            }
+        }, AbstractParallelSortedBag.<V, T>putAll(), result);
+        return result;
+    }
+
+    private static <K, V> Procedure2<MutableSortedBagMultimap<K, V>, MutableSortedBagMultimap<K, V>> putAll()
+    {
+        return new Procedure2<MutableSortedBagMultimap<K, V>, MutableSortedBagMultimap<K, V>>()
+        {
+            public void value(MutableSortedBagMultimap<K, V> result, MutableSortedBagMultimap<K, V> batchResult)
+            {
+                result.putAll(batchResult);
+            }
+        };
+    }
+}
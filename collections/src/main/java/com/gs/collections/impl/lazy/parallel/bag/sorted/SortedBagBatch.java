@@ -0,0 +1,33 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.bag.sorted;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.impl.lazy.parallel.OrderedBatch;
+
+/**
+ * @since 6.1
+ */
+@Beta
+public interface SortedBagBatch<T> extends OrderedBatch<T>
+{
+    void forEachWithOccurrences(ObjectIntProcedure<? super T> procedure);
+
+    SortedBagBatch<T> select(Predicate<? super T> predicate);
+}
@@ -21,13 +21,17 @@ import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function2;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.list.ParallelListIterable;
-import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.multimap.list.ListMultimap;
 import com.gs.collections.api.set.ParallelUnsortedSetIterable;
 import com.gs.collections.impl.block.factory.Functions;
 import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.block.procedure.MultimapEachPutProcedure;
+import com.gs.collections.impl.block.procedure.MultimapPutProcedure;
 import com.gs.collections.impl.lazy.parallel.AbstractParallelIterable;
+import com.gs.collections.impl.lazy.parallel.Batch;
+import com.gs.collections.impl.multimap.list.FastListMultimap;
 
 @Beta
 public abstract class AbstractParallelListIterable<T, B extends ListBatch<T>> extends AbstractParallelIterable<T, B> implements ParallelListIterable<T>
@@ -85,40 +89,53 @@ public abstract class AbstractParallelListIterable<T, B extends ListBatch<T>> ex
 
     public <V> ParallelListIterable<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
     {
-        // TODO: Implement in parallel
-        return this.toList().flatCollect(function).asParallel(this.getExecutorService(), this.getBatchSize());
-    }
-
-    public <V> ListMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
-    {
-        // TODO: Implement in parallel
-        return this.toList().groupBy(function);
-    }
-
-    public <V> ListMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
-    {
-        // TODO: Implement in parallel
-        return this.toList().groupByEach(function);
-    }
-
-    @Override
-    public <V> MapIterable<V, T> groupByUniqueKey(Function<? super T, ? extends V> function)
-    {
-        // TODO: Implement in parallel
-        return this.toList().groupByUniqueKey(function);
-    }
-
-    @Override
-    public Object[] toArray()
-    {
-        // TODO: Implement in parallel
-        return this.toList().toArray();
-    }
-
-    @Override
-    public <E> E[] toArray(E[] array)
-    {
-        // TODO: Implement in parallel
-        return this.toList().toArray(array);
+        return new ParallelFlatCollectListIterable<T, V>(this, function);
+    }
+
+    public <V> ListMultimap<V, T> groupBy(final Function<? super T, ? extends V> function)
+    {
+        Function<Batch<T>, FastListMultimap<V, T>> map = new Function<Batch<T>, FastListMultimap<V, T>>()
+        {
+            public FastListMultimap<V, T> valueOf(Batch<T> batch)
+            {
+                FastListMultimap<V, T> multimap = FastListMultimap.newMultimap();
+                batch.forEach(MultimapPutProcedure.on(multimap, function));
+                return multimap;
+            }
+        };
+        FastListMultimap<V, T> state = FastListMultimap.newMultimap();
+        this.collectCombine(map, AbstractParallelListIterable.<V, T>multimapPutAll(), state);
+        return state;
+    }
+
+    public <V> ListMultimap<V, T> groupByEach(final Function<? super T, ? extends Iterable<V>> function)
+    {
+        Function<Batch<T>, FastListMultimap<V, T>> map = new Function<Batch<T>, FastListMultimap<V, T>>()
+        {
+            public FastListMultimap<V, T> valueOf(Batch<T> batch)
+            {
+                FastListMultimap<V, T> multimap = FastListMultimap.newMultimap();
+                batch.forEach(MultimapEachPutProcedure.on(multimap, function));
+                return multimap;
+            }
+        };
+        FastListMultimap<V, T> state = FastListMultimap.newMultimap();
+        this.collectCombine(map, AbstractParallelListIterable.<V, T>multimapPutAll(), state);
+        return state;
+    }
+
+    /**
+     * Batches are combined in encounter order, so appending each batch's multimap preserves the order of the values
+     * within each key.
+     */
+    private static <V, T> Procedure2<FastListMultimap<V, T>, FastListMultimap<V, T>> multimapPutAll()
+    {
+        return new Procedure2<FastListMultimap<V, T>, FastListMultimap<V, T>>()
+        {
+            public void value(FastListMultimap<V, T> accumulator, FastListMultimap<V, T> each)
+            {
+                accumulator.putAll(each);
+            }
+        };
     }
 }
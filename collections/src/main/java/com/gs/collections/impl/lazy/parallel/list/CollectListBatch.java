@@ -54,6 +54,11 @@ public class CollectListBatch<T, V> extends AbstractBatch<V> implements ListBatc
         return new CollectListBatch<V, VV>(this, function);
     }
 
+    public <VV> ListBatch<VV> flatCollect(Function<? super V, ? extends Iterable<VV>> function)
+    {
+        return new FlatCollectListBatch<V, VV>(this, function);
+    }
+
     public UnsortedSetBatch<V> distinct(ConcurrentHashMap<V, Boolean> distinct)
     {
         return new DistinctBatch<V>(this, distinct);
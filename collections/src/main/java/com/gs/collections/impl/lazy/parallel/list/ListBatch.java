@@ -30,5 +30,7 @@ public interface ListBatch<T> extends OrderedBatch<T>
 
     <V> ListBatch<V> collect(Function<? super T, ? extends V> function);
 
+    <V> ListBatch<V> flatCollect(Function<? super T, ? extends Iterable<V>> function);
+
     UnsortedSetBatch<T> distinct(ConcurrentHashMap<T, Boolean> distinct);
 }
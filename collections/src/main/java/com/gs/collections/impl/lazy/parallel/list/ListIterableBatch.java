@@ -107,6 +107,11 @@ public class ListIterableBatch<T> extends AbstractBatch<T> implements RootListBa
         return new CollectListBatch<T, V>(this, function);
     }
 
+    public <V> ListBatch<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return new FlatCollectListBatch<T, V>(this, function);
+    }
+
     public UnsortedSetBatch<T> distinct(ConcurrentHashMap<T, Boolean> distinct)
     {
         return new DistinctBatch<T>(this, distinct);
@@ -22,13 +22,9 @@ import java.util.concurrent.ExecutorService;
 
 import com.gs.collections.api.LazyIterable;
 import com.gs.collections.api.annotation.Beta;
-import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.list.ListIterable;
-import com.gs.collections.api.list.ParallelListIterable;
-import com.gs.collections.api.map.MapIterable;
-import com.gs.collections.api.multimap.list.ListMultimap;
 import com.gs.collections.impl.lazy.AbstractLazyIterable;
 import com.gs.collections.impl.lazy.parallel.AbstractParallelIterable;
 
@@ -90,46 +86,9 @@ public final class ListIterableParallelIterable<T> extends AbstractParallelListI
         return AbstractParallelIterable.detect(this, predicate);
     }
 
-    @Override
-    public <V> ParallelListIterable<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
-    {
-        // TODO: Implement in parallel
-        return this.delegate.flatCollect(function).asParallel(this.executorService, this.batchSize);
-    }
-
-    @Override
-    public Object[] toArray()
-    {
-        // TODO: Implement in parallel
-        return this.delegate.toArray();
-    }
-
-    @Override
-    public <E> E[] toArray(E[] array)
-    {
-        // TODO: Implement in parallel
-        return this.delegate.toArray(array);
-    }
-
-    @Override
-    public <V> ListMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
-    {
-        // TODO: Implement in parallel
-        return this.delegate.groupBy(function);
-    }
-
-    @Override
-    public <V> ListMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
-    {
-        // TODO: Implement in parallel
-        return this.delegate.groupByEach(function);
-    }
-
-    @Override
-    public <V> MapIterable<V, T> groupByUniqueKey(Function<? super T, ? extends V> function)
+    public T detectFirst(Predicate<? super T> predicate)
     {
-        // TODO: Implement in parallel
-        return this.delegate.groupByUniqueKey(function);
+        return AbstractParallelListIterable.detectFirst(this, predicate);
     }
 
     public int getBatchSize()
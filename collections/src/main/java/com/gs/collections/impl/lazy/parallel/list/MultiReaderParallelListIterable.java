@@ -86,6 +86,19 @@ public final class MultiReaderParallelListIterable<T> extends AbstractMultiReade
         return this.wrap(this.delegate.flatCollect(function));
     }
 
+    public T detectFirst(Predicate<? super T> predicate)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.detectFirst(predicate);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
     public <V> ListMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
     {
         this.lock.readLock().lock();
@@ -84,6 +84,11 @@ public class NonParallelListIterable<T> extends NonParallelIterable<T, ListItera
         return new NonParallelListIterable<V>(this.delegate.flatCollect(function));
     }
 
+    public T detectFirst(Predicate<? super T> predicate)
+    {
+        return this.delegate.detect(predicate);
+    }
+
     public <V> ListMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
     {
         return this.delegate.groupBy(function);
@@ -23,6 +23,7 @@ import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.list.ParallelListIterable;
 import com.gs.collections.impl.block.factory.Functions;
 import com.gs.collections.impl.block.factory.Predicates;
 import com.gs.collections.impl.lazy.parallel.AbstractParallelIterable;
@@ -84,4 +85,13 @@ public class ParallelCollectListIterable<T, V> extends AbstractParallelListItera
         T resultItem = this.parallelIterable.detect(Predicates.attributePredicate(this.function, predicate));
         return resultItem == null ? null : this.function.valueOf(resultItem);
     }
+
+    public V detectFirst(Predicate<? super V> predicate)
+    {
+        Predicate<T> attributePredicate = Predicates.attributePredicate(this.function, predicate);
+        T resultItem = this.parallelIterable instanceof ParallelListIterable
+                ? ((ParallelListIterable<T>) this.parallelIterable).detectFirst(attributePredicate)
+                : AbstractParallelIterable.detectFirst(this.parallelIterable, attributePredicate);
+        return resultItem == null ? null : this.function.valueOf(resultItem);
+    }
 }
@@ -82,6 +82,11 @@ class ParallelSelectListIterable<T> extends AbstractParallelListIterable<T, List
         return this.parallelIterable.detect(Predicates.and(this.predicate, predicate));
     }
 
+    public T detectFirst(Predicate<? super T> predicate)
+    {
+        return this.parallelIterable.detectFirst(Predicates.and(this.predicate, predicate));
+    }
+
     private static final class SelectAllSatisfyPredicate<T> implements Predicate<T>
     {
         private final Predicate<? super T> left;
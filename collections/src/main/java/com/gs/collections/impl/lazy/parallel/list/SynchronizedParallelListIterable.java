@@ -84,6 +84,14 @@ public final class SynchronizedParallelListIterable<T> extends AbstractSynchroni
         return this.wrap(this.delegate.flatCollect(function));
     }
 
+    public T detectFirst(Predicate<? super T> predicate)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.detectFirst(predicate);
+        }
+    }
+
     public <V> ListMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
     {
         synchronized (this.lock)
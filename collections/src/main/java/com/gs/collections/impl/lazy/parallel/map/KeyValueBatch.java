@@ -0,0 +1,38 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.map;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.tuple.Pair;
+
+/**
+ * A contiguous section of the backing storage of a map.
+ *
+ * @since 6.1
+ */
+@Beta
+public interface KeyValueBatch<K, V>
+{
+    void forEachKeyValue(Procedure2<? super K, ? super V> procedure);
+
+    /**
+     * Returns the first key-value pair in this batch accepted by the predicate, or null if there is none.
+     */
+    Pair<K, V> detect(Predicate2<? super K, ? super V> predicate);
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.map;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.lazy.parallel.AbstractBatch;
+import com.gs.collections.impl.lazy.parallel.set.CollectUnsortedSetBatch;
+import com.gs.collections.impl.lazy.parallel.set.RootUnsortedSetBatch;
+import com.gs.collections.impl.lazy.parallel.set.SelectUnsortedSetBatch;
+import com.gs.collections.impl.lazy.parallel.set.UnsortedSetBatch;
+import com.gs.collections.impl.tuple.Tuples;
+
+class KeyValuePairsBatch<K, V> extends AbstractBatch<Pair<K, V>> implements RootUnsortedSetBatch<Pair<K, V>>
+{
+    private final KeyValueBatch<K, V> keyValueBatch;
+
+    KeyValuePairsBatch(KeyValueBatch<K, V> keyValueBatch)
+    {
+        this.keyValueBatch = keyValueBatch;
+    }
+
+    public void forEach(final Procedure<? super Pair<K, V>> procedure)
+    {
+        this.keyValueBatch.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                procedure.value(Tuples.pair(key, value));
+            }
+        });
+    }
+
+    public boolean anySatisfy(Predicate<? super Pair<K, V>> predicate)
+    {
+        return this.keyValueBatch.detect(new PairPredicate<K, V>(predicate, true)) != null;
+    }
+
+    public boolean allSatisfy(Predicate<? super Pair<K, V>> predicate)
+    {
+        return this.keyValueBatch.detect(new PairPredicate<K, V>(predicate, false)) == null;
+    }
+
+    public Pair<K, V> detect(Predicate<? super Pair<K, V>> predicate)
+    {
+        return this.keyValueBatch.detect(new PairPredicate<K, V>(predicate, true));
+    }
+
+    public UnsortedSetBatch<Pair<K, V>> select(Predicate<? super Pair<K, V>> predicate)
+    {
+        return new SelectUnsortedSetBatch<Pair<K, V>>(this, predicate);
+    }
+
+    public <VV> UnsortedSetBatch<VV> collect(Function<? super Pair<K, V>, ? extends VV> function)
+    {
+        return new CollectUnsortedSetBatch<Pair<K, V>, VV>(this, function);
+    }
+
+    private static final class PairPredicate<K, V> implements Predicate2<K, V>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Predicate<? super Pair<K, V>> predicate;
+        private final boolean expected;
+
+        private PairPredicate(Predicate<? super Pair<K, V>> predicate, boolean expected)
+        {
+            this.predicate = predicate;
+            this.expected = expected;
+        }
+
+        public boolean accept(K key, V value)
+        {
+            return this.predicate.accept(Tuples.pair(key, value)) == this.expected;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.map;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.lazy.parallel.AbstractBatch;
+import com.gs.collections.impl.lazy.parallel.set.CollectUnsortedSetBatch;
+import com.gs.collections.impl.lazy.parallel.set.RootUnsortedSetBatch;
+import com.gs.collections.impl.lazy.parallel.set.SelectUnsortedSetBatch;
+import com.gs.collections.impl.lazy.parallel.set.UnsortedSetBatch;
+
+class KeysBatch<K, V> extends AbstractBatch<K> implements RootUnsortedSetBatch<K>
+{
+    private final KeyValueBatch<K, V> keyValueBatch;
+
+    KeysBatch(KeyValueBatch<K, V> keyValueBatch)
+    {
+        this.keyValueBatch = keyValueBatch;
+    }
+
+    public void forEach(final Procedure<? super K> procedure)
+    {
+        this.keyValueBatch.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                procedure.value(key);
+            }
+        });
+    }
+
+    public boolean anySatisfy(Predicate<? super K> predicate)
+    {
+        return this.keyValueBatch.detect(new KeyPredicate<K, V>(predicate, true)) != null;
+    }
+
+    public boolean allSatisfy(Predicate<? super K> predicate)
+    {
+        return this.keyValueBatch.detect(new KeyPredicate<K, V>(predicate, false)) == null;
+    }
+
+    public K detect(Predicate<? super K> predicate)
+    {
+        Pair<K, V> pair = this.keyValueBatch.detect(new KeyPredicate<K, V>(predicate, true));
+        return pair == null ? null : pair.getOne();
+    }
+
+    public UnsortedSetBatch<K> select(Predicate<? super K> predicate)
+    {
+        return new SelectUnsortedSetBatch<K>(this, predicate);
+    }
+
+    public <VV> UnsortedSetBatch<VV> collect(Function<? super K, ? extends VV> function)
+    {
+        return new CollectUnsortedSetBatch<K, VV>(this, function);
+    }
+
+    private static final class KeyPredicate<K, V> implements Predicate2<K, V>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Predicate<? super K> predicate;
+        private final boolean expected;
+
+        private KeyPredicate(Predicate<? super K> predicate, boolean expected)
+        {
+            this.predicate = predicate;
+            this.expected = expected;
+        }
+
+        public boolean accept(K key, V value)
+        {
+            return this.predicate.accept(key) == this.expected;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.map;
+
+import java.util.concurrent.ExecutorService;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.impl.lazy.parallel.AbstractParallelIterable;
+import com.gs.collections.impl.lazy.parallel.bag.AbstractParallelUnsortedBag;
+import com.gs.collections.impl.lazy.parallel.bag.RootUnsortedBagBatch;
+
+@Beta
+class ParallelMapValuesView<K, V> extends AbstractParallelUnsortedBag<V, RootUnsortedBagBatch<V>>
+{
+    private final AbstractParallelMapIterable<K, V> parallelMapIterable;
+
+    ParallelMapValuesView(AbstractParallelMapIterable<K, V> parallelMapIterable)
+    {
+        this.parallelMapIterable = parallelMapIterable;
+    }
+
+    @Override
+    public ExecutorService getExecutorService()
+    {
+        return this.parallelMapIterable.getExecutorService();
+    }
+
+    @Override
+    public int getBatchSize()
+    {
+        return this.parallelMapIterable.getBatchSize();
+    }
+
+    @Override
+    public LazyIterable<RootUnsortedBagBatch<V>> split()
+    {
+        return this.parallelMapIterable.split().collect(new Function<KeyValueBatch<K, V>, RootUnsortedBagBatch<V>>()
+        {
+            public RootUnsortedBagBatch<V> valueOf(KeyValueBatch<K, V> eachBatch)
+            {
+                return new ValuesBatch<K, V>(eachBatch);
+            }
+        });
+    }
+
+    public void forEach(Procedure<? super V> procedure)
+    {
+        AbstractParallelIterable.forEach(this, procedure);
+    }
+
+    public boolean anySatisfy(Predicate<? super V> predicate)
+    {
+        return AbstractParallelIterable.anySatisfy(this, predicate);
+    }
+
+    public boolean allSatisfy(Predicate<? super V> predicate)
+    {
+        return AbstractParallelIterable.allSatisfy(this, predicate);
+    }
+
+    public void forEachWithOccurrences(final ObjectIntProcedure<? super V> procedure)
+    {
+        this.parallelMapIterable.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                procedure.value(value, 1);
+            }
+        });
+    }
+
+    public V detect(Predicate<? super V> predicate)
+    {
+        return AbstractParallelIterable.detect(this, predicate);
+    }
+}
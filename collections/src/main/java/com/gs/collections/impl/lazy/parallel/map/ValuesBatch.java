@@ -0,0 +1,107 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.map;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.lazy.parallel.AbstractBatch;
+import com.gs.collections.impl.lazy.parallel.bag.CollectUnsortedBagBatch;
+import com.gs.collections.impl.lazy.parallel.bag.RootUnsortedBagBatch;
+import com.gs.collections.impl.lazy.parallel.bag.SelectUnsortedBagBatch;
+import com.gs.collections.impl.lazy.parallel.bag.UnsortedBagBatch;
+
+class ValuesBatch<K, V> extends AbstractBatch<V> implements RootUnsortedBagBatch<V>
+{
+    private final KeyValueBatch<K, V> keyValueBatch;
+
+    ValuesBatch(KeyValueBatch<K, V> keyValueBatch)
+    {
+        this.keyValueBatch = keyValueBatch;
+    }
+
+    public void forEach(final Procedure<? super V> procedure)
+    {
+        this.keyValueBatch.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                procedure.value(value);
+            }
+        });
+    }
+
+    public void forEachWithOccurrences(final ObjectIntProcedure<? super V> procedure)
+    {
+        this.keyValueBatch.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                procedure.value(value, 1);
+            }
+        });
+    }
+
+    public boolean anySatisfy(Predicate<? super V> predicate)
+    {
+        return this.keyValueBatch.detect(new ValuePredicate<K, V>(predicate, true)) != null;
+    }
+
+    public boolean allSatisfy(Predicate<? super V> predicate)
+    {
+        return this.keyValueBatch.detect(new ValuePredicate<K, V>(predicate, false)) == null;
+    }
+
+    public V detect(Predicate<? super V> predicate)
+    {
+        Pair<K, V> pair = this.keyValueBatch.detect(new ValuePredicate<K, V>(predicate, true));
+        return pair == null ? null : pair.getTwo();
+    }
+
+    public UnsortedBagBatch<V> select(Predicate<? super V> predicate)
+    {
+        return new SelectUnsortedBagBatch<V>(this, predicate);
+    }
+
+    public <VV> UnsortedBagBatch<VV> collect(Function<? super V, ? extends VV> function)
+    {
+        return new CollectUnsortedBagBatch<V, VV>(this, function);
+    }
+
+    private static final class ValuePredicate<K, V> implements Predicate2<K, V>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Predicate<? super V> predicate;
+        private final boolean expected;
+
+        private ValuePredicate(Predicate<? super V> predicate, boolean expected)
+        {
+            this.predicate = predicate;
+            this.expected = expected;
+        }
+
+        public boolean accept(K key, V value)
+        {
+            return this.predicate.accept(value) == this.expected;
+        }
+    }
+}
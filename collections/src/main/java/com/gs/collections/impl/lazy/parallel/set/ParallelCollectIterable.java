@@ -96,20 +96,6 @@ public class ParallelCollectIterable<T, V> extends AbstractParallelIterableImpl<
         return new NonParallelUnsortedBag<V1>(this.delegate.toBag().collect(this.function).flatCollect(function));
     }
 
-    @Override
-    public Object[] toArray()
-    {
-        // TODO: Implement in parallel
-        return this.delegate.toList().collect(this.function).toArray();
-    }
-
-    @Override
-    public <E> E[] toArray(E[] array)
-    {
-        // TODO: Implement in parallel
-        return this.delegate.toList().collect(this.function).toArray(array);
-    }
-
     @Override
     public <V1> UnsortedBagMultimap<V1, V> groupBy(Function<? super V, ? extends V1> function)
     {
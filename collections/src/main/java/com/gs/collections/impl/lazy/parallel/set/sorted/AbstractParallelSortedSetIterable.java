@@ -31,6 +31,7 @@ import com.gs.collections.impl.block.factory.Functions;
 import com.gs.collections.impl.block.factory.Predicates;
 import com.gs.collections.impl.lazy.parallel.AbstractParallelIterable;
 import com.gs.collections.impl.lazy.parallel.list.ParallelCollectListIterable;
+import com.gs.collections.impl.lazy.parallel.list.ParallelFlatCollectListIterable;
 import com.gs.collections.impl.multimap.set.sorted.SynchronizedPutTreeSortedSetMultimap;
 
 @Beta
@@ -89,8 +90,7 @@ public abstract class AbstractParallelSortedSetIterable<T, B extends SortedSetBa
 
     public <V> ParallelListIterable<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
     {
-        // TODO: Implement in parallel
-        return this.toList().flatCollect(function).asParallel(this.getExecutorService(), this.getBatchSize());
+        return new ParallelFlatCollectListIterable<T, V>(this, function);
     }
 
     public <V> SortedSetMultimap<V, T> groupBy(final Function<? super T, ? extends V> function)
@@ -130,18 +130,4 @@ public abstract class AbstractParallelSortedSetIterable<T, B extends SortedSetBa
         // TODO: Implement in parallel
         return this.toList().groupByUniqueKey(function);
     }
-
-    @Override
-    public Object[] toArray()
-    {
-        // TODO: Implement in parallel
-        return this.toList().toArray();
-    }
-
-    @Override
-    public <E> E[] toArray(E[] array)
-    {
-        // TODO: Implement in parallel
-        return this.toList().toArray(array);
-    }
 }
@@ -24,6 +24,7 @@ import com.gs.collections.impl.block.factory.Functions;
 import com.gs.collections.impl.lazy.parallel.AbstractBatch;
 import com.gs.collections.impl.lazy.parallel.list.CollectListBatch;
 import com.gs.collections.impl.lazy.parallel.list.DistinctBatch;
+import com.gs.collections.impl.lazy.parallel.list.FlatCollectListBatch;
 import com.gs.collections.impl.lazy.parallel.list.ListBatch;
 import com.gs.collections.impl.lazy.parallel.list.SelectListBatch;
 import com.gs.collections.impl.lazy.parallel.set.UnsortedSetBatch;
@@ -63,6 +64,11 @@ public class CollectSortedSetBatch<T, V> extends AbstractBatch<V> implements Lis
         return new CollectListBatch<V, VV>(this, function);
     }
 
+    public <VV> ListBatch<VV> flatCollect(Function<? super V, ? extends Iterable<VV>> function)
+    {
+        return new FlatCollectListBatch<V, VV>(this, function);
+    }
+
     public UnsortedSetBatch<V> distinct(ConcurrentHashMap<V, Boolean> distinct)
     {
         return new DistinctBatch<V>(this, distinct);
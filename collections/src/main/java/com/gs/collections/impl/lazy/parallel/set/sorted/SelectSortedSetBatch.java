@@ -22,6 +22,7 @@ import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.impl.block.procedure.IfProcedure;
 import com.gs.collections.impl.lazy.parallel.AbstractBatch;
+import com.gs.collections.impl.lazy.parallel.list.FlatCollectListBatch;
 import com.gs.collections.impl.lazy.parallel.list.ListBatch;
 import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
 
@@ -59,6 +60,11 @@ public class SelectSortedSetBatch<T> extends AbstractBatch<T> implements SortedS
         return new CollectSortedSetBatch<T, V>(this, function);
     }
 
+    public <V> ListBatch<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return new FlatCollectListBatch<T, V>(this, function);
+    }
+
     public SortedSetBatch<T> distinct(ConcurrentHashMap<T, Boolean> distinct)
     {
         return this;
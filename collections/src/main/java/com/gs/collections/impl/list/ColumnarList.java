@@ -0,0 +1,748 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.list;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.IntIterable;
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.primitive.DoubleFunction;
+import com.gs.collections.api.block.function.primitive.IntFunction;
+import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.primitive.DoublePredicate;
+import com.gs.collections.api.block.predicate.primitive.IntPredicate;
+import com.gs.collections.api.block.predicate.primitive.LongPredicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.primitive.IntProcedure;
+import com.gs.collections.api.iterator.IntIterator;
+import com.gs.collections.api.list.ListIterable;
+import com.gs.collections.api.list.primitive.DoubleList;
+import com.gs.collections.api.list.primitive.IntList;
+import com.gs.collections.api.list.primitive.LongList;
+import com.gs.collections.api.list.primitive.MutableIntList;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.primitive.MutableObjectDoubleMap;
+import com.gs.collections.api.map.primitive.MutableObjectLongMap;
+import com.gs.collections.impl.lazy.AbstractLazyIterable;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.primitive.DoubleArrayList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectLongHashMap;
+
+/**
+ * A ColumnarList stores the fields of its rows in one list per field, rather than storing one object per row.
+ * <p>
+ * Columns are declared up front with a function extracting the field from a row object, and each call to
+ * {@link #add(Object)} appends the extracted fields to the columns; the row object itself is not retained. Numeric
+ * fields live in {@link DoubleArrayList}, {@link IntArrayList} and {@link LongArrayList} columns and other fields in
+ * {@link FastList} columns, so an aggregate over one field reads a single contiguous array instead of dereferencing
+ * every row object.
+ * <p>
+ * Filters return the matching row indices as an {@link IntList}, which the other column operations accept to
+ * restrict themselves to those rows, for example:
+ * <pre>
+ * ColumnarList&lt;Position&gt; positions = ColumnarList.newList();
+ * ObjectColumn&lt;Position, String&gt; category = positions.addObjectColumn(Position::getCategory);
+ * IntColumn&lt;Position&gt; quantity = positions.addIntColumn(Position::getQuantity);
+ * DoubleColumn&lt;Position&gt; marketValue = positions.addDoubleColumn(Position::getMarketValue);
+ * positions.addAll(source);
+ * MutableIntList large = quantity.select(each -&gt; each &gt; 50);
+ * double largeValue = marketValue.sum(large);
+ * MutableObjectDoubleMap&lt;String&gt; valueByCategory = category.sumByDouble(marketValue, large);
+ * </pre>
+ * {@link #rows()} gives a lazy, RichIterable-style view with one {@link Row} per index.
+ *
+ * @since 6.1
+ */
+@Beta
+public final class ColumnarList<T>
+{
+    private final FastList<Column<T>> columns = FastList.newList();
+    private int size;
+
+    public static <T> ColumnarList<T> newList()
+    {
+        return new ColumnarList<T>();
+    }
+
+    public DoubleColumn<T> addDoubleColumn(DoubleFunction<? super T> function)
+    {
+        return this.addColumn(new DoubleColumn<T>(this, function));
+    }
+
+    public IntColumn<T> addIntColumn(IntFunction<? super T> function)
+    {
+        return this.addColumn(new IntColumn<T>(this, function));
+    }
+
+    public LongColumn<T> addLongColumn(LongFunction<? super T> function)
+    {
+        return this.addColumn(new LongColumn<T>(this, function));
+    }
+
+    public <V> ObjectColumn<T, V> addObjectColumn(Function<? super T, ? extends V> function)
+    {
+        return this.addColumn(new ObjectColumn<T, V>(this, function));
+    }
+
+    private <C extends Column<T>> C addColumn(C column)
+    {
+        if (this.size > 0)
+        {
+            throw new IllegalStateException("Columns must be added before any rows, but there are " + this.size + " rows");
+        }
+        this.columns.add(column);
+        return column;
+    }
+
+    /**
+     * Appends the fields of {@code row} to every column. If a column function throws, the fields already appended
+     * for this row are removed again before the exception propagates, so the columns never differ in length.
+     */
+    public boolean add(T row)
+    {
+        int added = 0;
+        try
+        {
+            for (; added < this.columns.size(); added++)
+            {
+                this.columns.get(added).addFieldOf(row);
+            }
+        }
+        finally
+        {
+            if (added < this.columns.size())
+            {
+                for (int i = 0; i < added; i++)
+                {
+                    this.columns.get(i).removeLastField();
+                }
+            }
+        }
+        this.size++;
+        return true;
+    }
+
+    public boolean addAll(Iterable<? extends T> rows)
+    {
+        boolean changed = false;
+        for (T row : rows)
+        {
+            changed |= this.add(row);
+        }
+        return changed;
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    public boolean notEmpty()
+    {
+        return this.size != 0;
+    }
+
+    public Row getRow(int index)
+    {
+        this.checkIndex(index);
+        return new Row(index);
+    }
+
+    /**
+     * Returns a lazy view with one {@link Row} per index, in index order.
+     */
+    public LazyIterable<Row> rows()
+    {
+        return new RowsIterable();
+    }
+
+    private void checkIndex(int index)
+    {
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size);
+        }
+    }
+
+    private void checkOwner(Column<?> column)
+    {
+        if (column.owner != this)
+        {
+            throw new IllegalArgumentException("Column belongs to a different ColumnarList");
+        }
+    }
+
+    /**
+     * The values of one field across all rows of a ColumnarList.
+     */
+    public abstract static class Column<T>
+    {
+        final ColumnarList<T> owner;
+
+        private Column(ColumnarList<T> owner)
+        {
+            this.owner = owner;
+        }
+
+        abstract void addFieldOf(T row);
+
+        abstract void removeLastField();
+
+        /**
+         * Returns the field of the row at {@code index}, boxed if it is primitive.
+         */
+        public abstract Object getValue(int index);
+    }
+
+    public static final class DoubleColumn<T> extends Column<T>
+    {
+        private final DoubleFunction<? super T> function;
+        private final DoubleArrayList values = new DoubleArrayList();
+
+        private DoubleColumn(ColumnarList<T> owner, DoubleFunction<? super T> function)
+        {
+            super(owner);
+            this.function = function;
+        }
+
+        @Override
+        void addFieldOf(T row)
+        {
+            this.values.add(this.function.doubleValueOf(row));
+        }
+
+        @Override
+        void removeLastField()
+        {
+            this.values.removeAtIndex(this.values.size() - 1);
+        }
+
+        public double get(int index)
+        {
+            return this.values.get(index);
+        }
+
+        @Override
+        public Object getValue(int index)
+        {
+            return this.get(index);
+        }
+
+        public DoubleList values()
+        {
+            return this.values.asUnmodifiable();
+        }
+
+        public double sum()
+        {
+            return this.values.sum();
+        }
+
+        public double sum(IntIterable indices)
+        {
+            double sum = 0.0;
+            for (IntIterator iterator = indices.intIterator(); iterator.hasNext(); )
+            {
+                sum += this.values.get(iterator.next());
+            }
+            return sum;
+        }
+
+        public MutableIntList select(DoublePredicate predicate)
+        {
+            MutableIntList result = new IntArrayList();
+            int size = this.values.size();
+            for (int i = 0; i < size; i++)
+            {
+                if (predicate.accept(this.values.get(i)))
+                {
+                    result.add(i);
+                }
+            }
+            return result;
+        }
+
+        public MutableIntList select(final DoublePredicate predicate, IntIterable indices)
+        {
+            final MutableIntList result = new IntArrayList();
+            indices.forEach(new IntProcedure()
+            {
+                public void value(int index)
+                {
+                    if (predicate.accept(DoubleColumn.this.values.get(index)))
+                    {
+                        result.add(index);
+                    }
+                }
+            });
+            return result;
+        }
+    }
+
+    public static final class IntColumn<T> extends Column<T>
+    {
+        private final IntFunction<? super T> function;
+        private final IntArrayList values = new IntArrayList();
+
+        private IntColumn(ColumnarList<T> owner, IntFunction<? super T> function)
+        {
+            super(owner);
+            this.function = function;
+        }
+
+        @Override
+        void addFieldOf(T row)
+        {
+            this.values.add(this.function.intValueOf(row));
+        }
+
+        @Override
+        void removeLastField()
+        {
+            this.values.removeAtIndex(this.values.size() - 1);
+        }
+
+        public int get(int index)
+        {
+            return this.values.get(index);
+        }
+
+        @Override
+        public Object getValue(int index)
+        {
+            return this.get(index);
+        }
+
+        public IntList values()
+        {
+            return this.values.asUnmodifiable();
+        }
+
+        public long sum()
+        {
+            return this.values.sum();
+        }
+
+        public long sum(IntIterable indices)
+        {
+            long sum = 0L;
+            for (IntIterator iterator = indices.intIterator(); iterator.hasNext(); )
+            {
+                sum += this.values.get(iterator.next());
+            }
+            return sum;
+        }
+
+        public MutableIntList select(IntPredicate predicate)
+        {
+            MutableIntList result = new IntArrayList();
+            int size = this.values.size();
+            for (int i = 0; i < size; i++)
+            {
+                if (predicate.accept(this.values.get(i)))
+                {
+                    result.add(i);
+                }
+            }
+            return result;
+        }
+
+        public MutableIntList select(final IntPredicate predicate, IntIterable indices)
+        {
+            final MutableIntList result = new IntArrayList();
+            indices.forEach(new IntProcedure()
+            {
+                public void value(int index)
+                {
+                    if (predicate.accept(IntColumn.this.values.get(index)))
+                    {
+                        result.add(index);
+                    }
+                }
+            });
+            return result;
+        }
+    }
+
+    public static final class LongColumn<T> extends Column<T>
+    {
+        private final LongFunction<? super T> function;
+        private final LongArrayList values = new LongArrayList();
+
+        private LongColumn(ColumnarList<T> owner, LongFunction<? super T> function)
+        {
+            super(owner);
+            this.function = function;
+        }
+
+        @Override
+        void addFieldOf(T row)
+        {
+            this.values.add(this.function.longValueOf(row));
+        }
+
+        @Override
+        void removeLastField()
+        {
+            this.values.removeAtIndex(this.values.size() - 1);
+        }
+
+        public long get(int index)
+        {
+            return this.values.get(index);
+        }
+
+        @Override
+        public Object getValue(int index)
+        {
+            return this.get(index);
+        }
+
+        public LongList values()
+        {
+            return this.values.asUnmodifiable();
+        }
+
+        public long sum()
+        {
+            return this.values.sum();
+        }
+
+        public long sum(IntIterable indices)
+        {
+            long sum = 0L;
+            for (IntIterator iterator = indices.intIterator(); iterator.hasNext(); )
+            {
+                sum += this.values.get(iterator.next());
+            }
+            return sum;
+        }
+
+        public MutableIntList select(LongPredicate predicate)
+        {
+            MutableIntList result = new IntArrayList();
+            int size = this.values.size();
+            for (int i = 0; i < size; i++)
+            {
+                if (predicate.accept(this.values.get(i)))
+                {
+                    result.add(i);
+                }
+            }
+            return result;
+        }
+
+        public MutableIntList select(final LongPredicate predicate, IntIterable indices)
+        {
+            final MutableIntList result = new IntArrayList();
+            indices.forEach(new IntProcedure()
+            {
+                public void value(int index)
+                {
+                    if (predicate.accept(LongColumn.this.values.get(index)))
+                    {
+                        result.add(index);
+                    }
+                }
+            });
+            return result;
+        }
+    }
+
+    public static final class ObjectColumn<T, V> extends Column<T>
+    {
+        private final Function<? super T, ? extends V> function;
+        private final FastList<V> values = FastList.newList();
+
+        private ObjectColumn(ColumnarList<T> owner, Function<? super T, ? extends V> function)
+        {
+            super(owner);
+            this.function = function;
+        }
+
+        @Override
+        void addFieldOf(T row)
+        {
+            this.values.add(this.function.valueOf(row));
+        }
+
+        @Override
+        void removeLastField()
+        {
+            this.values.remove(this.values.size() - 1);
+        }
+
+        public V get(int index)
+        {
+            return this.values.get(index);
+        }
+
+        @Override
+        public Object getValue(int index)
+        {
+            return this.get(index);
+        }
+
+        public ListIterable<V> values()
+        {
+            return this.values.asUnmodifiable();
+        }
+
+        public MutableIntList select(Predicate<? super V> predicate)
+        {
+            MutableIntList result = new IntArrayList();
+            int size = this.values.size();
+            for (int i = 0; i < size; i++)
+            {
+                if (predicate.accept(this.values.get(i)))
+                {
+                    result.add(i);
+                }
+            }
+            return result;
+        }
+
+        public MutableIntList select(final Predicate<? super V> predicate, IntIterable indices)
+        {
+            final MutableIntList result = new IntArrayList();
+            indices.forEach(new IntProcedure()
+            {
+                public void value(int index)
+                {
+                    if (predicate.accept(ObjectColumn.this.values.get(index)))
+                    {
+                        result.add(index);
+                    }
+                }
+            });
+            return result;
+        }
+
+        /**
+         * Groups the row indices by the value of this column.
+         */
+        public MutableMap<V, MutableIntList> groupBy()
+        {
+            MutableMap<V, MutableIntList> result = UnifiedMap.newMap();
+            int size = this.values.size();
+            for (int i = 0; i < size; i++)
+            {
+                this.groupIndex(result, i);
+            }
+            return result;
+        }
+
+        public MutableMap<V, MutableIntList> groupBy(IntIterable indices)
+        {
+            final MutableMap<V, MutableIntList> result = UnifiedMap.newMap();
+            indices.forEach(new IntProcedure()
+            {
+                public void value(int index)
+                {
+                    ObjectColumn.this.groupIndex(result, index);
+                }
+            });
+            return result;
+        }
+
+        private void groupIndex(MutableMap<V, MutableIntList> groups, int index)
+        {
+            V key = this.values.get(index);
+            MutableIntList group = groups.get(key);
+            if (group == null)
+            {
+                group = new IntArrayList();
+                groups.put(key, group);
+            }
+            group.add(index);
+        }
+
+        /**
+         * Sums {@code column} grouped by the value of this column.
+         */
+        public MutableObjectDoubleMap<V> sumByDouble(DoubleColumn<T> column)
+        {
+            this.owner.checkOwner(column);
+            MutableObjectDoubleMap<V> result = ObjectDoubleHashMap.newMap();
+            int size = this.values.size();
+            for (int i = 0; i < size; i++)
+            {
+                result.addToValue(this.values.get(i), column.values.get(i));
+            }
+            return result;
+        }
+
+        public MutableObjectDoubleMap<V> sumByDouble(final DoubleColumn<T> column, IntIterable indices)
+        {
+            this.owner.checkOwner(column);
+            final MutableObjectDoubleMap<V> result = ObjectDoubleHashMap.newMap();
+            indices.forEach(new IntProcedure()
+            {
+                public void value(int index)
+                {
+                    result.addToValue(ObjectColumn.this.values.get(index), column.values.get(index));
+                }
+            });
+            return result;
+        }
+
+        public MutableObjectLongMap<V> sumByInt(IntColumn<T> column)
+        {
+            this.owner.checkOwner(column);
+            MutableObjectLongMap<V> result = ObjectLongHashMap.newMap();
+            int size = this.values.size();
+            for (int i = 0; i < size; i++)
+            {
+                result.addToValue(this.values.get(i), (long) column.values.get(i));
+            }
+            return result;
+        }
+
+        public MutableObjectLongMap<V> sumByLong(LongColumn<T> column)
+        {
+            this.owner.checkOwner(column);
+            MutableObjectLongMap<V> result = ObjectLongHashMap.newMap();
+            int size = this.values.size();
+            for (int i = 0; i < size; i++)
+            {
+                result.addToValue(this.values.get(i), column.values.get(i));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * A view of the fields of one row of a ColumnarList.
+     */
+    public final class Row
+    {
+        private final int index;
+
+        private Row(int index)
+        {
+            this.index = index;
+        }
+
+        public int getIndex()
+        {
+            return this.index;
+        }
+
+        public double getDouble(DoubleColumn<T> column)
+        {
+            ColumnarList.this.checkOwner(column);
+            return column.get(this.index);
+        }
+
+        public int getInt(IntColumn<T> column)
+        {
+            ColumnarList.this.checkOwner(column);
+            return column.get(this.index);
+        }
+
+        public long getLong(LongColumn<T> column)
+        {
+            ColumnarList.this.checkOwner(column);
+            return column.get(this.index);
+        }
+
+        public <V> V get(ObjectColumn<T, V> column)
+        {
+            ColumnarList.this.checkOwner(column);
+            return column.get(this.index);
+        }
+
+        @Override
+        public String toString()
+        {
+            StringBuilder builder = new StringBuilder("[");
+            for (int i = 0; i < ColumnarList.this.columns.size(); i++)
+            {
+                if (i > 0)
+                {
+                    builder.append(", ");
+                }
+                builder.append(ColumnarList.this.columns.get(i).getValue(this.index));
+            }
+            return builder.append(']').toString();
+        }
+    }
+
+    private final class RowsIterable extends AbstractLazyIterable<Row>
+    {
+        public void each(Procedure<? super Row> procedure)
+        {
+            int size = ColumnarList.this.size;
+            for (int i = 0; i < size; i++)
+            {
+                procedure.value(new Row(i));
+            }
+        }
+
+        public Iterator<Row> iterator()
+        {
+            return new Iterator<Row>()
+            {
+                private int index;
+
+                public boolean hasNext()
+                {
+                    return this.index < ColumnarList.this.size;
+                }
+
+                public Row next()
+                {
+                    if (!this.hasNext())
+                    {
+                        throw new NoSuchElementException();
+                    }
+                    return new Row(this.index++);
+                }
+
+                public void remove()
+                {
+                    throw new UnsupportedOperationException("Cannot remove from a ColumnarList row view");
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return ColumnarList.this.size;
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return ColumnarList.this.size == 0;
+        }
+    }
+}
@@ -204,6 +204,10 @@ abstract class AbstractImmutableList<T>
     {
         final int oldSize = this.size();
         int newSize = Iterate.sizeOf(elements);
+        if (oldSize + newSize > ImmutableVectorList.ARRAY_THRESHOLD)
+        {
+            return ImmutableVectorList.newList(this).newWithAll(elements);
+        }
         final T[] array = (T[]) new Object[oldSize + newSize];
         this.toArray(array);
         Iterate.forEachWithIndex(elements, new ObjectIntProcedure<T>()
@@ -0,0 +1,913 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.list.immutable;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.impl.parallel.BatchIterable;
+import com.gs.collections.impl.utility.Iterate;
+import net.jcip.annotations.Immutable;
+
+/**
+ * An ImmutableVectorList is a persistent list stored in a relaxed radix balanced tree (RRB-tree) of 32-way nodes.
+ * <p>
+ * The first and last few elements are kept in small buffers outside the tree, so {@link #newWith(Object)} and
+ * {@link #newWithFirst(Object)} usually copy at most 32 references. Concatenation, {@link #take(int)} and
+ * {@link #drop(int)} copy one path through the tree and share everything else with the original, so they cost
+ * O(log<sub>32</sub> n). In exchange {@link #get(int)} walks the tree instead of indexing an array, which is about two
+ * to three times slower.
+ * <p>
+ * The list factories and {@code toImmutable()} still return array-backed lists, so lists that are only read keep the
+ * faster lookups. Only growing an immutable list with {@code newWith} or {@code newWithAll} switches to an
+ * ImmutableVectorList, once the result has more than {@value #ARRAY_THRESHOLD} elements, so growing a large immutable
+ * list one step at a time no longer copies the whole list on every step. Use a {@link Builder} to create one from
+ * scratch.
+ *
+ * @since 6.1
+ */
+@Beta
+@Immutable
+public final class ImmutableVectorList<T>
+        extends AbstractImmutableList<T>
+        implements Serializable, RandomAccess, BatchIterable<T>
+{
+    /**
+     * newWith and newWithAll return an ImmutableVectorList rather than an ImmutableArrayList for results with more
+     * elements than this.
+     */
+    static final int ARRAY_THRESHOLD = 1024;
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int SHIFT = 5;
+    private static final int WIDTH = 1 << SHIFT;
+
+    /**
+     * How many more nodes than the minimum a level may use after a concatenation before its nodes are repacked.
+     */
+    private static final int EXTRAS = 2;
+
+    private static final Object[] EMPTY_ARRAY = {};
+
+    private static final ImmutableVectorList<?> EMPTY = new ImmutableVectorList<Object>(EMPTY_ARRAY, null, EMPTY_ARRAY);
+
+    private final Object[] head;
+    private final Object root;
+    private final Object[] tail;
+    private final int size;
+
+    private ImmutableVectorList(Object[] head, Object root, Object[] tail)
+    {
+        this.head = head;
+        this.root = root;
+        this.tail = tail;
+        this.size = head.length + nodeSize(root) + tail.length;
+    }
+
+    public static <T> ImmutableVectorList<T> empty()
+    {
+        return (ImmutableVectorList<T>) EMPTY;
+    }
+
+    public static <T> ImmutableVectorList<T> newList(Iterable<? extends T> elements)
+    {
+        if (elements instanceof ImmutableVectorList<?>)
+        {
+            return (ImmutableVectorList<T>) elements;
+        }
+        return ImmutableVectorList.<T>newBuilder().addAll(elements).build();
+    }
+
+    public static <T> ImmutableVectorList<T> newListWith(T... elements)
+    {
+        int leafCount = elements.length >>> SHIFT;
+        Object[] leaves = new Object[leafCount];
+        for (int i = 0; i < leafCount; i++)
+        {
+            leaves[i] = copyRange(elements, i << SHIFT, (i + 1) << SHIFT);
+        }
+        Object[] tail = copyRange(elements, leafCount << SHIFT, elements.length);
+        return ImmutableVectorList.build(leaves, leafCount, tail);
+    }
+
+    public static <T> Builder<T> newBuilder()
+    {
+        return new Builder<T>();
+    }
+
+    private static <T> ImmutableVectorList<T> build(Object[] leaves, int leafCount, Object[] tail)
+    {
+        if (leafCount == 0 && tail.length == 0)
+        {
+            return ImmutableVectorList.empty();
+        }
+        return new ImmutableVectorList<T>(EMPTY_ARRAY, buildTree(leaves, leafCount), tail);
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    public T get(int index)
+    {
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size);
+        }
+        int headLength = this.head.length;
+        if (index < headLength)
+        {
+            return (T) this.head[index];
+        }
+        int treeIndex = index - headLength;
+        int treeSize = this.size - this.tail.length - headLength;
+        if (treeIndex >= treeSize)
+        {
+            return (T) this.tail[treeIndex - treeSize];
+        }
+        Object node = this.root;
+        while (node instanceof Branch)
+        {
+            Branch branch = (Branch) node;
+            int slot = branch.slotOf(treeIndex);
+            if (slot > 0)
+            {
+                treeIndex -= branch.sizes[slot - 1];
+            }
+            node = branch.children[slot];
+        }
+        return (T) ((Object[]) node)[treeIndex];
+    }
+
+    /**
+     * Returns the leaf, head or tail array whose first element is at {@code index}.
+     */
+    private Object[] leafStartingAt(int index)
+    {
+        if (index < this.head.length)
+        {
+            return this.head;
+        }
+        int treeIndex = index - this.head.length;
+        if (treeIndex >= nodeSize(this.root))
+        {
+            return this.tail;
+        }
+        Object node = this.root;
+        while (node instanceof Branch)
+        {
+            Branch branch = (Branch) node;
+            int slot = branch.slotOf(treeIndex);
+            if (slot > 0)
+            {
+                treeIndex -= branch.sizes[slot - 1];
+            }
+            node = branch.children[slot];
+        }
+        return (Object[]) node;
+    }
+
+    public ImmutableVectorList<T> newWith(T element)
+    {
+        int tailLength = this.tail.length;
+        if (tailLength < WIDTH)
+        {
+            Object[] newTail = new Object[tailLength + 1];
+            System.arraycopy(this.tail, 0, newTail, 0, tailLength);
+            newTail[tailLength] = element;
+            return new ImmutableVectorList<T>(this.head, this.root, newTail);
+        }
+        return new ImmutableVectorList<T>(this.head, concatTrees(this.root, this.tail), new Object[]{element});
+    }
+
+    /**
+     * Returns a new list with {@code element} inserted before the first element of this list.
+     */
+    public ImmutableVectorList<T> newWithFirst(T element)
+    {
+        int headLength = this.head.length;
+        if (headLength < WIDTH)
+        {
+            Object[] newHead = new Object[headLength + 1];
+            newHead[0] = element;
+            System.arraycopy(this.head, 0, newHead, 1, headLength);
+            return new ImmutableVectorList<T>(newHead, this.root, this.tail);
+        }
+        return new ImmutableVectorList<T>(new Object[]{element}, concatTrees(this.head, this.root), this.tail);
+    }
+
+    @Override
+    public ImmutableVectorList<T> newWithAll(Iterable<? extends T> elements)
+    {
+        if (elements instanceof ImmutableVectorList<?>)
+        {
+            return this.concat((ImmutableVectorList<T>) elements);
+        }
+        if (Iterate.isEmpty(elements))
+        {
+            return this;
+        }
+        return this.concat(ImmutableVectorList.<T>newList(elements));
+    }
+
+    private ImmutableVectorList<T> concat(ImmutableVectorList<T> other)
+    {
+        if (other.isEmpty())
+        {
+            return this;
+        }
+        if (this.isEmpty())
+        {
+            return other;
+        }
+        Object left = concatTrees(this.root, leafOrNull(this.tail));
+        Object right = concatTrees(leafOrNull(other.head), other.root);
+        return new ImmutableVectorList<T>(this.head, concatTrees(left, right), other.tail);
+    }
+
+    @Override
+    public ImmutableVectorList<T> newWithout(T element)
+    {
+        int index = this.indexOf(element);
+        if (index < 0)
+        {
+            return this;
+        }
+        return this.range(0, index).concat(this.range(index + 1, this.size));
+    }
+
+    /**
+     * Returns the elements from fromIndex, inclusive, to toIndex, exclusive, as a new vector that shares all but one
+     * path through the tree with this one.
+     */
+    private ImmutableVectorList<T> range(int fromIndex, int toIndex)
+    {
+        if (fromIndex == 0 && toIndex == this.size)
+        {
+            return this;
+        }
+        if (fromIndex == toIndex)
+        {
+            return ImmutableVectorList.empty();
+        }
+        int headLength = this.head.length;
+        int treeSize = nodeSize(this.root);
+        int tailStart = headLength + treeSize;
+
+        Object[] newHead = slice(this.head, fromIndex, toIndex);
+        Object[] newTail = slice(this.tail, fromIndex - tailStart, toIndex - tailStart);
+        int treeFrom = Math.max(fromIndex - headLength, 0);
+        int treeTo = Math.min(toIndex - headLength, treeSize);
+        Object newRoot = null;
+        if (treeFrom < treeTo)
+        {
+            newRoot = collapse(takeTree(dropTree(this.root, treeFrom), treeTo - treeFrom));
+        }
+        return new ImmutableVectorList<T>(newHead, newRoot, newTail);
+    }
+
+    @Override
+    public ImmutableVectorList<T> take(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+        return this.range(0, Math.min(count, this.size));
+    }
+
+    @Override
+    public ImmutableVectorList<T> drop(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+        return this.range(Math.min(count, this.size), this.size);
+    }
+
+    public void each(Procedure<? super T> procedure)
+    {
+        forEach(this.head, procedure);
+        if (this.root != null)
+        {
+            forEach(this.root, procedure);
+        }
+        forEach(this.tail, procedure);
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        int index = forEachWithIndex(this.head, objectIntProcedure, 0);
+        if (this.root != null)
+        {
+            index = forEachWithIndex(this.root, objectIntProcedure, index);
+        }
+        forEachWithIndex(this.tail, objectIntProcedure, index);
+    }
+
+    /**
+     * Visits the elements of one section of the list a leaf at a time, descending the tree once per leaf rather than
+     * once per element.
+     */
+    public void batchForEach(Procedure<? super T> procedure, int sectionIndex, int sectionCount)
+    {
+        int sectionSize = this.size / sectionCount;
+        int index = sectionSize * sectionIndex;
+        int end = sectionIndex == sectionCount - 1 ? this.size : index + sectionSize;
+        int headLength = this.head.length;
+        int treeSize = nodeSize(this.root);
+        while (index < end)
+        {
+            Object[] leaf;
+            int offset;
+            if (index < headLength)
+            {
+                leaf = this.head;
+                offset = index;
+            }
+            else if (index - headLength >= treeSize)
+            {
+                leaf = this.tail;
+                offset = index - headLength - treeSize;
+            }
+            else
+            {
+                offset = index - headLength;
+                Object node = this.root;
+                while (node instanceof Branch)
+                {
+                    Branch branch = (Branch) node;
+                    int slot = branch.slotOf(offset);
+                    if (slot > 0)
+                    {
+                        offset -= branch.sizes[slot - 1];
+                    }
+                    node = branch.children[slot];
+                }
+                leaf = (Object[]) node;
+            }
+            int leafEnd = Math.min(leaf.length, offset + end - index);
+            for (int i = offset; i < leafEnd; i++)
+            {
+                procedure.value((T) leaf[i]);
+            }
+            index += leafEnd - offset;
+        }
+    }
+
+    public int getBatchCount(int batchSize)
+    {
+        return Math.max(1, this.size / batchSize);
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new VectorIterator();
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        Object[] result = new Object[this.size];
+        int index = copyInto(this.head, result, 0);
+        if (this.root != null)
+        {
+            index = copyInto(this.root, result, index);
+        }
+        copyInto(this.tail, result, index);
+        return result;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 1;
+        for (Iterator<T> iterator = this.iterator(); iterator.hasNext(); )
+        {
+            T item = iterator.next();
+            hashCode = 31 * hashCode + (item == null ? 0 : item.hashCode());
+        }
+        return hashCode;
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableVectorListSerializationProxy<T>(this);
+    }
+
+    private static int nodeSize(Object node)
+    {
+        if (node == null)
+        {
+            return 0;
+        }
+        if (node instanceof Branch)
+        {
+            int[] sizes = ((Branch) node).sizes;
+            return sizes[sizes.length - 1];
+        }
+        return ((Object[]) node).length;
+    }
+
+    private static int height(Object node)
+    {
+        return node instanceof Branch ? ((Branch) node).height : 0;
+    }
+
+    /**
+     * Returns the children of a branch or the elements of a leaf.
+     */
+    private static Object[] slots(Object node)
+    {
+        return node instanceof Branch ? ((Branch) node).children : (Object[]) node;
+    }
+
+    private static Object leafOrNull(Object[] leaf)
+    {
+        return leaf.length == 0 ? null : leaf;
+    }
+
+    private static Object[] copyRange(Object[] source, int from, int to)
+    {
+        if (from == to)
+        {
+            return EMPTY_ARRAY;
+        }
+        Object[] result = new Object[to - from];
+        System.arraycopy(source, from, result, 0, to - from);
+        return result;
+    }
+
+    private static Object[] slice(Object[] array, int from, int to)
+    {
+        int start = Math.max(from, 0);
+        int end = Math.min(to, array.length);
+        if (start >= end)
+        {
+            return EMPTY_ARRAY;
+        }
+        if (start == 0 && end == array.length)
+        {
+            return array;
+        }
+        return copyRange(array, start, end);
+    }
+
+    private static Object collapse(Object node)
+    {
+        Object result = node;
+        while (result instanceof Branch && ((Branch) result).children.length == 1)
+        {
+            result = ((Branch) result).children[0];
+        }
+        return result;
+    }
+
+    /**
+     * Builds a strict tree over full leaves, bottom-up, without copying any elements.
+     */
+    private static Object buildTree(Object[] leaves, int leafCount)
+    {
+        if (leafCount == 0)
+        {
+            return null;
+        }
+        Object[] level = leaves;
+        int count = leafCount;
+        int height = 0;
+        while (count > 1)
+        {
+            height++;
+            int parentCount = (count + WIDTH - 1) >>> SHIFT;
+            Object[] parents = new Object[parentCount];
+            for (int i = 0; i < parentCount; i++)
+            {
+                parents[i] = Branch.of(height, copyRange(level, i << SHIFT, Math.min((i + 1) << SHIFT, count)));
+            }
+            level = parents;
+            count = parentCount;
+        }
+        return level[0];
+    }
+
+    private static Object concatTrees(Object left, Object right)
+    {
+        if (left == null)
+        {
+            return right;
+        }
+        if (right == null)
+        {
+            return left;
+        }
+        return collapse(concatSubTrees(left, right));
+    }
+
+    /**
+     * Concatenates two subtrees along the right spine of {@code left} and the left spine of {@code right}. The result
+     * is one level taller than the taller argument and has one or two children.
+     */
+    private static Branch concatSubTrees(Object left, Object right)
+    {
+        int leftHeight = height(left);
+        int rightHeight = height(right);
+        if (leftHeight > rightHeight)
+        {
+            Branch leftBranch = (Branch) left;
+            Branch middle = concatSubTrees(leftBranch.children[leftBranch.children.length - 1], right);
+            return rebalance(leftBranch, middle, null);
+        }
+        if (leftHeight < rightHeight)
+        {
+            Branch rightBranch = (Branch) right;
+            Branch middle = concatSubTrees(left, rightBranch.children[0]);
+            return rebalance(null, middle, rightBranch);
+        }
+        if (leftHeight == 0)
+        {
+            return Branch.of(1, new Object[]{left, right});
+        }
+        Branch leftBranch = (Branch) left;
+        Branch rightBranch = (Branch) right;
+        Branch middle = concatSubTrees(leftBranch.children[leftBranch.children.length - 1], rightBranch.children[0]);
+        return rebalance(leftBranch, middle, rightBranch);
+    }
+
+    /**
+     * Merges the children of {@code left} (except the last), {@code middle} and {@code right} (except the first),
+     * which all share a height, repacks them if there are too many and returns them under a branch one level up.
+     */
+    private static Branch rebalance(Branch left, Branch middle, Branch right)
+    {
+        int height = middle.height;
+        int leftCount = left == null ? 0 : left.children.length - 1;
+        int rightCount = right == null ? 0 : right.children.length - 1;
+        int middleCount = middle.children.length;
+        Object[] nodes = new Object[leftCount + middleCount + rightCount];
+        if (left != null)
+        {
+            System.arraycopy(left.children, 0, nodes, 0, leftCount);
+        }
+        System.arraycopy(middle.children, 0, nodes, leftCount, middleCount);
+        if (right != null)
+        {
+            System.arraycopy(right.children, 1, nodes, leftCount + middleCount, rightCount);
+        }
+        Object[] packed = pack(nodes, height - 1);
+        if (packed.length <= WIDTH)
+        {
+            return Branch.of(height + 1, new Object[]{Branch.of(height, packed)});
+        }
+        Branch first = Branch.of(height, copyRange(packed, 0, WIDTH));
+        Branch second = Branch.of(height, copyRange(packed, WIDTH, packed.length));
+        return Branch.of(height + 1, new Object[]{first, second});
+    }
+
+    /**
+     * Redistributes the slots of {@code nodes} so they use at most {@link #EXTRAS} more nodes than a fully packed
+     * level would. Nodes that come through unchanged are reused rather than copied.
+     */
+    private static Object[] pack(Object[] nodes, int height)
+    {
+        int length = nodes.length;
+        int[] counts = new int[length];
+        int total = 0;
+        for (int i = 0; i < length; i++)
+        {
+            counts[i] = slots(nodes[i]).length;
+            total += counts[i];
+        }
+        int optimal = (total + WIDTH - 1) >>> SHIFT;
+        if (length <= optimal + EXTRAS)
+        {
+            return nodes;
+        }
+
+        int index = 0;
+        while (length > optimal + EXTRAS)
+        {
+            while (counts[index] == WIDTH)
+            {
+                index++;
+            }
+            int remaining = counts[index];
+            do
+            {
+                int filled = Math.min(remaining + counts[index + 1], WIDTH);
+                remaining = remaining + counts[index + 1] - filled;
+                counts[index] = filled;
+                index++;
+            }
+            while (remaining > 0);
+            System.arraycopy(counts, index + 1, counts, index, length - index - 1);
+            length--;
+            index--;
+        }
+
+        Object[] result = new Object[length];
+        int source = 0;
+        int offset = 0;
+        for (int i = 0; i < length; i++)
+        {
+            int target = counts[i];
+            Object[] sourceSlots = slots(nodes[source]);
+            if (offset == 0 && sourceSlots.length == target)
+            {
+                result[i] = nodes[source];
+                source++;
+                continue;
+            }
+            Object[] newSlots = new Object[target];
+            int filled = 0;
+            while (filled < target)
+            {
+                sourceSlots = slots(nodes[source]);
+                int count = Math.min(sourceSlots.length - offset, target - filled);
+                System.arraycopy(sourceSlots, offset, newSlots, filled, count);
+                filled += count;
+                offset += count;
+                if (offset == sourceSlots.length)
+                {
+                    source++;
+                    offset = 0;
+                }
+            }
+            result[i] = height == 0 ? newSlots : Branch.of(height, newSlots);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the first {@code count} elements of {@code node}, where {@code 0 < count <= nodeSize(node)}.
+     */
+    private static Object takeTree(Object node, int count)
+    {
+        if (!(node instanceof Branch))
+        {
+            Object[] leaf = (Object[]) node;
+            return count == leaf.length ? leaf : copyRange(leaf, 0, count);
+        }
+        Branch branch = (Branch) node;
+        int slot = branch.slotOf(count - 1);
+        if (slot == branch.children.length - 1 && count == branch.sizes[slot])
+        {
+            return branch;
+        }
+        int before = slot == 0 ? 0 : branch.sizes[slot - 1];
+        Object[] children = new Object[slot + 1];
+        System.arraycopy(branch.children, 0, children, 0, slot);
+        children[slot] = takeTree(branch.children[slot], count - before);
+        int[] sizes = new int[slot + 1];
+        System.arraycopy(branch.sizes, 0, sizes, 0, slot);
+        sizes[slot] = count;
+        return new Branch(branch.height, children, sizes);
+    }
+
+    /**
+     * Returns {@code node} without its first {@code count} elements, where {@code 0 <= count < nodeSize(node)}.
+     */
+    private static Object dropTree(Object node, int count)
+    {
+        if (count == 0)
+        {
+            return node;
+        }
+        if (!(node instanceof Branch))
+        {
+            Object[] leaf = (Object[]) node;
+            return copyRange(leaf, count, leaf.length);
+        }
+        Branch branch = (Branch) node;
+        int slot = branch.slotOf(count);
+        int before = slot == 0 ? 0 : branch.sizes[slot - 1];
+        int length = branch.children.length - slot;
+        Object[] children = new Object[length];
+        children[0] = dropTree(branch.children[slot], count - before);
+        System.arraycopy(branch.children, slot + 1, children, 1, length - 1);
+        int[] sizes = new int[length];
+        for (int i = 0; i < length; i++)
+        {
+            sizes[i] = branch.sizes[slot + i] - count;
+        }
+        return new Branch(branch.height, children, sizes);
+    }
+
+    private static <T> void forEach(Object node, Procedure<? super T> procedure)
+    {
+        if (node instanceof Branch)
+        {
+            for (Object child : ((Branch) node).children)
+            {
+                forEach(child, procedure);
+            }
+        }
+        else
+        {
+            for (Object each : (Object[]) node)
+            {
+                procedure.value((T) each);
+            }
+        }
+    }
+
+    private static <T> int forEachWithIndex(Object node, ObjectIntProcedure<? super T> procedure, int start)
+    {
+        int index = start;
+        if (node instanceof Branch)
+        {
+            for (Object child : ((Branch) node).children)
+            {
+                index = forEachWithIndex(child, procedure, index);
+            }
+        }
+        else
+        {
+            for (Object each : (Object[]) node)
+            {
+                procedure.value((T) each, index++);
+            }
+        }
+        return index;
+    }
+
+    private static int copyInto(Object node, Object[] target, int start)
+    {
+        if (node instanceof Branch)
+        {
+            int index = start;
+            for (Object child : ((Branch) node).children)
+            {
+                index = copyInto(child, target, index);
+            }
+            return index;
+        }
+        Object[] leaf = (Object[]) node;
+        System.arraycopy(leaf, 0, target, start, leaf.length);
+        return start + leaf.length;
+    }
+
+    /**
+     * An interior node of the tree. {@code sizes[i]} is the number of elements under children 0 to i, so a child can
+     * hold fewer elements than a full subtree of its height would.
+     */
+    private static final class Branch
+    {
+        private final int height;
+        private final Object[] children;
+        private final int[] sizes;
+
+        private Branch(int height, Object[] children, int[] sizes)
+        {
+            this.height = height;
+            this.children = children;
+            this.sizes = sizes;
+        }
+
+        private static Branch of(int height, Object[] children)
+        {
+            int[] sizes = new int[children.length];
+            int total = 0;
+            for (int i = 0; i < children.length; i++)
+            {
+                total += nodeSize(children[i]);
+                sizes[i] = total;
+            }
+            return new Branch(height, children, sizes);
+        }
+
+        /**
+         * Returns the child holding {@code index}. A child never holds more elements than a full subtree, so the
+         * radix guess is never past the right child and only has to be corrected forwards.
+         */
+        private int slotOf(int index)
+        {
+            int shift = SHIFT * this.height;
+            int slot = shift >= Integer.SIZE ? 0 : index >>> shift;
+            while (this.sizes[slot] <= index)
+            {
+                slot++;
+            }
+            return slot;
+        }
+    }
+
+    private final class VectorIterator implements Iterator<T>
+    {
+        private int index;
+        private Object[] leaf = EMPTY_ARRAY;
+        private int leafIndex;
+
+        public boolean hasNext()
+        {
+            return this.index < ImmutableVectorList.this.size;
+        }
+
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            if (this.leafIndex == this.leaf.length)
+            {
+                this.leaf = ImmutableVectorList.this.leafStartingAt(this.index);
+                this.leafIndex = 0;
+            }
+            this.index++;
+            return (T) this.leaf[this.leafIndex++];
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * A Builder appends elements into full 32-element leaves. {@link #build()} only has to link the leaves into a tree
+     * and copy the last partial leaf, so the Builder can keep appending afterwards without affecting built lists.
+     * <p>
+     * A Builder is not thread-safe.
+     */
+    public static final class Builder<T>
+    {
+        private Object[] leaves = new Object[WIDTH];
+        private int leafCount;
+        private Object[] tail = new Object[WIDTH];
+        private int tailSize;
+
+        private Builder()
+        {
+        }
+
+        public int size()
+        {
+            return (this.leafCount << SHIFT) + this.tailSize;
+        }
+
+        public Builder<T> add(T element)
+        {
+            if (this.tailSize == WIDTH)
+            {
+                this.flushTail();
+            }
+            this.tail[this.tailSize++] = element;
+            return this;
+        }
+
+        private void flushTail()
+        {
+            if (this.leafCount == this.leaves.length)
+            {
+                Object[] newLeaves = new Object[this.leafCount << 1];
+                System.arraycopy(this.leaves, 0, newLeaves, 0, this.leafCount);
+                this.leaves = newLeaves;
+            }
+            this.leaves[this.leafCount++] = this.tail;
+            this.tail = new Object[WIDTH];
+            this.tailSize = 0;
+        }
+
+        public Builder<T> addAll(Iterable<? extends T> elements)
+        {
+            for (T element : elements)
+            {
+                this.add(element);
+            }
+            return this;
+        }
+
+        public ImmutableVectorList<T> build()
+        {
+            if (this.tailSize == WIDTH)
+            {
+                this.flushTail();
+            }
+            return ImmutableVectorList.build(this.leaves, this.leafCount, copyRange(this.tail, 0, this.tailSize));
+        }
+    }
+}
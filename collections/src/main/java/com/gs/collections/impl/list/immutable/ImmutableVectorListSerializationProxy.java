@@ -0,0 +1,81 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.list.immutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+import com.gs.collections.impl.block.procedure.checked.CheckedProcedure;
+
+class ImmutableVectorListSerializationProxy<T> implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private ImmutableVectorList<T> list;
+
+    @SuppressWarnings("UnusedDeclaration")
+    public ImmutableVectorListSerializationProxy()
+    {
+        // Empty constructor for Externalizable class
+    }
+
+    ImmutableVectorListSerializationProxy(ImmutableVectorList<T> list)
+    {
+        this.list = list;
+    }
+
+    public void writeExternal(final ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.list.size());
+        try
+        {
+            this.list.forEach(new CheckedProcedure<T>()
+            {
+                public void safeValue(T value) throws IOException
+                {
+                    out.writeObject(value);
+                }
+            });
+        }
+        catch (RuntimeException e)
+        {
+            if (e.getCause() instanceof IOException)
+            {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        ImmutableVectorList.Builder<T> builder = ImmutableVectorList.newBuilder();
+        for (int i = 0; i < size; i++)
+        {
+            builder.add((T) in.readObject());
+        }
+        this.list = builder.build();
+    }
+
+    protected Object readResolve()
+    {
+        return this.list;
+    }
+}
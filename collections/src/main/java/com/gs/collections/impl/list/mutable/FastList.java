@@ -87,6 +87,7 @@ import com.gs.collections.impl.list.mutable.primitive.ShortArrayList;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
 import com.gs.collections.impl.multimap.list.FastListMultimap;
 import com.gs.collections.impl.parallel.BatchIterable;
+import com.gs.collections.impl.parallel.ParallelArraySort;
 import com.gs.collections.impl.partition.list.PartitionFastList;
 import com.gs.collections.impl.utility.ArrayIterate;
 import com.gs.collections.impl.utility.ArrayListIterate;
@@ -264,6 +265,28 @@ public class FastList<T>
         return this;
     }
 
+    /**
+     * Sorts this list in place like {@link #sortThis(Comparator)}, sorting and merging runs of the list in parallel.
+     * The sort is stable.
+     *
+     * @since 6.1
+     */
+    public FastList<T> sortThisParallel(Comparator<? super T> comparator)
+    {
+        ParallelArraySort.sort(this.items, this.size, comparator);
+        return this;
+    }
+
+    /**
+     * Sorts this list in place like {@link #sortThis()}, sorting and merging runs of the list in parallel.
+     *
+     * @since 6.1
+     */
+    public FastList<T> sortThisParallel()
+    {
+        return this.sortThisParallel(null);
+    }
+
     @Override
     public FastList<T> reverseThis()
     {
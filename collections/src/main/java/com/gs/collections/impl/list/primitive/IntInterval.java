@@ -44,6 +44,7 @@ import com.gs.collections.impl.lazy.primitive.ReverseIntIterable;
 import com.gs.collections.impl.lazy.primitive.SelectIntIterable;
 import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
 import com.gs.collections.impl.set.mutable.primitive.IntHashSet;
+import com.gs.collections.impl.utility.internal.primitive.IntOrderStatistics;
 
 /**
  * An IntInterval is a range of ints that may be iterated over using a step value.
@@ -753,15 +754,27 @@ public final class IntInterval
 
     public double median()
     {
-        int[] sortedArray = this.toSortedArray();
-        int middleIndex = sortedArray.length >> 1;
-        if (sortedArray.length > 1 && (sortedArray.length & 1) == 0)
-        {
-            int first = sortedArray[middleIndex];
-            int second = sortedArray[middleIndex - 1];
-            return ((double) first + (double) second) / 2.0;
-        }
-        return (double) sortedArray[middleIndex];
+        return IntOrderStatistics.median(this.toArray());
+    }
+
+    public double percentile(double percentile)
+    {
+        return IntOrderStatistics.percentile(this.toArray(), percentile);
+    }
+
+    public double[] percentiles(double... percentiles)
+    {
+        return IntOrderStatistics.percentiles(this.toArray(), percentiles);
+    }
+
+    public MutableIntList topK(int k)
+    {
+        return IntOrderStatistics.topK(this, k);
+    }
+
+    public MutableIntList bottomK(int k)
+    {
+        return IntOrderStatistics.bottomK(this, k);
     }
 
     public int[] toSortedArray()
@@ -0,0 +1,1152 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.immutable;
+
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.lazy.AbstractLazyIterable;
+import com.gs.collections.impl.tuple.Tuples;
+import net.jcip.annotations.Immutable;
+
+/**
+ * An ImmutableHashTrieMap is a persistent hash array mapped trie (HAMT). Each node holds up to 32 entries or child
+ * nodes, indexed by successive 5-bit slices of the key's hash code, so a map of n entries is at most
+ * log<sub>32</sub>(n) levels deep.
+ * <p>
+ * {@link #newWithKeyValue(Object, Object)} and {@link #newWithoutKey(Object)} copy only the nodes on the path to the
+ * key and share every other node with the original map, so an update costs O(log<sub>32</sub> n) time and space
+ * instead of the full copy made by {@link AbstractImmutableMap}. Bulk changes should go through a {@link Builder},
+ * which edits the nodes it has already copied in place instead of copying the path again for every key.
+ * <p>
+ * The nodes use the compressed layout of Steindorfer and Vinju's CHAMP variant: one bitmap marks the slots holding
+ * entries and another the slots holding child nodes, and removal keeps the trie in its canonical, most compact shape.
+ * Keys whose 32-bit hash codes are identical share a collision node at the bottom of the trie.
+ *
+ * @since 6.1
+ */
+@Beta
+@Immutable
+public final class ImmutableHashTrieMap<K, V>
+        extends AbstractImmutableMap<K, V>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int HASH_BITS = 32;
+    private static final int MAX_DEPTH = 8;
+
+    private static final ImmutableHashTrieMap<?, ?> EMPTY = new ImmutableHashTrieMap<Object, Object>(BitmapIndexedNode.EMPTY, 0);
+
+    private final Node root;
+    private final int size;
+
+    private ImmutableHashTrieMap(Node root, int size)
+    {
+        this.root = root;
+        this.size = size;
+    }
+
+    public static <K, V> ImmutableHashTrieMap<K, V> newMap()
+    {
+        return (ImmutableHashTrieMap<K, V>) EMPTY;
+    }
+
+    public static <K, V> ImmutableHashTrieMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        if (map instanceof ImmutableHashTrieMap<?, ?>)
+        {
+            return (ImmutableHashTrieMap<K, V>) map;
+        }
+        return ImmutableHashTrieMap.<K, V>newBuilder().putAll(map).build();
+    }
+
+    public static <K, V> Builder<K, V> newBuilder()
+    {
+        return new Builder<K, V>(BitmapIndexedNode.EMPTY, 0);
+    }
+
+    /**
+     * Returns a builder that starts from the entries of this map. This map is not affected by changes to the builder.
+     */
+    public Builder<K, V> toBuilder()
+    {
+        return new Builder<K, V>(this.root, this.size);
+    }
+
+    private static int hash(Object key)
+    {
+        return key == null ? 0 : key.hashCode();
+    }
+
+    private static int mask(int hash, int shift)
+    {
+        return (hash >>> shift) & 31;
+    }
+
+    private static int bitpos(int mask)
+    {
+        return 1 << mask;
+    }
+
+    private static boolean keyEquals(Object key, Object other)
+    {
+        return key == other || key != null && key.equals(other);
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    public boolean containsKey(Object key)
+    {
+        return this.root.get(key, hash(key), 0, Node.ABSENT) != Node.ABSENT;
+    }
+
+    public boolean containsValue(Object value)
+    {
+        return this.root.containsValue(value);
+    }
+
+    public V get(Object key)
+    {
+        Object result = this.root.get(key, hash(key), 0, null);
+        return (V) result;
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithKeyValue(K key, V value)
+    {
+        Change change = new Change();
+        Node newRoot = this.root.put(null, key, value, hash(key), 0, change);
+        if (!change.modified)
+        {
+            return this;
+        }
+        return new ImmutableHashTrieMap<K, V>(newRoot, this.size + change.sizeDelta);
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithAllKeyValues(Iterable<? extends Pair<? extends K, ? extends V>> keyValues)
+    {
+        return this.toBuilder().putAllKeyValues(keyValues).build();
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithAllKeyValueArguments(Pair<? extends K, ? extends V>... keyValuePairs)
+    {
+        Builder<K, V> builder = this.toBuilder();
+        for (Pair<? extends K, ? extends V> keyValuePair : keyValuePairs)
+        {
+            builder.put(keyValuePair.getOne(), keyValuePair.getTwo());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithoutKey(K key)
+    {
+        Change change = new Change();
+        Node newRoot = this.root.remove(null, key, hash(key), 0, change);
+        if (!change.modified)
+        {
+            return this;
+        }
+        return this.size == 1 ? ImmutableHashTrieMap.<K, V>newMap() : new ImmutableHashTrieMap<K, V>(newRoot, this.size - 1);
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithoutAllKeys(Iterable<? extends K> keys)
+    {
+        return this.toBuilder().removeAll(keys).build();
+    }
+
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        this.root.forEachKeyValue((Procedure2<Object, Object>) procedure);
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        this.root.forEachKey((Procedure<Object>) procedure);
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        this.root.forEachValue((Procedure<Object>) procedure);
+    }
+
+    @Override
+    public void each(Procedure<? super V> procedure)
+    {
+        this.forEachValue(procedure);
+    }
+
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    public Collection<V> values()
+    {
+        return new Values();
+    }
+
+    public RichIterable<K> keysView()
+    {
+        return new KeysView();
+    }
+
+    public RichIterable<V> valuesView()
+    {
+        return new ValuesView();
+    }
+
+    public RichIterable<Pair<K, V>> keyValuesView()
+    {
+        return new KeyValuesView();
+    }
+
+    @Override
+    public Iterator<V> iterator()
+    {
+        return new ValueIterator<V>(this.root);
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Map))
+        {
+            return false;
+        }
+        final Map<K, V> that = (Map<K, V>) other;
+        if (that.size() != this.size)
+        {
+            return false;
+        }
+        for (Iterator<Pair<K, V>> iterator = new KeyValueIterator<K, V>(this.root); iterator.hasNext(); )
+        {
+            Pair<K, V> each = iterator.next();
+            if (!this.keyAndValueEquals(each.getOne(), each.getTwo(), that))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        final int[] sum = new int[1];
+        this.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                sum[0] += ImmutableHashTrieMap.this.keyAndValueHashCode(key, value);
+            }
+        });
+        return sum[0];
+    }
+
+    @Override
+    public String toString()
+    {
+        final StringBuilder builder = new StringBuilder("{");
+        this.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                if (builder.length() > 1)
+                {
+                    builder.append(", ");
+                }
+                builder.append(key).append('=').append(value);
+            }
+        });
+        return builder.append('}').toString();
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableMapSerializationProxy<K, V>(this);
+    }
+
+    /**
+     * A Builder applies a batch of changes to an ImmutableHashTrieMap. The first change to a node copies it, as
+     * {@link ImmutableHashTrieMap#newWithKeyValue(Object, Object)} would, but the copy is owned by the builder, so
+     * later changes that reach the same node update it in place. {@link #build()} hands the owned nodes over to the
+     * returned map, after which the builder copies again before making further changes.
+     * <p>
+     * A Builder is not thread-safe.
+     */
+    public static final class Builder<K, V>
+    {
+        private final Change change = new Change();
+        private Object edit = new Object();
+        private Node root;
+        private int size;
+
+        private Builder(Node root, int size)
+        {
+            this.root = root;
+            this.size = size;
+        }
+
+        public int size()
+        {
+            return this.size;
+        }
+
+        public boolean containsKey(Object key)
+        {
+            return this.root.get(key, hash(key), 0, Node.ABSENT) != Node.ABSENT;
+        }
+
+        public V get(Object key)
+        {
+            Object result = this.root.get(key, hash(key), 0, null);
+            return (V) result;
+        }
+
+        public Builder<K, V> put(K key, V value)
+        {
+            this.change.reset();
+            this.root = this.root.put(this.edit, key, value, hash(key), 0, this.change);
+            this.size += this.change.sizeDelta;
+            return this;
+        }
+
+        public Builder<K, V> putAll(Map<? extends K, ? extends V> map)
+        {
+            for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+            {
+                this.put(entry.getKey(), entry.getValue());
+            }
+            return this;
+        }
+
+        public Builder<K, V> putAllKeyValues(Iterable<? extends Pair<? extends K, ? extends V>> keyValues)
+        {
+            for (Pair<? extends K, ? extends V> keyValuePair : keyValues)
+            {
+                this.put(keyValuePair.getOne(), keyValuePair.getTwo());
+            }
+            return this;
+        }
+
+        public Builder<K, V> remove(Object key)
+        {
+            this.change.reset();
+            this.root = this.root.remove(this.edit, key, hash(key), 0, this.change);
+            this.size += this.change.sizeDelta;
+            return this;
+        }
+
+        public Builder<K, V> removeAll(Iterable<?> keys)
+        {
+            for (Object key : keys)
+            {
+                this.remove(key);
+            }
+            return this;
+        }
+
+        public ImmutableHashTrieMap<K, V> build()
+        {
+            this.edit = new Object();
+            if (this.size == 0)
+            {
+                this.root = BitmapIndexedNode.EMPTY;
+                return ImmutableHashTrieMap.newMap();
+            }
+            return new ImmutableHashTrieMap<K, V>(this.root, this.size);
+        }
+    }
+
+    private static final class Change
+    {
+        private boolean modified;
+        private int sizeDelta;
+
+        private void reset()
+        {
+            this.modified = false;
+            this.sizeDelta = 0;
+        }
+
+        private void added()
+        {
+            this.modified = true;
+            this.sizeDelta = 1;
+        }
+
+        private void replaced()
+        {
+            this.modified = true;
+        }
+
+        private void removed()
+        {
+            this.modified = true;
+            this.sizeDelta = -1;
+        }
+    }
+
+    /**
+     * A node of the trie. Nodes reachable from a map are never changed; a node may only be changed in place by the
+     * builder whose edit token it carries.
+     */
+    private abstract static class Node
+    {
+        private static final Object ABSENT = new Object();
+
+        abstract Object get(Object key, int hash, int shift, Object ifAbsent);
+
+        abstract Node put(Object edit, Object key, Object value, int hash, int shift, Change change);
+
+        abstract Node remove(Object edit, Object key, int hash, int shift, Change change);
+
+        abstract int payloadArity();
+
+        abstract Object keyAt(int index);
+
+        abstract Object valueAt(int index);
+
+        abstract int nodeArity();
+
+        abstract Node nodeAt(int index);
+
+        boolean hasSingleEntry()
+        {
+            return this.nodeArity() == 0 && this.payloadArity() == 1;
+        }
+
+        boolean containsValue(Object value)
+        {
+            for (int i = 0; i < this.payloadArity(); i++)
+            {
+                if (keyEquals(value, this.valueAt(i)))
+                {
+                    return true;
+                }
+            }
+            for (int i = 0; i < this.nodeArity(); i++)
+            {
+                if (this.nodeAt(i).containsValue(value))
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void forEachKeyValue(Procedure2<Object, Object> procedure)
+        {
+            for (int i = 0; i < this.payloadArity(); i++)
+            {
+                procedure.value(this.keyAt(i), this.valueAt(i));
+            }
+            for (int i = 0; i < this.nodeArity(); i++)
+            {
+                this.nodeAt(i).forEachKeyValue(procedure);
+            }
+        }
+
+        void forEachKey(Procedure<Object> procedure)
+        {
+            for (int i = 0; i < this.payloadArity(); i++)
+            {
+                procedure.value(this.keyAt(i));
+            }
+            for (int i = 0; i < this.nodeArity(); i++)
+            {
+                this.nodeAt(i).forEachKey(procedure);
+            }
+        }
+
+        void forEachValue(Procedure<Object> procedure)
+        {
+            for (int i = 0; i < this.payloadArity(); i++)
+            {
+                procedure.value(this.valueAt(i));
+            }
+            for (int i = 0; i < this.nodeArity(); i++)
+            {
+                this.nodeAt(i).forEachValue(procedure);
+            }
+        }
+
+        static Node singleEntry(Object edit, int hash, Object key, Object value)
+        {
+            // Only the position at the root matters: a parent that inlines this node uses its own bit for the entry.
+            return new BitmapIndexedNode(edit, bitpos(mask(hash, 0)), 0, new Object[]{key, value});
+        }
+    }
+
+    /**
+     * Entries are stored as key, value pairs from the front of {@code content} in bit order, and child nodes from the
+     * back of {@code content} in reverse bit order.
+     */
+    private static final class BitmapIndexedNode extends Node
+    {
+        private static final BitmapIndexedNode EMPTY = new BitmapIndexedNode(null, 0, 0, new Object[0]);
+
+        private final Object edit;
+        private int dataMap;
+        private int nodeMap;
+        private Object[] content;
+
+        private BitmapIndexedNode(Object edit, int dataMap, int nodeMap, Object[] content)
+        {
+            this.edit = edit;
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+        }
+
+        private boolean isEditableBy(Object edit)
+        {
+            return edit != null && this.edit == edit;
+        }
+
+        private int dataIndex(int bit)
+        {
+            return Integer.bitCount(this.dataMap & (bit - 1));
+        }
+
+        private int nodeIndex(int bit)
+        {
+            return Integer.bitCount(this.nodeMap & (bit - 1));
+        }
+
+        private Node subNode(int bit)
+        {
+            return (Node) this.content[this.content.length - 1 - this.nodeIndex(bit)];
+        }
+
+        @Override
+        int payloadArity()
+        {
+            return Integer.bitCount(this.dataMap);
+        }
+
+        @Override
+        Object keyAt(int index)
+        {
+            return this.content[2 * index];
+        }
+
+        @Override
+        Object valueAt(int index)
+        {
+            return this.content[2 * index + 1];
+        }
+
+        @Override
+        int nodeArity()
+        {
+            return Integer.bitCount(this.nodeMap);
+        }
+
+        @Override
+        Node nodeAt(int index)
+        {
+            return (Node) this.content[this.content.length - 1 - index];
+        }
+
+        @Override
+        Object get(Object key, int hash, int shift, Object ifAbsent)
+        {
+            int bit = bitpos(mask(hash, shift));
+            if ((this.dataMap & bit) != 0)
+            {
+                int index = 2 * this.dataIndex(bit);
+                return keyEquals(key, this.content[index]) ? this.content[index + 1] : ifAbsent;
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                return this.subNode(bit).get(key, hash, shift + BITS_PER_LEVEL, ifAbsent);
+            }
+            return ifAbsent;
+        }
+
+        @Override
+        Node put(Object edit, Object key, Object value, int hash, int shift, Change change)
+        {
+            int bit = bitpos(mask(hash, shift));
+            if ((this.dataMap & bit) != 0)
+            {
+                int index = 2 * this.dataIndex(bit);
+                Object currentKey = this.content[index];
+                if (keyEquals(key, currentKey))
+                {
+                    if (this.content[index + 1] == value)
+                    {
+                        return this;
+                    }
+                    change.replaced();
+                    return this.copyAndSet(edit, index + 1, value);
+                }
+                change.added();
+                Node subNode = mergeTwoEntries(
+                        edit,
+                        currentKey, this.content[index + 1], ImmutableHashTrieMap.hash(currentKey),
+                        key, value, hash,
+                        shift + BITS_PER_LEVEL);
+                return this.copyAndMigrateFromInlineToNode(edit, bit, subNode);
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                Node subNode = this.subNode(bit);
+                Node newSubNode = subNode.put(edit, key, value, hash, shift + BITS_PER_LEVEL, change);
+                if (newSubNode == subNode)
+                {
+                    return this;
+                }
+                return this.copyAndSet(edit, this.content.length - 1 - this.nodeIndex(bit), newSubNode);
+            }
+            change.added();
+            return this.copyAndInsertEntry(edit, bit, key, value);
+        }
+
+        @Override
+        Node remove(Object edit, Object key, int hash, int shift, Change change)
+        {
+            int bit = bitpos(mask(hash, shift));
+            if ((this.dataMap & bit) != 0)
+            {
+                int index = 2 * this.dataIndex(bit);
+                if (!keyEquals(key, this.content[index]))
+                {
+                    return this;
+                }
+                change.removed();
+                if (shift != 0 && this.payloadArity() == 2 && this.nodeArity() == 0)
+                {
+                    int remaining = index == 0 ? 2 : 0;
+                    return Node.singleEntry(edit, hash, this.content[remaining], this.content[remaining + 1]);
+                }
+                return this.copyAndRemoveEntry(edit, bit);
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                Node subNode = this.subNode(bit);
+                Node newSubNode = subNode.remove(edit, key, hash, shift + BITS_PER_LEVEL, change);
+                if (!change.modified)
+                {
+                    return this;
+                }
+                if (newSubNode.hasSingleEntry())
+                {
+                    if (this.payloadArity() == 0 && this.nodeArity() == 1)
+                    {
+                        return newSubNode;
+                    }
+                    return this.copyAndMigrateFromNodeToInline(edit, bit, newSubNode);
+                }
+                if (newSubNode == subNode)
+                {
+                    return this;
+                }
+                return this.copyAndSet(edit, this.content.length - 1 - this.nodeIndex(bit), newSubNode);
+            }
+            return this;
+        }
+
+        private static Node mergeTwoEntries(
+                Object edit,
+                Object key0, Object value0, int hash0,
+                Object key1, Object value1, int hash1,
+                int shift)
+        {
+            if (shift >= HASH_BITS)
+            {
+                return new HashCollisionNode(edit, hash0, new Object[]{key0, value0, key1, value1});
+            }
+            int mask0 = mask(hash0, shift);
+            int mask1 = mask(hash1, shift);
+            if (mask0 != mask1)
+            {
+                int dataMap = bitpos(mask0) | bitpos(mask1);
+                if (mask0 < mask1)
+                {
+                    return new BitmapIndexedNode(edit, dataMap, 0, new Object[]{key0, value0, key1, value1});
+                }
+                return new BitmapIndexedNode(edit, dataMap, 0, new Object[]{key1, value1, key0, value0});
+            }
+            Node subNode = mergeTwoEntries(edit, key0, value0, hash0, key1, value1, hash1, shift + BITS_PER_LEVEL);
+            return new BitmapIndexedNode(edit, 0, bitpos(mask0), new Object[]{subNode});
+        }
+
+        private Node copyAndSet(Object edit, int index, Object element)
+        {
+            if (this.isEditableBy(edit))
+            {
+                this.content[index] = element;
+                return this;
+            }
+            Object[] newContent = this.content.clone();
+            newContent[index] = element;
+            return new BitmapIndexedNode(edit, this.dataMap, this.nodeMap, newContent);
+        }
+
+        private Node copyAndInsertEntry(Object edit, int bit, Object key, Object value)
+        {
+            int index = 2 * this.dataIndex(bit);
+            Object[] newContent = new Object[this.content.length + 2];
+            System.arraycopy(this.content, 0, newContent, 0, index);
+            newContent[index] = key;
+            newContent[index + 1] = value;
+            System.arraycopy(this.content, index, newContent, index + 2, this.content.length - index);
+            return this.update(edit, this.dataMap | bit, this.nodeMap, newContent);
+        }
+
+        private Node copyAndRemoveEntry(Object edit, int bit)
+        {
+            int index = 2 * this.dataIndex(bit);
+            Object[] newContent = new Object[this.content.length - 2];
+            System.arraycopy(this.content, 0, newContent, 0, index);
+            System.arraycopy(this.content, index + 2, newContent, index, this.content.length - index - 2);
+            return this.update(edit, this.dataMap ^ bit, this.nodeMap, newContent);
+        }
+
+        private Node copyAndMigrateFromInlineToNode(Object edit, int bit, Node node)
+        {
+            int oldIndex = 2 * this.dataIndex(bit);
+            int newIndex = this.content.length - 2 - this.nodeIndex(bit);
+            Object[] newContent = new Object[this.content.length - 1];
+            System.arraycopy(this.content, 0, newContent, 0, oldIndex);
+            System.arraycopy(this.content, oldIndex + 2, newContent, oldIndex, newIndex - oldIndex);
+            newContent[newIndex] = node;
+            System.arraycopy(this.content, newIndex + 2, newContent, newIndex + 1, this.content.length - newIndex - 2);
+            return this.update(edit, this.dataMap ^ bit, this.nodeMap | bit, newContent);
+        }
+
+        private Node copyAndMigrateFromNodeToInline(Object edit, int bit, Node node)
+        {
+            int oldIndex = this.content.length - 1 - this.nodeIndex(bit);
+            int newIndex = 2 * this.dataIndex(bit);
+            Object[] newContent = new Object[this.content.length + 1];
+            System.arraycopy(this.content, 0, newContent, 0, newIndex);
+            newContent[newIndex] = node.keyAt(0);
+            newContent[newIndex + 1] = node.valueAt(0);
+            System.arraycopy(this.content, newIndex, newContent, newIndex + 2, oldIndex - newIndex);
+            System.arraycopy(this.content, oldIndex + 1, newContent, oldIndex + 2, this.content.length - oldIndex - 1);
+            return this.update(edit, this.dataMap | bit, this.nodeMap ^ bit, newContent);
+        }
+
+        private Node update(Object edit, int newDataMap, int newNodeMap, Object[] newContent)
+        {
+            if (this.isEditableBy(edit))
+            {
+                this.dataMap = newDataMap;
+                this.nodeMap = newNodeMap;
+                this.content = newContent;
+                return this;
+            }
+            return new BitmapIndexedNode(edit, newDataMap, newNodeMap, newContent);
+        }
+    }
+
+    /**
+     * Holds the entries whose keys have the same 32-bit hash code, once the trie has run out of hash bits to
+     * separate them.
+     */
+    private static final class HashCollisionNode extends Node
+    {
+        private final Object edit;
+        private final int hash;
+        private Object[] content;
+
+        private HashCollisionNode(Object edit, int hash, Object[] content)
+        {
+            this.edit = edit;
+            this.hash = hash;
+            this.content = content;
+        }
+
+        private int indexOf(Object key)
+        {
+            for (int i = 0; i < this.content.length; i += 2)
+            {
+                if (keyEquals(key, this.content[i]))
+                {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        int payloadArity()
+        {
+            return this.content.length / 2;
+        }
+
+        @Override
+        Object keyAt(int index)
+        {
+            return this.content[2 * index];
+        }
+
+        @Override
+        Object valueAt(int index)
+        {
+            return this.content[2 * index + 1];
+        }
+
+        @Override
+        int nodeArity()
+        {
+            return 0;
+        }
+
+        @Override
+        Node nodeAt(int index)
+        {
+            throw new IndexOutOfBoundsException("A hash collision node has no child nodes");
+        }
+
+        @Override
+        Object get(Object key, int hash, int shift, Object ifAbsent)
+        {
+            int index = this.indexOf(key);
+            return index < 0 ? ifAbsent : this.content[index + 1];
+        }
+
+        @Override
+        Node put(Object edit, Object key, Object value, int hash, int shift, Change change)
+        {
+            int index = this.indexOf(key);
+            Object[] newContent;
+            if (index >= 0)
+            {
+                if (this.content[index + 1] == value)
+                {
+                    return this;
+                }
+                change.replaced();
+                if (this.edit != null && this.edit == edit)
+                {
+                    this.content[index + 1] = value;
+                    return this;
+                }
+                newContent = this.content.clone();
+                newContent[index + 1] = value;
+            }
+            else
+            {
+                change.added();
+                newContent = new Object[this.content.length + 2];
+                System.arraycopy(this.content, 0, newContent, 0, this.content.length);
+                newContent[this.content.length] = key;
+                newContent[this.content.length + 1] = value;
+            }
+            return this.update(edit, newContent);
+        }
+
+        @Override
+        Node remove(Object edit, Object key, int hash, int shift, Change change)
+        {
+            int index = this.indexOf(key);
+            if (index < 0)
+            {
+                return this;
+            }
+            change.removed();
+            if (this.content.length == 4)
+            {
+                int remaining = index == 0 ? 2 : 0;
+                return Node.singleEntry(edit, this.hash, this.content[remaining], this.content[remaining + 1]);
+            }
+            Object[] newContent = new Object[this.content.length - 2];
+            System.arraycopy(this.content, 0, newContent, 0, index);
+            System.arraycopy(this.content, index + 2, newContent, index, this.content.length - index - 2);
+            return this.update(edit, newContent);
+        }
+
+        private Node update(Object edit, Object[] newContent)
+        {
+            if (this.edit != null && this.edit == edit)
+            {
+                this.content = newContent;
+                return this;
+            }
+            return new HashCollisionNode(edit, this.hash, newContent);
+        }
+    }
+
+    /**
+     * Walks the trie depth first, returning the entries of each node before descending into its child nodes.
+     */
+    private abstract static class TrieIterator<E> implements Iterator<E>
+    {
+        private final Node[] nodes = new Node[MAX_DEPTH];
+        private final int[] nextChild = new int[MAX_DEPTH];
+        private int depth;
+        private Node current;
+        private int nextEntry;
+
+        private TrieIterator(Node root)
+        {
+            this.nodes[0] = root;
+            this.current = root;
+        }
+
+        protected abstract E valueOf(Object key, Object value);
+
+        public boolean hasNext()
+        {
+            while (this.nextEntry >= this.current.payloadArity())
+            {
+                if (!this.descend())
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean descend()
+        {
+            while (this.depth >= 0)
+            {
+                Node node = this.nodes[this.depth];
+                int child = this.nextChild[this.depth];
+                if (child < node.nodeArity())
+                {
+                    this.nextChild[this.depth]++;
+                    this.depth++;
+                    this.current = node.nodeAt(child);
+                    this.nodes[this.depth] = this.current;
+                    this.nextChild[this.depth] = 0;
+                    this.nextEntry = 0;
+                    return true;
+                }
+                this.depth--;
+            }
+            return false;
+        }
+
+        public E next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            int index = this.nextEntry++;
+            return this.valueOf(this.current.keyAt(index), this.current.valueAt(index));
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + ImmutableHashTrieMap.class.getSimpleName());
+        }
+    }
+
+    private static final class KeyIterator<K> extends TrieIterator<K>
+    {
+        private KeyIterator(Node root)
+        {
+            super(root);
+        }
+
+        @Override
+        protected K valueOf(Object key, Object value)
+        {
+            return (K) key;
+        }
+    }
+
+    private static final class ValueIterator<V> extends TrieIterator<V>
+    {
+        private ValueIterator(Node root)
+        {
+            super(root);
+        }
+
+        @Override
+        protected V valueOf(Object key, Object value)
+        {
+            return (V) value;
+        }
+    }
+
+    private static final class KeyValueIterator<K, V> extends TrieIterator<Pair<K, V>>
+    {
+        private KeyValueIterator(Node root)
+        {
+            super(root);
+        }
+
+        @Override
+        protected Pair<K, V> valueOf(Object key, Object value)
+        {
+            return Tuples.pair((K) key, (V) value);
+        }
+    }
+
+    private final class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new KeyIterator<K>(ImmutableHashTrieMap.this.root);
+        }
+
+        @Override
+        public int size()
+        {
+            return ImmutableHashTrieMap.this.size;
+        }
+
+        @Override
+        public boolean contains(Object key)
+        {
+            return ImmutableHashTrieMap.this.containsKey(key);
+        }
+    }
+
+    private final class Values extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ValueIterator<V>(ImmutableHashTrieMap.this.root);
+        }
+
+        @Override
+        public int size()
+        {
+            return ImmutableHashTrieMap.this.size;
+        }
+    }
+
+    private final class KeysView extends AbstractLazyIterable<K>
+    {
+        public void each(Procedure<? super K> procedure)
+        {
+            ImmutableHashTrieMap.this.forEachKey(procedure);
+        }
+
+        public Iterator<K> iterator()
+        {
+            return new KeyIterator<K>(ImmutableHashTrieMap.this.root);
+        }
+
+        @Override
+        public int size()
+        {
+            return ImmutableHashTrieMap.this.size;
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return ImmutableHashTrieMap.this.size == 0;
+        }
+
+        @Override
+        public boolean contains(Object key)
+        {
+            return ImmutableHashTrieMap.this.containsKey(key);
+        }
+    }
+
+    private final class ValuesView extends AbstractLazyIterable<V>
+    {
+        public void each(Procedure<? super V> procedure)
+        {
+            ImmutableHashTrieMap.this.forEachValue(procedure);
+        }
+
+        public Iterator<V> iterator()
+        {
+            return new ValueIterator<V>(ImmutableHashTrieMap.this.root);
+        }
+
+        @Override
+        public int size()
+        {
+            return ImmutableHashTrieMap.this.size;
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return ImmutableHashTrieMap.this.size == 0;
+        }
+    }
+
+    private final class KeyValuesView extends AbstractLazyIterable<Pair<K, V>>
+    {
+        public void each(final Procedure<? super Pair<K, V>> procedure)
+        {
+            ImmutableHashTrieMap.this.forEachKeyValue(new Procedure2<K, V>()
+            {
+                public void value(K key, V value)
+                {
+                    procedure.value(Tuples.pair(key, value));
+                }
+            });
+        }
+
+        public Iterator<Pair<K, V>> iterator()
+        {
+            return new KeyValueIterator<K, V>(ImmutableHashTrieMap.this.root);
+        }
+
+        @Override
+        public int size()
+        {
+            return ImmutableHashTrieMap.this.size;
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return ImmutableHashTrieMap.this.size == 0;
+        }
+    }
+}
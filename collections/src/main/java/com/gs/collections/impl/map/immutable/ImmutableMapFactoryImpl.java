@@ -176,4 +176,14 @@ public final class ImmutableMapFactoryImpl implements ImmutableMapFactory
                 throw new AssertionError();
         }
     }
+
+    public <K, V> ImmutableMap<K, V> emptyPersistent()
+    {
+        return ImmutableHashTrieMap.newMap();
+    }
+
+    public <K, V> ImmutableMap<K, V> withAllPersistent(Map<K, V> map)
+    {
+        return ImmutableHashTrieMap.newMap(map);
+    }
 }
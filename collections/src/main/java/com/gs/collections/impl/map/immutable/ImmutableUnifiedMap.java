@@ -20,14 +20,17 @@ import java.io.Serializable;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.api.map.ParallelMapIterable;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.collection.mutable.UnmodifiableMutableCollection;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
@@ -103,6 +106,12 @@ public class ImmutableUnifiedMap<K, V>
         this.delegate.batchForEach(procedure, sectionIndex, sectionCount);
     }
 
+    @Beta
+    public ParallelMapIterable<K, V> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return this.delegate.asParallel(executorService, batchSize);
+    }
+
     @Override
     public void forEachValue(Procedure<? super V> procedure)
     {
@@ -30,6 +30,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerArray;
@@ -37,20 +38,28 @@ import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
 import com.gs.collections.api.block.function.Function3;
+import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import com.gs.collections.api.map.ConcurrentMutableMap;
 import com.gs.collections.api.map.ImmutableMap;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.ParallelMapIterable;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.block.procedure.MapEntryToProcedure2;
 import com.gs.collections.impl.factory.Maps;
+import com.gs.collections.impl.lazy.parallel.map.AbstractParallelMapIterable;
+import com.gs.collections.impl.lazy.parallel.map.KeyValueBatch;
+import com.gs.collections.impl.list.Interval;
 import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.tuple.Tuples;
 import com.gs.collections.impl.utility.Iterate;
 import com.gs.collections.impl.utility.MapIterate;
 import com.gs.collections.impl.utility.internal.IterableIterate;
@@ -1193,6 +1202,27 @@ public final class ConcurrentHashMap<K, V>
         return replacement;
     }
 
+    /**
+     * Returns parallel views of this map which split its bucket table directly. Like
+     * {@link #parallelForEachKeyValue(List, Executor)}, the views throw a {@link ConcurrentModificationException} if the
+     * map is resized while they are being evaluated.
+     *
+     * @since 6.1
+     */
+    @Beta
+    public ParallelMapIterable<K, V> asParallel(ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        return new ConcurrentHashMapParallelIterable(executorService, batchSize);
+    }
+
     public void parallelForEachKeyValue(List<Procedure2<K, V>> blocks, Executor executor)
     {
         final AtomicReferenceArray currentArray = this.table;
@@ -1237,7 +1267,7 @@ public final class ConcurrentHashMap<K, V>
         }
     }
 
-    private void sequentialForEachKeyValue(Procedure2<K, V> block, AtomicReferenceArray currentArray, int start, int end)
+    private void sequentialForEachKeyValue(Procedure2<? super K, ? super V> block, AtomicReferenceArray currentArray, int start, int end)
     {
         for (int i = start; i < end; i++)
         {
@@ -2193,4 +2223,87 @@ public final class ConcurrentHashMap<K, V>
     {
         return Maps.immutable.ofMap(this);
     }
+
+    private final class ConcurrentHashMapKeyValueBatch implements KeyValueBatch<K, V>
+    {
+        private final AtomicReferenceArray currentArray;
+        private final int chunkStartIndex;
+        private final int chunkEndIndex;
+
+        private ConcurrentHashMapKeyValueBatch(AtomicReferenceArray currentArray, int chunkStartIndex, int chunkEndIndex)
+        {
+            this.currentArray = currentArray;
+            this.chunkStartIndex = chunkStartIndex;
+            this.chunkEndIndex = chunkEndIndex;
+        }
+
+        public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+        {
+            ConcurrentHashMap.this.sequentialForEachKeyValue(procedure, this.currentArray, this.chunkStartIndex, this.chunkEndIndex);
+        }
+
+        public Pair<K, V> detect(Predicate2<? super K, ? super V> predicate)
+        {
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i++)
+            {
+                Object o = this.currentArray.get(i);
+                if (o == RESIZED || o == RESIZING)
+                {
+                    throw new ConcurrentModificationException("can't iterate while resizing!");
+                }
+                Entry<K, V> e = (Entry<K, V>) o;
+                while (e != null)
+                {
+                    K key = e.getKey();
+                    V value = e.getValue();
+                    if (predicate.accept(key, value))
+                    {
+                        return Tuples.pair(key, value);
+                    }
+                    e = e.getNext();
+                }
+            }
+            return null;
+        }
+    }
+
+    private final class ConcurrentHashMapParallelIterable extends AbstractParallelMapIterable<K, V>
+    {
+        private final ExecutorService executorService;
+        private final int batchSize;
+
+        private ConcurrentHashMapParallelIterable(ExecutorService executorService, int batchSize)
+        {
+            this.executorService = executorService;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return this.executorService;
+        }
+
+        @Override
+        public int getBatchSize()
+        {
+            return this.batchSize;
+        }
+
+        @Override
+        public LazyIterable<KeyValueBatch<K, V>> split()
+        {
+            final AtomicReferenceArray currentArray = ConcurrentHashMap.this.table;
+            // The last slot of the table is reserved for the resize container
+            final int length = currentArray.length() - 1;
+            final int chunkSize = this.batchSize;
+            return Interval.zeroToBy(length - 1, chunkSize).collect(new Function<Integer, KeyValueBatch<K, V>>()
+            {
+                public KeyValueBatch<K, V> valueOf(Integer chunkStartIndex)
+                {
+                    return new ConcurrentHashMapKeyValueBatch(currentArray, chunkStartIndex, Math.min(chunkStartIndex + chunkSize, length));
+                }
+            });
+        }
+    }
 }
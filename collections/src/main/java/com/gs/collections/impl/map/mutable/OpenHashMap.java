@@ -0,0 +1,831 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.impl.block.procedure.MapCollectProcedure;
+import com.gs.collections.impl.utility.Iterate;
+
+/**
+ * OpenHashMap is an open-addressing alternative to {@link UnifiedMap}. Keys and values are stored interleaved in a
+ * single array and collisions are resolved by linear probing, so a lookup walks adjacent memory instead of following
+ * chained buckets. A parallel array caches the spread hash code of every key, which lets a probe reject a mismatching
+ * slot without calling {@link Object#equals(Object)}. Removal shifts the following entries of the probe sequence back
+ * into the freed slot, so the table never holds tombstones.
+ * <p>
+ * Null keys and null values are supported. The table grows by doubling when it is more than three quarters full.
+ *
+ * @since 6.1
+ */
+@Beta
+public class OpenHashMap<K, V>
+        extends AbstractMutableMap<K, V>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final Object NULL_KEY = new Object()
+    {
+        @Override
+        public String toString()
+        {
+            return "OpenHashMap.NULL_KEY";
+        }
+    };
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 8;
+    private static final int MAXIMUM_CAPACITY = 1 << 29;
+
+    private Object[] table;
+    private int[] hashes;
+    private int occupied;
+    private int maxOccupied;
+
+    public OpenHashMap()
+    {
+        this.allocate(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public OpenHashMap(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        this.allocate(OpenHashMap.capacityFor(initialCapacity));
+    }
+
+    public OpenHashMap(Map<? extends K, ? extends V> map)
+    {
+        this(map.size());
+        this.putAll(map);
+    }
+
+    public static <K, V> OpenHashMap<K, V> newMap()
+    {
+        return new OpenHashMap<K, V>();
+    }
+
+    public static <K, V> OpenHashMap<K, V> newMap(int size)
+    {
+        return new OpenHashMap<K, V>(size);
+    }
+
+    public static <K, V> OpenHashMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        return new OpenHashMap<K, V>(map);
+    }
+
+    public static <K, V> OpenHashMap<K, V> newWithKeysValues(K key, V value)
+    {
+        return new OpenHashMap<K, V>(1).withKeysValues(key, value);
+    }
+
+    public static <K, V> OpenHashMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return new OpenHashMap<K, V>(2).withKeysValues(key1, value1, key2, value2);
+    }
+
+    public static <K, V> OpenHashMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return new OpenHashMap<K, V>(3).withKeysValues(key1, value1, key2, value2, key3, value3);
+    }
+
+    public OpenHashMap<K, V> withKeysValues(K key, V value)
+    {
+        this.put(key, value);
+        return this;
+    }
+
+    public OpenHashMap<K, V> withKeysValues(K key1, V value1, K key2, V value2)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        return this;
+    }
+
+    public OpenHashMap<K, V> withKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        this.put(key3, value3);
+        return this;
+    }
+
+    private static int capacityFor(int size)
+    {
+        int capacity = 4;
+        while (capacity - (capacity >> 2) < size && capacity < MAXIMUM_CAPACITY)
+        {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private void allocate(int capacity)
+    {
+        this.table = new Object[capacity << 1];
+        this.hashes = new int[capacity];
+        this.maxOccupied = capacity - (capacity >> 2);
+    }
+
+    private static int spread(Object key)
+    {
+        int h = key == NULL_KEY ? 0 : key.hashCode();
+        h ^= h >>> 15;
+        h *= 1854960195;
+        h ^= h >>> 13;
+        h *= -75769267;
+        h ^= h >>> 11;
+        return h;
+    }
+
+    private static Object toSentinelIfNull(Object key)
+    {
+        return key == null ? NULL_KEY : key;
+    }
+
+    private static <K> K nonSentinel(Object key)
+    {
+        return key == NULL_KEY ? null : (K) key;
+    }
+
+    private static boolean keyEquals(Object tableKey, Object key)
+    {
+        return tableKey == key || tableKey != NULL_KEY && key != NULL_KEY && tableKey.equals(key);
+    }
+
+    private int indexOf(Object key)
+    {
+        Object sentinelKey = OpenHashMap.toSentinelIfNull(key);
+        int hash = OpenHashMap.spread(sentinelKey);
+        int mask = this.hashes.length - 1;
+        int slot = hash & mask;
+        while (true)
+        {
+            Object cur = this.table[slot << 1];
+            if (cur == null)
+            {
+                return -1;
+            }
+            if (this.hashes[slot] == hash && OpenHashMap.keyEquals(cur, sentinelKey))
+            {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void rehash(int newCapacity)
+    {
+        Object[] oldTable = this.table;
+        int[] oldHashes = this.hashes;
+        this.allocate(newCapacity);
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldHashes.length; i++)
+        {
+            Object cur = oldTable[i << 1];
+            if (cur != null)
+            {
+                int hash = oldHashes[i];
+                int slot = hash & mask;
+                while (this.table[slot << 1] != null)
+                {
+                    slot = (slot + 1) & mask;
+                }
+                this.table[slot << 1] = cur;
+                this.table[(slot << 1) + 1] = oldTable[(i << 1) + 1];
+                this.hashes[slot] = hash;
+            }
+        }
+    }
+
+    private void removeSlot(int slot)
+    {
+        int mask = this.hashes.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (this.table[next << 1] != null)
+        {
+            int home = this.hashes[next] & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask))
+            {
+                this.table[hole << 1] = this.table[next << 1];
+                this.table[(hole << 1) + 1] = this.table[(next << 1) + 1];
+                this.hashes[hole] = this.hashes[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        this.table[hole << 1] = null;
+        this.table[(hole << 1) + 1] = null;
+        this.hashes[hole] = 0;
+        this.occupied--;
+    }
+
+    /**
+     * Returns the length of the longest probe sequence needed to find any key in the map, where a key found in its
+     * home slot has a probe length of one.
+     */
+    public int getMaxProbeLength()
+    {
+        int mask = this.hashes.length - 1;
+        int max = 0;
+        for (int i = 0; i < this.hashes.length; i++)
+        {
+            if (this.table[i << 1] != null)
+            {
+                max = Math.max(max, ((i - (this.hashes[i] & mask)) & mask) + 1);
+            }
+        }
+        return max;
+    }
+
+    @Override
+    public OpenHashMap<K, V> clone()
+    {
+        OpenHashMap<K, V> result = new OpenHashMap<K, V>(0);
+        result.table = this.table.clone();
+        result.hashes = this.hashes.clone();
+        result.occupied = this.occupied;
+        result.maxOccupied = this.maxOccupied;
+        return result;
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newEmpty(int capacity)
+    {
+        return OpenHashMap.newMap(capacity);
+    }
+
+    public MutableMap<K, V> newEmpty()
+    {
+        return OpenHashMap.newMap();
+    }
+
+    public int size()
+    {
+        return this.occupied;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.occupied == 0;
+    }
+
+    public V get(Object key)
+    {
+        int slot = this.indexOf(key);
+        return slot == -1 ? null : (V) this.table[(slot << 1) + 1];
+    }
+
+    public boolean containsKey(Object key)
+    {
+        return this.indexOf(key) != -1;
+    }
+
+    public boolean containsValue(Object value)
+    {
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            if (this.table[i] != null)
+            {
+                Object cur = this.table[i + 1];
+                if (cur == value || cur != null && cur.equals(value))
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public V put(K key, V value)
+    {
+        Object sentinelKey = OpenHashMap.toSentinelIfNull(key);
+        int hash = OpenHashMap.spread(sentinelKey);
+        int mask = this.hashes.length - 1;
+        int slot = hash & mask;
+        while (true)
+        {
+            int index = slot << 1;
+            Object cur = this.table[index];
+            if (cur == null)
+            {
+                this.table[index] = sentinelKey;
+                this.table[index + 1] = value;
+                this.hashes[slot] = hash;
+                if (++this.occupied > this.maxOccupied)
+                {
+                    this.rehash(this.hashes.length << 1);
+                }
+                return null;
+            }
+            if (this.hashes[slot] == hash && OpenHashMap.keyEquals(cur, sentinelKey))
+            {
+                V oldValue = (V) this.table[index + 1];
+                this.table[index + 1] = value;
+                return oldValue;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        int required = OpenHashMap.capacityFor(this.occupied + map.size());
+        if (required > this.hashes.length)
+        {
+            this.rehash(required);
+        }
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+        {
+            this.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    public V remove(Object key)
+    {
+        int slot = this.indexOf(key);
+        if (slot == -1)
+        {
+            return null;
+        }
+        V oldValue = (V) this.table[(slot << 1) + 1];
+        this.removeSlot(slot);
+        return oldValue;
+    }
+
+    public V removeKey(K key)
+    {
+        return this.remove(key);
+    }
+
+    public void clear()
+    {
+        if (this.occupied == 0)
+        {
+            return;
+        }
+        Arrays.fill(this.table, null);
+        Arrays.fill(this.hashes, 0);
+        this.occupied = 0;
+    }
+
+    public <E> MutableMap<K, V> collectKeysAndValues(
+            Iterable<E> iterable,
+            Function<? super E, ? extends K> keyFunction,
+            Function<? super E, ? extends V> valueFunction)
+    {
+        Iterate.forEach(iterable, new MapCollectProcedure<E, K, V>(this, keyFunction, valueFunction));
+        return this;
+    }
+
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            Object cur = this.table[i];
+            if (cur != null)
+            {
+                procedure.value(OpenHashMap.<K>nonSentinel(cur), (V) this.table[i + 1]);
+            }
+        }
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            Object cur = this.table[i];
+            if (cur != null)
+            {
+                procedure.value(OpenHashMap.<K>nonSentinel(cur));
+            }
+        }
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            if (this.table[i] != null)
+            {
+                procedure.value((V) this.table[i + 1]);
+            }
+        }
+    }
+
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    public Collection<V> values()
+    {
+        return new ValuesCollection();
+    }
+
+    public Set<Map.Entry<K, V>> entrySet()
+    {
+        return new EntrySet();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+
+        Map<?, ?> other = (Map<?, ?>) object;
+        if (this.size() != other.size())
+        {
+            return false;
+        }
+
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            Object cur = this.table[i];
+            if (cur != null)
+            {
+                K key = OpenHashMap.nonSentinel(cur);
+                Object value = this.table[i + 1];
+                Object otherValue = other.get(key);
+                if (value == null ? otherValue != null || !other.containsKey(key) : !value.equals(otherValue))
+                {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            Object cur = this.table[i];
+            if (cur != null)
+            {
+                Object value = this.table[i + 1];
+                hashCode += (cur == NULL_KEY ? 0 : cur.hashCode()) ^ (value == null ? 0 : value.hashCode());
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder();
+        builder.append('{');
+        boolean first = true;
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            Object cur = this.table[i];
+            if (cur != null)
+            {
+                if (!first)
+                {
+                    builder.append(", ");
+                }
+                first = false;
+                Object key = OpenHashMap.nonSentinel(cur);
+                Object value = this.table[i + 1];
+                builder.append(key == this ? "(this Map)" : key);
+                builder.append('=');
+                builder.append(value == this ? "(this Map)" : value);
+            }
+        }
+        builder.append('}');
+        return builder.toString();
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.occupied);
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            Object cur = this.table[i];
+            if (cur != null)
+            {
+                out.writeObject(OpenHashMap.nonSentinel(cur));
+                out.writeObject(this.table[i + 1]);
+            }
+        }
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.allocate(OpenHashMap.capacityFor(size));
+        this.occupied = 0;
+        for (int i = 0; i < size; i++)
+        {
+            this.put((K) in.readObject(), (V) in.readObject());
+        }
+    }
+
+    /**
+     * Walks the table starting just after an empty slot. No probe sequence wraps past that slot, so the entries that
+     * {@link #removeSlot(int)} shifts back are always ones the iterator has not reached yet.
+     */
+    private abstract class SlotIterator<E> implements Iterator<E>
+    {
+        private final int start;
+        private int position;
+        private int remaining = OpenHashMap.this.occupied;
+        private int current = -1;
+
+        protected SlotIterator()
+        {
+            int capacity = OpenHashMap.this.hashes.length;
+            int empty = 0;
+            while (empty < capacity && OpenHashMap.this.table[empty << 1] != null)
+            {
+                empty++;
+            }
+            this.start = empty + 1;
+        }
+
+        protected abstract E element(int slot);
+
+        public boolean hasNext()
+        {
+            return this.remaining > 0;
+        }
+
+        public E next()
+        {
+            if (this.remaining == 0)
+            {
+                throw new NoSuchElementException();
+            }
+            int mask = OpenHashMap.this.hashes.length - 1;
+            while (true)
+            {
+                int slot = (this.start + this.position) & mask;
+                this.position++;
+                if (OpenHashMap.this.table[slot << 1] != null)
+                {
+                    this.current = slot;
+                    this.remaining--;
+                    return this.element(slot);
+                }
+            }
+        }
+
+        public void remove()
+        {
+            if (this.current == -1)
+            {
+                throw new IllegalStateException();
+            }
+            OpenHashMap.this.removeSlot(this.current);
+            this.current = -1;
+            this.position--;
+        }
+    }
+
+    private final class KeyIterator extends SlotIterator<K>
+    {
+        @Override
+        protected K element(int slot)
+        {
+            return OpenHashMap.nonSentinel(OpenHashMap.this.table[slot << 1]);
+        }
+    }
+
+    private final class ValueIterator extends SlotIterator<V>
+    {
+        @Override
+        protected V element(int slot)
+        {
+            return (V) OpenHashMap.this.table[(slot << 1) + 1];
+        }
+    }
+
+    private final class EntryIterator extends SlotIterator<Map.Entry<K, V>>
+    {
+        @Override
+        protected Map.Entry<K, V> element(int slot)
+        {
+            return new Entry(
+                    OpenHashMap.<K>nonSentinel(OpenHashMap.this.table[slot << 1]),
+                    (V) OpenHashMap.this.table[(slot << 1) + 1]);
+        }
+    }
+
+    private final class Entry implements Map.Entry<K, V>
+    {
+        private final K key;
+        private V value;
+
+        private Entry(K key, V value)
+        {
+            this.key = key;
+            this.value = value;
+        }
+
+        public K getKey()
+        {
+            return this.key;
+        }
+
+        public V getValue()
+        {
+            return this.value;
+        }
+
+        public V setValue(V value)
+        {
+            this.value = value;
+            return OpenHashMap.this.put(this.key, value);
+        }
+
+        @Override
+        public boolean equals(Object object)
+        {
+            if (!(object instanceof Map.Entry))
+            {
+                return false;
+            }
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) object;
+            Object otherKey = other.getKey();
+            Object otherValue = other.getValue();
+            return (this.key == null ? otherKey == null : this.key.equals(otherKey))
+                    && (this.value == null ? otherValue == null : this.value.equals(otherValue));
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return (this.key == null ? 0 : this.key.hashCode()) ^ (this.value == null ? 0 : this.value.hashCode());
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.key + "=" + this.value;
+        }
+    }
+
+    private final class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new KeyIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return OpenHashMap.this.occupied;
+        }
+
+        @Override
+        public boolean contains(Object object)
+        {
+            return OpenHashMap.this.containsKey(object);
+        }
+
+        @Override
+        public boolean remove(Object object)
+        {
+            int slot = OpenHashMap.this.indexOf(object);
+            if (slot == -1)
+            {
+                return false;
+            }
+            OpenHashMap.this.removeSlot(slot);
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            OpenHashMap.this.clear();
+        }
+    }
+
+    private final class ValuesCollection extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ValueIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return OpenHashMap.this.occupied;
+        }
+
+        @Override
+        public boolean contains(Object object)
+        {
+            return OpenHashMap.this.containsValue(object);
+        }
+
+        @Override
+        public void clear()
+        {
+            OpenHashMap.this.clear();
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>>
+    {
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator()
+        {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return OpenHashMap.this.occupied;
+        }
+
+        @Override
+        public boolean contains(Object object)
+        {
+            if (!(object instanceof Map.Entry))
+            {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) object;
+            int slot = OpenHashMap.this.indexOf(entry.getKey());
+            if (slot == -1)
+            {
+                return false;
+            }
+            Object value = OpenHashMap.this.table[(slot << 1) + 1];
+            Object otherValue = entry.getValue();
+            return value == null ? otherValue == null : value.equals(otherValue);
+        }
+
+        @Override
+        public boolean remove(Object object)
+        {
+            if (!this.contains(object))
+            {
+                return false;
+            }
+            OpenHashMap.this.removeSlot(OpenHashMap.this.indexOf(((Map.Entry<?, ?>) object).getKey()));
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            OpenHashMap.this.clear();
+        }
+    }
+}
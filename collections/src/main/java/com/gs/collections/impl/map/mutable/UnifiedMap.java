@@ -29,16 +29,21 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import com.gs.collections.api.map.ImmutableMap;
 import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.map.ParallelMapIterable;
 import com.gs.collections.api.map.UnsortedMapIterable;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.block.factory.Functions;
@@ -46,10 +51,14 @@ import com.gs.collections.impl.block.factory.Predicates;
 import com.gs.collections.impl.block.procedure.MapCollectProcedure;
 import com.gs.collections.impl.factory.Maps;
 import com.gs.collections.impl.factory.Sets;
+import com.gs.collections.impl.lazy.parallel.map.AbstractParallelMapIterable;
+import com.gs.collections.impl.lazy.parallel.map.KeyValueBatch;
+import com.gs.collections.impl.list.Interval;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.parallel.BatchIterable;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
 import com.gs.collections.impl.tuple.ImmutableEntry;
+import com.gs.collections.impl.tuple.Tuples;
 import com.gs.collections.impl.utility.ArrayIterate;
 import com.gs.collections.impl.utility.Iterate;
 import net.jcip.annotations.NotThreadSafe;
@@ -1044,6 +1053,20 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
         }
     }
 
+    @Beta
+    public ParallelMapIterable<K, V> asParallel(ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        return new UnifiedMapParallelIterable(executorService, batchSize);
+    }
+
     @Override
     public void forEachKey(Procedure<? super K> procedure)
     {
@@ -2693,4 +2716,104 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
     {
         return Maps.immutable.withAll(this);
     }
+
+    private final class UnifiedMapKeyValueBatch implements KeyValueBatch<K, V>
+    {
+        private final Object[] table;
+        private final int chunkStartIndex;
+        private final int chunkEndIndex;
+
+        private UnifiedMapKeyValueBatch(Object[] table, int chunkStartIndex, int chunkEndIndex)
+        {
+            this.table = table;
+            this.chunkStartIndex = chunkStartIndex;
+            this.chunkEndIndex = chunkEndIndex;
+        }
+
+        public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+        {
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i += 2)
+            {
+                Object cur = this.table[i];
+                if (cur == CHAINED_KEY)
+                {
+                    UnifiedMap.this.chainedForEachEntry((Object[]) this.table[i + 1], procedure);
+                }
+                else if (cur != null)
+                {
+                    procedure.value(UnifiedMap.this.nonSentinel(cur), (V) this.table[i + 1]);
+                }
+            }
+        }
+
+        public Pair<K, V> detect(Predicate2<? super K, ? super V> predicate)
+        {
+            for (int i = this.chunkStartIndex; i < this.chunkEndIndex; i += 2)
+            {
+                Object cur = this.table[i];
+                if (cur == CHAINED_KEY)
+                {
+                    Object[] chain = (Object[]) this.table[i + 1];
+                    for (int j = 0; j < chain.length && chain[j] != null; j += 2)
+                    {
+                        K key = UnifiedMap.this.nonSentinel(chain[j]);
+                        V value = (V) chain[j + 1];
+                        if (predicate.accept(key, value))
+                        {
+                            return Tuples.pair(key, value);
+                        }
+                    }
+                }
+                else if (cur != null)
+                {
+                    K key = UnifiedMap.this.nonSentinel(cur);
+                    V value = (V) this.table[i + 1];
+                    if (predicate.accept(key, value))
+                    {
+                        return Tuples.pair(key, value);
+                    }
+                }
+            }
+            return null;
+        }
+    }
+
+    private final class UnifiedMapParallelIterable extends AbstractParallelMapIterable<K, V>
+    {
+        private final ExecutorService executorService;
+        private final int batchSize;
+
+        private UnifiedMapParallelIterable(ExecutorService executorService, int batchSize)
+        {
+            this.executorService = executorService;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return this.executorService;
+        }
+
+        @Override
+        public int getBatchSize()
+        {
+            return this.batchSize;
+        }
+
+        @Override
+        public LazyIterable<KeyValueBatch<K, V>> split()
+        {
+            final Object[] table = UnifiedMap.this.table;
+            // Each bucket takes two slots of the table, a key and a value
+            final int chunkSize = this.batchSize << 1;
+            return Interval.zeroToBy(table.length - 1, chunkSize).collect(new Function<Integer, KeyValueBatch<K, V>>()
+            {
+                public KeyValueBatch<K, V> valueOf(Integer chunkStartIndex)
+                {
+                    return new UnifiedMapKeyValueBatch(table, chunkStartIndex, Math.min(chunkStartIndex + chunkSize, table.length));
+                }
+            });
+        }
+    }
 }
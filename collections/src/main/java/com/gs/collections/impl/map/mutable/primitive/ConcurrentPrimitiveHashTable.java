@@ -0,0 +1,688 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.mutable.primitive;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import com.gs.collections.impl.list.mutable.FastList;
+
+/**
+ * The lock-free bucket table behind the generated concurrent primitive maps with long or double values, such as
+ * {@code ConcurrentIntLongHashMap}. A 64-bit value cannot share an atomic long with the state of its slot, so these
+ * maps keep their entries in chains rather than in a {@link ConcurrentPrimitiveSlotTable}. The table management is the same as in
+ * {@link com.gs.collections.impl.map.mutable.ConcurrentHashMap}: every bucket holds an immutable chain of entries which
+ * is replaced with a compare-and-set, and a resize is shared by all writers through a {@code ResizeContainer} stored
+ * in the last slot of the old array. The maps own the entry classes, so keys and values are never boxed.
+ *
+ * @since 6.1
+ */
+@SuppressWarnings({ "rawtypes", "ObjectEquality" })
+final class ConcurrentPrimitiveHashTable
+{
+    static final Object RESIZED = new Object();
+    static final Object RESIZING = new Object();
+    static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    private static final Object RESIZE_SENTINEL = new Object();
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final AtomicReferenceFieldUpdater<ConcurrentPrimitiveHashTable, AtomicReferenceArray> TABLE_UPDATER = AtomicReferenceFieldUpdater.newUpdater(ConcurrentPrimitiveHashTable.class, AtomicReferenceArray.class, "table");
+    private static final AtomicIntegerFieldUpdater<ConcurrentPrimitiveHashTable> SIZE_UPDATER = AtomicIntegerFieldUpdater.newUpdater(ConcurrentPrimitiveHashTable.class, "size");
+    private static final int PARTITIONED_SIZE_THRESHOLD = 4096; // chosen to keep size below 1% of the total size of the map
+    private static final int SIZE_BUCKETS = 7;
+
+    /**
+     * The table, resized as necessary. Length MUST Always be a power of two plus one.
+     */
+    private volatile AtomicReferenceArray table;
+
+    private AtomicIntegerArray partitionedSize;
+
+    @SuppressWarnings("UnusedDeclaration")
+    private volatile int size; // updated via atomic field updater
+
+    ConcurrentPrimitiveHashTable(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("Illegal Initial Capacity: " + initialCapacity);
+        }
+        if (initialCapacity > MAXIMUM_CAPACITY)
+        {
+            initialCapacity = MAXIMUM_CAPACITY;
+        }
+
+        int threshold = initialCapacity;
+        threshold += threshold >> 1; // threshold = length * 0.75
+
+        int capacity = 1;
+        while (capacity < threshold)
+        {
+            capacity <<= 1;
+        }
+        if (capacity >= PARTITIONED_SIZE_THRESHOLD)
+        {
+            this.partitionedSize = new AtomicIntegerArray(SIZE_BUCKETS * 16); // we want 7 extra slots and 64 bytes for each slot. int is 4 bytes, so 64 bytes is 16 ints.
+        }
+        this.table = new AtomicReferenceArray(capacity + 1);
+    }
+
+    static int spread(int h)
+    {
+        h ^= h >>> 20 ^ h >>> 12;
+        h ^= h >>> 7 ^ h >>> 4;
+        return h;
+    }
+
+    static int indexFor(int h, int length)
+    {
+        return h & length - 2;
+    }
+
+    static boolean isResizing(Object bucket)
+    {
+        return bucket == RESIZED || bucket == RESIZING;
+    }
+
+    AtomicReferenceArray currentArray()
+    {
+        return this.table;
+    }
+
+    void incrementSizeAndPossiblyResize(AtomicReferenceArray currentArray, int length, Object prev)
+    {
+        this.addToSize(1);
+        if (prev != null)
+        {
+            int localSize = this.size();
+            int threshold = (length >> 1) + (length >> 2); // threshold = length * 0.75
+            if (localSize + 1 > threshold)
+            {
+                this.resize(currentArray);
+            }
+        }
+    }
+
+    AtomicReferenceArray helpWithResizeWhileCurrentIndex(AtomicReferenceArray currentArray, int index)
+    {
+        AtomicReferenceArray newArray = this.helpWithResize(currentArray);
+        int helpCount = 0;
+        while (currentArray.get(index) != RESIZED)
+        {
+            helpCount++;
+            newArray = this.helpWithResize(currentArray);
+            if ((helpCount & 7) == 0)
+            {
+                Thread.yield();
+            }
+        }
+        return newArray;
+    }
+
+    private AtomicReferenceArray helpWithResize(AtomicReferenceArray currentArray)
+    {
+        ResizeContainer resizeContainer = (ResizeContainer) currentArray.get(currentArray.length() - 1);
+        AtomicReferenceArray newTable = resizeContainer.nextArray;
+        if (resizeContainer.getQueuePosition() > ResizeContainer.QUEUE_INCREMENT)
+        {
+            resizeContainer.incrementResizer();
+            this.reverseTransfer(currentArray, resizeContainer);
+            resizeContainer.decrementResizerAndNotify();
+        }
+        return newTable;
+    }
+
+    private void resize(AtomicReferenceArray oldTable)
+    {
+        this.resize(oldTable, (oldTable.length() - 1 << 1) + 1);
+    }
+
+    // newSize must be a power of 2 + 1
+    @SuppressWarnings("JLM_JSR166_UTILCONCURRENT_MONITORENTER")
+    private void resize(AtomicReferenceArray oldTable, int newSize)
+    {
+        int oldCapacity = oldTable.length();
+        int end = oldCapacity - 1;
+        Object last = oldTable.get(end);
+        if (this.size() < end && last == RESIZE_SENTINEL)
+        {
+            return;
+        }
+        if (oldCapacity >= MAXIMUM_CAPACITY)
+        {
+            throw new RuntimeException("index is too large!");
+        }
+        ResizeContainer resizeContainer = null;
+        boolean ownResize = false;
+        if (last == null || last == RESIZE_SENTINEL)
+        {
+            synchronized (oldTable) // allocating a new array is too expensive to make this an atomic operation
+            {
+                if (oldTable.get(end) == null)
+                {
+                    oldTable.set(end, RESIZE_SENTINEL);
+                    if (this.partitionedSize == null && newSize >= PARTITIONED_SIZE_THRESHOLD)
+                    {
+                        this.partitionedSize = new AtomicIntegerArray(SIZE_BUCKETS * 16);
+                    }
+                    resizeContainer = new ResizeContainer(new AtomicReferenceArray(newSize), oldTable.length() - 1);
+                    oldTable.set(end, resizeContainer);
+                    ownResize = true;
+                }
+            }
+        }
+        if (ownResize)
+        {
+            this.transfer(oldTable, resizeContainer);
+            AtomicReferenceArray src = this.table;
+            while (!TABLE_UPDATER.compareAndSet(this, oldTable, resizeContainer.nextArray))
+            {
+                // we're in a double resize situation; we'll have to go help until it's our turn to set the table
+                if (src != oldTable)
+                {
+                    this.helpWithResize(src);
+                }
+            }
+        }
+        else
+        {
+            this.helpWithResize(oldTable);
+        }
+    }
+
+    /*
+     * Transfer all entries from src to dest tables
+     */
+    private void transfer(AtomicReferenceArray src, ResizeContainer resizeContainer)
+    {
+        AtomicReferenceArray dest = resizeContainer.nextArray;
+
+        for (int j = 0; j < src.length() - 1; )
+        {
+            Object o = src.get(j);
+            if (o == null)
+            {
+                if (src.compareAndSet(j, null, RESIZED))
+                {
+                    j++;
+                }
+            }
+            else if (o == RESIZED || o == RESIZING)
+            {
+                j = (j & ~(ResizeContainer.QUEUE_INCREMENT - 1)) + ResizeContainer.QUEUE_INCREMENT;
+                if (resizeContainer.resizers.get() == 1)
+                {
+                    break;
+                }
+            }
+            else
+            {
+                HashEntry e = (HashEntry) o;
+                if (src.compareAndSet(j, o, RESIZING))
+                {
+                    while (e != null)
+                    {
+                        unconditionalCopy(dest, e);
+                        e = e.next;
+                    }
+                    src.set(j, RESIZED);
+                    j++;
+                }
+            }
+        }
+        resizeContainer.decrementResizerAndNotify();
+        resizeContainer.waitForAllResizers();
+    }
+
+    private void reverseTransfer(AtomicReferenceArray src, ResizeContainer resizeContainer)
+    {
+        AtomicReferenceArray dest = resizeContainer.nextArray;
+        while (resizeContainer.getQueuePosition() > 0)
+        {
+            int start = resizeContainer.subtractAndGetQueuePosition();
+            int end = start + ResizeContainer.QUEUE_INCREMENT;
+            if (end > 0)
+            {
+                if (start < 0)
+                {
+                    start = 0;
+                }
+                for (int j = end - 1; j >= start; )
+                {
+                    Object o = src.get(j);
+                    if (o == null)
+                    {
+                        if (src.compareAndSet(j, null, RESIZED))
+                        {
+                            j--;
+                        }
+                    }
+                    else if (o == RESIZED || o == RESIZING)
+                    {
+                        resizeContainer.zeroOutQueuePosition();
+                        return;
+                    }
+                    else
+                    {
+                        HashEntry e = (HashEntry) o;
+                        if (src.compareAndSet(j, o, RESIZING))
+                        {
+                            while (e != null)
+                            {
+                                unconditionalCopy(dest, e);
+                                e = e.next;
+                            }
+                            src.set(j, RESIZED);
+                            j--;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void unconditionalCopy(AtomicReferenceArray dest, HashEntry toCopyEntry)
+    {
+        int hash = toCopyEntry.hash();
+        AtomicReferenceArray currentArray = dest;
+        while (true)
+        {
+            int length = currentArray.length();
+            int index = indexFor(hash, length);
+            Object o = currentArray.get(index);
+            if (o == RESIZED || o == RESIZING)
+            {
+                currentArray = ((ResizeContainer) currentArray.get(length - 1)).nextArray;
+            }
+            else
+            {
+                HashEntry newEntry;
+                if (o == null)
+                {
+                    if (toCopyEntry.next == null)
+                    {
+                        newEntry = toCopyEntry; // no need to duplicate
+                    }
+                    else
+                    {
+                        newEntry = toCopyEntry.copy(null);
+                    }
+                }
+                else
+                {
+                    newEntry = toCopyEntry.copy((HashEntry) o);
+                }
+                if (currentArray.compareAndSet(index, o, newEntry))
+                {
+                    return;
+                }
+            }
+        }
+    }
+
+    static HashEntry createReplacementChainForRemoval(HashEntry original, HashEntry toRemove)
+    {
+        if (original == toRemove)
+        {
+            return original.next;
+        }
+        HashEntry replacement = null;
+        HashEntry e = original;
+        while (e != null)
+        {
+            if (e != toRemove)
+            {
+                replacement = e.copy(replacement);
+            }
+            e = e.next;
+        }
+        return replacement;
+    }
+
+    void addToSize(int value)
+    {
+        if (this.partitionedSize != null)
+        {
+            if (this.incrementPartitionedSize(value))
+            {
+                return;
+            }
+        }
+        this.incrementLocalSize(value);
+    }
+
+    private boolean incrementPartitionedSize(int value)
+    {
+        int h = (int) Thread.currentThread().getId();
+        h ^= (h >>> 18) ^ (h >>> 12);
+        h = (h ^ (h >>> 10)) & SIZE_BUCKETS;
+        if (h != 0)
+        {
+            h = (h - 1) << 4;
+            while (true)
+            {
+                int localSize = this.partitionedSize.get(h);
+                if (this.partitionedSize.compareAndSet(h, localSize, localSize + value))
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void incrementLocalSize(int value)
+    {
+        while (true)
+        {
+            int localSize = this.size;
+            if (SIZE_UPDATER.compareAndSet(this, localSize, localSize + value))
+            {
+                break;
+            }
+        }
+    }
+
+    int size()
+    {
+        int localSize = this.size;
+        if (this.partitionedSize != null)
+        {
+            for (int i = 0; i < SIZE_BUCKETS; i++)
+            {
+                localSize += this.partitionedSize.get(i << 4);
+            }
+        }
+        return localSize;
+    }
+
+    void clear()
+    {
+        AtomicReferenceArray currentArray = this.table;
+        ResizeContainer resizeContainer;
+        do
+        {
+            resizeContainer = null;
+            for (int i = 0; i < currentArray.length() - 1; i++)
+            {
+                Object o = currentArray.get(i);
+                if (o == RESIZED || o == RESIZING)
+                {
+                    resizeContainer = (ResizeContainer) currentArray.get(currentArray.length() - 1);
+                }
+                else if (o != null)
+                {
+                    HashEntry e = (HashEntry) o;
+                    if (currentArray.compareAndSet(i, o, null))
+                    {
+                        int removedEntries = 0;
+                        while (e != null)
+                        {
+                            removedEntries++;
+                            e = e.next;
+                        }
+                        this.addToSize(-removedEntries);
+                    }
+                }
+            }
+            if (resizeContainer != null)
+            {
+                if (resizeContainer.isNotDone())
+                {
+                    this.helpWithResize(currentArray);
+                    resizeContainer.waitForAllResizers();
+                }
+                currentArray = resizeContainer.nextArray;
+            }
+        }
+        while (resizeContainer != null);
+    }
+
+    EntryIterator entryIterator()
+    {
+        return new EntryIterator();
+    }
+
+    /**
+     * An immutable link in a bucket chain. Subclasses hold the primitive key and the value.
+     */
+    abstract static class HashEntry
+    {
+        final HashEntry next;
+
+        HashEntry(HashEntry next)
+        {
+            this.next = next;
+        }
+
+        /**
+         * Returns the spread hash of the key, which decides the bucket of this entry.
+         */
+        abstract int hash();
+
+        /**
+         * Returns an entry with the same key and value in front of the given chain.
+         */
+        abstract HashEntry copy(HashEntry next);
+    }
+
+    private static final class IteratorState
+    {
+        private AtomicReferenceArray currentTable;
+        private int start;
+        private int end;
+
+        private IteratorState(AtomicReferenceArray currentTable)
+        {
+            this.currentTable = currentTable;
+            this.end = this.currentTable.length() - 1;
+        }
+
+        private IteratorState(AtomicReferenceArray currentTable, int start, int end)
+        {
+            this.currentTable = currentTable;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    /**
+     * A weakly consistent iterator over the entries of the table which visits each entry at most once even if the
+     * table is resized during the iteration.
+     */
+    final class EntryIterator
+    {
+        private List<IteratorState> todo;
+        private IteratorState currentState;
+        private HashEntry next;
+        private int index;
+
+        private EntryIterator()
+        {
+            if (ConcurrentPrimitiveHashTable.this.size() != 0)
+            {
+                this.currentState = new IteratorState(ConcurrentPrimitiveHashTable.this.table);
+                this.findNext();
+            }
+        }
+
+        private void findNext()
+        {
+            while (this.index < this.currentState.end)
+            {
+                Object o = this.currentState.currentTable.get(this.index);
+                if (o == RESIZED || o == RESIZING)
+                {
+                    AtomicReferenceArray nextArray = ConcurrentPrimitiveHashTable.this.helpWithResizeWhileCurrentIndex(this.currentState.currentTable, this.index);
+                    int endResized = this.index + 1;
+                    while (endResized < this.currentState.end)
+                    {
+                        if (this.currentState.currentTable.get(endResized) != RESIZED)
+                        {
+                            break;
+                        }
+                        endResized++;
+                    }
+                    if (this.todo == null)
+                    {
+                        this.todo = new FastList<IteratorState>(4);
+                    }
+                    if (endResized < this.currentState.end)
+                    {
+                        this.todo.add(new IteratorState(this.currentState.currentTable, endResized, this.currentState.end));
+                    }
+                    int powerTwoLength = this.currentState.currentTable.length() - 1;
+                    this.todo.add(new IteratorState(nextArray, this.index + powerTwoLength, endResized + powerTwoLength));
+                    this.currentState.currentTable = nextArray;
+                    this.currentState.end = endResized;
+                    this.currentState.start = this.index;
+                }
+                else if (o != null)
+                {
+                    this.next = (HashEntry) o;
+                    this.index++;
+                    break;
+                }
+                else
+                {
+                    this.index++;
+                }
+            }
+            if (this.next == null && this.index == this.currentState.end && this.todo != null && !this.todo.isEmpty())
+            {
+                this.currentState = this.todo.remove(this.todo.size() - 1);
+                this.index = this.currentState.start;
+                this.findNext();
+            }
+        }
+
+        boolean hasNext()
+        {
+            return this.next != null;
+        }
+
+        HashEntry next()
+        {
+            HashEntry e = this.next;
+            if (e == null)
+            {
+                throw new NoSuchElementException();
+            }
+
+            if ((this.next = e.next) == null)
+            {
+                this.findNext();
+            }
+            return e;
+        }
+    }
+
+    private static final class ResizeContainer
+    {
+        private static final int QUEUE_INCREMENT = Math.min(1 << 10, Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) << 4);
+        private final AtomicInteger resizers = new AtomicInteger(1);
+        private final AtomicReferenceArray nextArray;
+        private final AtomicInteger queuePosition;
+
+        private ResizeContainer(AtomicReferenceArray nextArray, int oldSize)
+        {
+            this.nextArray = nextArray;
+            this.queuePosition = new AtomicInteger(oldSize);
+        }
+
+        public void incrementResizer()
+        {
+            this.resizers.incrementAndGet();
+        }
+
+        public void decrementResizerAndNotify()
+        {
+            int remaining = this.resizers.decrementAndGet();
+            if (remaining == 0)
+            {
+                synchronized (this)
+                {
+                    this.notifyAll();
+                }
+            }
+        }
+
+        public int getQueuePosition()
+        {
+            return this.queuePosition.get();
+        }
+
+        public int subtractAndGetQueuePosition()
+        {
+            return this.queuePosition.addAndGet(-QUEUE_INCREMENT);
+        }
+
+        public void waitForAllResizers()
+        {
+            if (this.resizers.get() > 0)
+            {
+                for (int i = 0; i < 16; i++)
+                {
+                    if (this.resizers.get() == 0)
+                    {
+                        break;
+                    }
+                }
+                for (int i = 0; i < 16; i++)
+                {
+                    if (this.resizers.get() == 0)
+                    {
+                        break;
+                    }
+                    Thread.yield();
+                }
+            }
+            if (this.resizers.get() > 0)
+            {
+                synchronized (this)
+                {
+                    while (this.resizers.get() > 0)
+                    {
+                        try
+                        {
+                            this.wait();
+                        }
+                        catch (InterruptedException e)
+                        {
+                            // ignore
+                        }
+                    }
+                }
+            }
+        }
+
+        public boolean isNotDone()
+        {
+            return this.resizers.get() > 0;
+        }
+
+        public void zeroOutQueuePosition()
+        {
+            this.queuePosition.set(0);
+        }
+    }
+}
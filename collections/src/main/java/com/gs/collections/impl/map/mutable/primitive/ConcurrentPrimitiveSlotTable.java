@@ -0,0 +1,184 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.mutable.primitive;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The part of the open-addressed tables behind the generated concurrent primitive maps, such as
+ * {@code ConcurrentIntIntHashMap} and {@code ConcurrentLongObjectHashMap}, that does not depend on the key or value
+ * type. The generated tables keep the key bits in an {@link java.util.concurrent.atomic.AtomicIntegerArray} or
+ * {@link java.util.concurrent.atomic.AtomicLongArray}, where zero marks a free slot, and reserve one extra slot at
+ * index {@link #capacity} for the key whose bits are zero. A key claims a free slot with a compare-and-set and keeps it
+ * until the table is replaced, so a removed key leaves a claimed slot behind.
+ * <p>
+ * Claims are counted before they are made, and a writer that cannot reserve a claim replaces the table. The move to
+ * the next table is shared by the writers the same way {@link com.gs.collections.impl.map.mutable.ConcurrentHashMap}
+ * shares a resize: each one takes a stretch of slots, moves their entries, and marks each slot moved so that later
+ * writes go to the next table.
+ *
+ * @since 6.1
+ */
+abstract class ConcurrentPrimitiveSlotTable<T extends ConcurrentPrimitiveSlotTable<T>>
+{
+    static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final int TRANSFER_STRIDE = 64;
+
+    /**
+     * The number of slots that hold keys with non-zero bits. Always a power of two.
+     */
+    final int capacity;
+    final int mask;
+
+    private final int maximumClaims;
+    private final AtomicInteger claims = new AtomicInteger();
+    private final AtomicInteger transferIndex = new AtomicInteger();
+    private final AtomicInteger transferred = new AtomicInteger();
+    private volatile T next;
+
+    ConcurrentPrimitiveSlotTable(int capacity)
+    {
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.maximumClaims = capacity - (capacity >> 2);
+    }
+
+    /**
+     * Returns a capacity that holds the specified number of keys without a resize.
+     */
+    static int capacityFor(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("Illegal Initial Capacity: " + initialCapacity);
+        }
+        int capacity = 4; // leaves at least one free slot, which ends every probe
+        while (capacity - (capacity >> 2) < initialCapacity && capacity < MAXIMUM_CAPACITY)
+        {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    static int spread(int bits)
+    {
+        int h = bits * 0x9E3779B9;
+        return h ^ h >>> 16;
+    }
+
+    static int spread(long bits)
+    {
+        return spread((int) (bits ^ bits >>> 32));
+    }
+
+    /**
+     * Reserves a free slot for a new key, or returns false if the table is too full and must be replaced. A writer
+     * whose compare-and-set then loses the slot to another key gives the reservation back with {@link #releaseSlot()}.
+     */
+    boolean reserveSlot()
+    {
+        while (true)
+        {
+            int current = this.claims.get();
+            if (current >= this.maximumClaims)
+            {
+                return false;
+            }
+            if (this.claims.compareAndSet(current, current + 1))
+            {
+                return true;
+            }
+        }
+    }
+
+    void releaseSlot()
+    {
+        this.claims.decrementAndGet();
+    }
+
+    /**
+     * Returns the table the entries are moving to, or null if no move has started.
+     */
+    T next()
+    {
+        return this.next;
+    }
+
+    /**
+     * Creates an empty table with the specified capacity.
+     */
+    abstract T newTable(int capacity);
+
+    /**
+     * Copies the entry in the slot at the specified index, if there is one, to the next table and marks the slot
+     * moved. Only one thread transfers a given slot.
+     */
+    abstract void transferSlot(int index);
+
+    /**
+     * Moves every entry to a new table, sharing the work with any other thread doing the same, and returns the new
+     * table once all slots have been moved. The new table doubles the capacity unless most claimed slots belong to
+     * removed keys, in which case it keeps the capacity and only drops them.
+     */
+    T transfer(int liveEntries)
+    {
+        T result = this.next;
+        if (result == null)
+        {
+            synchronized (this) // allocating a new table is too expensive to race for
+            {
+                result = this.next;
+                if (result == null)
+                {
+                    int newCapacity = this.capacity;
+                    if (liveEntries > newCapacity >> 2)
+                    {
+                        if (newCapacity >= MAXIMUM_CAPACITY)
+                        {
+                            throw new IllegalStateException("Table is too large");
+                        }
+                        newCapacity <<= 1;
+                    }
+                    result = this.newTable(newCapacity);
+                    this.next = result;
+                }
+            }
+        }
+        int slots = this.capacity + 1;
+        int start;
+        while (this.transferIndex.get() < slots && (start = this.transferIndex.getAndAdd(TRANSFER_STRIDE)) < slots)
+        {
+            int end = Math.min(start + TRANSFER_STRIDE, slots);
+            for (int i = start; i < end; i++)
+            {
+                this.transferSlot(i);
+            }
+            this.transferred.addAndGet(end - start);
+        }
+        int spins = 0;
+        while (this.transferred.get() < slots)
+        {
+            if ((++spins & 15) == 0)
+            {
+                Thread.yield();
+            }
+        }
+        return result;
+    }
+}
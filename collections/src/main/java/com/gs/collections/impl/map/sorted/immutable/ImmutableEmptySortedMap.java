@@ -22,6 +22,7 @@ import java.util.Comparator;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.SortedMap;
 
 import com.gs.collections.api.RichIterable;
 import com.gs.collections.api.block.function.Function;
@@ -99,6 +100,34 @@ final class ImmutableEmptySortedMap<K, V>
         return null;
     }
 
+    public K floorKey(K key)
+    {
+        return null;
+    }
+
+    public K ceilingKey(K key)
+    {
+        return null;
+    }
+
+    @Override
+    public SortedMap<K, V> subMap(K fromKey, K toKey)
+    {
+        return this;
+    }
+
+    @Override
+    public SortedMap<K, V> headMap(K toKey)
+    {
+        return this;
+    }
+
+    @Override
+    public SortedMap<K, V> tailMap(K fromKey)
+    {
+        return this;
+    }
+
     @Override
     public String toString()
     {
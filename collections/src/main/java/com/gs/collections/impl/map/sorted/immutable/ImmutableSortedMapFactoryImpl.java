@@ -153,4 +153,13 @@ public final class ImmutableSortedMapFactoryImpl implements ImmutableSortedMapFa
         }
         return ImmutableTreeMap.newMap(map);
     }
+
+    public <K, V> ImmutableSortedMap<K, V> withSortedMapSearchOptimized(SortedMap<K, V> map)
+    {
+        if (map.isEmpty())
+        {
+            return this.of(map.comparator());
+        }
+        return ImmutableTreeMap.newSearchOptimizedMap(map);
+    }
 }
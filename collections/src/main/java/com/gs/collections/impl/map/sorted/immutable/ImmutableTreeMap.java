@@ -43,6 +43,7 @@ import com.gs.collections.impl.tuple.ImmutableEntry;
 import com.gs.collections.impl.utility.ArrayIterate;
 import com.gs.collections.impl.utility.Iterate;
 import com.gs.collections.impl.utility.MapIterate;
+import com.gs.collections.impl.utility.internal.EytzingerIndex;
 import net.jcip.annotations.Immutable;
 
 /**
@@ -57,6 +58,11 @@ public class ImmutableTreeMap<K, V>
     private final V[] values;
     private final Comparator<? super K> comparator;
 
+    /**
+     * A second copy of the keys in search order, or null to binary search {@link #keys}.
+     */
+    private final EytzingerIndex index;
+
     public ImmutableTreeMap(SortedMap<K, V> sortedMap)
     {
         if (sortedMap == null)
@@ -75,6 +81,15 @@ public class ImmutableTreeMap<K, V>
         }
         this.keys = keysCopy;
         this.values = valuesCopy;
+        this.index = null;
+    }
+
+    private ImmutableTreeMap(K[] keys, V[] values, Comparator<? super K> comparator, EytzingerIndex index)
+    {
+        this.keys = keys;
+        this.values = values;
+        this.comparator = comparator;
+        this.index = index;
     }
 
     public static <K, V> ImmutableSortedMap<K, V> newMap(SortedMap<K, V> sortedMap)
@@ -82,6 +97,25 @@ public class ImmutableTreeMap<K, V>
         return new ImmutableTreeMap<K, V>(sortedMap);
     }
 
+    /**
+     * Returns a map that also keeps its keys in Eytzinger order for faster lookups, or a plain map when the keys have
+     * no such layout. See {@link EytzingerIndex}.
+     *
+     * @since 6.1
+     */
+    public static <K, V> ImmutableSortedMap<K, V> newSearchOptimizedMap(SortedMap<K, V> sortedMap)
+    {
+        ImmutableTreeMap<K, V> map = sortedMap instanceof ImmutableTreeMap
+                ? (ImmutableTreeMap<K, V>) sortedMap
+                : new ImmutableTreeMap<K, V>(sortedMap);
+        if (map.index != null)
+        {
+            return map;
+        }
+        EytzingerIndex index = EytzingerIndex.newIndex(map.keys, map.comparator);
+        return index == null ? map : new ImmutableTreeMap<K, V>(map.keys, map.values, map.comparator, index);
+    }
+
     @Override
     public boolean equals(Object object)
     {
@@ -152,9 +186,38 @@ public class ImmutableTreeMap<K, V>
         return this.keys.length;
     }
 
+    private int indexOfKey(Object key)
+    {
+        if (this.index != null)
+        {
+            return this.index.indexOf(key);
+        }
+        return Arrays.binarySearch(this.keys, (K) key, this.comparator);
+    }
+
+    private int ceilingIndex(K key)
+    {
+        if (this.index != null)
+        {
+            return this.index.ceilingIndex(key);
+        }
+        int result = Arrays.binarySearch(this.keys, key, this.comparator);
+        return result >= 0 ? result : -result - 1;
+    }
+
+    private int higherIndex(K key)
+    {
+        if (this.index != null)
+        {
+            return this.index.higherIndex(key);
+        }
+        int result = Arrays.binarySearch(this.keys, key, this.comparator);
+        return result >= 0 ? result + 1 : -result - 1;
+    }
+
     public boolean containsKey(Object key)
     {
-        return Arrays.binarySearch(this.keys, (K) key, this.comparator) >= 0;
+        return this.indexOfKey(key) >= 0;
     }
 
     public boolean containsValue(Object value)
@@ -164,7 +227,7 @@ public class ImmutableTreeMap<K, V>
 
     public V get(Object key)
     {
-        int index = Arrays.binarySearch(this.keys, (K) key, this.comparator);
+        int index = this.indexOfKey(key);
         if (index >= 0)
         {
             return this.values[index];
@@ -172,6 +235,66 @@ public class ImmutableTreeMap<K, V>
         return null;
     }
 
+    public K floorKey(K key)
+    {
+        int index = this.higherIndex(key);
+        return index == 0 ? null : this.keys[index - 1];
+    }
+
+    public K ceilingKey(K key)
+    {
+        int index = this.ceilingIndex(key);
+        return index == this.keys.length ? null : this.keys[index];
+    }
+
+    @Override
+    public SortedMap<K, V> subMap(K fromKey, K toKey)
+    {
+        if (this.compare(fromKey, toKey) > 0)
+        {
+            throw new IllegalArgumentException("fromKey > toKey");
+        }
+        return this.slice(this.ceilingIndex(fromKey), this.ceilingIndex(toKey));
+    }
+
+    @Override
+    public SortedMap<K, V> headMap(K toKey)
+    {
+        return this.slice(0, this.ceilingIndex(toKey));
+    }
+
+    @Override
+    public SortedMap<K, V> tailMap(K fromKey)
+    {
+        return this.slice(this.ceilingIndex(fromKey), this.keys.length);
+    }
+
+    private int compare(K key1, K key2)
+    {
+        return this.comparator == null
+                ? ((Comparable<K>) key1).compareTo(key2)
+                : this.comparator.compare(key1, key2);
+    }
+
+    private SortedMap<K, V> slice(int fromIndex, int toIndex)
+    {
+        if (fromIndex == 0 && toIndex == this.keys.length)
+        {
+            return this;
+        }
+        if (fromIndex == toIndex)
+        {
+            return new ImmutableEmptySortedMap<K, V>(this.comparator);
+        }
+        int length = toIndex - fromIndex;
+        K[] keysSlice = (K[]) new Object[length];
+        V[] valuesSlice = (V[]) new Object[length];
+        System.arraycopy(this.keys, fromIndex, keysSlice, 0, length);
+        System.arraycopy(this.values, fromIndex, valuesSlice, 0, length);
+        EytzingerIndex sliceIndex = this.index == null ? null : EytzingerIndex.newIndex(keysSlice, this.comparator);
+        return new ImmutableTreeMap<K, V>(keysSlice, valuesSlice, this.comparator, sliceIndex);
+    }
+
     public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
     {
         for (int index = 0; index < this.keys.length; index++)
@@ -0,0 +1,1535 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.sorted.mutable;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.list.mutable.FastList;
+
+/**
+ * A {@link SortedMap} stored as a B+-tree. Up to 64 keys and their values sit side by side in the arrays of each leaf,
+ * the leaves are linked in key order, and the branches above them hold only separator keys. A
+ * {@link java.util.TreeMap} allocates a node with five fields for every entry; this map needs about two array slots
+ * per entry, and ordered iteration walks through contiguous arrays instead of chasing parent and child pointers.
+ * <p>
+ * This is the store behind {@link TreeSortedMap#newBTreeMap()}, and {@link #newKeysOnlyMap(Comparator)} returns a tree
+ * that keeps no values at all, whose key set backs a B+-tree TreeSortedSet. A map or set that is empty when it is given
+ * the contents of another sorted map or set with the same comparator fills its leaves directly from the source instead
+ * of inserting one key at a time.
+ * <p>
+ * Like TreeMap, it does not permit null keys under natural ordering, its range and collection views write through,
+ * its iterators are fail-fast, and it is not thread-safe.
+ *
+ * @since 6.1
+ */
+@Beta
+public final class BPlusTreeMap<K, V>
+        extends AbstractMap<K, V>
+        implements SortedMap<K, V>
+{
+    private static final int MAX_ENTRIES = 64;
+    private static final int MIN_ENTRIES = MAX_ENTRIES / 4;
+    private static final Object[] EMPTY = {};
+
+    private final Comparator<? super K> comparator;
+    private final boolean keysOnly;
+    private Node root;
+    private Leaf head;
+    private Leaf tail;
+    private int size;
+    private int modCount;
+    private SubMap whole;
+
+    public BPlusTreeMap()
+    {
+        this(null, false);
+    }
+
+    public BPlusTreeMap(Comparator<? super K> comparator)
+    {
+        this(comparator, false);
+    }
+
+    public BPlusTreeMap(SortedMap<K, ? extends V> map)
+    {
+        this(map.comparator(), false);
+        this.bulkLoad(map.keySet().iterator(), map.values().iterator());
+    }
+
+    private BPlusTreeMap(Comparator<? super K> comparator, boolean keysOnly)
+    {
+        this.comparator = comparator;
+        this.keysOnly = keysOnly;
+        this.reset();
+    }
+
+    /**
+     * Returns an empty B+-tree whose leaves hold only keys. Only its {@link #keySet()} may be modified.
+     */
+    public static <K> BPlusTreeMap<K, Object> newKeysOnlyMap(Comparator<? super K> comparator)
+    {
+        return new BPlusTreeMap<K, Object>(comparator, true);
+    }
+
+    /**
+     * Returns a B+-tree whose leaves hold only keys, bulk loaded from {@code set} and sorted by its comparator. Only its
+     * {@link #keySet()} may be modified.
+     */
+    public static <K> BPlusTreeMap<K, Object> newKeysOnlyMap(SortedSet<K> set)
+    {
+        BPlusTreeMap<K, Object> map = new BPlusTreeMap<K, Object>(set.comparator(), true);
+        map.bulkLoad(set.iterator(), null);
+        return map;
+    }
+
+    private void reset()
+    {
+        Leaf leaf = new Leaf(0, this.keysOnly);
+        this.root = leaf;
+        this.head = leaf;
+        this.tail = leaf;
+        this.size = 0;
+    }
+
+    private int compare(Object key1, Object key2)
+    {
+        return this.comparator == null
+                ? ((Comparable<Object>) key1).compareTo(key2)
+                : this.comparator.compare((K) key1, (K) key2);
+    }
+
+    private void checkSearchKey(Object key)
+    {
+        if (key == null && this.comparator == null)
+        {
+            throw new NullPointerException();
+        }
+    }
+
+    private void checkNewKey(Object key)
+    {
+        if (this.size == 0)
+        {
+            // Rejects a null or incomparable first key, as TreeMap does.
+            this.compare(key, key);
+        }
+    }
+
+    /**
+     * Returns the position of {@code key} in {@code leaf}, or {@code -(insertion point) - 1} if it is absent.
+     */
+    private int search(Leaf leaf, Object key)
+    {
+        Object[] keys = leaf.keys;
+        int low = 0;
+        int high = leaf.size - 1;
+        while (low <= high)
+        {
+            int middle = (low + high) >>> 1;
+            int comparison = this.compare(key, keys[middle]);
+            if (comparison > 0)
+            {
+                low = middle + 1;
+            }
+            else if (comparison < 0)
+            {
+                high = middle - 1;
+            }
+            else
+            {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private int ceilingIn(Leaf leaf, Object key)
+    {
+        int index = this.search(leaf, key);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * Returns the child of {@code branch} that may hold {@code key}: the number of separators less than or equal to it.
+     */
+    private int childIndex(Branch branch, Object key)
+    {
+        Object[] separators = branch.keys;
+        int low = 0;
+        int high = branch.size - 2;
+        while (low <= high)
+        {
+            int middle = (low + high) >>> 1;
+            if (this.compare(key, separators[middle]) >= 0)
+            {
+                low = middle + 1;
+            }
+            else
+            {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    private Leaf leafFor(Object key)
+    {
+        Node node = this.root;
+        while (node instanceof Branch)
+        {
+            Branch branch = (Branch) node;
+            node = branch.children[this.childIndex(branch, key)];
+        }
+        return (Leaf) node;
+    }
+
+    private static Object lowestKey(Node node)
+    {
+        Node each = node;
+        while (each instanceof Branch)
+        {
+            each = ((Branch) each).children[0];
+        }
+        return each.keys[0];
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    public Comparator<? super K> comparator()
+    {
+        return this.comparator;
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        this.checkSearchKey(key);
+        return this.search(this.leafFor(key), key) >= 0;
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        this.checkSearchKey(key);
+        Leaf leaf = this.leafFor(key);
+        int index = this.search(leaf, key);
+        return index < 0 || this.keysOnly ? null : (V) leaf.values[index];
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        if (this.keysOnly)
+        {
+            return value == null && this.size > 0;
+        }
+        for (Leaf leaf = this.head; leaf != null; leaf = leaf.next)
+        {
+            for (int i = 0; i < leaf.size; i++)
+            {
+                if (Comparators.nullSafeEquals(value, leaf.values[i]))
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public V put(K key, V value)
+    {
+        this.checkNewKey(key);
+        Leaf leaf = this.leafFor(key);
+        int index = this.search(leaf, key);
+        if (index >= 0)
+        {
+            if (this.keysOnly)
+            {
+                return null;
+            }
+            V previous = (V) leaf.values[index];
+            leaf.values[index] = value;
+            return previous;
+        }
+        this.insertNew(leaf, -index - 1, key, value);
+        return null;
+    }
+
+    private boolean addKey(K key)
+    {
+        this.checkNewKey(key);
+        Leaf leaf = this.leafFor(key);
+        int index = this.search(leaf, key);
+        if (index >= 0)
+        {
+            return false;
+        }
+        this.insertNew(leaf, -index - 1, key, null);
+        return true;
+    }
+
+    private void insertNew(Leaf leaf, int index, Object key, Object value)
+    {
+        if (leaf.size < MAX_ENTRIES)
+        {
+            leaf.insertAt(index, key, value);
+        }
+        else
+        {
+            Node sibling = this.insertSplitting(this.root, key, value);
+            if (sibling != null)
+            {
+                Branch newRoot = new Branch();
+                newRoot.children[0] = this.root;
+                newRoot.children[1] = sibling;
+                newRoot.keys[0] = lowestKey(sibling);
+                newRoot.size = 2;
+                this.root = newRoot;
+            }
+        }
+        this.size++;
+        this.modCount++;
+    }
+
+    /**
+     * Inserts an absent key below {@code node} when the leaf it belongs in is full. Returns the new right sibling of
+     * {@code node} if it had to be split, or null.
+     */
+    private Node insertSplitting(Node node, Object key, Object value)
+    {
+        if (node instanceof Leaf)
+        {
+            return this.splitLeaf((Leaf) node, key, value);
+        }
+        Branch branch = (Branch) node;
+        int childIndex = this.childIndex(branch, key);
+        Node sibling = this.insertSplitting(branch.children[childIndex], key, value);
+        return sibling == null ? null : branch.insertChild(childIndex + 1, sibling);
+    }
+
+    private Leaf splitLeaf(Leaf leaf, Object key, Object value)
+    {
+        int index = -this.search(leaf, key) - 1;
+        int moved = MAX_ENTRIES / 2;
+        if (index == MAX_ENTRIES && leaf.next == null)
+        {
+            // Keys arriving in ascending order leave full leaves behind them.
+            moved = 0;
+        }
+        else if (index == 0 && leaf.previous == null)
+        {
+            moved = MAX_ENTRIES;
+        }
+        int kept = MAX_ENTRIES - moved;
+        Leaf right = new Leaf(MAX_ENTRIES, this.keysOnly);
+        leaf.copyTo(kept, right, 0, moved);
+        leaf.clear(kept, MAX_ENTRIES);
+        right.size = moved;
+        leaf.size = kept;
+        right.previous = leaf;
+        right.next = leaf.next;
+        if (leaf.next == null)
+        {
+            this.tail = right;
+        }
+        else
+        {
+            leaf.next.previous = right;
+        }
+        leaf.next = right;
+        if (moved > 0 && index <= kept)
+        {
+            leaf.insertAt(index, key, value);
+        }
+        else
+        {
+            right.insertAt(index - kept, key, value);
+        }
+        return right;
+    }
+
+    @Override
+    public V remove(Object key)
+    {
+        this.checkSearchKey(key);
+        Leaf leaf = this.leafFor(key);
+        int index = this.search(leaf, key);
+        if (index < 0)
+        {
+            return null;
+        }
+        V previous = this.keysOnly ? null : (V) leaf.values[index];
+        this.removeFound(leaf, index, key);
+        return previous;
+    }
+
+    private boolean removeKey(Object key)
+    {
+        this.checkSearchKey(key);
+        Leaf leaf = this.leafFor(key);
+        int index = this.search(leaf, key);
+        if (index < 0)
+        {
+            return false;
+        }
+        this.removeFound(leaf, index, key);
+        return true;
+    }
+
+    private void removeFound(Leaf leaf, int index, Object key)
+    {
+        if (leaf.size > MIN_ENTRIES || leaf == this.root)
+        {
+            leaf.removeAt(index);
+        }
+        else
+        {
+            this.removeRebalancing((Branch) this.root, key);
+            while (this.root instanceof Branch && this.root.size == 1)
+            {
+                this.root = ((Branch) this.root).children[0];
+            }
+        }
+        this.size--;
+        this.modCount++;
+    }
+
+    private void removeRebalancing(Branch branch, Object key)
+    {
+        int childIndex = this.childIndex(branch, key);
+        Node child = branch.children[childIndex];
+        if (child instanceof Leaf)
+        {
+            Leaf leaf = (Leaf) child;
+            leaf.removeAt(this.search(leaf, key));
+        }
+        else
+        {
+            this.removeRebalancing((Branch) child, key);
+        }
+        if (child.size < MIN_ENTRIES)
+        {
+            this.fixUnderflow(branch, childIndex);
+        }
+    }
+
+    /**
+     * Merges the child at {@code childIndex} with a sibling if they fit in one node, or else evens out their sizes.
+     */
+    private void fixUnderflow(Branch parent, int childIndex)
+    {
+        int leftIndex = childIndex == 0 ? 0 : childIndex - 1;
+        Node left = parent.children[leftIndex];
+        Node right = parent.children[leftIndex + 1];
+        if (left.size + right.size <= MAX_ENTRIES)
+        {
+            if (left instanceof Leaf)
+            {
+                this.mergeLeaves((Leaf) left, (Leaf) right);
+            }
+            else
+            {
+                ((Branch) left).merge((Branch) right, parent.keys[leftIndex]);
+            }
+            parent.removeChild(leftIndex + 1);
+        }
+        else
+        {
+            if (left instanceof Leaf)
+            {
+                shareLeaves((Leaf) left, (Leaf) right);
+            }
+            else
+            {
+                ((Branch) left).share((Branch) right, parent.keys[leftIndex]);
+            }
+            parent.keys[leftIndex] = lowestKey(right);
+        }
+    }
+
+    private void mergeLeaves(Leaf left, Leaf right)
+    {
+        left.ensureCapacity(left.size + right.size);
+        right.copyTo(0, left, left.size, right.size);
+        left.size += right.size;
+        left.next = right.next;
+        if (right.next == null)
+        {
+            this.tail = left;
+        }
+        else
+        {
+            right.next.previous = left;
+        }
+    }
+
+    private static void shareLeaves(Leaf left, Leaf right)
+    {
+        int leftSize = (left.size + right.size) / 2;
+        if (left.size < leftSize)
+        {
+            int count = leftSize - left.size;
+            left.ensureCapacity(leftSize);
+            right.copyTo(0, left, left.size, count);
+            right.copyTo(count, right, 0, right.size - count);
+            right.clear(right.size - count, right.size);
+            right.size -= count;
+            left.size = leftSize;
+        }
+        else
+        {
+            int count = left.size - leftSize;
+            right.ensureCapacity(right.size + count);
+            right.copyTo(0, right, count, right.size);
+            left.copyTo(leftSize, right, 0, count);
+            left.clear(leftSize, left.size);
+            right.size += count;
+            left.size = leftSize;
+        }
+    }
+
+    @Override
+    public void clear()
+    {
+        this.reset();
+        this.modCount++;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        if (this.size == 0
+                && map instanceof SortedMap<?, ?>
+                && Comparators.nullSafeEquals(this.comparator, ((SortedMap<? extends K, ? extends V>) map).comparator()))
+        {
+            this.bulkLoad(map.keySet().iterator(), map.values().iterator());
+        }
+        else
+        {
+            super.putAll(map);
+        }
+    }
+
+    /**
+     * Fills an empty tree from keys that are already distinct and in order, packing the leaves and branches full.
+     */
+    private void bulkLoad(Iterator<?> keys, Iterator<?> values)
+    {
+        FastList<Node> level = FastList.newList();
+        Leaf leaf = null;
+        int count = 0;
+        while (keys.hasNext())
+        {
+            Object key = keys.next();
+            Object value = values == null ? null : values.next();
+            if (leaf == null || leaf.size == MAX_ENTRIES)
+            {
+                Leaf next = new Leaf(MAX_ENTRIES, this.keysOnly);
+                next.previous = leaf;
+                if (leaf != null)
+                {
+                    leaf.next = next;
+                }
+                level.add(next);
+                leaf = next;
+            }
+            leaf.keys[leaf.size] = key;
+            if (!this.keysOnly)
+            {
+                leaf.values[leaf.size] = value;
+            }
+            leaf.size++;
+            count++;
+        }
+        if (leaf == null)
+        {
+            return;
+        }
+        this.checkNewKey(leaf.keys[0]);
+        if (level.size() > 1 && leaf.size < MIN_ENTRIES)
+        {
+            shareLeaves((Leaf) level.get(level.size() - 2), leaf);
+        }
+        leaf.trimToSize();
+        this.head = (Leaf) level.getFirst();
+        this.tail = leaf;
+        this.size = count;
+        while (level.size() > 1)
+        {
+            FastList<Node> parents = FastList.newList(level.size() / MAX_ENTRIES + 1);
+            for (int start = 0; start < level.size(); start += MAX_ENTRIES)
+            {
+                Branch branch = new Branch();
+                int end = Math.min(start + MAX_ENTRIES, level.size());
+                for (int i = start; i < end; i++)
+                {
+                    branch.children[i - start] = level.get(i);
+                    if (i > start)
+                    {
+                        branch.keys[i - start - 1] = lowestKey(level.get(i));
+                    }
+                }
+                branch.size = end - start;
+                parents.add(branch);
+            }
+            Branch last = (Branch) parents.getLast();
+            if (parents.size() > 1 && last.size < MIN_ENTRIES)
+            {
+                ((Branch) parents.get(parents.size() - 2)).share(last, lowestKey(last));
+            }
+            level = parents;
+        }
+        this.root = level.getFirst();
+        this.modCount++;
+    }
+
+    public K firstKey()
+    {
+        if (this.size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        return (K) this.head.keys[0];
+    }
+
+    public K lastKey()
+    {
+        if (this.size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        return (K) this.tail.keys[this.tail.size - 1];
+    }
+
+    public SortedMap<K, V> subMap(K fromKey, K toKey)
+    {
+        return this.whole().subMap(fromKey, toKey);
+    }
+
+    public SortedMap<K, V> headMap(K toKey)
+    {
+        return this.whole().headMap(toKey);
+    }
+
+    public SortedMap<K, V> tailMap(K fromKey)
+    {
+        return this.whole().tailMap(fromKey);
+    }
+
+    @Override
+    public SortedSet<K> keySet()
+    {
+        return this.whole().keySet();
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return this.whole().values();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet()
+    {
+        return this.whole().entrySet();
+    }
+
+    private SubMap whole()
+    {
+        if (this.whole == null)
+        {
+            this.whole = new SubMap(false, null, false, null);
+        }
+        return this.whole;
+    }
+
+    /**
+     * Calls {@code procedure} with each key and value in key order, walking the leaves without creating entries.
+     */
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        for (Leaf leaf = this.head; leaf != null; leaf = leaf.next)
+        {
+            for (int i = 0; i < leaf.size; i++)
+            {
+                procedure.value((K) leaf.keys[i], this.keysOnly ? null : (V) leaf.values[i]);
+            }
+        }
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (Leaf leaf = this.head; leaf != null; leaf = leaf.next)
+        {
+            for (int i = 0; i < leaf.size; i++)
+            {
+                Object key = leaf.keys[i];
+                Object value = this.keysOnly ? null : leaf.values[i];
+                hashCode += (key == null ? 0 : key.hashCode()) ^ (value == null ? 0 : value.hashCode());
+            }
+        }
+        return hashCode;
+    }
+
+    private final class SubMap
+            extends AbstractMap<K, V>
+            implements SortedMap<K, V>
+    {
+        private final boolean hasLow;
+        private final Object low;
+        private final boolean hasHigh;
+        private final Object high;
+
+        private SubMap(boolean hasLow, Object low, boolean hasHigh, Object high)
+        {
+            if (hasLow)
+            {
+                BPlusTreeMap.this.compare(low, low);
+            }
+            if (hasHigh)
+            {
+                BPlusTreeMap.this.compare(high, high);
+            }
+            this.hasLow = hasLow;
+            this.low = low;
+            this.hasHigh = hasHigh;
+            this.high = high;
+        }
+
+        private boolean isWhole()
+        {
+            return !this.hasLow && !this.hasHigh;
+        }
+
+        private boolean tooLow(Object key)
+        {
+            return this.hasLow && BPlusTreeMap.this.compare(key, this.low) < 0;
+        }
+
+        private boolean tooHigh(Object key)
+        {
+            return this.hasHigh && BPlusTreeMap.this.compare(key, this.high) >= 0;
+        }
+
+        private boolean inRange(Object key)
+        {
+            return !this.tooLow(key) && !this.tooHigh(key);
+        }
+
+        private boolean inClosedRange(Object key)
+        {
+            return !this.tooLow(key) && !(this.hasHigh && BPlusTreeMap.this.compare(key, this.high) > 0);
+        }
+
+        public Comparator<? super K> comparator()
+        {
+            return BPlusTreeMap.this.comparator;
+        }
+
+        @Override
+        public int size()
+        {
+            if (this.isWhole())
+            {
+                return BPlusTreeMap.this.size;
+            }
+            int count = 0;
+            for (Iterator<K> iterator = new KeyIterator(this); iterator.hasNext(); iterator.next())
+            {
+                count++;
+            }
+            return count;
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return !new KeyIterator(this).hasNext();
+        }
+
+        @Override
+        public boolean containsKey(Object key)
+        {
+            return this.inRange(key) && BPlusTreeMap.this.containsKey(key);
+        }
+
+        @Override
+        public V get(Object key)
+        {
+            return this.inRange(key) ? BPlusTreeMap.this.get(key) : null;
+        }
+
+        @Override
+        public V put(K key, V value)
+        {
+            this.checkInRange(key);
+            return BPlusTreeMap.this.put(key, value);
+        }
+
+        private void checkInRange(Object key)
+        {
+            if (!this.inRange(key))
+            {
+                throw new IllegalArgumentException("key out of range");
+            }
+        }
+
+        @Override
+        public V remove(Object key)
+        {
+            return this.inRange(key) ? BPlusTreeMap.this.remove(key) : null;
+        }
+
+        @Override
+        public void clear()
+        {
+            if (this.isWhole())
+            {
+                BPlusTreeMap.this.clear();
+            }
+            else
+            {
+                for (Iterator<K> iterator = new KeyIterator(this); iterator.hasNext(); )
+                {
+                    iterator.next();
+                    iterator.remove();
+                }
+            }
+        }
+
+        public K firstKey()
+        {
+            Leaf leaf = BPlusTreeMap.this.head;
+            int index = 0;
+            if (this.hasLow)
+            {
+                leaf = BPlusTreeMap.this.leafFor(this.low);
+                index = BPlusTreeMap.this.ceilingIn(leaf, this.low);
+            }
+            if (index == leaf.size)
+            {
+                leaf = leaf.next;
+                index = 0;
+            }
+            if (leaf == null || this.tooHigh(leaf.keys[index]))
+            {
+                throw new NoSuchElementException();
+            }
+            return (K) leaf.keys[index];
+        }
+
+        public K lastKey()
+        {
+            Leaf leaf = BPlusTreeMap.this.tail;
+            int index = leaf.size - 1;
+            if (this.hasHigh)
+            {
+                leaf = BPlusTreeMap.this.leafFor(this.high);
+                index = BPlusTreeMap.this.ceilingIn(leaf, this.high) - 1;
+                if (index < 0)
+                {
+                    leaf = leaf.previous;
+                    index = leaf == null ? -1 : leaf.size - 1;
+                }
+            }
+            if (index < 0 || this.tooLow(leaf.keys[index]))
+            {
+                throw new NoSuchElementException();
+            }
+            return (K) leaf.keys[index];
+        }
+
+        public SortedMap<K, V> subMap(K fromKey, K toKey)
+        {
+            if (BPlusTreeMap.this.compare(fromKey, toKey) > 0)
+            {
+                throw new IllegalArgumentException("fromKey > toKey");
+            }
+            this.checkInClosedRange(fromKey);
+            this.checkInClosedRange(toKey);
+            return new SubMap(true, fromKey, true, toKey);
+        }
+
+        public SortedMap<K, V> headMap(K toKey)
+        {
+            this.checkInClosedRange(toKey);
+            return new SubMap(this.hasLow, this.low, true, toKey);
+        }
+
+        public SortedMap<K, V> tailMap(K fromKey)
+        {
+            this.checkInClosedRange(fromKey);
+            return new SubMap(true, fromKey, this.hasHigh, this.high);
+        }
+
+        private void checkInClosedRange(Object key)
+        {
+            if (!this.inClosedRange(key))
+            {
+                throw new IllegalArgumentException("key out of range");
+            }
+        }
+
+        @Override
+        public SortedSet<K> keySet()
+        {
+            return new KeySet(this);
+        }
+
+        @Override
+        public Collection<V> values()
+        {
+            return new Values(this);
+        }
+
+        @Override
+        public Set<Entry<K, V>> entrySet()
+        {
+            return new EntrySet(this);
+        }
+    }
+
+    private final class KeySet
+            extends AbstractSet<K>
+            implements SortedSet<K>
+    {
+        private final SubMap range;
+
+        private KeySet(SubMap range)
+        {
+            this.range = range;
+        }
+
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new KeyIterator(this.range);
+        }
+
+        @Override
+        public int size()
+        {
+            return this.range.size();
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return this.range.isEmpty();
+        }
+
+        @Override
+        public boolean contains(Object key)
+        {
+            return this.range.containsKey(key);
+        }
+
+        @Override
+        public boolean add(K key)
+        {
+            if (!BPlusTreeMap.this.keysOnly)
+            {
+                throw new UnsupportedOperationException();
+            }
+            this.range.checkInRange(key);
+            return BPlusTreeMap.this.addKey(key);
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends K> collection)
+        {
+            if (BPlusTreeMap.this.keysOnly
+                    && BPlusTreeMap.this.size == 0
+                    && this.range.isWhole()
+                    && collection instanceof SortedSet<?>
+                    && Comparators.nullSafeEquals(BPlusTreeMap.this.comparator, ((SortedSet<? extends K>) collection).comparator()))
+            {
+                BPlusTreeMap.this.bulkLoad(collection.iterator(), null);
+                return BPlusTreeMap.this.size > 0;
+            }
+            return super.addAll(collection);
+        }
+
+        @Override
+        public boolean remove(Object key)
+        {
+            return this.range.inRange(key) && BPlusTreeMap.this.removeKey(key);
+        }
+
+        @Override
+        public void clear()
+        {
+            this.range.clear();
+        }
+
+        public Comparator<? super K> comparator()
+        {
+            return BPlusTreeMap.this.comparator;
+        }
+
+        public SortedSet<K> subSet(K fromElement, K toElement)
+        {
+            return ((SubMap) this.range.subMap(fromElement, toElement)).keySet();
+        }
+
+        public SortedSet<K> headSet(K toElement)
+        {
+            return ((SubMap) this.range.headMap(toElement)).keySet();
+        }
+
+        public SortedSet<K> tailSet(K fromElement)
+        {
+            return ((SubMap) this.range.tailMap(fromElement)).keySet();
+        }
+
+        public K first()
+        {
+            return this.range.firstKey();
+        }
+
+        public K last()
+        {
+            return this.range.lastKey();
+        }
+    }
+
+    private final class Values extends AbstractCollection<V>
+    {
+        private final SubMap range;
+
+        private Values(SubMap range)
+        {
+            this.range = range;
+        }
+
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ValueIterator(this.range);
+        }
+
+        @Override
+        public int size()
+        {
+            return this.range.size();
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return this.range.isEmpty();
+        }
+
+        @Override
+        public void clear()
+        {
+            this.range.clear();
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>>
+    {
+        private final SubMap range;
+
+        private EntrySet(SubMap range)
+        {
+            this.range = range;
+        }
+
+        @Override
+        public Iterator<Entry<K, V>> iterator()
+        {
+            return new EntryIterator(this.range);
+        }
+
+        @Override
+        public int size()
+        {
+            return this.range.size();
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return this.range.isEmpty();
+        }
+
+        @Override
+        public boolean contains(Object object)
+        {
+            if (!(object instanceof Map.Entry<?, ?>))
+            {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) object;
+            Object key = entry.getKey();
+            return this.range.containsKey(key) && Comparators.nullSafeEquals(BPlusTreeMap.this.get(key), entry.getValue());
+        }
+
+        @Override
+        public boolean remove(Object object)
+        {
+            if (this.contains(object))
+            {
+                BPlusTreeMap.this.removeKey(((Map.Entry<?, ?>) object).getKey());
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void clear()
+        {
+            this.range.clear();
+        }
+    }
+
+    /**
+     * Walks the leaves from the first key of a range up to, but not including, the position of its upper bound.
+     */
+    private abstract class TreeIterator<E> implements Iterator<E>
+    {
+        private final SubMap range;
+        private Leaf leaf;
+        private int index;
+        private Leaf endLeaf;
+        private int endIndex;
+        private Object lastKey;
+        private boolean canRemove;
+        private int expectedModCount = BPlusTreeMap.this.modCount;
+
+        protected TreeIterator(SubMap range)
+        {
+            this.range = range;
+            if (range.hasLow)
+            {
+                this.seek(range.low);
+            }
+            else
+            {
+                this.leaf = BPlusTreeMap.this.head;
+                this.index = 0;
+                this.skipPastLeafEnd();
+            }
+            this.seekEnd();
+        }
+
+        private void seek(Object key)
+        {
+            this.leaf = BPlusTreeMap.this.leafFor(key);
+            this.index = BPlusTreeMap.this.ceilingIn(this.leaf, key);
+            this.skipPastLeafEnd();
+        }
+
+        private void skipPastLeafEnd()
+        {
+            if (this.index == this.leaf.size)
+            {
+                this.leaf = this.leaf.next;
+                this.index = 0;
+            }
+        }
+
+        private void seekEnd()
+        {
+            this.endLeaf = null;
+            this.endIndex = 0;
+            if (this.range.hasHigh)
+            {
+                Leaf leaf = BPlusTreeMap.this.leafFor(this.range.high);
+                int index = BPlusTreeMap.this.ceilingIn(leaf, this.range.high);
+                if (index == leaf.size)
+                {
+                    leaf = leaf.next;
+                    index = 0;
+                }
+                this.endLeaf = leaf;
+                this.endIndex = index;
+            }
+        }
+
+        public boolean hasNext()
+        {
+            return this.leaf != null && (this.leaf != this.endLeaf || this.index != this.endIndex);
+        }
+
+        protected abstract E element(Leaf leaf, int index);
+
+        public E next()
+        {
+            if (BPlusTreeMap.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            Leaf current = this.leaf;
+            int currentIndex = this.index;
+            this.lastKey = current.keys[currentIndex];
+            this.canRemove = true;
+            this.index++;
+            if (this.index == current.size)
+            {
+                this.leaf = current.next;
+                this.index = 0;
+            }
+            return this.element(current, currentIndex);
+        }
+
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            if (BPlusTreeMap.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            boolean hasNext = this.hasNext();
+            Object nextKey = hasNext ? this.leaf.keys[this.index] : null;
+            BPlusTreeMap.this.removeKey(this.lastKey);
+            if (hasNext)
+            {
+                this.seek(nextKey);
+            }
+            else
+            {
+                this.leaf = null;
+            }
+            this.seekEnd();
+            this.canRemove = false;
+            this.expectedModCount = BPlusTreeMap.this.modCount;
+        }
+    }
+
+    private final class KeyIterator extends TreeIterator<K>
+    {
+        private KeyIterator(SubMap range)
+        {
+            super(range);
+        }
+
+        @Override
+        protected K element(Leaf leaf, int index)
+        {
+            return (K) leaf.keys[index];
+        }
+    }
+
+    private final class ValueIterator extends TreeIterator<V>
+    {
+        private ValueIterator(SubMap range)
+        {
+            super(range);
+        }
+
+        @Override
+        protected V element(Leaf leaf, int index)
+        {
+            return BPlusTreeMap.this.keysOnly ? null : (V) leaf.values[index];
+        }
+    }
+
+    private final class EntryIterator extends TreeIterator<Entry<K, V>>
+    {
+        private EntryIterator(SubMap range)
+        {
+            super(range);
+        }
+
+        @Override
+        protected Entry<K, V> element(Leaf leaf, int index)
+        {
+            return new TreeEntry((K) leaf.keys[index], BPlusTreeMap.this.keysOnly ? null : (V) leaf.values[index]);
+        }
+    }
+
+    private final class TreeEntry implements Map.Entry<K, V>
+    {
+        private final K key;
+        private V value;
+
+        private TreeEntry(K key, V value)
+        {
+            this.key = key;
+            this.value = value;
+        }
+
+        public K getKey()
+        {
+            return this.key;
+        }
+
+        public V getValue()
+        {
+            return this.value;
+        }
+
+        public V setValue(V value)
+        {
+            V previous = this.value;
+            BPlusTreeMap.this.put(this.key, value);
+            this.value = value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object object)
+        {
+            if (!(object instanceof Map.Entry<?, ?>))
+            {
+                return false;
+            }
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) object;
+            return Comparators.nullSafeEquals(this.key, other.getKey())
+                    && Comparators.nullSafeEquals(this.value, other.getValue());
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return (this.key == null ? 0 : this.key.hashCode()) ^ (this.value == null ? 0 : this.value.hashCode());
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.key + "=" + this.value;
+        }
+    }
+
+    private abstract static class Node
+    {
+        protected Object[] keys;
+        protected int size;
+    }
+
+    private static final class Leaf extends Node
+    {
+        private Object[] values;
+        private Leaf previous;
+        private Leaf next;
+
+        private Leaf(int capacity, boolean keysOnly)
+        {
+            this.keys = capacity == 0 ? EMPTY : new Object[capacity];
+            this.values = keysOnly ? null : this.keys.length == 0 ? EMPTY : new Object[capacity];
+        }
+
+        private void ensureCapacity(int capacity)
+        {
+            if (capacity > this.keys.length)
+            {
+                int newCapacity = Math.max(capacity, Math.min(MAX_ENTRIES, Math.max(4, this.keys.length << 1)));
+                this.resize(newCapacity);
+            }
+        }
+
+        private void trimToSize()
+        {
+            if (this.size < this.keys.length)
+            {
+                this.resize(this.size);
+            }
+        }
+
+        private void resize(int capacity)
+        {
+            Object[] newKeys = new Object[capacity];
+            System.arraycopy(this.keys, 0, newKeys, 0, this.size);
+            this.keys = newKeys;
+            if (this.values != null)
+            {
+                Object[] newValues = new Object[capacity];
+                System.arraycopy(this.values, 0, newValues, 0, this.size);
+                this.values = newValues;
+            }
+        }
+
+        private void insertAt(int index, Object key, Object value)
+        {
+            this.ensureCapacity(this.size + 1);
+            System.arraycopy(this.keys, index, this.keys, index + 1, this.size - index);
+            this.keys[index] = key;
+            if (this.values != null)
+            {
+                System.arraycopy(this.values, index, this.values, index + 1, this.size - index);
+                this.values[index] = value;
+            }
+            this.size++;
+        }
+
+        private void removeAt(int index)
+        {
+            int last = this.size - 1;
+            System.arraycopy(this.keys, index + 1, this.keys, index, last - index);
+            this.keys[last] = null;
+            if (this.values != null)
+            {
+                System.arraycopy(this.values, index + 1, this.values, index, last - index);
+                this.values[last] = null;
+            }
+            this.size = last;
+        }
+
+        private void copyTo(int from, Leaf target, int to, int count)
+        {
+            System.arraycopy(this.keys, from, target.keys, to, count);
+            if (this.values != null)
+            {
+                System.arraycopy(this.values, from, target.values, to, count);
+            }
+        }
+
+        private void clear(int from, int to)
+        {
+            for (int i = from; i < to; i++)
+            {
+                this.keys[i] = null;
+                if (this.values != null)
+                {
+                    this.values[i] = null;
+                }
+            }
+        }
+    }
+
+    private static final class Branch extends Node
+    {
+        private final Node[] children = new Node[MAX_ENTRIES];
+
+        private Branch()
+        {
+            this.keys = new Object[MAX_ENTRIES - 1];
+        }
+
+        /**
+         * Inserts {@code child} at {@code index}. Returns the new right sibling of this branch if it had to be split,
+         * or null.
+         */
+        private Branch insertChild(int index, Node child)
+        {
+            Object separator = lowestKey(child);
+            if (this.size < MAX_ENTRIES)
+            {
+                System.arraycopy(this.children, index, this.children, index + 1, this.size - index);
+                this.children[index] = child;
+                System.arraycopy(this.keys, index - 1, this.keys, index, this.size - index);
+                this.keys[index - 1] = separator;
+                this.size++;
+                return null;
+            }
+            Node[] allChildren = new Node[MAX_ENTRIES + 1];
+            Object[] allSeparators = new Object[MAX_ENTRIES];
+            System.arraycopy(this.children, 0, allChildren, 0, index);
+            allChildren[index] = child;
+            System.arraycopy(this.children, index, allChildren, index + 1, MAX_ENTRIES - index);
+            System.arraycopy(this.keys, 0, allSeparators, 0, index - 1);
+            allSeparators[index - 1] = separator;
+            System.arraycopy(this.keys, index - 1, allSeparators, index, MAX_ENTRIES - index);
+            Branch right = new Branch();
+            this.fill(allChildren, allSeparators, MAX_ENTRIES + 1, right);
+            return right;
+        }
+
+        private void removeChild(int index)
+        {
+            int last = this.size - 1;
+            System.arraycopy(this.children, index + 1, this.children, index, last - index);
+            this.children[last] = null;
+            System.arraycopy(this.keys, index, this.keys, index - 1, last - index);
+            this.keys[last - 1] = null;
+            this.size = last;
+        }
+
+        private void merge(Branch right, Object separator)
+        {
+            this.keys[this.size - 1] = separator;
+            System.arraycopy(right.keys, 0, this.keys, this.size, right.size - 1);
+            System.arraycopy(right.children, 0, this.children, this.size, right.size);
+            this.size += right.size;
+        }
+
+        private void share(Branch right, Object separator)
+        {
+            int count = this.size + right.size;
+            Node[] allChildren = new Node[count];
+            Object[] allSeparators = new Object[count - 1];
+            System.arraycopy(this.children, 0, allChildren, 0, this.size);
+            System.arraycopy(right.children, 0, allChildren, this.size, right.size);
+            System.arraycopy(this.keys, 0, allSeparators, 0, this.size - 1);
+            allSeparators[this.size - 1] = separator;
+            System.arraycopy(right.keys, 0, allSeparators, this.size, right.size - 1);
+            this.fill(allChildren, allSeparators, count, right);
+        }
+
+        /**
+         * Splits {@code count} children and the separators between them evenly between this branch and {@code right}.
+         */
+        private void fill(Node[] allChildren, Object[] allSeparators, int count, Branch right)
+        {
+            int leftCount = count / 2;
+            int rightCount = count - leftCount;
+            System.arraycopy(allChildren, 0, this.children, 0, leftCount);
+            System.arraycopy(allSeparators, 0, this.keys, 0, leftCount - 1);
+            for (int i = leftCount; i < MAX_ENTRIES; i++)
+            {
+                this.children[i] = null;
+                this.keys[i - 1] = null;
+            }
+            System.arraycopy(allChildren, leftCount, right.children, 0, rightCount);
+            System.arraycopy(allSeparators, leftCount, right.keys, 0, rightCount - 1);
+            for (int i = rightCount; i < MAX_ENTRIES; i++)
+            {
+                right.children[i] = null;
+                right.keys[i - 1] = null;
+            }
+            this.size = leftCount;
+            right.size = rightCount;
+        }
+    }
+}
@@ -25,6 +25,7 @@ import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
 
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.collection.MutableCollection;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
@@ -42,7 +43,7 @@ public class TreeSortedMap<K, V>
         implements Externalizable
 {
     private static final long serialVersionUID = 1L;
-    private TreeMap<K, V> treeMap;
+    private SortedMap<K, V> treeMap;
 
     public TreeSortedMap()
     {
@@ -70,6 +71,11 @@ public class TreeSortedMap<K, V>
         this.treeMap = new TreeMap<K, V>(map);
     }
 
+    private TreeSortedMap(BPlusTreeMap<K, V> bTreeMap)
+    {
+        this.treeMap = bTreeMap;
+    }
+
     public TreeSortedMap(Pair<K, V>... pairs)
     {
         this.treeMap = new TreeMap<K, V>();
@@ -103,6 +109,39 @@ public class TreeSortedMap<K, V>
         return new TreeSortedMap<K, V>(comparator, map);
     }
 
+    /**
+     * Returns an empty map backed by a {@link BPlusTreeMap} instead of a {@link TreeMap}. Maps derived from it, such as
+     * {@link #newEmpty()} and {@link #clone()}, keep the B+-tree; a deserialized copy goes back to a TreeMap.
+     *
+     * @since 6.1
+     */
+    @Beta
+    public static <K, V> TreeSortedMap<K, V> newBTreeMap()
+    {
+        return new TreeSortedMap<K, V>(new BPlusTreeMap<K, V>());
+    }
+
+    /**
+     * @since 6.1
+     */
+    @Beta
+    public static <K, V> TreeSortedMap<K, V> newBTreeMap(Comparator<? super K> comparator)
+    {
+        return new TreeSortedMap<K, V>(new BPlusTreeMap<K, V>(comparator));
+    }
+
+    /**
+     * Returns a map backed by a {@link BPlusTreeMap} holding the entries of {@code map}, sorted by its comparator. The
+     * leaves are filled directly from the map's ordered entries.
+     *
+     * @since 6.1
+     */
+    @Beta
+    public static <K, V> TreeSortedMap<K, V> newBTreeMap(SortedMap<K, ? extends V> map)
+    {
+        return new TreeSortedMap<K, V>(new BPlusTreeMap<K, V>(map));
+    }
+
     public static <K, V> TreeSortedMap<K, V> newMapWith(Pair<K, V>... pairs)
     {
         return new TreeSortedMap<K, V>(pairs);
@@ -205,6 +244,10 @@ public class TreeSortedMap<K, V>
 
     public MutableSortedMap<K, V> newEmpty()
     {
+        if (this.treeMap instanceof BPlusTreeMap<?, ?>)
+        {
+            return TreeSortedMap.newBTreeMap(this.comparator());
+        }
         return new TreeSortedMap<K, V>(this.comparator());
     }
 
@@ -216,6 +259,10 @@ public class TreeSortedMap<K, V>
     @Override
     public TreeSortedMap<K, V> clone()
     {
+        if (this.treeMap instanceof BPlusTreeMap<?, ?>)
+        {
+            return TreeSortedMap.newBTreeMap(this.treeMap);
+        }
         return new TreeSortedMap<K, V>(this);
     }
 
@@ -233,7 +280,14 @@ public class TreeSortedMap<K, V>
 
     public void forEachKeyValue(Procedure2<? super K, ? super V> procedure2)
     {
-        MapIterate.forEachKeyValue(this.treeMap, procedure2);
+        if (this.treeMap instanceof BPlusTreeMap<?, ?>)
+        {
+            ((BPlusTreeMap<K, V>) this.treeMap).forEachKeyValue(procedure2);
+        }
+        else
+        {
+            MapIterate.forEachKeyValue(this.treeMap, procedure2);
+        }
     }
 
     public K firstKey()
@@ -17,8 +17,11 @@
 package com.gs.collections.impl.multimap;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
+import com.gs.collections.api.ParallelIterable;
 import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.bag.Bag;
 import com.gs.collections.api.bag.MutableBag;
 import com.gs.collections.api.block.function.Function;
@@ -28,12 +31,16 @@ import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.map.MapIterable;
+import com.gs.collections.api.map.ParallelMapIterable;
 import com.gs.collections.api.multimap.Multimap;
 import com.gs.collections.api.multimap.MutableMultimap;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.UnmodifiableRichIterable;
 import com.gs.collections.impl.block.factory.Functions;
 import com.gs.collections.impl.factory.Bags;
+import com.gs.collections.impl.map.immutable.ImmutableUnifiedMap;
+import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
 import com.gs.collections.impl.tuple.Tuples;
 
 public abstract class AbstractMultimap<K, V, C extends RichIterable<V>>
@@ -138,6 +145,41 @@ public abstract class AbstractMultimap<K, V, C extends RichIterable<V>>
         });
     }
 
+    @Beta
+    public ParallelIterable<Pair<K, RichIterable<V>>> asParallelKeyMultiValuePairsView(ExecutorService executorService, int batchSize)
+    {
+        ParallelMapIterable<K, C> parallelMap = this.asParallelMap(executorService, batchSize);
+        if (parallelMap == null)
+        {
+            return this.keyMultiValuePairsView().toList().asParallel(executorService, batchSize);
+        }
+        return parallelMap.keyValuesView().collect(new Function<Pair<K, C>, Pair<K, RichIterable<V>>>()
+        {
+            public Pair<K, RichIterable<V>> valueOf(Pair<K, C> pair)
+            {
+                return Tuples.<K, RichIterable<V>>pair(pair.getOne(), UnmodifiableRichIterable.of(pair.getTwo()));
+            }
+        });
+    }
+
+    private ParallelMapIterable<K, C> asParallelMap(ExecutorService executorService, int batchSize)
+    {
+        MapIterable<K, C> map = this.getMap();
+        if (map instanceof UnifiedMap)
+        {
+            return ((UnifiedMap<K, C>) map).asParallel(executorService, batchSize);
+        }
+        if (map instanceof ConcurrentHashMap)
+        {
+            return ((ConcurrentHashMap<K, C>) map).asParallel(executorService, batchSize);
+        }
+        if (map instanceof ImmutableUnifiedMap)
+        {
+            return ((ImmutableUnifiedMap<K, C>) map).asParallel(executorService, batchSize);
+        }
+        return null;
+    }
+
     public RichIterable<Pair<K, V>> keyValuePairsView()
     {
         return this.keyMultiValuePairsView().flatCollect(new Function<Pair<K, RichIterable<V>>, Iterable<Pair<K, V>>>()
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.parallel;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+
+import com.gs.collections.api.block.procedure.primitive.IntProcedure;
+
+/**
+ * A parallel merge sort over a prefix of an array.  The array is cut into equal sized runs which are sorted on an
+ * executor, and then neighbouring runs are merged in rounds, alternating between the array and a buffer, with every
+ * merge of a round running as its own task.  Subclasses supply the sort and merge for a particular array type.
+ */
+abstract class AbstractParallelArraySort
+{
+    private final int[] boundaries;
+    private Throwable error;
+
+    protected AbstractParallelArraySort(int size, int runCount)
+    {
+        this.boundaries = new int[runCount + 1];
+        for (int i = 0; i <= runCount; i++)
+        {
+            this.boundaries[i] = (int) ((long) size * i / runCount);
+        }
+    }
+
+    /**
+     * Sorts the elements of the array between from (inclusive) and to (exclusive) in place.
+     */
+    protected abstract void sortRun(int from, int to);
+
+    /**
+     * Merges the sorted ranges [from, middle) and [middle, to) of the buffer into the array when fromBuffer is true,
+     * or of the array into the buffer otherwise.
+     */
+    protected abstract void merge(boolean fromBuffer, int from, int middle, int to);
+
+    /**
+     * Copies the sorted elements from the buffer back into the array.
+     */
+    protected abstract void copyFromBuffer();
+
+    public void execute(Executor executor)
+    {
+        final int[] bounds = this.boundaries;
+        final int runCount = bounds.length - 1;
+        this.executeAndJoin(executor, runCount, new IntProcedure()
+        {
+            public void value(int run)
+            {
+                AbstractParallelArraySort.this.sortRun(bounds[run], bounds[run + 1]);
+            }
+        });
+
+        boolean inBuffer = false;
+        for (int width = 1; width < runCount; width *= 2)
+        {
+            final int mergeWidth = width;
+            final boolean fromBuffer = inBuffer;
+            int mergeCount = (runCount + 2 * width - 1) / (2 * width);
+            this.executeAndJoin(executor, mergeCount, new IntProcedure()
+            {
+                public void value(int merge)
+                {
+                    int firstRun = merge * 2 * mergeWidth;
+                    int from = bounds[firstRun];
+                    int middle = bounds[Math.min(firstRun + mergeWidth, runCount)];
+                    int to = bounds[Math.min(firstRun + 2 * mergeWidth, runCount)];
+                    AbstractParallelArraySort.this.merge(fromBuffer, from, middle, to);
+                }
+            });
+            inBuffer = !inBuffer;
+        }
+        if (inBuffer)
+        {
+            this.copyFromBuffer();
+        }
+    }
+
+    private void executeAndJoin(Executor executor, int taskCount, final IntProcedure task)
+    {
+        final CountDownLatch latch = new CountDownLatch(taskCount);
+        for (int i = 0; i < taskCount; i++)
+        {
+            final int index = i;
+            executor.execute(new Runnable()
+            {
+                public void run()
+                {
+                    try
+                    {
+                        task.value(index);
+                    }
+                    catch (Throwable newError)
+                    {
+                        AbstractParallelArraySort.this.error = newError;
+                    }
+                    finally
+                    {
+                        latch.countDown();
+                    }
+                }
+            });
+        }
+        try
+        {
+            latch.await();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        if (this.error != null)
+        {
+            throw new RuntimeException("One or more parallel tasks failed", this.error);
+        }
+    }
+}
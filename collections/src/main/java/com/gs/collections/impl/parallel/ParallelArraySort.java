@@ -0,0 +1,110 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.parallel;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.Executor;
+
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.utility.ArrayIterate;
+
+/**
+ * ParallelArraySort contains a parallel, stable merge sort for object arrays.  Arrays that are too small to be split
+ * into at least two runs of minForkSize elements are sorted serially.
+ *
+ * @since 6.1
+ */
+public final class ParallelArraySort<T> extends AbstractParallelArraySort
+{
+    private final T[] array;
+    private final T[] buffer;
+    private final Comparator<? super T> comparator;
+
+    private ParallelArraySort(T[] array, int size, Comparator<? super T> comparator, int runCount)
+    {
+        super(size, runCount);
+        this.array = array;
+        this.buffer = (T[]) new Object[size];
+        if (comparator == null)
+        {
+            this.comparator = Comparators.naturalOrder();
+        }
+        else
+        {
+            this.comparator = comparator;
+        }
+    }
+
+    public static <T> void sort(T[] array, int size, Comparator<? super T> comparator)
+    {
+        ParallelArraySort.sortOn(
+                array,
+                size,
+                comparator,
+                ParallelIterate.DEFAULT_MIN_FORK_SIZE,
+                ParallelIterate.DEFAULT_PARALLEL_TASK_COUNT,
+                ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    public static <T> void sortOn(
+            T[] array,
+            int size,
+            Comparator<? super T> comparator,
+            int minForkSize,
+            int taskCount,
+            Executor executor)
+    {
+        int runCount = Math.min(taskCount, size / Math.max(minForkSize, 1));
+        if (runCount < 2)
+        {
+            ArrayIterate.sort(array, size, comparator);
+        }
+        else
+        {
+            new ParallelArraySort<T>(array, size, comparator, runCount).execute(executor);
+        }
+    }
+
+    @Override
+    protected void sortRun(int from, int to)
+    {
+        Arrays.sort(this.array, from, to, this.comparator);
+    }
+
+    @Override
+    protected void merge(boolean fromBuffer, int from, int middle, int to)
+    {
+        T[] source = fromBuffer ? this.buffer : this.array;
+        T[] target = fromBuffer ? this.array : this.buffer;
+        int left = from;
+        int right = middle;
+        int index = from;
+        while (left < middle && right < to)
+        {
+            target[index++] = this.comparator.compare(source[right], source[left]) < 0 ? source[right++] : source[left++];
+        }
+        System.arraycopy(source, left, target, index, middle - left);
+        System.arraycopy(source, right, target, index + middle - left, to - right);
+    }
+
+    @Override
+    protected void copyFromBuffer()
+    {
+        System.arraycopy(this.buffer, 0, this.array, 0, this.buffer.length);
+    }
+}
@@ -18,10 +18,13 @@ package com.gs.collections.impl.parallel;
 
 import java.util.Map;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.map.ParallelMapIterable;
 import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
 import com.gs.collections.impl.utility.MapIterate;
 
 /**
@@ -78,6 +81,12 @@ public final class ParallelMapIterate
     {
         if (map.size() > minForkSize)
         {
+            ParallelMapIterable<K, V> parallelMap = ParallelMapIterate.asParallel(map, ParallelIterate.EXECUTOR_SERVICE, minForkSize, taskCount);
+            if (parallelMap != null)
+            {
+                parallelMap.forEachKeyValue(procedure);
+                return;
+            }
             Procedure<Pair<K, V>> pairProcedure = new PairProcedure<K, V>(procedure);
             ParallelIterate.forEach(MapIterate.toListOfPairs(map), new PassThruProcedureFactory<Procedure<Pair<K, V>>>(pairProcedure), new PassThruCombiner<Procedure<Pair<K, V>>>(), minForkSize, taskCount);
         }
@@ -102,6 +111,12 @@ public final class ParallelMapIterate
     {
         if (map.size() > minForkSize)
         {
+            ParallelMapIterable<K, V> parallelMap = ParallelMapIterate.asParallel(map, executor, minForkSize, taskCount);
+            if (parallelMap != null)
+            {
+                parallelMap.forEachKeyValue(procedure);
+                return;
+            }
             Procedure<Pair<K, V>> pairProcedure = new PairProcedure<K, V>(procedure);
             ParallelIterate.forEachInListOnExecutor(
                     MapIterate.toListOfPairs(map),
@@ -117,6 +132,26 @@ public final class ParallelMapIterate
         }
     }
 
+    /**
+     * Returns a parallel view that splits the bucket table of the map directly, or null if the map or the executor
+     * does not support it and the entries have to be copied into a list of pairs instead. ConcurrentHashMap is left
+     * on the copying path, since its parallel view fails if the map is resized while it is being read.
+     */
+    private static <K, V> ParallelMapIterable<K, V> asParallel(Map<K, V> map, Executor executor, int minForkSize, int taskCount)
+    {
+        if (!(executor instanceof ExecutorService))
+        {
+            return null;
+        }
+        ExecutorService executorService = (ExecutorService) executor;
+        int batchSize = Math.max(minForkSize, map.size() / Math.max(1, taskCount));
+        if (map instanceof UnifiedMap)
+        {
+            return ((UnifiedMap<K, V>) map).asParallel(executorService, batchSize);
+        }
+        return null;
+    }
+
     private static final class PairProcedure<T1, T2> implements Procedure<Pair<T1, T2>>
     {
         private static final long serialVersionUID = 1L;
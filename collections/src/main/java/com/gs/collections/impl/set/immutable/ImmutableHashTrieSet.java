@@ -0,0 +1,249 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.immutable;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Set;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.impl.map.immutable.ImmutableHashTrieMap;
+import net.jcip.annotations.Immutable;
+
+/**
+ * An ImmutableHashTrieSet is a persistent set stored as the keys of an {@link ImmutableHashTrieMap}, so
+ * {@link #newWith(Object)} and {@link #newWithout(Object)} cost O(log<sub>32</sub> n) and share all untouched trie
+ * nodes with the original set. Use a {@link Builder} for bulk changes.
+ *
+ * @since 6.1
+ */
+@Beta
+@Immutable
+public final class ImmutableHashTrieSet<T>
+        extends AbstractImmutableSet<T>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final Object PRESENT = new Object();
+
+    private static final ImmutableHashTrieSet<?> EMPTY = new ImmutableHashTrieSet<Object>(ImmutableHashTrieMap.<Object, Object>newMap());
+
+    private final ImmutableHashTrieMap<T, Object> map;
+
+    private ImmutableHashTrieSet(ImmutableHashTrieMap<T, Object> map)
+    {
+        this.map = map;
+    }
+
+    public static <T> ImmutableHashTrieSet<T> newSet()
+    {
+        return (ImmutableHashTrieSet<T>) EMPTY;
+    }
+
+    public static <T> ImmutableHashTrieSet<T> newSet(Iterable<? extends T> elements)
+    {
+        if (elements instanceof ImmutableHashTrieSet<?>)
+        {
+            return (ImmutableHashTrieSet<T>) elements;
+        }
+        return ImmutableHashTrieSet.<T>newBuilder().addAll(elements).build();
+    }
+
+    public static <T> ImmutableHashTrieSet<T> newSetWith(T... elements)
+    {
+        Builder<T> builder = ImmutableHashTrieSet.newBuilder();
+        for (T element : elements)
+        {
+            builder.add(element);
+        }
+        return builder.build();
+    }
+
+    public static <T> Builder<T> newBuilder()
+    {
+        return new Builder<T>(ImmutableHashTrieMap.<T, Object>newBuilder());
+    }
+
+    /**
+     * Returns a builder that starts from the elements of this set. This set is not affected by changes to the builder.
+     */
+    public Builder<T> toBuilder()
+    {
+        return new Builder<T>(this.map.toBuilder());
+    }
+
+    private ImmutableHashTrieSet<T> wrap(ImmutableHashTrieMap<T, Object> newMap)
+    {
+        if (newMap == this.map)
+        {
+            return this;
+        }
+        return newMap.isEmpty() ? ImmutableHashTrieSet.<T>newSet() : new ImmutableHashTrieSet<T>(newMap);
+    }
+
+    public int size()
+    {
+        return this.map.size();
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        return this.map.containsKey(object);
+    }
+
+    @Override
+    public ImmutableHashTrieSet<T> newWith(T element)
+    {
+        return this.wrap(this.map.newWithKeyValue(element, PRESENT));
+    }
+
+    @Override
+    public ImmutableHashTrieSet<T> newWithout(T element)
+    {
+        return this.wrap(this.map.newWithoutKey(element));
+    }
+
+    @Override
+    public ImmutableHashTrieSet<T> newWithAll(Iterable<? extends T> elements)
+    {
+        return this.toBuilder().addAll(elements).build();
+    }
+
+    @Override
+    public ImmutableHashTrieSet<T> newWithoutAll(Iterable<? extends T> elements)
+    {
+        return this.toBuilder().removeAll(elements).build();
+    }
+
+    public Iterator<T> iterator()
+    {
+        return this.map.keySet().iterator();
+    }
+
+    public void each(Procedure<? super T> procedure)
+    {
+        this.map.forEachKey(procedure);
+    }
+
+    public T getFirst()
+    {
+        return this.isEmpty() ? null : this.iterator().next();
+    }
+
+    public T getLast()
+    {
+        T last = null;
+        for (Iterator<T> iterator = this.iterator(); iterator.hasNext(); )
+        {
+            last = iterator.next();
+        }
+        return last;
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (other == this)
+        {
+            return true;
+        }
+        if (!(other instanceof Set))
+        {
+            return false;
+        }
+        Set<?> set = (Set<?>) other;
+        return set.size() == this.size() && this.containsAll(set);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int sum = 0;
+        for (Iterator<T> iterator = this.iterator(); iterator.hasNext(); )
+        {
+            sum += this.nullSafeHashCode(iterator.next());
+        }
+        return sum;
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableSetSerializationProxy<T>(this);
+    }
+
+    /**
+     * A Builder applies a batch of changes to an ImmutableHashTrieSet, editing the trie nodes it has already copied in
+     * place. See {@link ImmutableHashTrieMap.Builder}.
+     * <p>
+     * A Builder is not thread-safe.
+     */
+    public static final class Builder<T>
+    {
+        private final ImmutableHashTrieMap.Builder<T, Object> delegate;
+
+        private Builder(ImmutableHashTrieMap.Builder<T, Object> delegate)
+        {
+            this.delegate = delegate;
+        }
+
+        public int size()
+        {
+            return this.delegate.size();
+        }
+
+        public boolean contains(Object element)
+        {
+            return this.delegate.containsKey(element);
+        }
+
+        public Builder<T> add(T element)
+        {
+            this.delegate.put(element, PRESENT);
+            return this;
+        }
+
+        public Builder<T> addAll(Iterable<? extends T> elements)
+        {
+            for (T element : elements)
+            {
+                this.delegate.put(element, PRESENT);
+            }
+            return this;
+        }
+
+        public Builder<T> remove(Object element)
+        {
+            this.delegate.remove(element);
+            return this;
+        }
+
+        public Builder<T> removeAll(Iterable<?> elements)
+        {
+            this.delegate.removeAll(elements);
+            return this;
+        }
+
+        public ImmutableHashTrieSet<T> build()
+        {
+            ImmutableHashTrieMap<T, Object> map = this.delegate.build();
+            return map.isEmpty() ? ImmutableHashTrieSet.<T>newSet() : new ImmutableHashTrieSet<T>(map);
+        }
+    }
+}
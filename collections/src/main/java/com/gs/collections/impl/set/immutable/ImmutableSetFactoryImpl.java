@@ -165,4 +165,14 @@ public final class ImmutableSetFactoryImpl implements ImmutableSetFactory
         }
         return this.with((T[]) Iterate.toArray(items));
     }
+
+    public <T> ImmutableSet<T> emptyPersistent()
+    {
+        return ImmutableHashTrieSet.newSet();
+    }
+
+    public <T> ImmutableSet<T> withAllPersistent(Iterable<? extends T> items)
+    {
+        return ImmutableHashTrieSet.newSet(items);
+    }
 }
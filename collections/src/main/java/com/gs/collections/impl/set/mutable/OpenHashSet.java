@@ -0,0 +1,541 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.api.set.ParallelUnsortedSetIterable;
+import com.gs.collections.impl.lazy.parallel.set.NonParallelUnsortedSetIterable;
+
+/**
+ * OpenHashSet is an open-addressing alternative to {@link UnifiedSet}. Elements are stored directly in the table and
+ * collisions are resolved by linear probing, so a lookup walks adjacent memory instead of following chained buckets.
+ * A parallel array caches the spread hash code of every element, which lets a probe reject a mismatching slot without
+ * calling {@link Object#equals(Object)}. Removal shifts the following elements of the probe sequence back into the
+ * freed slot, so the table never holds tombstones.
+ * <p>
+ * A null element is supported. The table grows by doubling when it is more than three quarters full.
+ *
+ * @since 6.1
+ */
+@Beta
+public class OpenHashSet<T>
+        extends AbstractMutableSet<T>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final Object NULL_KEY = new Object()
+    {
+        @Override
+        public String toString()
+        {
+            return "OpenHashSet.NULL_KEY";
+        }
+    };
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 8;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private Object[] table;
+    private int[] hashes;
+    private int occupied;
+    private int maxOccupied;
+
+    public OpenHashSet()
+    {
+        this.allocate(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public OpenHashSet(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        this.allocate(OpenHashSet.capacityFor(initialCapacity));
+    }
+
+    public OpenHashSet(Collection<? extends T> collection)
+    {
+        this(collection.size());
+        this.addAll(collection);
+    }
+
+    public static <K> OpenHashSet<K> newSet()
+    {
+        return new OpenHashSet<K>();
+    }
+
+    public static <K> OpenHashSet<K> newSet(int size)
+    {
+        return new OpenHashSet<K>(size);
+    }
+
+    public static <K> OpenHashSet<K> newSet(Iterable<? extends K> source)
+    {
+        return new OpenHashSet<K>().withAll(source);
+    }
+
+    public static <K> OpenHashSet<K> newSetWith(K... elements)
+    {
+        return new OpenHashSet<K>(elements.length).with(elements);
+    }
+
+    private static int capacityFor(int size)
+    {
+        int capacity = 4;
+        while (capacity - (capacity >> 2) < size && capacity < MAXIMUM_CAPACITY)
+        {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private void allocate(int capacity)
+    {
+        this.table = new Object[capacity];
+        this.hashes = new int[capacity];
+        this.maxOccupied = capacity - (capacity >> 2);
+    }
+
+    private static int spread(Object key)
+    {
+        int h = key == NULL_KEY ? 0 : key.hashCode();
+        h ^= h >>> 15;
+        h *= 1854960195;
+        h ^= h >>> 13;
+        h *= -75769267;
+        h ^= h >>> 11;
+        return h;
+    }
+
+    private static Object toSentinelIfNull(Object key)
+    {
+        return key == null ? NULL_KEY : key;
+    }
+
+    private static <K> K nonSentinel(Object key)
+    {
+        return key == NULL_KEY ? null : (K) key;
+    }
+
+    private static boolean keyEquals(Object tableKey, Object key)
+    {
+        return tableKey == key || tableKey != NULL_KEY && key != NULL_KEY && tableKey.equals(key);
+    }
+
+    private int indexOf(Object element)
+    {
+        Object key = OpenHashSet.toSentinelIfNull(element);
+        int hash = OpenHashSet.spread(key);
+        int mask = this.table.length - 1;
+        int slot = hash & mask;
+        while (true)
+        {
+            Object cur = this.table[slot];
+            if (cur == null)
+            {
+                return -1;
+            }
+            if (this.hashes[slot] == hash && OpenHashSet.keyEquals(cur, key))
+            {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void rehash(int newCapacity)
+    {
+        Object[] oldTable = this.table;
+        int[] oldHashes = this.hashes;
+        this.allocate(newCapacity);
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldTable.length; i++)
+        {
+            Object cur = oldTable[i];
+            if (cur != null)
+            {
+                int hash = oldHashes[i];
+                int slot = hash & mask;
+                while (this.table[slot] != null)
+                {
+                    slot = (slot + 1) & mask;
+                }
+                this.table[slot] = cur;
+                this.hashes[slot] = hash;
+            }
+        }
+    }
+
+    private void removeSlot(int slot)
+    {
+        int mask = this.table.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (this.table[next] != null)
+        {
+            int home = this.hashes[next] & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask))
+            {
+                this.table[hole] = this.table[next];
+                this.hashes[hole] = this.hashes[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        this.table[hole] = null;
+        this.hashes[hole] = 0;
+        this.occupied--;
+    }
+
+    /**
+     * Returns the length of the longest probe sequence needed to find any element in the set, where an element found
+     * in its home slot has a probe length of one.
+     */
+    public int getMaxProbeLength()
+    {
+        int mask = this.table.length - 1;
+        int max = 0;
+        for (int i = 0; i < this.table.length; i++)
+        {
+            if (this.table[i] != null)
+            {
+                max = Math.max(max, ((i - (this.hashes[i] & mask)) & mask) + 1);
+            }
+        }
+        return max;
+    }
+
+    @Override
+    public OpenHashSet<T> clone()
+    {
+        OpenHashSet<T> result = (OpenHashSet<T>) super.clone();
+        result.table = this.table.clone();
+        result.hashes = this.hashes.clone();
+        return result;
+    }
+
+    @Override
+    public MutableSet<T> newEmpty()
+    {
+        return OpenHashSet.newSet();
+    }
+
+    public int size()
+    {
+        return this.occupied;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.occupied == 0;
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        return this.indexOf(object) != -1;
+    }
+
+    @Override
+    public boolean add(T element)
+    {
+        Object key = OpenHashSet.toSentinelIfNull(element);
+        int hash = OpenHashSet.spread(key);
+        int mask = this.table.length - 1;
+        int slot = hash & mask;
+        while (true)
+        {
+            Object cur = this.table[slot];
+            if (cur == null)
+            {
+                this.table[slot] = key;
+                this.hashes[slot] = hash;
+                if (++this.occupied > this.maxOccupied)
+                {
+                    this.rehash(this.table.length << 1);
+                }
+                return true;
+            }
+            if (this.hashes[slot] == hash && OpenHashSet.keyEquals(cur, key))
+            {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> collection)
+    {
+        int required = OpenHashSet.capacityFor(this.occupied + collection.size());
+        if (required > this.table.length)
+        {
+            this.rehash(required);
+        }
+        return super.addAll(collection);
+    }
+
+    @Override
+    public boolean remove(Object object)
+    {
+        int slot = this.indexOf(object);
+        if (slot == -1)
+        {
+            return false;
+        }
+        this.removeSlot(slot);
+        return true;
+    }
+
+    public void clear()
+    {
+        if (this.occupied == 0)
+        {
+            return;
+        }
+        Arrays.fill(this.table, null);
+        Arrays.fill(this.hashes, 0);
+        this.occupied = 0;
+    }
+
+    public Iterator<T> iterator()
+    {
+        return new OpenHashSetIterator();
+    }
+
+    public void each(Procedure<? super T> procedure)
+    {
+        for (int i = 0; i < this.table.length; i++)
+        {
+            Object cur = this.table[i];
+            if (cur != null)
+            {
+                procedure.value(OpenHashSet.<T>nonSentinel(cur));
+            }
+        }
+    }
+
+    public T getFirst()
+    {
+        for (int i = 0; i < this.table.length; i++)
+        {
+            Object cur = this.table[i];
+            if (cur != null)
+            {
+                return OpenHashSet.nonSentinel(cur);
+            }
+        }
+        return null;
+    }
+
+    public T getLast()
+    {
+        for (int i = this.table.length - 1; i >= 0; i--)
+        {
+            Object cur = this.table[i];
+            if (cur != null)
+            {
+                return OpenHashSet.nonSentinel(cur);
+            }
+        }
+        return null;
+    }
+
+    public OpenHashSet<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public OpenHashSet<T> with(T element1, T element2)
+    {
+        this.add(element1);
+        this.add(element2);
+        return this;
+    }
+
+    public OpenHashSet<T> with(T element1, T element2, T element3)
+    {
+        this.add(element1);
+        this.add(element2);
+        this.add(element3);
+        return this;
+    }
+
+    public OpenHashSet<T> with(T... elements)
+    {
+        this.addAll(Arrays.asList(elements));
+        return this;
+    }
+
+    public OpenHashSet<T> withAll(Iterable<? extends T> iterable)
+    {
+        this.addAllIterable(iterable);
+        return this;
+    }
+
+    public OpenHashSet<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    public OpenHashSet<T> withoutAll(Iterable<? extends T> elements)
+    {
+        this.removeAllIterable(elements);
+        return this;
+    }
+
+    @Beta
+    public ParallelUnsortedSetIterable<T> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return new NonParallelUnsortedSetIterable<T>(this);
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+
+        if (!(object instanceof Set))
+        {
+            return false;
+        }
+
+        Set<?> other = (Set<?>) object;
+        return this.size() == other.size() && this.containsAll(other);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (int i = 0; i < this.table.length; i++)
+        {
+            Object cur = this.table[i];
+            if (cur != null && cur != NULL_KEY)
+            {
+                hashCode += cur.hashCode();
+            }
+        }
+        return hashCode;
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.occupied);
+        for (int i = 0; i < this.table.length; i++)
+        {
+            Object cur = this.table[i];
+            if (cur != null)
+            {
+                out.writeObject(OpenHashSet.nonSentinel(cur));
+            }
+        }
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.allocate(OpenHashSet.capacityFor(size));
+        this.occupied = 0;
+        for (int i = 0; i < size; i++)
+        {
+            this.add((T) in.readObject());
+        }
+    }
+
+    /**
+     * Walks the table starting just after an empty slot. No probe sequence wraps past that slot, so the elements that
+     * {@link #removeSlot(int)} shifts back are always ones the iterator has not reached yet.
+     */
+    private final class OpenHashSetIterator implements Iterator<T>
+    {
+        private final int start;
+        private int position;
+        private int remaining = OpenHashSet.this.occupied;
+        private int current = -1;
+
+        private OpenHashSetIterator()
+        {
+            Object[] table = OpenHashSet.this.table;
+            int empty = 0;
+            while (empty < table.length && table[empty] != null)
+            {
+                empty++;
+            }
+            this.start = empty + 1;
+        }
+
+        public boolean hasNext()
+        {
+            return this.remaining > 0;
+        }
+
+        public T next()
+        {
+            if (this.remaining == 0)
+            {
+                throw new NoSuchElementException();
+            }
+            Object[] table = OpenHashSet.this.table;
+            int mask = table.length - 1;
+            while (true)
+            {
+                int slot = (this.start + this.position) & mask;
+                this.position++;
+                Object cur = table[slot];
+                if (cur != null)
+                {
+                    this.current = slot;
+                    this.remaining--;
+                    return OpenHashSet.nonSentinel(cur);
+                }
+            }
+        }
+
+        public void remove()
+        {
+            if (this.current == -1)
+            {
+                throw new IllegalStateException();
+            }
+            OpenHashSet.this.removeSlot(this.current);
+            this.current = -1;
+            this.position--;
+        }
+    }
+}
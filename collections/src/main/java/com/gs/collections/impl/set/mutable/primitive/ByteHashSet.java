@@ -23,9 +23,13 @@ import java.io.ObjectOutput;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
 
 import com.gs.collections.api.ByteIterable;
 import com.gs.collections.api.LazyByteIterable;
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.ParallelByteIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.bag.primitive.MutableByteBag;
 import com.gs.collections.api.block.function.primitive.ByteToObjectFunction;
 import com.gs.collections.api.block.function.primitive.ObjectByteToObjectFunction;
@@ -42,10 +46,13 @@ import com.gs.collections.api.set.primitive.MutableByteSet;
 import com.gs.collections.impl.bag.mutable.primitive.ByteHashBag;
 import com.gs.collections.impl.block.procedure.checked.primitive.CheckedByteProcedure;
 import com.gs.collections.impl.factory.primitive.ByteSets;
+import com.gs.collections.impl.lazy.parallel.primitive.AbstractParallelByteIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.ByteBatch;
 import com.gs.collections.impl.lazy.primitive.LazyByteIterableAdapter;
 import com.gs.collections.impl.list.mutable.primitive.ByteArrayList;
 import com.gs.collections.impl.set.immutable.primitive.ImmutableByteSetSerializationProxy;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.utility.internal.primitive.ByteOrderStatistics;
 
 public final class ByteHashSet implements MutableByteSet, Externalizable
 {
@@ -738,6 +745,20 @@ public final class ByteHashSet implements MutableByteSet, Externalizable
         return new LazyByteIterableAdapter(this);
     }
 
+    @Beta
+    public ParallelByteIterable asParallel(ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        return new ByteHashSetParallelIterable(executorService, batchSize);
+    }
+
     public long sum()
     {
         long result = 0L;
@@ -841,19 +862,27 @@ public final class ByteHashSet implements MutableByteSet, Externalizable
 
     public double median()
     {
-        if (this.isEmpty())
-        {
-            throw new ArithmeticException();
-        }
-        byte[] sortedArray = this.toSortedArray();
-        int middleIndex = sortedArray.length >> 1;
-        if (sortedArray.length > 1 && (sortedArray.length & 1) == 0)
-        {
-            byte first = sortedArray[middleIndex];
-            byte second = sortedArray[middleIndex - 1];
-            return ((double) first + (double) second) / 2.0;
-        }
-        return (double) sortedArray[middleIndex];
+        return ByteOrderStatistics.median(this.toArray());
+    }
+
+    public double percentile(double percentile)
+    {
+        return ByteOrderStatistics.percentile(this.toArray(), percentile);
+    }
+
+    public double[] percentiles(double... percentiles)
+    {
+        return ByteOrderStatistics.percentiles(this.toArray(), percentiles);
+    }
+
+    public MutableByteList topK(int k)
+    {
+        return ByteOrderStatistics.topK(this, k);
+    }
+
+    public MutableByteList bottomK(int k)
+    {
+        return ByteOrderStatistics.bottomK(this, k);
     }
 
     public byte[] toSortedArray()
@@ -920,6 +949,37 @@ public final class ByteHashSet implements MutableByteSet, Externalizable
         return result;
     }
 
+    private final class ByteHashSetParallelIterable extends AbstractParallelByteIterable
+    {
+        private final ExecutorService executorService;
+        private final int batchSize;
+
+        private ByteHashSetParallelIterable(ExecutorService executorService, int batchSize)
+        {
+            this.executorService = executorService;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return this.executorService;
+        }
+
+        @Override
+        public int getBatchSize()
+        {
+            return this.batchSize;
+        }
+
+        @Override
+        public LazyIterable<ByteBatch> split()
+        {
+            // At most 256 elements, so a snapshot of the bit groups is cheaper than splitting them
+            return this.splitArray(ByteHashSet.this.toArray(), ByteHashSet.this.size());
+        }
+    }
+
     private static final class ImmutableByteHashSet implements ImmutableByteSet, Serializable
     {
         private static final long serialVersionUID = 1L;
@@ -1389,15 +1449,27 @@ public final class ByteHashSet implements MutableByteSet, Externalizable
 
         public double median()
         {
-            byte[] sortedArray = this.toSortedArray();
-            int middleIndex = sortedArray.length >> 1;
-            if (sortedArray.length > 1 && (sortedArray.length & 1) == 0)
-            {
-                byte first = sortedArray[middleIndex];
-                byte second = sortedArray[middleIndex - 1];
-                return ((double) first + (double) second) / 2.0;
-            }
-            return (double) sortedArray[middleIndex];
+            return ByteOrderStatistics.median(this.toArray());
+        }
+
+        public double percentile(double percentile)
+        {
+            return ByteOrderStatistics.percentile(this.toArray(), percentile);
+        }
+
+        public double[] percentiles(double... percentiles)
+        {
+            return ByteOrderStatistics.percentiles(this.toArray(), percentiles);
+        }
+
+        public MutableByteList topK(int k)
+        {
+            return ByteOrderStatistics.topK(this, k);
+        }
+
+        public MutableByteList bottomK(int k)
+        {
+            return ByteOrderStatistics.bottomK(this, k);
         }
 
         public byte[] toSortedArray()
@@ -22,6 +22,7 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.SortedSet;
 
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.predicate.Predicate;
@@ -252,6 +253,34 @@ final class ImmutableEmptySortedSet<T>
         throw new NoSuchElementException();
     }
 
+    public T floor(T element)
+    {
+        return null;
+    }
+
+    public T ceiling(T element)
+    {
+        return null;
+    }
+
+    @Override
+    public SortedSet<T> subSet(T fromElement, T toElement)
+    {
+        return this;
+    }
+
+    @Override
+    public SortedSet<T> headSet(T toElement)
+    {
+        return this;
+    }
+
+    @Override
+    public SortedSet<T> tailSet(T fromElement)
+    {
+        return this;
+    }
+
     public int indexOf(Object object)
     {
         return -1;
@@ -128,4 +128,13 @@ public final class ImmutableSortedSetFactoryImpl implements ImmutableSortedSetFa
         }
         return ImmutableTreeSet.newSet(set);
     }
+
+    public <T> ImmutableSortedSet<T> withSortedSetSearchOptimized(SortedSet<T> set)
+    {
+        if (set.isEmpty())
+        {
+            return this.of(set.comparator());
+        }
+        return ImmutableTreeSet.newSearchOptimizedSet(set);
+    }
 }
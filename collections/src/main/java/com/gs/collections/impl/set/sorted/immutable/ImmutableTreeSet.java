@@ -40,6 +40,7 @@ import com.gs.collections.api.set.sorted.SortedSetIterable;
 import com.gs.collections.impl.lazy.AbstractLazyIterable;
 import com.gs.collections.impl.lazy.parallel.AbstractBatch;
 import com.gs.collections.impl.lazy.parallel.AbstractParallelIterable;
+import com.gs.collections.impl.lazy.parallel.list.FlatCollectListBatch;
 import com.gs.collections.impl.lazy.parallel.list.ListBatch;
 import com.gs.collections.impl.lazy.parallel.set.sorted.AbstractParallelSortedSetIterable;
 import com.gs.collections.impl.lazy.parallel.set.sorted.CollectSortedSetBatch;
@@ -51,6 +52,7 @@ import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
 import com.gs.collections.impl.set.sorted.mutable.TreeSortedSet;
 import com.gs.collections.impl.utility.ArrayIterate;
 import com.gs.collections.impl.utility.ListIterate;
+import com.gs.collections.impl.utility.internal.EytzingerIndex;
 import com.gs.collections.impl.utility.internal.InternalArrayIterate;
 import net.jcip.annotations.Immutable;
 
@@ -64,10 +66,23 @@ final class ImmutableTreeSet<T>
     private final T[] delegate;
     private final Comparator<? super T> comparator;
 
+    /**
+     * A second copy of the elements in search order, or null to binary search {@link #delegate}.
+     */
+    private final EytzingerIndex index;
+
     private ImmutableTreeSet(SortedSet<T> sortedSet)
     {
         this.delegate = (T[]) sortedSet.toArray();
         this.comparator = sortedSet.comparator();
+        this.index = null;
+    }
+
+    private ImmutableTreeSet(T[] delegate, Comparator<? super T> comparator, EytzingerIndex index)
+    {
+        this.delegate = delegate;
+        this.comparator = comparator;
+        this.index = index;
     }
 
     public static <T> ImmutableSortedSet<T> newSetWith(T... elements)
@@ -85,6 +100,25 @@ final class ImmutableTreeSet<T>
         return new ImmutableTreeSet<T>(TreeSortedSet.newSet(set));
     }
 
+    /**
+     * Returns a set that also keeps its elements in Eytzinger order for faster lookups, or a plain set when the
+     * elements have no such layout. See {@link EytzingerIndex}.
+     *
+     * @since 6.1
+     */
+    public static <T> ImmutableSortedSet<T> newSearchOptimizedSet(SortedSet<T> set)
+    {
+        ImmutableTreeSet<T> treeSet = set instanceof ImmutableTreeSet
+                ? (ImmutableTreeSet<T>) set
+                : new ImmutableTreeSet<T>((T[]) TreeSortedSet.newSet(set).toArray(), set.comparator(), null);
+        if (treeSet.index != null)
+        {
+            return treeSet;
+        }
+        EytzingerIndex index = EytzingerIndex.newIndex(treeSet.delegate, treeSet.comparator);
+        return index == null ? treeSet : new ImmutableTreeSet<T>(treeSet.delegate, treeSet.comparator, index);
+    }
+
     public int size()
     {
         return this.delegate.length;
@@ -137,9 +171,84 @@ final class ImmutableTreeSet<T>
     @Override
     public boolean contains(Object object)
     {
+        if (this.index != null)
+        {
+            return this.index.indexOf(object) >= 0;
+        }
         return Arrays.binarySearch(this.delegate, (T) object, this.comparator) >= 0;
     }
 
+    private int ceilingIndex(T element)
+    {
+        if (this.index != null)
+        {
+            return this.index.ceilingIndex(element);
+        }
+        int result = Arrays.binarySearch(this.delegate, element, this.comparator);
+        return result >= 0 ? result : -result - 1;
+    }
+
+    private int higherIndex(T element)
+    {
+        if (this.index != null)
+        {
+            return this.index.higherIndex(element);
+        }
+        int result = Arrays.binarySearch(this.delegate, element, this.comparator);
+        return result >= 0 ? result + 1 : -result - 1;
+    }
+
+    public T floor(T element)
+    {
+        int index = this.higherIndex(element);
+        return index == 0 ? null : this.delegate[index - 1];
+    }
+
+    public T ceiling(T element)
+    {
+        int index = this.ceilingIndex(element);
+        return index == this.delegate.length ? null : this.delegate[index];
+    }
+
+    @Override
+    public SortedSet<T> subSet(T fromElement, T toElement)
+    {
+        if (this.compare(fromElement, toElement) > 0)
+        {
+            throw new IllegalArgumentException("fromElement > toElement");
+        }
+        return this.slice(this.ceilingIndex(fromElement), this.ceilingIndex(toElement));
+    }
+
+    @Override
+    public SortedSet<T> headSet(T toElement)
+    {
+        return this.slice(0, this.ceilingIndex(toElement));
+    }
+
+    @Override
+    public SortedSet<T> tailSet(T fromElement)
+    {
+        return this.slice(this.ceilingIndex(fromElement), this.delegate.length);
+    }
+
+    private SortedSet<T> slice(int fromIndex, int toIndex)
+    {
+        if (fromIndex == 0 && toIndex == this.delegate.length)
+        {
+            return this;
+        }
+        if (fromIndex == toIndex)
+        {
+            return new ImmutableEmptySortedSet<T>(this.comparator);
+        }
+        int length = toIndex - fromIndex;
+        T[] slice = (T[]) new Object[length];
+        System.arraycopy(this.delegate, fromIndex, slice, 0, length);
+        EytzingerIndex sliceIndex = this.index == null ? null : EytzingerIndex.newIndex(slice, this.comparator);
+        return new ImmutableTreeSet<T>(slice, this.comparator, sliceIndex);
+    }
+
     public Iterator<T> iterator()
     {
         return FastList.newListWith(this.delegate).asUnmodifiable().iterator();
@@ -429,6 +538,11 @@ final class ImmutableTreeSet<T>
             return new CollectSortedSetBatch<T, V>(this, function);
         }
 
+        public <V> ListBatch<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
+        {
+            return new FlatCollectListBatch<T, V>(this, function);
+        }
+
         public SortedSetBatch<T> distinct(ConcurrentHashMap<T, Boolean> distinct)
         {
             return this;
@@ -95,6 +95,7 @@ import com.gs.collections.impl.list.mutable.primitive.FloatArrayList;
 import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
 import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
 import com.gs.collections.impl.list.mutable.primitive.ShortArrayList;
+import com.gs.collections.impl.map.sorted.mutable.BPlusTreeMap;
 import com.gs.collections.impl.multimap.set.sorted.TreeSortedSetMultimap;
 import com.gs.collections.impl.partition.set.sorted.PartitionTreeSortedSet;
 import com.gs.collections.impl.stack.mutable.ArrayStack;
@@ -111,7 +112,7 @@ public class TreeSortedSet<T> extends AbstractMutableCollection<T>
         implements Externalizable, MutableSortedSet<T>
 {
     private static final long serialVersionUID = 1L;
-    private TreeSet<T> treeSet;
+    private SortedSet<T> treeSet;
 
     public TreeSortedSet()
     {
@@ -140,6 +141,11 @@ public class TreeSortedSet<T> extends AbstractMutableCollection<T>
         this.addAllIterable(iterable);
     }
 
+    private TreeSortedSet(BPlusTreeMap<T, ?> keysOnlyMap)
+    {
+        this.treeSet = keysOnlyMap.keySet();
+    }
+
     public static <T> TreeSortedSet<T> newSet()
     {
         return new TreeSortedSet<T>();
@@ -166,6 +172,39 @@ public class TreeSortedSet<T> extends AbstractMutableCollection<T>
         return new TreeSortedSet<T>(comparator, iterable);
     }
 
+    /**
+     * Returns an empty set backed by a B+-tree that keeps its elements in arrays of up to 64, instead of a
+     * {@link TreeSet} node per element. Sets derived from it, such as {@link #newEmpty()} and {@link #clone()}, keep
+     * the B+-tree; a deserialized copy goes back to a TreeSet. See {@link BPlusTreeMap#newKeysOnlyMap(Comparator)}.
+     *
+     * @since 6.1
+     */
+    @Beta
+    public static <T> TreeSortedSet<T> newBTreeSet()
+    {
+        return TreeSortedSet.newBTreeSet((Comparator<? super T>) null);
+    }
+
+    /**
+     * @since 6.1
+     */
+    @Beta
+    public static <T> TreeSortedSet<T> newBTreeSet(Comparator<? super T> comparator)
+    {
+        return new TreeSortedSet<T>(BPlusTreeMap.newKeysOnlyMap(comparator));
+    }
+
+    /**
+     * Returns a set backed by a B+-tree holding the elements of {@code set}, sorted by its comparator.
+     *
+     * @since 6.1
+     */
+    @Beta
+    public static <T> TreeSortedSet<T> newBTreeSet(SortedSet<T> set)
+    {
+        return new TreeSortedSet<T>(BPlusTreeMap.newKeysOnlyMap(set));
+    }
+
     public static <T> TreeSortedSet<T> newSetWith(T... elements)
     {
         return new TreeSortedSet<T>().with(elements);
@@ -251,7 +290,9 @@ public class TreeSortedSet<T> extends AbstractMutableCollection<T>
         try
         {
             TreeSortedSet<T> clone = (TreeSortedSet<T>) super.clone();
-            clone.treeSet = (TreeSet<T>) this.treeSet.clone();
+            clone.treeSet = this.treeSet instanceof TreeSet<?>
+                    ? (TreeSet<T>) ((TreeSet<T>) this.treeSet).clone()
+                    : BPlusTreeMap.newKeysOnlyMap(this.treeSet).keySet();
             return clone;
         }
         catch (CloneNotSupportedException e)
@@ -330,7 +371,11 @@ public class TreeSortedSet<T> extends AbstractMutableCollection<T>
 
     public TreeSortedSet<T> newEmpty()
     {
-        return TreeSortedSet.newSet(this.treeSet.comparator());
+        if (this.treeSet instanceof TreeSet<?>)
+        {
+            return TreeSortedSet.newSet(this.treeSet.comparator());
+        }
+        return TreeSortedSet.newBTreeSet(this.treeSet.comparator());
     }
 
     public TreeSortedSet<T> tap(Procedure<? super T> procedure)
@@ -29,6 +29,7 @@ import com.gs.collections.impl.lazy.CompositeIterable;
 import com.gs.collections.impl.lazy.DistinctIterable;
 import com.gs.collections.impl.lazy.DropIterable;
 import com.gs.collections.impl.lazy.FlatCollectIterable;
+import com.gs.collections.impl.lazy.FusedIterable;
 import com.gs.collections.impl.lazy.LazyIterableAdapter;
 import com.gs.collections.impl.lazy.RejectIterable;
 import com.gs.collections.impl.lazy.SelectInstancesOfIterable;
@@ -79,6 +80,17 @@ public final class LazyIterate
         return new RejectIterable<T>(iterable, predicate);
     }
 
+    /**
+     * Creates a deferred iterable for the specified iterable that fuses the select, reject and collect stages chained
+     * onto it into a single pass.
+     *
+     * @since 6.1
+     */
+    public static <T> LazyIterable<T> fuse(Iterable<T> iterable)
+    {
+        return FusedIterable.adapt(iterable);
+    }
+
     public static <T> LazyIterable<T> selectInstancesOf(Iterable<?> iterable, Class<T> clazz)
     {
         return new SelectInstancesOfIterable<T>(iterable, clazz);
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.utility.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import com.gs.collections.api.annotation.Beta;
+
+/**
+ * A file mapped into memory with {@link FileChannel#map(FileChannel.MapMode, long, long)}, addressed by a long
+ * position so that files larger than the 2GB limit of a single {@link MappedByteBuffer} can be used. The file is mapped
+ * as a sequence of 1GB little-endian segments. A value must not straddle two segments, which holds as long as every
+ * value is stored at a position that is a multiple of its own size.
+ * <p>
+ * The mapping stays valid after the underlying file has been closed, and is released by the garbage collector once the
+ * region is no longer referenced. Reads are safe from multiple threads; writes are not synchronized.
+ *
+ * @since 6.1
+ */
+@Beta
+public final class MappedFileRegion
+{
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+    private static final long SEGMENT_MASK = SEGMENT_SIZE - 1L;
+
+    private final ByteBuffer[] segments;
+    private final long length;
+
+    private MappedFileRegion(ByteBuffer[] segments, long length)
+    {
+        this.segments = segments;
+        this.length = length;
+    }
+
+    /**
+     * Maps the whole of an existing file for reading.
+     */
+    public static MappedFileRegion open(File file) throws IOException
+    {
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        try
+        {
+            return MappedFileRegion.map(randomAccessFile.getChannel(), FileChannel.MapMode.READ_ONLY, randomAccessFile.length());
+        }
+        finally
+        {
+            randomAccessFile.close();
+        }
+    }
+
+    /**
+     * Creates or truncates a file of the given length, filled with zeros, and maps it for reading and writing.
+     */
+    public static MappedFileRegion create(File file, long length) throws IOException
+    {
+        if (length < 0L)
+        {
+            throw new IllegalArgumentException("length may not be negative: " + length);
+        }
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+        try
+        {
+            randomAccessFile.setLength(0L);
+            randomAccessFile.setLength(length);
+            return MappedFileRegion.map(randomAccessFile.getChannel(), FileChannel.MapMode.READ_WRITE, length);
+        }
+        finally
+        {
+            randomAccessFile.close();
+        }
+    }
+
+    private static MappedFileRegion map(FileChannel channel, FileChannel.MapMode mode, long length) throws IOException
+    {
+        int segmentCount = (int) ((length + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+        ByteBuffer[] segments = new ByteBuffer[segmentCount];
+        for (int i = 0; i < segmentCount; i++)
+        {
+            long start = (long) i << SEGMENT_SHIFT;
+            segments[i] = channel.map(mode, start, Math.min(SEGMENT_SIZE, length - start)).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return new MappedFileRegion(segments, length);
+    }
+
+    public long length()
+    {
+        return this.length;
+    }
+
+    /**
+     * Writes any changes made through a read-write region back to the file.
+     */
+    public void force()
+    {
+        for (ByteBuffer segment : this.segments)
+        {
+            ((MappedByteBuffer) segment).force();
+        }
+    }
+
+    private ByteBuffer segment(long position)
+    {
+        return this.segments[(int) (position >>> SEGMENT_SHIFT)];
+    }
+
+    private static int offset(long position)
+    {
+        return (int) (position & SEGMENT_MASK);
+    }
+
+    public byte getByte(long position)
+    {
+        return this.segment(position).get(offset(position));
+    }
+
+    public void putByte(long position, byte value)
+    {
+        this.segment(position).put(offset(position), value);
+    }
+
+    public short getShort(long position)
+    {
+        return this.segment(position).getShort(offset(position));
+    }
+
+    public void putShort(long position, short value)
+    {
+        this.segment(position).putShort(offset(position), value);
+    }
+
+    public char getChar(long position)
+    {
+        return this.segment(position).getChar(offset(position));
+    }
+
+    public void putChar(long position, char value)
+    {
+        this.segment(position).putChar(offset(position), value);
+    }
+
+    public int getInt(long position)
+    {
+        return this.segment(position).getInt(offset(position));
+    }
+
+    public void putInt(long position, int value)
+    {
+        this.segment(position).putInt(offset(position), value);
+    }
+
+    public long getLong(long position)
+    {
+        return this.segment(position).getLong(offset(position));
+    }
+
+    public void putLong(long position, long value)
+    {
+        this.segment(position).putLong(offset(position), value);
+    }
+
+    public float getFloat(long position)
+    {
+        return this.segment(position).getFloat(offset(position));
+    }
+
+    public void putFloat(long position, float value)
+    {
+        this.segment(position).putFloat(offset(position), value);
+    }
+
+    public double getDouble(long position)
+    {
+        return this.segment(position).getDouble(offset(position));
+    }
+
+    public void putDouble(long position, double value)
+    {
+        this.segment(position).putDouble(offset(position), value);
+    }
+}
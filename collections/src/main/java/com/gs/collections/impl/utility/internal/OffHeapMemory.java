@@ -0,0 +1,255 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.utility.internal;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.reflect.Field;
+import java.security.AccessController;
+import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.gs.collections.api.annotation.Beta;
+import net.jcip.annotations.NotThreadSafe;
+import sun.misc.Unsafe;
+
+/**
+ * A block of native memory outside of the Java heap, used by the off-heap primitive collections. Every read and
+ * write takes a byte offset into the block and is checked against the block's own size, so a block can only ever
+ * touch the memory it allocated.
+ * <p>
+ * A block should be released with {@link #free()} as soon as it is no longer needed. A block that becomes
+ * unreachable without being freed is released after the garbage collector has noticed it, the next time any block
+ * is allocated. That backstop only bounds the leak; it may run much later than the owner was dropped, so owners
+ * should not rely on it.
+ *
+ * @since 6.1
+ */
+@Beta
+@NotThreadSafe
+public final class OffHeapMemory
+{
+    private static final Unsafe UNSAFE = OffHeapMemory.getUnsafe();
+    private static final ReferenceQueue<OffHeapMemory> UNREACHABLE = new ReferenceQueue<OffHeapMemory>();
+    private static final Set<Deallocator> LIVE = Collections.synchronizedSet(new HashSet<Deallocator>());
+
+    private final Deallocator deallocator;
+    private long address;
+    private long bytes;
+
+    private OffHeapMemory(long address, long bytes)
+    {
+        this.address = address;
+        this.bytes = bytes;
+        this.deallocator = new Deallocator(this, address);
+        LIVE.add(this.deallocator);
+    }
+
+    /**
+     * Allocates a block of zeroed native memory of the specified size.
+     */
+    public static OffHeapMemory allocate(long bytes)
+    {
+        if (bytes < 0L)
+        {
+            throw new IllegalArgumentException("bytes may not be negative: " + bytes);
+        }
+        OffHeapMemory.freeUnreachable();
+        long address = UNSAFE.allocateMemory(Math.max(bytes, 1L));
+        UNSAFE.setMemory(address, bytes, (byte) 0);
+        return new OffHeapMemory(address, bytes);
+    }
+
+    private static void freeUnreachable()
+    {
+        Deallocator deallocator;
+        while ((deallocator = (Deallocator) UNREACHABLE.poll()) != null)
+        {
+            deallocator.deallocate();
+        }
+    }
+
+    /**
+     * Returns the size of this block in bytes, or zero once it has been freed.
+     */
+    public long size()
+    {
+        return this.bytes;
+    }
+
+    /**
+     * Releases this block. Any later access throws {@link IndexOutOfBoundsException}. Calling free more than once
+     * has no effect.
+     */
+    public void free()
+    {
+        this.address = 0L;
+        this.bytes = 0L;
+        this.deallocator.deallocate();
+    }
+
+    private long checkedAddress(long offset, long length)
+    {
+        if (offset < 0L || length < 0L || offset > this.bytes - length)
+        {
+            throw new IndexOutOfBoundsException(
+                    "Offset: " + offset + " Length: " + length + " Size: " + this.bytes);
+        }
+        return this.address + offset;
+    }
+
+    /**
+     * Copies {@code length} bytes from {@code offset} in this block to {@code destinationOffset} in
+     * {@code destination}, which may be this block. Overlapping ranges are copied as if through a temporary buffer.
+     */
+    public void copyTo(long offset, OffHeapMemory destination, long destinationOffset, long length)
+    {
+        long source = this.checkedAddress(offset, length);
+        UNSAFE.copyMemory(source, destination.checkedAddress(destinationOffset, length), length);
+    }
+
+    public void clear(long offset, long length)
+    {
+        UNSAFE.setMemory(this.checkedAddress(offset, length), length, (byte) 0);
+    }
+
+    public byte getByte(long offset)
+    {
+        return UNSAFE.getByte(this.checkedAddress(offset, 1L));
+    }
+
+    public void putByte(long offset, byte value)
+    {
+        UNSAFE.putByte(this.checkedAddress(offset, 1L), value);
+    }
+
+    public short getShort(long offset)
+    {
+        return UNSAFE.getShort(this.checkedAddress(offset, 2L));
+    }
+
+    public void putShort(long offset, short value)
+    {
+        UNSAFE.putShort(this.checkedAddress(offset, 2L), value);
+    }
+
+    public char getChar(long offset)
+    {
+        return UNSAFE.getChar(this.checkedAddress(offset, 2L));
+    }
+
+    public void putChar(long offset, char value)
+    {
+        UNSAFE.putChar(this.checkedAddress(offset, 2L), value);
+    }
+
+    public int getInt(long offset)
+    {
+        return UNSAFE.getInt(this.checkedAddress(offset, 4L));
+    }
+
+    public void putInt(long offset, int value)
+    {
+        UNSAFE.putInt(this.checkedAddress(offset, 4L), value);
+    }
+
+    public long getLong(long offset)
+    {
+        return UNSAFE.getLong(this.checkedAddress(offset, 8L));
+    }
+
+    public void putLong(long offset, long value)
+    {
+        UNSAFE.putLong(this.checkedAddress(offset, 8L), value);
+    }
+
+    public float getFloat(long offset)
+    {
+        return UNSAFE.getFloat(this.checkedAddress(offset, 4L));
+    }
+
+    public void putFloat(long offset, float value)
+    {
+        UNSAFE.putFloat(this.checkedAddress(offset, 4L), value);
+    }
+
+    public double getDouble(long offset)
+    {
+        return UNSAFE.getDouble(this.checkedAddress(offset, 8L));
+    }
+
+    public void putDouble(long offset, double value)
+    {
+        UNSAFE.putDouble(this.checkedAddress(offset, 8L), value);
+    }
+
+    private static Unsafe getUnsafe()
+    {
+        try
+        {
+            return Unsafe.getUnsafe();
+        }
+        catch (SecurityException ignored)
+        {
+            try
+            {
+                return AccessController.doPrivileged(new PrivilegedExceptionAction<Unsafe>()
+                {
+                    public Unsafe run() throws Exception
+                    {
+                        Field f = Unsafe.class.getDeclaredField("theUnsafe");
+                        f.setAccessible(true);
+                        return (Unsafe) f.get(null);
+                    }
+                });
+            }
+            catch (PrivilegedActionException e)
+            {
+                throw new RuntimeException("Could not initialize intrinsics", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Frees a block's memory either when the block is freed explicitly or, as a backstop, after the block has become
+     * unreachable. It holds the address rather than the block, so it does not keep the block reachable.
+     */
+    private static final class Deallocator extends PhantomReference<OffHeapMemory>
+    {
+        private long address;
+
+        private Deallocator(OffHeapMemory memory, long address)
+        {
+            super(memory, UNREACHABLE);
+            this.address = address;
+        }
+
+        private synchronized void deallocate()
+        {
+            if (this.address != 0L)
+            {
+                UNSAFE.freeMemory(this.address);
+                this.address = 0L;
+                LIVE.remove(this);
+                this.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.utility.internal;
+
+import java.util.Arrays;
+
+/**
+ * Estimates a percentile of a stream of values in a single pass and constant memory, using the P-square algorithm of
+ * Jain and Chlamtac. Five markers track the minimum, the maximum, the requested percentile and the two percentiles
+ * halfway between them, and are moved towards their ideal positions with piecewise-parabolic interpolation as values
+ * arrive. Up to five values the estimate is exact.
+ * <p>
+ * Percentiles are in the range [0, 100]. The estimate is undefined if the stream contains NaN.
+ *
+ * @since 6.1
+ */
+public final class PSquareQuantileEstimator
+{
+    private static final int MARKERS = 5;
+
+    private final double quantile;
+    private final double[] heights = new double[MARKERS];
+    private final double[] positions = new double[MARKERS];
+    private final double[] desiredPositions = new double[MARKERS];
+    private final double[] increments = new double[MARKERS];
+    private long count;
+
+    public PSquareQuantileEstimator(double percentile)
+    {
+        if (!(percentile >= 0.0 && percentile <= 100.0))
+        {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100; was " + percentile);
+        }
+        this.quantile = percentile / 100.0;
+        double p = this.quantile;
+        for (int i = 0; i < MARKERS; i++)
+        {
+            this.positions[i] = i;
+        }
+        this.desiredPositions[0] = 0.0;
+        this.desiredPositions[1] = 2.0 * p;
+        this.desiredPositions[2] = 4.0 * p;
+        this.desiredPositions[3] = 2.0 + 2.0 * p;
+        this.desiredPositions[4] = 4.0;
+        this.increments[0] = 0.0;
+        this.increments[1] = p / 2.0;
+        this.increments[2] = p;
+        this.increments[3] = (1.0 + p) / 2.0;
+        this.increments[4] = 1.0;
+    }
+
+    public void add(double value)
+    {
+        if (this.count < MARKERS)
+        {
+            this.heights[(int) this.count] = value;
+            this.count++;
+            if (this.count == MARKERS)
+            {
+                Arrays.sort(this.heights);
+            }
+            return;
+        }
+        this.count++;
+
+        double[] q = this.heights;
+        int cell;
+        if (value < q[0])
+        {
+            q[0] = value;
+            cell = 0;
+        }
+        else if (value >= q[4])
+        {
+            q[4] = value;
+            cell = 3;
+        }
+        else
+        {
+            cell = 0;
+            while (value >= q[cell + 1])
+            {
+                cell++;
+            }
+        }
+        for (int i = cell + 1; i < MARKERS; i++)
+        {
+            this.positions[i]++;
+        }
+        for (int i = 0; i < MARKERS; i++)
+        {
+            this.desiredPositions[i] += this.increments[i];
+        }
+        for (int i = 1; i < MARKERS - 1; i++)
+        {
+            this.adjust(i);
+        }
+    }
+
+    private void adjust(int i)
+    {
+        double[] q = this.heights;
+        double[] n = this.positions;
+        double d = this.desiredPositions[i] - n[i];
+        if (d >= 1.0 && n[i + 1] - n[i] > 1.0 || d <= -1.0 && n[i - 1] - n[i] < -1.0)
+        {
+            int sign = d > 0.0 ? 1 : -1;
+            double candidate = q[i] + sign / (n[i + 1] - n[i - 1])
+                    * ((n[i] - n[i - 1] + sign) * (q[i + 1] - q[i]) / (n[i + 1] - n[i])
+                    + (n[i + 1] - n[i] - sign) * (q[i] - q[i - 1]) / (n[i] - n[i - 1]));
+            if (q[i - 1] < candidate && candidate < q[i + 1])
+            {
+                q[i] = candidate;
+            }
+            else
+            {
+                q[i] += sign * (q[i + sign] - q[i]) / (n[i + sign] - n[i]);
+            }
+            n[i] += sign;
+        }
+    }
+
+    public long getCount()
+    {
+        return this.count;
+    }
+
+    /**
+     * Returns the current estimate of the percentile.
+     *
+     * @throws ArithmeticException if no values have been added
+     */
+    public double getEstimate()
+    {
+        if (this.count == 0)
+        {
+            throw new ArithmeticException();
+        }
+        if (this.count <= MARKERS)
+        {
+            double[] sorted = new double[(int) this.count];
+            System.arraycopy(this.heights, 0, sorted, 0, sorted.length);
+            Arrays.sort(sorted);
+            double position = (sorted.length - 1) * this.quantile;
+            int rank = (int) Math.floor(position);
+            double fraction = position - rank;
+            if (fraction == 0.0 || sorted[rank] == sorted[rank + 1])
+            {
+                return sorted[rank];
+            }
+            return (1.0 - fraction) * sorted[rank] + fraction * sorted[rank + 1];
+        }
+        if (this.quantile == 0.0)
+        {
+            return this.heights[0];
+        }
+        if (this.quantile == 1.0)
+        {
+            return this.heights[4];
+        }
+        return this.heights[2];
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.forkjoin;
+
+import com.gs.collections.impl.lazy.parallel.list.RootListBatch;
+
+/**
+ * The per-leaf evaluation and the pairwise combination used by {@link FJListBatchTask}. An operation may report that
+ * a value makes the remaining ranges irrelevant, e.g. a match for anySatisfy, after which ranges that have not
+ * started yet are skipped and contribute {@link #emptyValue()}.
+ */
+abstract class FJBatchOperation<T, V>
+{
+    private volatile boolean shortCircuited;
+
+    abstract V valueOf(RootListBatch<T> batch);
+
+    abstract V combine(V left, V right);
+
+    abstract V emptyValue();
+
+    boolean isShortCircuit(V value)
+    {
+        return false;
+    }
+
+    final boolean isShortCircuited()
+    {
+        return this.shortCircuited;
+    }
+
+    final void shortCircuit()
+    {
+        this.shortCircuited = true;
+    }
+}
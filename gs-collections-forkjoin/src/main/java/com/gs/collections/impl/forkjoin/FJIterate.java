@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.RandomAccess;
 import java.util.concurrent.ForkJoinPool;
 
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
@@ -29,6 +30,7 @@ import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.block.procedure.Procedure2;
 import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import com.gs.collections.api.list.ListIterable;
+import com.gs.collections.api.list.ParallelListIterable;
 import com.gs.collections.api.map.MutableMap;
 import com.gs.collections.api.multimap.MutableMultimap;
 import com.gs.collections.impl.block.procedure.MultimapPutProcedure;
@@ -1163,4 +1165,28 @@ public final class FJIterate
                 executor);
         return concurrentMultimap;
     }
+
+    /**
+     * Returns a lazy parallel view of the list that is evaluated on the default fork-join pool. Terminal operations
+     * recursively split the list, so uneven work is balanced between threads by work stealing.
+     *
+     * @since 6.1
+     */
+    @Beta
+    public static <T> ParallelListIterable<T> asParallel(ListIterable<T> list)
+    {
+        return FJIterate.asParallel(list, FJIterate.FORK_JOIN_POOL, FJIterate.DEFAULT_MIN_FORK_SIZE);
+    }
+
+    /**
+     * Returns a lazy parallel view of the list that is evaluated on the specified fork-join pool. The list is never
+     * split into batches smaller than minimumBatchSize.
+     *
+     * @since 6.1
+     */
+    @Beta
+    public static <T> ParallelListIterable<T> asParallel(ListIterable<T> list, ForkJoinPool executor, int minimumBatchSize)
+    {
+        return new FJListIterableParallelIterable<>(list, executor, minimumBatchSize);
+    }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.forkjoin;
+
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import com.gs.collections.api.list.ListIterable;
+import com.gs.collections.impl.lazy.parallel.list.ListIterableBatch;
+
+/**
+ * Evaluates a range of a list by recursively splitting it in half. A range is split while it is larger than the leaf
+ * size and this worker has no more than a few queued tasks that other workers could steal. Once enough work is
+ * queued the remaining range is evaluated directly, so busy pools split less and idle workers steal the halves that
+ * are still queued.
+ */
+final class FJListBatchTask<T, V> extends RecursiveTask<V>
+{
+    private static final long serialVersionUID = 1L;
+    private static final int MAX_SURPLUS_QUEUED_TASK_COUNT = 3;
+
+    private final ListIterable<T> list;
+    private final int start;
+    private final int end;
+    private final int leafSize;
+    private final FJBatchOperation<T, V> operation;
+
+    FJListBatchTask(ListIterable<T> list, int start, int end, int leafSize, FJBatchOperation<T, V> operation)
+    {
+        this.list = list;
+        this.start = start;
+        this.end = end;
+        this.leafSize = leafSize;
+        this.operation = operation;
+    }
+
+    @Override
+    protected V compute()
+    {
+        if (this.operation.isShortCircuited())
+        {
+            return this.operation.emptyValue();
+        }
+        int size = this.end - this.start;
+        if (size <= this.leafSize || ForkJoinTask.getSurplusQueuedTaskCount() > MAX_SURPLUS_QUEUED_TASK_COUNT)
+        {
+            V result = this.operation.valueOf(new ListIterableBatch<T>(this.list, this.start, this.end));
+            if (this.operation.isShortCircuit(result))
+            {
+                this.operation.shortCircuit();
+            }
+            return result;
+        }
+        int middle = this.start + (size >>> 1);
+        FJListBatchTask<T, V> left = new FJListBatchTask<>(this.list, this.start, middle, this.leafSize, this.operation);
+        FJListBatchTask<T, V> right = new FJListBatchTask<>(this.list, middle, this.end, this.leafSize, this.operation);
+        left.fork();
+        V rightResult = right.compute();
+        V leftResult = left.join();
+        return this.operation.combine(leftResult, rightResult);
+    }
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.forkjoin;
+
+import java.util.RandomAccess;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.function.Function0;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.IntFunction;
+import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.list.ListIterable;
+import com.gs.collections.impl.lazy.parallel.list.AbstractParallelListIterable;
+import com.gs.collections.impl.lazy.parallel.list.ListIterableParallelIterable;
+import com.gs.collections.impl.lazy.parallel.list.RootListBatch;
+
+/**
+ * A parallel list iterable evaluated on a {@link ForkJoinPool}. Terminal operations called directly on this iterable
+ * recursively split the list and rely on work stealing to balance uneven work between threads. Lazy operations such
+ * as select and collect are evaluated batch by batch on the same pool, using batches sized from the pool's
+ * parallelism rather than a fixed batch size.
+ *
+ * @see FJIterate#asParallel(ListIterable, ForkJoinPool, int)
+ * @since 6.1
+ */
+@Beta
+public final class FJListIterableParallelIterable<T> extends AbstractParallelListIterable<T, RootListBatch<T>>
+{
+    private static final int LEAF_TASKS_PER_THREAD = 4;
+
+    private final ListIterable<T> delegate;
+    private final ForkJoinPool forkJoinPool;
+    private final int minimumBatchSize;
+
+    public FJListIterableParallelIterable(ListIterable<T> delegate, ForkJoinPool forkJoinPool, int minimumBatchSize)
+    {
+        if (forkJoinPool == null)
+        {
+            throw new NullPointerException();
+        }
+        if (minimumBatchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        if (!(delegate instanceof RandomAccess))
+        {
+            throw new IllegalArgumentException();
+        }
+        this.delegate = delegate;
+        this.forkJoinPool = forkJoinPool;
+        this.minimumBatchSize = minimumBatchSize;
+    }
+
+    @Override
+    public ExecutorService getExecutorService()
+    {
+        return this.forkJoinPool;
+    }
+
+    @Override
+    public int getBatchSize()
+    {
+        int leafCount = this.forkJoinPool.getParallelism() * LEAF_TASKS_PER_THREAD;
+        return Math.max(this.minimumBatchSize, this.delegate.size() / leafCount);
+    }
+
+    @Override
+    public LazyIterable<RootListBatch<T>> split()
+    {
+        return new ListIterableParallelIterable<T>(this.delegate, this.forkJoinPool, this.getBatchSize()).split();
+    }
+
+    private <V> V invoke(FJBatchOperation<T, V> operation)
+    {
+        FJListBatchTask<T, V> task = new FJListBatchTask<>(this.delegate, 0, this.delegate.size(), this.getBatchSize(), operation);
+        try
+        {
+            return this.forkJoinPool.submit(task).get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        catch (ExecutionException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void forEach(final Procedure<? super T> procedure)
+    {
+        this.invoke(new FJBatchOperation<T, Void>()
+        {
+            @Override
+            Void valueOf(RootListBatch<T> batch)
+            {
+                batch.forEach(procedure);
+                return null;
+            }
+
+            @Override
+            Void combine(Void left, Void right)
+            {
+                return null;
+            }
+
+            @Override
+            Void emptyValue()
+            {
+                return null;
+            }
+        });
+    }
+
+    public boolean anySatisfy(final Predicate<? super T> predicate)
+    {
+        return this.invoke(new FJBatchOperation<T, Boolean>()
+        {
+            @Override
+            Boolean valueOf(RootListBatch<T> batch)
+            {
+                return batch.anySatisfy(predicate);
+            }
+
+            @Override
+            Boolean combine(Boolean left, Boolean right)
+            {
+                return left || right;
+            }
+
+            @Override
+            Boolean emptyValue()
+            {
+                return Boolean.FALSE;
+            }
+
+            @Override
+            boolean isShortCircuit(Boolean value)
+            {
+                return value;
+            }
+        });
+    }
+
+    public boolean allSatisfy(final Predicate<? super T> predicate)
+    {
+        return this.invoke(new FJBatchOperation<T, Boolean>()
+        {
+            @Override
+            Boolean valueOf(RootListBatch<T> batch)
+            {
+                return batch.allSatisfy(predicate);
+            }
+
+            @Override
+            Boolean combine(Boolean left, Boolean right)
+            {
+                return left && right;
+            }
+
+            @Override
+            Boolean emptyValue()
+            {
+                return Boolean.TRUE;
+            }
+
+            @Override
+            boolean isShortCircuit(Boolean value)
+            {
+                return !value;
+            }
+        });
+    }
+
+    public T detect(final Predicate<? super T> predicate)
+    {
+        return this.invoke(new FJBatchOperation<T, T>()
+        {
+            @Override
+            T valueOf(RootListBatch<T> batch)
+            {
+                return batch.detect(predicate);
+            }
+
+            @Override
+            T combine(T left, T right)
+            {
+                return left == null ? right : left;
+            }
+
+            @Override
+            T emptyValue()
+            {
+                return null;
+            }
+
+            @Override
+            boolean isShortCircuit(T value)
+            {
+                return value != null;
+            }
+        });
+    }
+
+    public T detectFirst(Predicate<? super T> predicate)
+    {
+        return AbstractParallelListIterable.detectFirst(this, predicate);
+    }
+
+    @Override
+    public int count(final Predicate<? super T> predicate)
+    {
+        return this.invoke(new FJBatchOperation<T, Integer>()
+        {
+            @Override
+            Integer valueOf(RootListBatch<T> batch)
+            {
+                return batch.count(predicate);
+            }
+
+            @Override
+            Integer combine(Integer left, Integer right)
+            {
+                return left + right;
+            }
+
+            @Override
+            Integer emptyValue()
+            {
+                return 0;
+            }
+        });
+    }
+
+    @Override
+    public long sumOfInt(final IntFunction<? super T> function)
+    {
+        return this.invoke(new FJBatchOperation<T, Long>()
+        {
+            @Override
+            Long valueOf(RootListBatch<T> batch)
+            {
+                return batch.sumOfInt(function);
+            }
+
+            @Override
+            Long combine(Long left, Long right)
+            {
+                return left + right;
+            }
+
+            @Override
+            Long emptyValue()
+            {
+                return 0L;
+            }
+        });
+    }
+
+    @Override
+    public long sumOfLong(final LongFunction<? super T> function)
+    {
+        return this.invoke(new FJBatchOperation<T, Long>()
+        {
+            @Override
+            Long valueOf(RootListBatch<T> batch)
+            {
+                return batch.sumOfLong(function);
+            }
+
+            @Override
+            Long combine(Long left, Long right)
+            {
+                return left + right;
+            }
+
+            @Override
+            Long emptyValue()
+            {
+                return 0L;
+            }
+        });
+    }
+
+    @Override
+    public <IV> IV injectInto(
+            final Function0<? extends IV> injectedValueFactory,
+            final Function2<? super IV, ? super T, ? extends IV> function,
+            final Function2<? super IV, ? super IV, ? extends IV> combiner)
+    {
+        return this.invoke(new FJBatchOperation<T, IV>()
+        {
+            @Override
+            IV valueOf(RootListBatch<T> batch)
+            {
+                return batch.injectInto(injectedValueFactory.value(), function);
+            }
+
+            @Override
+            IV combine(IV left, IV right)
+            {
+                return combiner.value(left, right);
+            }
+
+            @Override
+            IV emptyValue()
+            {
+                return injectedValueFactory.value();
+            }
+        });
+    }
+}
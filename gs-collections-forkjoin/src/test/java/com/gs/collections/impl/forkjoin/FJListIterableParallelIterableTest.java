@@ -0,0 +1,266 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.forkjoin;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function0;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.IntFunction;
+import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.list.ListIterable;
+import com.gs.collections.api.list.ParallelListIterable;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import com.gs.collections.impl.test.Verify;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FJListIterableParallelIterableTest
+{
+    private static final int[] SIZES = {0, 1, 2, 10, 1000, 100000};
+    private static final int[] MINIMUM_BATCH_SIZES = {1, 3, 100, 5000};
+
+    private static final IntFunction<Integer> INT_VALUE = new IntFunction<Integer>()
+    {
+        public int intValueOf(Integer each)
+        {
+            return each;
+        }
+    };
+
+    private static final LongFunction<Integer> LONG_VALUE = new LongFunction<Integer>()
+    {
+        public long longValueOf(Integer each)
+        {
+            return each.longValue() * Integer.MAX_VALUE;
+        }
+    };
+
+    private ForkJoinPool pool;
+
+    @Before
+    public void setUp()
+    {
+        this.pool = new ForkJoinPool(4);
+    }
+
+    @After
+    public void tearDown()
+    {
+        this.pool.shutdownNow();
+    }
+
+    @Test
+    public void forEach()
+    {
+        for (int size : SIZES)
+        {
+            FastList<Integer> list = oneTo(size);
+            for (int minimumBatchSize : MINIMUM_BATCH_SIZES)
+            {
+                final AtomicLong sum = new AtomicLong();
+                final AtomicLong count = new AtomicLong();
+                this.asParallel(list, minimumBatchSize).forEach(new Procedure<Integer>()
+                {
+                    public void value(Integer each)
+                    {
+                        sum.addAndGet(each);
+                        count.incrementAndGet();
+                    }
+                });
+                Assert.assertEquals(list.sumOfInt(INT_VALUE), sum.get());
+                Assert.assertEquals(size, count.get());
+            }
+        }
+    }
+
+    @Test
+    public void satisfyAndDetect()
+    {
+        for (int size : SIZES)
+        {
+            FastList<Integer> list = oneTo(size);
+            for (int minimumBatchSize : MINIMUM_BATCH_SIZES)
+            {
+                ParallelListIterable<Integer> parallel = this.asParallel(list, minimumBatchSize);
+                Assert.assertEquals(size > 0, parallel.anySatisfy(Predicates.equal(size)));
+                Assert.assertFalse(parallel.anySatisfy(Predicates.greaterThan(size)));
+                Assert.assertTrue(parallel.allSatisfy(Predicates.lessThanOrEqualTo(size)));
+                Assert.assertEquals(size <= 1, parallel.allSatisfy(Predicates.lessThan(2)));
+                Assert.assertEquals(size > 0 ? Integer.valueOf(size) : null, parallel.detect(Predicates.equal(size)));
+                Assert.assertNull(parallel.detect(Predicates.greaterThan(size)));
+                Integer detected = parallel.detect(Predicates.greaterThan(size / 2));
+                Assert.assertTrue(size == 0 || detected > size / 2);
+                Assert.assertEquals(list.detect(Predicates.greaterThan(size / 2)), parallel.detectFirst(Predicates.greaterThan(size / 2)));
+                Assert.assertNull(parallel.detectFirst(Predicates.greaterThan(size)));
+            }
+        }
+    }
+
+    @Test
+    public void countAndSums()
+    {
+        for (int size : SIZES)
+        {
+            FastList<Integer> list = oneTo(size);
+            for (int minimumBatchSize : MINIMUM_BATCH_SIZES)
+            {
+                ParallelListIterable<Integer> parallel = this.asParallel(list, minimumBatchSize);
+                Assert.assertEquals(list.count(Predicates.greaterThan(size / 3)), parallel.count(Predicates.greaterThan(size / 3)));
+                Assert.assertEquals(list.sumOfInt(INT_VALUE), parallel.sumOfInt(INT_VALUE));
+                Assert.assertEquals(list.sumOfLong(LONG_VALUE), parallel.sumOfLong(LONG_VALUE));
+            }
+        }
+    }
+
+    @Test
+    public void injectInto_combines_in_order()
+    {
+        FastList<Integer> list = FastList.newList(Interval.oneTo(10000));
+        Function0<String> emptyString = new Function0<String>()
+        {
+            public String value()
+            {
+                return "";
+            }
+        };
+        Function2<String, Integer, String> append = new Function2<String, Integer, String>()
+        {
+            public String value(String string, Integer each)
+            {
+                return string + each;
+            }
+        };
+        Function2<String, String, String> concat = new Function2<String, String, String>()
+        {
+            public String value(String string1, String string2)
+            {
+                return string1 + string2;
+            }
+        };
+        for (int minimumBatchSize : MINIMUM_BATCH_SIZES)
+        {
+            Assert.assertEquals(list.makeString(""), this.asParallel(list, minimumBatchSize).injectInto(emptyString, append, concat));
+        }
+        Assert.assertEquals("", this.asParallel(FastList.<Integer>newList(), 1).injectInto(emptyString, append, concat));
+    }
+
+    @Test
+    public void lazyOperations()
+    {
+        FastList<Integer> list = FastList.newList(Interval.oneTo(100000));
+        Function<Integer, String> toString = new Function<Integer, String>()
+        {
+            public String valueOf(Integer each)
+            {
+                return String.valueOf(each);
+            }
+        };
+        for (int minimumBatchSize : MINIMUM_BATCH_SIZES)
+        {
+            ParallelListIterable<Integer> parallel = this.asParallel(list, minimumBatchSize);
+            Assert.assertEquals(list.select(Predicates.lessThan(500)), parallel.select(Predicates.lessThan(500)).toList());
+            Assert.assertEquals(list.collect(toString), parallel.collect(toString).toList());
+            Assert.assertEquals(list.count(Predicates.greaterThan(50000)), parallel.select(Predicates.greaterThan(50000)).count(Predicates.alwaysTrue()));
+            Assert.assertEquals(list.toSortedList(), parallel.toSortedList());
+        }
+    }
+
+    @Test
+    public void batchSize_adapts_to_size_and_parallelism()
+    {
+        FastList<Integer> list = FastList.newList(Interval.oneTo(160000));
+        Assert.assertEquals(10000, new FJListIterableParallelIterable<>(list, this.pool, 1).getBatchSize());
+        Assert.assertEquals(50000, new FJListIterableParallelIterable<>(list, this.pool, 50000).getBatchSize());
+        Assert.assertEquals(1, new FJListIterableParallelIterable<>(FastList.<Integer>newList(), this.pool, 1).getBatchSize());
+    }
+
+    @Test
+    public void forEach_executionException()
+    {
+        try
+        {
+            this.asParallel(Interval.oneTo(10000).toList(), 10).forEach(new Procedure<Integer>()
+            {
+                public void value(Integer each)
+                {
+                    if (each == 5000)
+                    {
+                        throw new IllegalStateException("Error in parallel forEach");
+                    }
+                }
+            });
+            Assert.fail();
+        }
+        catch (RuntimeException e)
+        {
+            Verify.assertInstanceOf(ExecutionException.class, e.getCause());
+            Verify.assertInstanceOf(IllegalStateException.class, e.getCause().getCause());
+        }
+    }
+
+    @Test
+    public void asParallel_arguments()
+    {
+        Verify.assertThrows(NullPointerException.class, new Runnable()
+        {
+            public void run()
+            {
+                FJIterate.asParallel(FastList.newListWith(1, 2, 3), null, 1);
+            }
+        });
+        Verify.assertThrows(IllegalArgumentException.class, new Runnable()
+        {
+            public void run()
+            {
+                FJIterate.asParallel(FastList.newListWith(1, 2, 3), FJListIterableParallelIterableTest.this.pool, 0);
+            }
+        });
+        Verify.assertThrows(IllegalArgumentException.class, new Runnable()
+        {
+            public void run()
+            {
+                FJIterate.asParallel(ListAdapter.adapt(new java.util.LinkedList<Integer>()), FJListIterableParallelIterableTest.this.pool, 1);
+            }
+        });
+        Assert.assertEquals(Interval.oneTo(10).toList(), FJIterate.asParallel(Interval.oneTo(10).toList()).toList());
+    }
+
+    private static FastList<Integer> oneTo(int size)
+    {
+        FastList<Integer> list = FastList.newList(size);
+        for (int i = 1; i <= size; i++)
+        {
+            list.add(i);
+        }
+        return list;
+    }
+
+    private ParallelListIterable<Integer> asParallel(ListIterable<Integer> list, int minimumBatchSize)
+    {
+        return FJIterate.asParallel(list, this.pool, minimumBatchSize);
+    }
+}
@@ -143,6 +143,18 @@ public class AnySatisfyTest
         Assert.assertTrue(this.integersGSC.asParallel(this.executorService, BATCH_SIZE).anySatisfy(each -> each == SIZE / 2 - 1));
     }
 
+    @Benchmark
+    public void short_circuit_early_parallel_lazy_jdk()
+    {
+        Assert.assertTrue(this.integersJDK.parallelStream().anyMatch(each -> each == SIZE / 100));
+    }
+
+    @Benchmark
+    public void short_circuit_early_parallel_lazy_gsc()
+    {
+        Assert.assertTrue(this.integersGSC.asParallel(this.executorService, BATCH_SIZE).anySatisfy(each -> each == SIZE / 100));
+    }
+
     @Benchmark
     public void process_all_parallel_lazy_gsc()
     {
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.list.primitive.MutableIntList;
+import com.gs.collections.api.map.primitive.ObjectDoubleMap;
+import com.gs.collections.impl.jmh.domain.Position;
+import com.gs.collections.impl.jmh.domain.Positions;
+import com.gs.collections.impl.list.ColumnarList;
+import com.gs.collections.impl.list.mutable.FastList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares aggregations over a shuffled FastList of Position objects against the same data held in a ColumnarList.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ColumnarPositionsTest
+{
+    @Param({"10000", "1000000"})
+    public int size;
+    private FastList<Position> positions;
+    private ColumnarList<Position> columnar;
+    private ColumnarList.ObjectColumn<Position, String> category;
+    private ColumnarList.IntColumn<Position> quantity;
+    private ColumnarList.DoubleColumn<Position> marketValue;
+
+    @Setup
+    public void setUp()
+    {
+        this.positions = new Positions(this.size).shuffle().getGscPositions();
+        this.columnar = ColumnarList.newList();
+        this.category = this.columnar.addObjectColumn(Position::getCategory);
+        this.quantity = this.columnar.addIntColumn(Position::getQuantity);
+        this.marketValue = this.columnar.addDoubleColumn(Position::getMarketValue);
+        this.columnar.addAll(this.positions);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public double sumOfMarketValue_objects()
+    {
+        return this.positions.sumOfDouble(Position::getMarketValue);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public double sumOfMarketValue_columnar()
+    {
+        return this.marketValue.sum();
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public double sumOfLargeMarketValue_objects()
+    {
+        return this.positions.asLazy().select(each -> each.getQuantity() > 50).sumOfDouble(Position::getMarketValue);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public double sumOfLargeMarketValue_columnar()
+    {
+        MutableIntList large = this.quantity.select(each -> each > 50);
+        return this.marketValue.sum(large);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public ObjectDoubleMap<String> sumByCategory_objects()
+    {
+        return this.positions.sumByDouble(Position::getCategory, Position::getMarketValue);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public ObjectDoubleMap<String> sumByCategory_columnar()
+    {
+        return this.category.sumByDouble(this.marketValue);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.map.primitive.MutableLongObjectMap;
+import com.gs.collections.impl.map.mutable.primitive.ConcurrentLongObjectHashMap;
+import com.gs.collections.impl.map.mutable.primitive.LongObjectHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(32)
+public class ConcurrentLongObjectMapTest
+{
+    @Param({"1000", "100000"})
+    public int mapSize;
+
+    private long[] keys;
+    private ConcurrentLongObjectHashMap<String> concurrentMap;
+    private MutableLongObjectMap<String> synchronizedMap;
+    private ConcurrentHashMap<Long, String> jdkMap;
+
+    @Setup
+    public void setUp()
+    {
+        this.keys = new Random(0x123456789ABCDL).longs().limit((long) this.mapSize).toArray();
+
+        this.concurrentMap = new ConcurrentLongObjectHashMap<>();
+        this.synchronizedMap = new LongObjectHashMap<String>().asSynchronized();
+        this.jdkMap = new ConcurrentHashMap<>();
+        for (int i = 0; i < this.mapSize / 2; i++)
+        {
+            String value = String.valueOf(this.keys[i]);
+            this.concurrentMap.put(this.keys[i], value);
+            this.synchronizedMap.put(this.keys[i], value);
+            this.jdkMap.put(this.keys[i], value);
+        }
+    }
+
+    private long randomKey()
+    {
+        return this.keys[ThreadLocalRandom.current().nextInt(this.mapSize)];
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public String get_concurrent()
+    {
+        return this.concurrentMap.get(this.randomKey());
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public String get_synchronized()
+    {
+        return this.synchronizedMap.get(this.randomKey());
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public String get_jdk()
+    {
+        return this.jdkMap.get(this.randomKey());
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public String getIfAbsentPut_concurrent()
+    {
+        return this.concurrentMap.getIfAbsentPutWithKey(this.randomKey(), String::valueOf);
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public String getIfAbsentPut_synchronized()
+    {
+        return this.synchronizedMap.getIfAbsentPutWithKey(this.randomKey(), String::valueOf);
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public String getIfAbsentPut_jdk()
+    {
+        return this.jdkMap.computeIfAbsent(this.randomKey(), String::valueOf);
+    }
+}
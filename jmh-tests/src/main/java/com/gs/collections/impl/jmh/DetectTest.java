@@ -0,0 +1,102 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import org.junit.Assert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures latency when the only match is within the first 1% of the data, where the parallel versions should return
+ * without scanning the remaining batches.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DetectTest
+{
+    private static final int SIZE = 1_000_000;
+    private static final int BATCH_SIZE = 10_000;
+    private static final Integer EARLY = SIZE / 200;
+    private final List<Integer> integersJDK = new ArrayList<>(Interval.oneTo(SIZE));
+    private final FastList<Integer> integersGSC = new FastList<>(Interval.oneTo(SIZE));
+
+    private ExecutorService executorService;
+
+    @Setup
+    public void setUp()
+    {
+        this.executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException
+    {
+        this.executorService.shutdownNow();
+        this.executorService.awaitTermination(1L, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public void short_circuit_early_serial_lazy_jdk()
+    {
+        Assert.assertEquals(EARLY, this.integersJDK.stream().filter(EARLY::equals).findFirst().get());
+    }
+
+    @Benchmark
+    public void short_circuit_early_serial_eager_gsc()
+    {
+        Assert.assertEquals(EARLY, this.integersGSC.detect(EARLY::equals));
+    }
+
+    @Benchmark
+    public void short_circuit_early_parallel_lazy_jdk()
+    {
+        Assert.assertEquals(EARLY, this.integersJDK.parallelStream().filter(EARLY::equals).findAny().get());
+    }
+
+    @Benchmark
+    public void short_circuit_early_parallel_lazy_gsc()
+    {
+        Assert.assertEquals(EARLY, this.integersGSC.asParallel(this.executorService, BATCH_SIZE).detect(EARLY::equals));
+    }
+
+    @Benchmark
+    public void detect_first_early_parallel_lazy_jdk()
+    {
+        Assert.assertEquals(EARLY, this.integersJDK.parallelStream().filter(each -> each >= EARLY).findFirst().get());
+    }
+
+    @Benchmark
+    public void detect_first_early_parallel_lazy_gsc()
+    {
+        Assert.assertEquals(EARLY, this.integersGSC.asParallel(this.executorService, BATCH_SIZE).detectFirst(each -> each >= EARLY));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.list.primitive.MutableDoubleList;
+import com.gs.collections.impl.list.mutable.primitive.DoubleArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Median, percentile and top-k of random doubles, comparing the selection-based implementations against sorting a copy.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DoubleOrderStatisticsTest
+{
+    @Param({"1000", "1000000"})
+    public int size;
+    private MutableDoubleList list;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(123456789012345L);
+        this.list = new DoubleArrayList(this.size);
+        for (int i = 0; i < this.size; i++)
+        {
+            this.list.add(random.nextDouble());
+        }
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public double median_sort()
+    {
+        double[] sorted = this.list.toSortedArray();
+        int middle = sorted.length >> 1;
+        return (sorted.length & 1) == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2.0;
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public double median_select()
+    {
+        return this.list.median();
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public double percentile99_select()
+    {
+        return this.list.percentile(99.0);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public double[] topK_sort()
+    {
+        double[] sorted = this.list.toSortedArray();
+        return Arrays.copyOfRange(sorted, sorted.length - 10, sorted.length);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public MutableDoubleList topK_heap()
+    {
+        return this.list.topK(10);
+    }
+}
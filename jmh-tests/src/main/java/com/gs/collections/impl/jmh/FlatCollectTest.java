@@ -19,12 +19,14 @@ package com.gs.collections.impl.jmh;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.impl.list.Interval;
 import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.parallel.ParallelIterate;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Measurement;
@@ -41,6 +43,8 @@ public class FlatCollectTest
 {
     private static final int COUNT = 10_000;
     private static final int LIST_SIZE = 100;
+    private static final int BATCH_SIZE = 100;
+    private final ExecutorService service = ParallelIterate.newPooledExecutor(FlatCollectTest.class.getSimpleName(), true);
     private final List<List<Integer>> integersJDK = new ArrayList<>(FastList.<List<Integer>>newWithNValues(COUNT, () -> new ArrayList<>(Interval.oneTo(LIST_SIZE))));
     private final MutableList<MutableList<Integer>> integersGSC = FastList.newWithNValues(COUNT, () -> Interval.oneTo(LIST_SIZE).toList());
 
@@ -63,4 +67,22 @@ public class FlatCollectTest
     {
         MutableList<Integer> flatCollect = this.integersGSC.asLazy().flatCollect(e -> e).toList();
     }
+
+    @Benchmark
+    public void parallel_lazy_jdk()
+    {
+        List<Integer> flatMap = this.integersJDK.parallelStream().flatMap(Collection::stream).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public void parallel_lazy_gsc()
+    {
+        MutableList<Integer> flatCollect = this.integersGSC.asParallel(this.service, BATCH_SIZE).flatCollect(e -> e).toList();
+    }
+
+    @Benchmark
+    public void parallel_lazy_toArray_gsc()
+    {
+        Object[] flatCollect = this.integersGSC.asParallel(this.service, BATCH_SIZE).flatCollect(e -> e).toArray();
+    }
 }
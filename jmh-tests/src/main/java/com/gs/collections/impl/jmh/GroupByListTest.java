@@ -18,12 +18,14 @@ package com.gs.collections.impl.jmh;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import com.google.common.collect.Multimaps;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.parallel.ParallelIterate;
 import com.gs.collections.impl.test.Verify;
 import org.junit.Assert;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -41,6 +43,8 @@ import org.openjdk.jmh.annotations.Warmup;
 public class GroupByListTest
 {
     private static final int SIZE = 1_000_000;
+    private static final int BATCH_SIZE = 10_000;
+    private final ExecutorService service = ParallelIterate.newPooledExecutor(GroupByListTest.class.getSimpleName(), true);
     private final List<Integer> integersJDK = new ArrayList<>(Interval.oneTo(SIZE));
     private final MutableList<Integer> integersGSC = Interval.oneTo(SIZE).toList();
 
@@ -68,6 +72,30 @@ public class GroupByListTest
         Verify.assertSize(10_000, this.integersJDK.stream().collect(Collectors.groupingBy(each -> each % 10_000)));
     }
 
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public void groupBy_2_keys_parallel_lazy_jdk()
+    {
+        Verify.assertSize(2, this.integersJDK.parallelStream().collect(Collectors.groupingBy(each -> each % 2 == 0)));
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public void groupBy_100_keys_parallel_lazy_jdk()
+    {
+        Verify.assertSize(100, this.integersJDK.parallelStream().collect(Collectors.groupingBy(each -> each % 100)));
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public void groupBy_10000_keys_parallel_lazy_jdk()
+    {
+        Verify.assertSize(10_000, this.integersJDK.parallelStream().collect(Collectors.groupingBy(each -> each % 10_000)));
+    }
+
     @Warmup(iterations = 20)
     @Measurement(iterations = 10)
     @Benchmark
@@ -140,6 +168,30 @@ public class GroupByListTest
         Assert.assertEquals(10_000, this.integersGSC.asLazy().groupBy(each -> each % 10_000).sizeDistinct());
     }
 
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public void groupBy_2_keys_parallel_lazy_gsc()
+    {
+        Assert.assertEquals(2, this.integersGSC.asParallel(this.service, BATCH_SIZE).groupBy(each -> each % 2 == 0).sizeDistinct());
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public void groupBy_100_keys_parallel_lazy_gsc()
+    {
+        Assert.assertEquals(100, this.integersGSC.asParallel(this.service, BATCH_SIZE).groupBy(each -> each % 100).sizeDistinct());
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public void groupBy_10000_keys_parallel_lazy_gsc()
+    {
+        Assert.assertEquals(10_000, this.integersGSC.asParallel(this.service, BATCH_SIZE).groupBy(each -> each % 10_000).sizeDistinct());
+    }
+
     @Warmup(iterations = 20)
     @Measurement(iterations = 10)
     @Benchmark
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.impl.factory.Maps;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares single-entry updates and lookups on an ImmutableMap backed by a UnifiedMap against the persistent
+ * ImmutableHashTrieMap.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ImmutableHashTrieMapTest
+{
+    @Param({"1000", "1000000"})
+    public int size;
+    private ImmutableMap<Integer, Integer> unifiedMap;
+    private ImmutableMap<Integer, Integer> hashTrieMap;
+    private int key;
+
+    @Setup
+    public void setUp()
+    {
+        UnifiedMap<Integer, Integer> map = UnifiedMap.newMap(this.size);
+        for (int i = 0; i < this.size; i++)
+        {
+            map.put(i, i);
+        }
+        this.unifiedMap = map.toImmutable();
+        this.hashTrieMap = Maps.immutable.withAllPersistent(map);
+    }
+
+    private Integer nextKey()
+    {
+        this.key = (this.key + 7919) % this.size;
+        return this.key;
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public ImmutableMap<Integer, Integer> newWithKeyValue_unified()
+    {
+        return this.unifiedMap.newWithKeyValue(this.nextKey(), -1);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public ImmutableMap<Integer, Integer> newWithKeyValue_hashTrie()
+    {
+        return this.hashTrieMap.newWithKeyValue(this.nextKey(), -1);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public ImmutableMap<Integer, Integer> newWithoutKey_unified()
+    {
+        return this.unifiedMap.newWithoutKey(this.nextKey());
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public ImmutableMap<Integer, Integer> newWithoutKey_hashTrie()
+    {
+        return this.hashTrieMap.newWithoutKey(this.nextKey());
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public Integer get_unified()
+    {
+        return this.unifiedMap.get(this.nextKey());
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public Integer get_hashTrie()
+    {
+        return this.hashTrieMap.get(this.nextKey());
+    }
+}
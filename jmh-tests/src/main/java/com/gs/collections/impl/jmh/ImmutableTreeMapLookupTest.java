@@ -0,0 +1,137 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.map.sorted.ImmutableSortedMap;
+import com.gs.collections.impl.factory.SortedMaps;
+import com.gs.collections.impl.map.sorted.mutable.TreeSortedMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares random point and ceiling lookups on the sorted-array layout returned by {@code SortedMaps.immutable.ofSortedMap}
+ * against the Eytzinger layout returned by {@code SortedMaps.immutable.withSortedMapSearchOptimized}. String keys are
+ * not indexed, so the two string maps should perform the same.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ImmutableTreeMapLookupTest
+{
+    private static final int PROBES = 1024;
+
+    @Param({"1000", "1000000"})
+    public int size;
+    private ImmutableSortedMap<Long, Long> plainLongs;
+    private ImmutableSortedMap<Long, Long> optimizedLongs;
+    private ImmutableSortedMap<String, Long> plainStrings;
+    private ImmutableSortedMap<String, Long> optimizedStrings;
+    private Long[] longProbes;
+    private String[] stringProbes;
+    private int probe;
+
+    @Setup
+    public void setUp()
+    {
+        TreeSortedMap<Long, Long> longs = TreeSortedMap.newMap();
+        TreeSortedMap<String, Long> strings = TreeSortedMap.newMap();
+        for (long i = 0; i < this.size; i++)
+        {
+            longs.put(i * 2, i);
+            strings.put(String.valueOf(i * 2), i);
+        }
+        this.plainLongs = SortedMaps.immutable.ofSortedMap(longs);
+        this.optimizedLongs = SortedMaps.immutable.withSortedMapSearchOptimized(longs);
+        this.plainStrings = SortedMaps.immutable.ofSortedMap(strings);
+        this.optimizedStrings = SortedMaps.immutable.withSortedMapSearchOptimized(strings);
+
+        Random random = new Random(123456789L);
+        this.longProbes = new Long[PROBES];
+        this.stringProbes = new String[PROBES];
+        for (int i = 0; i < PROBES; i++)
+        {
+            long key = (long) random.nextInt(this.size * 2);
+            this.longProbes[i] = key;
+            this.stringProbes[i] = String.valueOf(key);
+        }
+    }
+
+    private int nextProbe()
+    {
+        this.probe = (this.probe + 1) & (PROBES - 1);
+        return this.probe;
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public Long get_long_plain()
+    {
+        return this.plainLongs.get(this.longProbes[this.nextProbe()]);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public Long get_long_optimized()
+    {
+        return this.optimizedLongs.get(this.longProbes[this.nextProbe()]);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public Long ceilingKey_long_plain()
+    {
+        return this.plainLongs.ceilingKey(this.longProbes[this.nextProbe()]);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public Long ceilingKey_long_optimized()
+    {
+        return this.optimizedLongs.ceilingKey(this.longProbes[this.nextProbe()]);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public Long get_string_plain()
+    {
+        return this.plainStrings.get(this.stringProbes[this.nextProbe()]);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public Long get_string_optimized()
+    {
+        return this.optimizedStrings.get(this.stringProbes[this.nextProbe()]);
+    }
+}
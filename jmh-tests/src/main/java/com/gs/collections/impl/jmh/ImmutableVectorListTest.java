@@ -0,0 +1,112 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.impl.factory.Lists;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.immutable.ImmutableVectorList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares appends, concatenation and lookups on the list returned by {@code Lists.immutable} against an
+ * ImmutableVectorList. The factory always returns an array-backed list, whose newWith and newWithAll switch to an
+ * ImmutableVectorList once the result has more than 1024 elements.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ImmutableVectorListTest
+{
+    @Param({"1000", "100000"})
+    public int size;
+    private ImmutableList<Integer> factoryList;
+    private ImmutableVectorList<Integer> vectorList;
+    private int index;
+
+    @Setup
+    public void setUp()
+    {
+        this.factoryList = Lists.immutable.withAll(Interval.zeroTo(this.size - 1));
+        this.vectorList = ImmutableVectorList.newList(Interval.zeroTo(this.size - 1));
+    }
+
+    private int nextIndex()
+    {
+        this.index = (this.index + 7919) % this.size;
+        return this.index;
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public ImmutableList<Integer> newWith_factory()
+    {
+        return this.factoryList.newWith(-1);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public ImmutableList<Integer> newWith_vector()
+    {
+        return this.vectorList.newWith(-1);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public ImmutableList<Integer> newWithAll_factory()
+    {
+        return this.factoryList.newWithAll(this.factoryList);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public ImmutableList<Integer> newWithAll_vector()
+    {
+        return this.vectorList.newWithAll(this.vectorList);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public Integer get_factory()
+    {
+        return this.factoryList.get(this.nextIndex());
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public Integer get_vector()
+    {
+        return this.vectorList.get(this.nextIndex());
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.primitive.DoubleFunction;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.impl.lazy.CollectIterable;
+import com.gs.collections.impl.lazy.SelectIterable;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.utility.LazyIterate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A select, collect, select, sumOfDouble pipeline over a FastList, comparing explicitly nested SelectIterable and
+ * CollectIterable wrappers against the fused pipeline LazyIterate.fuse builds. The prebuilt variants build the pipeline
+ * once and measure only the terminal operation. Run with "-prof gc" to compare allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LazyFusionTest
+{
+    private static final Predicate<Integer> IS_ODD = each -> (each & 1) == 1;
+    private static final Function<Integer, Integer> SQUARE = each -> each * each;
+    private static final Predicate<Integer> NOT_MULTIPLE_OF_THREE = each -> each % 3 != 0;
+    private static final DoubleFunction<Integer> TO_DOUBLE = Integer::doubleValue;
+
+    @Param({"100", "1000000"})
+    public int size;
+    private FastList<Integer> list;
+    private LazyIterable<Integer> prebuiltNested;
+    private LazyIterable<Integer> prebuiltFused;
+
+    @Setup
+    public void setUp()
+    {
+        this.list = FastList.newList(this.size);
+        for (int i = 0; i < this.size; i++)
+        {
+            this.list.add(i);
+        }
+        this.prebuiltNested = this.nested();
+        this.prebuiltFused = this.fused();
+    }
+
+    private LazyIterable<Integer> nested()
+    {
+        return new SelectIterable<Integer>(
+                new CollectIterable<Integer, Integer>(new SelectIterable<Integer>(this.list, IS_ODD), SQUARE),
+                NOT_MULTIPLE_OF_THREE);
+    }
+
+    private LazyIterable<Integer> fused()
+    {
+        return LazyIterate.fuse(this.list).select(IS_ODD).collect(SQUARE).select(NOT_MULTIPLE_OF_THREE);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public double sumOfDouble_nested()
+    {
+        return this.nested().sumOfDouble(TO_DOUBLE);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public double sumOfDouble_fused()
+    {
+        return this.fused().sumOfDouble(TO_DOUBLE);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public double sumOfDouble_prebuilt_nested()
+    {
+        return this.prebuiltNested.sumOfDouble(TO_DOUBLE);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public double sumOfDouble_prebuilt_fused()
+    {
+        return this.prebuiltFused.sumOfDouble(TO_DOUBLE);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public long iterator_nested()
+    {
+        return count(this.nested().iterator());
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public long iterator_fused()
+    {
+        return count(this.fused().iterator());
+    }
+
+    private static long count(Iterator<Integer> iterator)
+    {
+        long sum = 0L;
+        while (iterator.hasNext())
+        {
+            sum += iterator.next();
+        }
+        return sum;
+    }
+}
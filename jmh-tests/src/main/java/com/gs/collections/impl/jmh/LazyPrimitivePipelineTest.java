@@ -0,0 +1,81 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.list.primitive.MutableIntList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * An int to long pipeline over a lazy int iterable, comparing boxing through LazyIterable against the
+ * primitive-to-primitive stages.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LazyPrimitivePipelineTest
+{
+    @Param({"1000", "1000000"})
+    public int size;
+    private MutableIntList list;
+
+    @Setup
+    public void setUp()
+    {
+        this.list = new IntArrayList(this.size);
+        for (int i = 0; i < this.size; i++)
+        {
+            this.list.add(i);
+        }
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public long boxed()
+    {
+        return this.list.asLazy()
+                .collect(each -> (long) each * each)
+                .select(each -> each % 3L == 0L)
+                .drop(10)
+                .collectLong(each -> each)
+                .sum();
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public long primitive()
+    {
+        return this.list.asLazy()
+                .collectLong(each -> (long) each * each)
+                .select(each -> each % 3L == 0L)
+                .drop(10)
+                .sum();
+    }
+}
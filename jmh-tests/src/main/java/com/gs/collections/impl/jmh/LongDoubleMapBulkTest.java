@@ -0,0 +1,137 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.impl.map.mutable.primitive.LongDoubleHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LongDoubleMapBulkTest
+{
+    @Param({"1024", "1048576", "8388608"})
+    public int size;
+    private LongDoubleHashMap map;
+    private long[] keys;
+    private double[] values;
+    private double[] out;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(0x123456789ABCDL);
+        this.keys = new long[this.size];
+        this.values = new double[this.size];
+        this.out = new double[this.size];
+        this.map = new LongDoubleHashMap();
+        for (int i = 0; i < this.size; i++)
+        {
+            this.keys[i] = random.nextLong();
+            this.values[i] = random.nextDouble();
+            this.map.put(this.keys[i], this.values[i]);
+        }
+        for (int i = this.size - 1; i > 0; i--)
+        {
+            int j = random.nextInt(i + 1);
+            long tmp = this.keys[i];
+            this.keys[i] = this.keys[j];
+            this.keys[j] = tmp;
+        }
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public double[] get()
+    {
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            this.out[i] = this.map.get(this.keys[i]);
+        }
+        return this.out;
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public double[] getAll()
+    {
+        this.map.getAll(this.keys, this.out);
+        return this.out;
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public LongDoubleHashMap put()
+    {
+        LongDoubleHashMap newMap = new LongDoubleHashMap();
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            newMap.put(this.keys[i], this.values[i]);
+        }
+        return newMap;
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public LongDoubleHashMap putAll()
+    {
+        LongDoubleHashMap newMap = new LongDoubleHashMap();
+        newMap.putAll(this.keys, this.values);
+        return newMap;
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public BitSet containsKey()
+    {
+        BitSet result = new BitSet(this.keys.length);
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            if (this.map.containsKey(this.keys[i]))
+            {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public BitSet containsKeys()
+    {
+        return this.map.containsKeys(this.keys);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.impl.map.mutable.primitive.LongObjectSortedArrayMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares point lookups, floor lookups and range scans on {@link LongObjectSortedArrayMap} against a boxed
+ * {@link TreeMap}. Range scans cover a window of 100 entries starting at a random probe.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LongObjectSortedMapTest
+{
+    private static final int PROBES = 1024;
+    private static final long WINDOW = 200L;
+
+    @Param({"1000", "1000000"})
+    public int size;
+    private TreeMap<Long, Long> boxed;
+    private LongObjectSortedArrayMap<Long> primitive;
+    private long[] probes;
+    private int probe;
+
+    @Setup
+    public void setUp()
+    {
+        this.boxed = new TreeMap<>();
+        this.primitive = new LongObjectSortedArrayMap<>(this.size);
+        for (long i = 0; i < this.size; i++)
+        {
+            this.boxed.put(i * 2, i);
+            this.primitive.put(i * 2, i);
+        }
+
+        Random random = new Random(123456789L);
+        this.probes = new long[PROBES];
+        for (int i = 0; i < PROBES; i++)
+        {
+            this.probes[i] = (long) random.nextInt(this.size * 2);
+        }
+    }
+
+    private long nextProbe()
+    {
+        this.probe = (this.probe + 1) & (PROBES - 1);
+        return this.probes[this.probe];
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public Long get_boxed()
+    {
+        return this.boxed.get(this.nextProbe());
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public Long get_primitive()
+    {
+        return this.primitive.get(this.nextProbe());
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public Long floorKey_boxed()
+    {
+        return this.boxed.floorKey(this.nextProbe());
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public long floorKey_primitive()
+    {
+        return this.primitive.floorKey(this.nextProbe(), -1L);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public long rangeScan_boxed()
+    {
+        long from = this.nextProbe();
+        long sum = 0L;
+        for (Map.Entry<Long, Long> entry : this.boxed.subMap(from, from + WINDOW).entrySet())
+        {
+            sum += entry.getKey() + entry.getValue();
+        }
+        return sum;
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public long rangeScan_primitive()
+    {
+        long from = this.nextProbe();
+        long[] sum = new long[1];
+        this.primitive.subMap(from, from + WINDOW).forEachKeyValue((key, value) -> sum[0] += key + value);
+        return sum[0];
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.impl.map.mutable.OpenHashMap;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lookups and inserts of random String keys, comparing the chained buckets of UnifiedMap with the linear probing of
+ * OpenHashMap. Half of the lookups miss.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OpenHashMapTest
+{
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+    private String[] keys;
+    private String[] lookups;
+    private UnifiedMap<String, String> unifiedMap;
+    private OpenHashMap<String, String> openHashMap;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(123456789012345L);
+        this.keys = new String[this.size];
+        this.lookups = new String[this.size];
+        for (int i = 0; i < this.size; i++)
+        {
+            this.keys[i] = "key" + random.nextLong();
+            this.lookups[i] = i % 2 == 0 ? this.keys[i] : "missing" + random.nextLong();
+        }
+        this.unifiedMap = fill(new UnifiedMap<String, String>(), this.keys);
+        this.openHashMap = fill(new OpenHashMap<String, String>(), this.keys);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public int get_unifiedMap()
+    {
+        return lookUp(this.unifiedMap, this.lookups);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public int get_openHashMap()
+    {
+        return lookUp(this.openHashMap, this.lookups);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public Map<String, String> put_unifiedMap()
+    {
+        return fill(new UnifiedMap<String, String>(), this.keys);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public Map<String, String> put_openHashMap()
+    {
+        return fill(new OpenHashMap<String, String>(), this.keys);
+    }
+
+    private static <M extends Map<String, String>> M fill(M map, String[] keys)
+    {
+        for (String key : keys)
+        {
+            map.put(key, key);
+        }
+        return map;
+    }
+
+    private static int lookUp(Map<String, String> map, String[] lookups)
+    {
+        int found = 0;
+        for (String key : lookups)
+        {
+            if (map.get(key) != null)
+            {
+                found++;
+            }
+        }
+        return found;
+    }
+}
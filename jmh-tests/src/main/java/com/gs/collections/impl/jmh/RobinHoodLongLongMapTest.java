@@ -0,0 +1,119 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.map.primitive.MutableLongLongMap;
+import com.gs.collections.impl.map.mutable.primitive.LongLongHashMap;
+import com.gs.collections.impl.map.mutable.primitive.RobinHoodLongLongHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sequential keys, such as timestamps or sequence ids, inserted and expired in a sliding window.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RobinHoodLongLongMapTest
+{
+    @Param({"1000", "100000", "1000000"})
+    public int windowSize;
+    private MutableLongLongMap gscMap;
+    private MutableLongLongMap robinHoodMap;
+    private long gscNext;
+    private long robinHoodNext;
+
+    @Setup
+    public void setUp()
+    {
+        this.gscMap = new LongLongHashMap();
+        this.robinHoodMap = new RobinHoodLongLongHashMap();
+        for (long i = 0; i < this.windowSize; i++)
+        {
+            this.gscMap.put(i, i);
+            this.robinHoodMap.put(i, i);
+        }
+        this.gscNext = this.windowSize;
+        this.robinHoodNext = this.windowSize;
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public long slidingWindow_gsc()
+    {
+        this.gscNext = slide(this.gscMap, this.gscNext, this.windowSize);
+        return this.gscNext;
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public long slidingWindow_robinHood()
+    {
+        this.robinHoodNext = slide(this.robinHoodMap, this.robinHoodNext, this.windowSize);
+        return this.robinHoodNext;
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public long get_gsc()
+    {
+        return lookUp(this.gscMap, this.gscNext, this.windowSize);
+    }
+
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 10)
+    @Benchmark
+    public long get_robinHood()
+    {
+        return lookUp(this.robinHoodMap, this.robinHoodNext, this.windowSize);
+    }
+
+    private static long slide(MutableLongLongMap map, long next, int windowSize)
+    {
+        long key = next;
+        for (int i = 0; i < 1000; i++)
+        {
+            map.put(key, key);
+            map.removeKey(key - windowSize);
+            key++;
+        }
+        return key;
+    }
+
+    private static long lookUp(MutableLongLongMap map, long next, int windowSize)
+    {
+        long sum = 0L;
+        for (long key = next - windowSize; key < next; key++)
+        {
+            sum += map.get(key);
+        }
+        return sum;
+    }
+}
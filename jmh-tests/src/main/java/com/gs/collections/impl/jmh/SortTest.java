@@ -0,0 +1,99 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import com.gs.collections.impl.parallel.ParallelIterate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SortTest
+{
+    private static final int SIZE = 1_000_000;
+    private static final int BATCH_SIZE = 10_000;
+    private final ExecutorService service = ParallelIterate.newPooledExecutor(SortTest.class.getSimpleName(), true);
+    private final FastList<Integer> integersGSC = FastList.newWithNValues(SIZE, new Random(SIZE)::nextInt);
+    private final int[] ints = new Random(SIZE).ints(SIZE).toArray();
+
+    @Benchmark
+    public MutableList<Integer> serial_eager_gsc()
+    {
+        return this.integersGSC.clone().sortThis();
+    }
+
+    @Benchmark
+    public MutableList<Integer> parallel_eager_gsc()
+    {
+        return this.integersGSC.clone().sortThisParallel();
+    }
+
+    @Benchmark
+    public Integer[] parallel_eager_jdk()
+    {
+        Integer[] array = this.integersGSC.toArray(new Integer[SIZE]);
+        Arrays.parallelSort(array);
+        return array;
+    }
+
+    @Benchmark
+    public List<Integer> parallel_lazy_jdk()
+    {
+        return this.integersGSC.parallelStream().sorted().collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public MutableList<Integer> parallel_lazy_gsc()
+    {
+        return this.integersGSC.asParallel(this.service, BATCH_SIZE).toSortedList();
+    }
+
+    @Benchmark
+    public IntArrayList serial_eager_primitive_gsc()
+    {
+        return IntArrayList.newListWith(this.ints.clone()).sortThis();
+    }
+
+    @Benchmark
+    public IntArrayList parallel_eager_primitive_gsc()
+    {
+        return IntArrayList.newListWith(this.ints.clone()).sortThisParallel();
+    }
+
+    @Benchmark
+    public int[] parallel_eager_primitive_jdk()
+    {
+        int[] array = this.ints.clone();
+        Arrays.parallelSort(array);
+        return array;
+    }
+}
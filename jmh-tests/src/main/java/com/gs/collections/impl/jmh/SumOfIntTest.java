@@ -16,6 +16,7 @@
 
 package com.gs.collections.impl.jmh;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.ExecutorService;
@@ -26,6 +27,7 @@ import java.util.stream.Stream;
 
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Mode;
@@ -46,6 +48,8 @@ public class SumOfIntTest
 
     private final List<Integer> integersJDK = INTEGERS.limit(SIZE).collect(Collectors.toList());
     private final MutableList<Integer> integersGSC = FastList.newListWith(this.integersJDK.toArray(new Integer[SIZE]));
+    private final IntArrayList intsGSC = this.integersGSC.collectInt(each -> each, new IntArrayList(SIZE));
+    private final int[] intsJDK = this.intsGSC.toArray();
 
     private ExecutorService executorService;
 
@@ -110,6 +114,24 @@ public class SumOfIntTest
         return this.integersGSC.asParallel(this.executorService, BATCH_SIZE).sumOfInt(each -> each);
     }
 
+    @Benchmark
+    public long parallel_lazy_primitiveSum_jdk()
+    {
+        return Arrays.stream(this.intsJDK).parallel().asLongStream().sum();
+    }
+
+    @Benchmark
+    public long parallel_lazy_primitiveSum_gsc()
+    {
+        return this.intsGSC.asParallel(this.executorService, BATCH_SIZE).sum();
+    }
+
+    @Benchmark
+    public long parallel_lazy_primitiveSelectCount_gsc()
+    {
+        return this.intsGSC.asParallel(this.executorService, BATCH_SIZE).select(each -> each % 2 == 0).count(each -> each > 5_000);
+    }
+
     @Benchmark
     public long serial_lazy_directSumOfInt_gsc()
     {
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.parallel.ParallelIterate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ToBagToMapTest
+{
+    private static final int SIZE = 1_000_000;
+    private static final int BATCH_SIZE = 10_000;
+    private final ExecutorService service = ParallelIterate.newPooledExecutor(ToBagToMapTest.class.getSimpleName(), true);
+    private final Random random = new Random(SIZE);
+    private final MutableList<Integer> integersGSC = FastList.newWithNValues(SIZE, () -> this.random.nextInt(SIZE / 10));
+    private final List<Integer> integersJDK = new ArrayList<>(this.integersGSC);
+
+    @Benchmark
+    public Map<Integer, Long> parallel_lazy_toBag_jdk()
+    {
+        return this.integersJDK.parallelStream().collect(Collectors.groupingByConcurrent(Function.identity(), Collectors.counting()));
+    }
+
+    @Benchmark
+    public MutableBag<Integer> parallel_lazy_toBag_synchronized_gsc()
+    {
+        MutableBag<Integer> result = HashBag.<Integer>newBag().asSynchronized();
+        this.integersGSC.asParallel(this.service, BATCH_SIZE).forEach(result::add);
+        return result;
+    }
+
+    @Benchmark
+    public MutableBag<Integer> parallel_lazy_toBag_gsc()
+    {
+        return this.integersGSC.asParallel(this.service, BATCH_SIZE).toBag();
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> parallel_lazy_toMap_jdk()
+    {
+        return this.integersJDK.parallelStream().collect(Collectors.toConcurrentMap(each -> each, each -> each, (first, second) -> second));
+    }
+
+    @Benchmark
+    public MutableMap<Integer, Integer> parallel_lazy_toMap_gsc()
+    {
+        return this.integersGSC.asParallel(this.service, BATCH_SIZE).toMap(each -> each, each -> each);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.gs.collections.api.bag.sorted.MutableSortedBag;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.map.sorted.MutableSortedMap;
+import com.gs.collections.api.set.sorted.MutableSortedSet;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.parallel.ParallelIterate;
+import com.gs.collections.impl.set.sorted.mutable.TreeSortedSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ToSortedTest
+{
+    private static final int SIZE = 1_000_000;
+    private static final int BATCH_SIZE = 10_000;
+    private final ExecutorService service = ParallelIterate.newPooledExecutor(ToSortedTest.class.getSimpleName(), true);
+    private final MutableList<Integer> integersGSC = FastList.newWithNValues(SIZE, new Random(SIZE)::nextInt);
+    private final List<Integer> integersJDK = new ArrayList<>(this.integersGSC);
+
+    @Benchmark
+    public TreeSet<Integer> parallel_lazy_toSortedSet_jdk()
+    {
+        return this.integersJDK.parallelStream().collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    @Benchmark
+    public MutableSortedSet<Integer> parallel_lazy_toSortedSet_synchronized_gsc()
+    {
+        MutableSortedSet<Integer> result = TreeSortedSet.<Integer>newSet().asSynchronized();
+        this.integersGSC.asParallel(this.service, BATCH_SIZE).forEach(result::add);
+        return result;
+    }
+
+    @Benchmark
+    public MutableSortedSet<Integer> parallel_lazy_toSortedSet_gsc()
+    {
+        return this.integersGSC.asParallel(this.service, BATCH_SIZE).toSortedSet();
+    }
+
+    @Benchmark
+    public MutableSortedBag<Integer> parallel_lazy_toSortedBag_gsc()
+    {
+        return this.integersGSC.asParallel(this.service, BATCH_SIZE).toSortedBag();
+    }
+
+    @Benchmark
+    public MutableSortedMap<Integer, Integer> parallel_lazy_toSortedMap_gsc()
+    {
+        return this.integersGSC.asParallel(this.service, BATCH_SIZE).toSortedMap(each -> each, each -> each);
+    }
+}
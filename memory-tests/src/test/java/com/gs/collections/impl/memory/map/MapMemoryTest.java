@@ -23,6 +23,7 @@ import java.util.Map;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.impl.map.mutable.OpenHashMap;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
 import com.gs.collections.impl.memory.MemoryTestBench;
 import com.gs.collections.impl.memory.TestDataFactory;
@@ -38,11 +39,12 @@ public class MapMemoryTest
     @Test
     public void memoryForScaledMaps()
     {
-        LOGGER.info("Comparing Items: Scala {}, JDK {}, Trove {}, GSC {}, JDK {}",
+        LOGGER.info("Comparing Items: Scala {}, JDK {}, Trove {}, GSC {}, GSC {}, JDK {}",
                 scala.collection.mutable.HashMap.class.getSimpleName(),
                 HashMap.class.getSimpleName(),
                 THashMap.class.getSimpleName(),
                 UnifiedMap.class.getSimpleName(),
+                OpenHashMap.class.getSimpleName(),
                 Hashtable.class.getSimpleName());
 
         for (int size = 0; size < 1000001; size += 25000)
@@ -62,6 +64,8 @@ public class MapMemoryTest
                 .printContainerMemoryUsage("Map", size, new THashMapFactory(size));
         MemoryTestBench.on(UnifiedMap.class)
                 .printContainerMemoryUsage("Map", size, new UnifiedMapFactory(size));
+        MemoryTestBench.on(OpenHashMap.class)
+                .printContainerMemoryUsage("Map", size, new OpenHashMapFactory(size));
         MemoryTestBench.on(Hashtable.class)
                 .printContainerMemoryUsage("Map", size, new HashtableFactory(size));
     }
@@ -153,6 +157,22 @@ public class MapMemoryTest
         }
     }
 
+    private static final class OpenHashMapFactory
+            extends SizedMapFactory
+            implements Function0<OpenHashMap<Integer, String>>
+    {
+        private OpenHashMapFactory(int size)
+        {
+            super(size);
+        }
+
+        @Override
+        public OpenHashMap<Integer, String> value()
+        {
+            return this.fill(new OpenHashMap<Integer, String>());
+        }
+    }
+
     private static final class ScalaHashMapFactory
             extends SizedMapFactory
             implements Function0<scala.collection.mutable.HashMap<Integer, String>>
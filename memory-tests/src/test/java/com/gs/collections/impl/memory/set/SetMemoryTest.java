@@ -24,6 +24,7 @@ import com.gs.collections.api.block.procedure.Procedure;
 import com.gs.collections.api.list.ImmutableList;
 import com.gs.collections.impl.memory.MemoryTestBench;
 import com.gs.collections.impl.memory.TestDataFactory;
+import com.gs.collections.impl.set.mutable.OpenHashSet;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
 import gnu.trove.set.hash.THashSet;
 import org.junit.Test;
@@ -37,10 +38,11 @@ public class SetMemoryTest
     @Test
     public void memoryForScaledSets()
     {
-        LOGGER.info("Comparing Items: Scala {}, Trove {}, GSC {}, JDK {}",
+        LOGGER.info("Comparing Items: Scala {}, Trove {}, GSC {}, GSC {}, JDK {}",
                 scala.collection.mutable.HashSet.class.getSimpleName(),
                 THashSet.class.getSimpleName(),
                 UnifiedSet.class.getSimpleName(),
+                OpenHashSet.class.getSimpleName(),
                 HashSet.class.getSimpleName());
         for (int size = 0; size < 1000001; size += 25000)
         {
@@ -54,6 +56,7 @@ public class SetMemoryTest
         MemoryTestBench.on(scala.collection.mutable.HashSet.class).printContainerMemoryUsage("Set", size, new ScalaMutableSetFactory(size));
         MemoryTestBench.on(THashSet.class).printContainerMemoryUsage("Set", size, new THashSetFactory(size));
         MemoryTestBench.on(UnifiedSet.class).printContainerMemoryUsage("Set", size, new UnifiedSetFactory(size));
+        MemoryTestBench.on(OpenHashSet.class).printContainerMemoryUsage("Set", size, new OpenHashSetFactory(size));
         MemoryTestBench.on(HashSet.class).printContainerMemoryUsage("Set", size, new HashSetFactory(size));
     }
 
@@ -127,6 +130,22 @@ public class SetMemoryTest
         }
     }
 
+    private static final class OpenHashSetFactory
+            extends SizedSetFactory
+            implements Function0<OpenHashSet<Integer>>
+    {
+        private OpenHashSetFactory(int size)
+        {
+            super(size);
+        }
+
+        @Override
+        public OpenHashSet<Integer> value()
+        {
+            return this.fill(new OpenHashSet<Integer>());
+        }
+    }
+
     private static final class ScalaMutableSetFactory
             extends SizedSetFactory
             implements Function0<scala.collection.mutable.HashSet<Integer>>
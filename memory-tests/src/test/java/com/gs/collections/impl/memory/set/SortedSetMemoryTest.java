@@ -0,0 +1,127 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.memory.set;
+
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.gs.collections.api.block.function.Function0;
+import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.impl.bag.sorted.mutable.TreeBag;
+import com.gs.collections.impl.map.sorted.mutable.BPlusTreeMap;
+import com.gs.collections.impl.memory.MemoryTestBench;
+import com.gs.collections.impl.memory.TestDataFactory;
+import com.gs.collections.impl.set.sorted.mutable.TreeSortedSet;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class SortedSetMemoryTest
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(SortedSetMemoryTest.class);
+
+    @Test
+    public void memoryForScaledSortedSets()
+    {
+        LOGGER.info("Comparing Items: JDK {}, GSC {} backed by GSC {}, GSC {} backed by JDK {} and GSC {}",
+                TreeSet.class.getSimpleName(),
+                TreeSortedSet.class.getSimpleName(),
+                BPlusTreeMap.class.getSimpleName(),
+                TreeBag.class.getSimpleName(),
+                TreeMap.class.getSimpleName(),
+                BPlusTreeMap.class.getSimpleName());
+        for (int size = 0; size < 1000001; size += 25000)
+        {
+            this.memoryForScaledSortedSets(size);
+        }
+        LOGGER.info("Ending test: {}", this.getClass().getName());
+    }
+
+    private void memoryForScaledSortedSets(int size)
+    {
+        MemoryTestBench.on(TreeSet.class).printContainerMemoryUsage("SortedSet", size, new TreeSetFactory(size));
+        MemoryTestBench.on(TreeSortedSet.class).printContainerMemoryUsage("SortedSet", size, new BTreeSortedSetFactory(size));
+        MemoryTestBench.on(TreeBag.class).printContainerMemoryUsage("SortedBag", size, new TreeBagFactory(size, false));
+        MemoryTestBench.on(TreeBag.class).printContainerMemoryUsage("BTreeSortedBag", size, new TreeBagFactory(size, true));
+    }
+
+    private static final class TreeSetFactory implements Function0<SortedSet<Integer>>
+    {
+        private final ImmutableList<Integer> data;
+
+        private TreeSetFactory(int size)
+        {
+            this.data = TestDataFactory.createRandomImmutableList(size);
+        }
+
+        @Override
+        public SortedSet<Integer> value()
+        {
+            TreeSet<Integer> set = new TreeSet<Integer>();
+            for (Integer each : this.data)
+            {
+                set.add(each);
+            }
+            return set;
+        }
+    }
+
+    private static final class BTreeSortedSetFactory implements Function0<SortedSet<Integer>>
+    {
+        private final ImmutableList<Integer> data;
+
+        private BTreeSortedSetFactory(int size)
+        {
+            this.data = TestDataFactory.createRandomImmutableList(size);
+        }
+
+        @Override
+        public SortedSet<Integer> value()
+        {
+            TreeSortedSet<Integer> set = TreeSortedSet.newBTreeSet();
+            for (Integer each : this.data)
+            {
+                set.add(each);
+            }
+            return set;
+        }
+    }
+
+    private static final class TreeBagFactory implements Function0<TreeBag<Integer>>
+    {
+        private final ImmutableList<Integer> data;
+        private final boolean bTree;
+
+        private TreeBagFactory(int size, boolean bTree)
+        {
+            this.data = TestDataFactory.createRandomImmutableList(size);
+            this.bTree = bTree;
+        }
+
+        @Override
+        public TreeBag<Integer> value()
+        {
+            TreeBag<Integer> bag = this.bTree ? TreeBag.<Integer>newBTreeBag() : TreeBag.<Integer>newBag();
+            for (Integer each : this.data)
+            {
+                bag.addOccurrences(each, 10);
+            }
+            return bag;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.bag.immutable;
+
+import com.gs.collections.api.bag.ImmutableBag;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.factory.Bags;
+import com.gs.collections.impl.factory.Maps;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ImmutableHashTrieBagTest extends ImmutableBagTestCase
+{
+    @Override
+    protected ImmutableBag<String> newBag()
+    {
+        return ImmutableHashTrieBag.newBagWith("1", "2", "2", "3", "3", "3", "4", "4", "4", "4");
+    }
+
+    @Override
+    protected int numKeys()
+    {
+        return 4;
+    }
+
+    @Override
+    @Test
+    public void testSize()
+    {
+        Verify.assertIterableSize(10, this.newBag());
+    }
+
+    @Override
+    public void toStringOfItemToCount()
+    {
+        Assert.assertEquals("{}", ImmutableHashTrieBag.newBag().toStringOfItemToCount());
+        Assert.assertEquals("{1=3}", ImmutableHashTrieBag.newBagWith("1", "1", "1").toStringOfItemToCount());
+        String actual = ImmutableHashTrieBag.newBagWith("1", "2", "2").toStringOfItemToCount();
+        Assert.assertTrue("{1=1, 2=2}".equals(actual) || "{2=2, 1=1}".equals(actual));
+    }
+
+    @Override
+    @Test
+    public void groupByUniqueKey()
+    {
+        ImmutableBag<Integer> immutableBag = ImmutableHashTrieBag.newBagWith(1, 2, 3);
+        Assert.assertEquals(Maps.immutable.of(1, 1, 2, 2, 3, 3), immutableBag.groupByUniqueKey(id -> id));
+    }
+
+    @Override
+    @Test
+    public void groupByUniqueKey_target()
+    {
+        ImmutableBag<Integer> immutableBag = ImmutableHashTrieBag.newBagWith(1, 2, 3);
+        Assert.assertEquals(Maps.immutable.of(0, 0, 1, 1, 2, 2, 3, 3), immutableBag.groupByUniqueKey(id -> id, UnifiedMap.newWithKeysValues(0, 0)));
+    }
+
+    @Test
+    public void newWithAndWithout()
+    {
+        ImmutableHashTrieBag<String> bag = ImmutableHashTrieBag.newBagWith("1", "2", "2");
+        Assert.assertEquals(HashBag.newBagWith("1", "2", "2", "2"), bag.newWith("2"));
+        Assert.assertEquals(HashBag.newBagWith("1", "2"), bag.newWithout("2"));
+        Assert.assertEquals(HashBag.newBagWith("2", "2"), bag.newWithout("1"));
+        Assert.assertSame(bag, bag.newWithout("3"));
+        Assert.assertEquals(HashBag.newBagWith("1"), bag.newWithoutAll(HashBag.newBagWith("2")));
+        Assert.assertEquals(HashBag.newBagWith("1", "2", "2"), bag);
+        Assert.assertSame(ImmutableHashTrieBag.newBag(), ImmutableHashTrieBag.newBagWith("1").newWithout("1"));
+    }
+
+    @Test
+    public void builder()
+    {
+        ImmutableHashTrieBag.Builder<Integer> builder = ImmutableHashTrieBag.<Integer>newBuilder()
+                .addAll(Interval.oneTo(100))
+                .addAll(HashBag.newBag(Interval.oneTo(10)))
+                .addOccurrences(7, 3)
+                .removeOccurrences(1, 5)
+                .remove(2);
+        Assert.assertEquals(110, builder.size());
+        Assert.assertEquals(5, builder.occurrencesOf(7));
+        ImmutableHashTrieBag<Integer> bag = builder.build();
+        Verify.assertSize(110, bag);
+        Assert.assertEquals(0, bag.occurrencesOf(1));
+        Assert.assertEquals(1, bag.occurrencesOf(2));
+        Assert.assertEquals(2, bag.occurrencesOf(3));
+        Assert.assertEquals(5, bag.occurrencesOf(7));
+        Verify.assertThrows(IllegalArgumentException.class, () -> builder.addOccurrences(1, -1));
+        Verify.assertThrows(IllegalArgumentException.class, () -> builder.removeOccurrences(1, -1));
+    }
+
+    @Test
+    public void factory()
+    {
+        Verify.assertInstanceOf(ImmutableHashTrieBag.class, Bags.immutable.emptyPersistent());
+        ImmutableBag<String> bag = Bags.immutable.withAllPersistent(HashBag.newBagWith("a", "a", "b"));
+        Verify.assertInstanceOf(ImmutableHashTrieBag.class, bag.newWith("c").newWithout("a"));
+        Assert.assertEquals(HashBag.newBagWith("a", "a", "b"), bag);
+    }
+}
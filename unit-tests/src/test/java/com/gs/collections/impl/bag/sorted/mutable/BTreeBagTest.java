@@ -0,0 +1,39 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.bag.sorted.mutable;
+
+import java.util.Comparator;
+
+import com.gs.collections.api.bag.sorted.MutableSortedBag;
+
+/**
+ * Runs the {@link TreeBag} tests against bags created by {@link TreeBag#newBTreeBag()}.
+ */
+public class BTreeBagTest extends TreeBagTest
+{
+    @Override
+    protected <T> MutableSortedBag<T> newWith(T... littleElements)
+    {
+        return TreeBag.<T>newBTreeBag().with(littleElements);
+    }
+
+    @Override
+    protected <T> MutableSortedBag<T> newWith(Comparator<? super T> comparator, T... elements)
+    {
+        return TreeBag.<T>newBTreeBag(comparator).with(elements);
+    }
+}
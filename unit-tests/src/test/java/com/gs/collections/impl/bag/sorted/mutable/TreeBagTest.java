@@ -21,8 +21,10 @@ import java.util.Comparator;
 
 import com.gs.collections.api.LazyIterable;
 import com.gs.collections.api.bag.sorted.MutableSortedBag;
+import com.gs.collections.impl.Counter;
 import com.gs.collections.impl.block.factory.Comparators;
 import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.map.sorted.mutable.TreeSortedMap;
 import com.gs.collections.impl.test.Verify;
 import org.junit.Assert;
 import org.junit.Test;
@@ -71,6 +73,17 @@ public class TreeBagTest extends AbstractSortedBagTestCase
         Verify.assertSortedBagsEqual(bagA, TreeBag.newBag(bagA));
     }
 
+    @Test
+    public void newBagFromOccurrences()
+    {
+        TreeSortedMap<String, Counter> occurrences = TreeSortedMap.newMap(Comparators.<String>reverseNaturalOrder());
+        occurrences.put("a", new Counter(2));
+        occurrences.put("b", new Counter(1));
+        TreeBag<String> bag = TreeBag.newBagFromOccurrences(occurrences);
+        Verify.assertSortedBagsEqual(TreeBag.newBagWith(Comparators.<String>reverseNaturalOrder(), "b", "a", "a"), bag);
+        Verify.assertSize(3, bag);
+    }
+
     @Test
     public void iterableConstructor()
     {
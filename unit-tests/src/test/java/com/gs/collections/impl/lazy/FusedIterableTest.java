@@ -0,0 +1,157 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.block.factory.Predicates2;
+import com.gs.collections.impl.block.procedure.CollectionAddProcedure;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.test.Verify;
+import com.gs.collections.impl.utility.LazyIterate;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FusedIterableTest extends AbstractLazyIterableTestCase
+{
+    @Override
+    protected <T> LazyIterable<T> newWith(T... elements)
+    {
+        return LazyIterate.fuse(FastList.newListWith(elements)).select(ignored -> true).collect(each -> each);
+    }
+
+    private static LazyIterable<String> pipeline()
+    {
+        return LazyIterate.fuse(Interval.oneTo(10))
+                .select(each -> each > 2)
+                .collect(each -> each * 2)
+                .reject(each -> each % 3 == 0)
+                .collect(String::valueOf);
+    }
+
+    @Override
+    @Test
+    public void iterator()
+    {
+        FastList<String> result = FastList.newList();
+        for (Iterator<String> iterator = pipeline().iterator(); iterator.hasNext(); )
+        {
+            result.add(iterator.next());
+        }
+        Assert.assertEquals(FastList.newListWith("8", "10", "14", "16", "20"), result);
+        Verify.assertThrows(UnsupportedOperationException.class, () -> pipeline().iterator().remove());
+    }
+
+    @Test
+    public void fusesOnlyWhenRequested()
+    {
+        FastList<Integer> list = FastList.newListWith(1, 2, 3);
+        Verify.assertInstanceOf(CollectIterable.class, list.asLazy().collect(each -> each).collect(each -> each));
+        Verify.assertInstanceOf(SelectIterable.class, LazyIterate.collect(list, each -> each).select(each -> true));
+        Verify.assertInstanceOf(FusedIterable.class, LazyIterate.fuse(list).select(each -> true).collect(each -> each));
+        Verify.assertInstanceOf(FusedIterable.class, LazyIterate.fuse(list).reject(each -> false).selectWith(Predicates2.greaterThan(), 1));
+        Verify.assertInstanceOf(FusedIterable.class, LazyIterate.fuse(list).collectWith((each, parameter) -> each + parameter, 1));
+        Verify.assertInstanceOf(FusedIterable.class, pipeline());
+    }
+
+    @Test
+    public void collectOnlyPipelineAnswersFromSource()
+    {
+        AtomicInteger calls = new AtomicInteger();
+        LazyIterable<Integer> collected = LazyIterate.fuse(FastList.newListWith(1, 2, 3))
+                .collect(each -> {
+                    calls.incrementAndGet();
+                    return each * 10;
+                })
+                .collect(each -> each + 1);
+        Verify.assertSize(3, collected);
+        Assert.assertTrue(collected.notEmpty());
+        Assert.assertEquals(0, calls.get());
+        Assert.assertEquals(Integer.valueOf(11), collected.getFirst());
+        Assert.assertEquals(Integer.valueOf(31), collected.getLast());
+        Assert.assertEquals(2, calls.get());
+        Assert.assertArrayEquals(new Object[]{11, 21, 31}, collected.toArray());
+        Assert.assertEquals(5, calls.get());
+        Assert.assertNull(LazyIterate.fuse(FastList.<Integer>newList()).collect(each -> each).getFirst());
+        Assert.assertTrue(LazyIterate.fuse(FastList.<Integer>newList()).collect(each -> each).isEmpty());
+    }
+
+    @Test
+    public void forEachMatchesNestedStages()
+    {
+        FastList<String> nested = FastList.newList();
+        new CollectIterable<Integer, String>(
+                new RejectIterable<Integer>(
+                        new CollectIterable<Integer, Integer>(
+                                new SelectIterable<Integer>(Interval.oneTo(10), each -> each > 2),
+                                each -> each * 2),
+                        each -> each % 3 == 0),
+                String::valueOf).forEach(CollectionAddProcedure.on(nested));
+        Assert.assertEquals(nested, pipeline().toList());
+        FastList<String> withIndex = FastList.newList();
+        pipeline().forEachWithIndex((each, index) -> withIndex.add(index + ":" + each));
+        Assert.assertEquals(FastList.newListWith("0:8", "1:10", "2:14", "3:16", "4:20"), withIndex);
+        FastList<String> with = FastList.newList();
+        pipeline().forEachWith((each, parameter) -> with.add(parameter + each), "#");
+        Assert.assertEquals(FastList.newListWith("#8", "#10", "#14", "#16", "#20"), with);
+    }
+
+    @Test
+    public void shortCircuits()
+    {
+        Assert.assertTrue(pipeline().anySatisfy("16"::equals));
+        Assert.assertFalse(pipeline().anySatisfy("12"::equals));
+        Assert.assertTrue(pipeline().allSatisfy(each -> each.length() <= 2));
+        Assert.assertFalse(pipeline().allSatisfy(each -> each.length() == 2));
+        Assert.assertTrue(pipeline().noneSatisfy("6"::equals));
+        Assert.assertTrue(pipeline().anySatisfyWith(Predicates2.equal(), "20"));
+        Assert.assertEquals("14", pipeline().detect(each -> each.startsWith("1") && !"10".equals(each)));
+        Assert.assertEquals("8", pipeline().getFirst());
+        Assert.assertEquals("20", pipeline().getLast());
+        Verify.assertSize(5, pipeline());
+        Verify.assertEmpty(pipeline().select(Predicates.alwaysFalse()));
+    }
+
+    @Test
+    public void evaluatesEachStageOncePerElement()
+    {
+        AtomicInteger calls = new AtomicInteger();
+        LazyIterable<Integer> counted = LazyIterate.fuse(Interval.oneTo(5))
+                .collect(each -> {
+                    calls.incrementAndGet();
+                    return each;
+                })
+                .select(each -> each % 2 == 1);
+        Assert.assertEquals(FastList.newListWith(1, 3, 5), counted.toList());
+        Assert.assertEquals(5, calls.get());
+        Assert.assertTrue(counted.anySatisfy(each -> each == 1));
+        Assert.assertEquals(6, calls.get());
+    }
+
+    @Test
+    public void collectsNulls()
+    {
+        LazyIterable<Object> nulls = LazyIterate.fuse(FastList.newListWith(1, 2, 3)).select(each -> true).collect(each -> null);
+        Verify.assertSize(3, nulls);
+        Assert.assertEquals(FastList.newListWith(null, null, null), nulls.toList());
+        Assert.assertEquals(FastList.newListWith(null, null, null), FastList.newList(nulls));
+    }
+}
@@ -19,9 +19,12 @@ package com.gs.collections.impl.lazy.parallel;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
@@ -64,7 +67,7 @@ import org.junit.Test;
 
 public abstract class ParallelIterableTestCase
 {
-    private static final ImmutableList<Integer> BATCH_SIZES = Lists.immutable.with(2, 5, 10, 100, 1000, 10000, 50000);
+    protected static final ImmutableList<Integer> BATCH_SIZES = Lists.immutable.with(2, 5, 10, 100, 1000, 10000, 50000);
     protected ExecutorService executorService;
     protected int batchSize = 2;
 
@@ -669,6 +672,62 @@ public abstract class ParallelIterableTestCase
                 this.classUnderTest().toSortedMap(Comparators.<Integer>reverseNaturalOrder(), id -> id, String::valueOf).keySet().toList());
     }
 
+    @Test
+    public void toSorted_batchSizes()
+    {
+        Integer[] elements = Interval.oneTo(3000).collect(each -> each % 700).toArray(new Integer[]{});
+        for (Integer batchSize : BATCH_SIZES)
+        {
+            this.batchSize = batchSize;
+            ParallelIterable<Integer> actual = this.newWith(elements);
+            RichIterable<Integer> expected = actual.toList();
+            Verify.assertSortedSetsEqual(
+                    "Batch size: " + this.batchSize,
+                    expected.toSortedSet(),
+                    actual.toSortedSet());
+            Verify.assertSortedSetsEqual(
+                    "Batch size: " + this.batchSize,
+                    expected.toSortedSet(Comparators.reverseNaturalOrder()),
+                    actual.toSortedSet(Comparators.reverseNaturalOrder()));
+            Assert.assertEquals(
+                    "Batch size: " + this.batchSize,
+                    expected.toSortedBag(),
+                    actual.toSortedBag());
+            Assert.assertEquals(
+                    "Batch size: " + this.batchSize,
+                    expected.toSortedBag(Comparators.reverseNaturalOrder()),
+                    actual.toSortedBag(Comparators.reverseNaturalOrder()));
+            Verify.assertSortedMapsEqual(
+                    "Batch size: " + this.batchSize,
+                    expected.toSortedMap(each -> each / 3, each -> String.valueOf(each / 3)),
+                    actual.toSortedMap(each -> each / 3, each -> String.valueOf(each / 3)));
+            Verify.assertSortedMapsEqual(
+                    "Batch size: " + this.batchSize,
+                    expected.toSortedMap(Comparators.<Integer>reverseNaturalOrder(), each -> each / 3, each -> String.valueOf(each / 3)),
+                    actual.toSortedMap(Comparators.<Integer>reverseNaturalOrder(), each -> each / 3, each -> String.valueOf(each / 3)));
+        }
+    }
+
+    @Test
+    public void toBag_toMap_batchSizes()
+    {
+        Integer[] elements = Interval.oneTo(3000).collect(each -> each % 700).toArray(new Integer[]{});
+        for (Integer batchSize : BATCH_SIZES)
+        {
+            this.batchSize = batchSize;
+            ParallelIterable<Integer> actual = this.newWith(elements);
+            RichIterable<Integer> expected = actual.toList();
+            Assert.assertEquals(
+                    "Batch size: " + this.batchSize,
+                    expected.toBag(),
+                    actual.toBag());
+            Assert.assertEquals(
+                    "Batch size: " + this.batchSize,
+                    expected.toMap(each -> each / 3, each -> String.valueOf(each / 3)),
+                    actual.toMap(each -> each / 3, each -> String.valueOf(each / 3)));
+        }
+    }
+
     @Test
     public void testToString()
     {
@@ -931,6 +990,91 @@ public abstract class ParallelIterableTestCase
         }
     }
 
+    @Test
+    public void injectInto()
+    {
+        Function2<Integer, Integer, Integer> sum = (integer1, integer2) -> integer1 + integer2;
+        Assert.assertEquals(
+                this.getExpected().injectInto(Integer.valueOf(0), sum),
+                this.classUnderTest().injectInto(() -> 0, sum, sum));
+        Assert.assertEquals(
+                Integer.valueOf(0),
+                this.classUnderTest().select(Predicates.alwaysFalse()).injectInto(() -> 0, sum, sum));
+
+        Assert.assertEquals(
+                this.getExpected().toBag(),
+                this.classUnderTest().injectInto(HashBag::<Integer>newBag, (bag, each) -> bag.with(each), (bag1, bag2) -> bag1.withAll(bag2)));
+        if (this.isOrdered())
+        {
+            Assert.assertEquals(
+                    this.getExpected().makeString(""),
+                    this.classUnderTest().injectInto(() -> "", (string, each) -> string + each, (string1, string2) -> string1 + string2));
+        }
+    }
+
+    @Test
+    public void reduce()
+    {
+        Assert.assertEquals(
+                Integer.valueOf((int) this.getExpected().sumOfInt(Integer::intValue)),
+                this.classUnderTest().reduce((integer1, integer2) -> integer1 + integer2));
+        Assert.assertEquals(
+                this.getExpected().max(Integer::compareTo),
+                this.classUnderTest().reduce((integer1, integer2) -> integer1 > integer2 ? integer1 : integer2));
+        Verify.assertThrows(NoSuchElementException.class, () -> this.classUnderTest().select(Predicates.alwaysFalse()).reduce((integer1, integer2) -> integer1 + integer2));
+    }
+
+    @Test
+    public void sumByInt()
+    {
+        Function<Integer, Boolean> isOddFunction = object -> IntegerPredicates.isOdd().accept(object);
+        Assert.assertEquals(
+                this.getExpected().sumByInt(isOddFunction, Integer::intValue),
+                this.classUnderTest().sumByInt(isOddFunction, Integer::intValue));
+    }
+
+    @Test
+    public void sumByLong()
+    {
+        Function<Integer, Boolean> isOddFunction = object -> IntegerPredicates.isOdd().accept(object);
+        Assert.assertEquals(
+                this.getExpected().sumByLong(isOddFunction, Integer::longValue),
+                this.classUnderTest().sumByLong(isOddFunction, Integer::longValue));
+    }
+
+    @Test
+    public void sumByFloat()
+    {
+        Function<Integer, Boolean> isOddFunction = object -> IntegerPredicates.isOdd().accept(object);
+        Assert.assertEquals(
+                this.getExpected().sumByFloat(isOddFunction, Integer::floatValue),
+                this.classUnderTest().sumByFloat(isOddFunction, Integer::floatValue));
+    }
+
+    @Test
+    public void sumByDouble()
+    {
+        Function<Integer, Boolean> isOddFunction = object -> IntegerPredicates.isOdd().accept(object);
+        Assert.assertEquals(
+                this.getExpected().sumByDouble(isOddFunction, Integer::doubleValue),
+                this.classUnderTest().sumByDouble(isOddFunction, Integer::doubleValue));
+    }
+
+    @Test
+    public void sumByIntWithManyBatches()
+    {
+        Function<Integer, Integer> groupBy = each -> each % 7;
+        Integer[] elements = Interval.oneTo(20_000).toArray();
+        RichIterable<Integer> expected = this.getExpectedWith(elements);
+        for (Integer batchSize : BATCH_SIZES)
+        {
+            this.batchSize = batchSize;
+            ParallelIterable<Integer> testCollection = this.newWith(elements);
+            Assert.assertEquals("Batch size: " + this.batchSize, expected.sumByInt(groupBy, Integer::intValue), testCollection.sumByInt(groupBy, Integer::intValue));
+            Assert.assertEquals("Batch size: " + this.batchSize, expected.sumByDouble(groupBy, Integer::doubleValue), testCollection.sumByDouble(groupBy, Integer::doubleValue));
+        }
+    }
+
     @Test
     public void asUnique()
     {
@@ -1154,4 +1298,63 @@ public abstract class ParallelIterableTestCase
     {
         this.newWith(1, null, 2).maxBy(Integer::valueOf);
     }
+
+    /**
+     * A predicate that answers at once for {@code match} and holds every other element until {@link #open()} is called,
+     * so an operation that returns while the gate is closed did not wait for the batches that do not contain
+     * {@code match}. A batch waiting at the gate has evaluated one element, so each batch evaluates at most one element
+     * before the gate opens. If the gate stays closed for ten seconds it opens itself and records the timeout, so an
+     * operation that does not short circuit fails instead of hanging.
+     */
+    protected static final class GatedPredicate implements Predicate<Integer>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Integer match;
+        private final boolean resultForMatch;
+        private final CountDownLatch gate = new CountDownLatch(1);
+        private final AtomicInteger evaluations = new AtomicInteger();
+        private final AtomicBoolean timedOut = new AtomicBoolean();
+
+        public GatedPredicate(Integer match, boolean resultForMatch)
+        {
+            this.match = match;
+            this.resultForMatch = resultForMatch;
+        }
+
+        public boolean accept(Integer each)
+        {
+            this.evaluations.incrementAndGet();
+            if (this.match.equals(each))
+            {
+                return this.resultForMatch;
+            }
+            try
+            {
+                if (!this.gate.await(10L, TimeUnit.SECONDS))
+                {
+                    this.timedOut.set(true);
+                    this.gate.countDown();
+                }
+            }
+            catch (InterruptedException e)
+            {
+                throw new RuntimeException(e);
+            }
+            return !this.resultForMatch;
+        }
+
+        /**
+         * Asserts that the operation returned with the gate closed and at most one evaluation per batch, then opens the
+         * gate so the remaining batches can finish.
+         */
+        public void assertShortCircuitedAndOpen(int batches)
+        {
+            int evaluationsBeforeOpen = this.evaluations.get();
+            boolean gateTimedOut = this.timedOut.get();
+            this.gate.countDown();
+            Assert.assertFalse("Waited for batches that do not contain the match", gateTimedOut);
+            Assert.assertTrue("Evaluations: " + evaluationsBeforeOpen, evaluationsBeforeOpen <= batches);
+        }
+    }
 }
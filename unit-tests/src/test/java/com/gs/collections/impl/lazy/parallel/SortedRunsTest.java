@@ -0,0 +1,103 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel;
+
+import java.util.NoSuchElementException;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.Counter;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.test.Verify;
+import com.gs.collections.impl.tuple.Tuples;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SortedRunsTest
+{
+    @Test
+    public void merge()
+    {
+        Assert.assertEquals(
+                FastList.newListWith(1, 2, 2, 3, 4, 5),
+                SortedRuns.merge(FastList.newListWith(1, 2, 4), FastList.newListWith(2, 3, 5), Comparators.naturalOrder()));
+    }
+
+    @Test
+    public void distinctSortedSetView()
+    {
+        SortedSet<Integer> view = SortedRuns.distinctSortedSetView(FastList.newListWith(1, 1, 3, 5, 5, 7, 9), null);
+        Assert.assertEquals(new TreeSet<Integer>(FastList.newListWith(1, 3, 5, 7, 9)), view);
+        Assert.assertEquals(Integer.valueOf(1), view.first());
+        Assert.assertEquals(Integer.valueOf(9), view.last());
+        Assert.assertEquals(new TreeSet<Integer>(FastList.newListWith(3, 5)), view.subSet(2, 7));
+        Assert.assertEquals(new TreeSet<Integer>(FastList.newListWith(1, 3)), view.headSet(5));
+        Assert.assertEquals(new TreeSet<Integer>(FastList.newListWith(7, 9)), view.tailSet(6));
+        Assert.assertEquals(new TreeSet<Integer>(FastList.newListWith(5)), view.tailSet(3).subSet(4, 7).headSet(6));
+        Verify.assertEmpty(view.subSet(6, 6));
+        Verify.assertThrows(NoSuchElementException.class, () -> view.headSet(1).first());
+        Verify.assertThrows(IllegalArgumentException.class, () -> view.subSet(7, 2));
+        Verify.assertThrows(UnsupportedOperationException.class, () -> view.add(2));
+    }
+
+    @Test
+    public void distinctSortedSetView_comparator()
+    {
+        SortedSet<Integer> view = SortedRuns.distinctSortedSetView(FastList.newListWith(9, 7, 7, 3), Comparators.reverseNaturalOrder());
+        Assert.assertEquals(FastList.newListWith(9, 7, 3), FastList.newList(view));
+        Assert.assertEquals(FastList.newListWith(7, 3), FastList.newList(view.tailSet(8)));
+        Assert.assertEquals(FastList.newListWith(9, 7), FastList.newList(view.headSet(3)));
+    }
+
+    @Test
+    public void sortedMapView()
+    {
+        FastList<Pair<Integer, String>> pairs = FastList.newListWith(
+                Tuples.pair(1, "a"),
+                Tuples.pair(2, "b"),
+                Tuples.pair(2, "c"),
+                Tuples.pair(4, "d"));
+        SortedMap<Integer, String> view = SortedRuns.sortedMapView(pairs, null);
+        TreeMap<Integer, String> expected = new TreeMap<Integer, String>();
+        expected.put(1, "a");
+        expected.put(2, "c");
+        expected.put(4, "d");
+        Assert.assertEquals(expected, view);
+        Assert.assertEquals(Integer.valueOf(1), view.firstKey());
+        Assert.assertEquals(Integer.valueOf(4), view.lastKey());
+        Assert.assertEquals(expected.subMap(2, 4), view.subMap(2, 4));
+        Assert.assertEquals(expected.headMap(3), view.headMap(3));
+        Assert.assertEquals(expected.tailMap(2), view.tailMap(2));
+        Verify.assertThrows(NoSuchElementException.class, () -> view.tailMap(5).lastKey());
+        Verify.assertThrows(IllegalArgumentException.class, () -> view.subMap(4, 2));
+    }
+
+    @Test
+    public void countedSortedMapView()
+    {
+        SortedMap<String, Counter> view = SortedRuns.countedSortedMapView(FastList.newListWith("a", "a", "b", "c", "c", "c"), null);
+        Assert.assertEquals(FastList.newListWith("a", "b", "c"), FastList.newList(view.keySet()));
+        Assert.assertEquals(2, view.get("a").getCount());
+        Assert.assertEquals(1, view.get("b").getCount());
+        Assert.assertEquals(3, view.get("c").getCount());
+        Verify.assertEmpty(SortedRuns.countedSortedMapView(FastList.<String>newList(), null));
+    }
+}
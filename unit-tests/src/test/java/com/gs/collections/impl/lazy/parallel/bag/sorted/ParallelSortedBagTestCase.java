@@ -0,0 +1,101 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.bag.sorted;
+
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.bag.sorted.MutableSortedBag;
+import com.gs.collections.api.bag.sorted.ParallelSortedBag;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.bag.sorted.mutable.TreeBag;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.lazy.parallel.ParallelIterableTestCase;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import org.junit.Assert;
+import org.junit.Test;
+
+public abstract class ParallelSortedBagTestCase extends ParallelIterableTestCase
+{
+    @Override
+    protected abstract ParallelSortedBag<Integer> classUnderTest();
+
+    @Override
+    protected abstract ParallelSortedBag<Integer> newWith(Integer... littleElements);
+
+    @Override
+    protected MutableSortedBag<Integer> getExpected()
+    {
+        return TreeBag.newBagWith(Comparators.reverseNaturalOrder(), 4, 4, 4, 4, 3, 3, 3, 2, 2, 1);
+    }
+
+    @Override
+    protected MutableSortedBag<Integer> getExpectedWith(Integer... littleElements)
+    {
+        return TreeBag.newBagWith(Comparators.reverseNaturalOrder(), littleElements);
+    }
+
+    @Override
+    protected boolean isOrdered()
+    {
+        return true;
+    }
+
+    @Override
+    protected boolean isUnique()
+    {
+        return false;
+    }
+
+    @Test
+    public void forEachWithOccurrences()
+    {
+        MutableBag<Integer> actual = HashBag.<Integer>newBag().asSynchronized();
+        this.classUnderTest().forEachWithOccurrences(actual::addOccurrences);
+        Assert.assertEquals(this.getExpected().toBag(), actual);
+    }
+
+    @Test
+    public void collect_detectFirst_returns_earliest_match()
+    {
+        Integer[] elements = Interval.oneTo(2000).toArray();
+        MutableSortedBag<Integer> expected = this.getExpectedWith(elements);
+        for (Integer batchSize : BATCH_SIZES)
+        {
+            this.batchSize = batchSize;
+            Assert.assertEquals(
+                    "Batch size: " + this.batchSize,
+                    expected.collect(each -> each * 2).detect(each -> each % 3 == 0),
+                    this.newWith(elements).collect(each -> each * 2).detectFirst(each -> each % 3 == 0));
+            Assert.assertEquals(
+                    "Batch size: " + this.batchSize,
+                    expected.flatCollect(each -> FastList.newListWith(each, -each)).detect(each -> each < 0 && each % 7 == 0),
+                    this.newWith(elements).flatCollect(each -> FastList.newListWith(each, -each)).detectFirst(each -> each < 0 && each % 7 == 0));
+        }
+    }
+
+    @Test
+    public void collect_detectFirst_short_circuits()
+    {
+        Integer[] elements = Interval.oneTo(1000).toArray();
+        Integer first = this.getExpectedWith(elements).getFirst() * 2;
+        this.batchSize = 100;
+
+        GatedPredicate predicate = new GatedPredicate(first, true);
+        Assert.assertEquals(first, this.newWith(elements).collect(each -> each * 2).detectFirst(predicate));
+        predicate.assertShortCircuitedAndOpen(elements.length / this.batchSize);
+    }
+}
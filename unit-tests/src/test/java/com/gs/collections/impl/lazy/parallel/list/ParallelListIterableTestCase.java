@@ -16,11 +16,18 @@
 
 package com.gs.collections.impl.lazy.parallel.list;
 
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.list.ListIterable;
 import com.gs.collections.api.list.MutableList;
 import com.gs.collections.api.list.ParallelListIterable;
+import com.gs.collections.impl.block.factory.IntegerPredicates;
+import com.gs.collections.impl.block.function.NegativeIntervalFunction;
 import com.gs.collections.impl.lazy.parallel.ParallelIterableTestCase;
+import com.gs.collections.impl.list.Interval;
 import com.gs.collections.impl.list.mutable.FastList;
+import org.junit.Assert;
+import org.junit.Test;
 
 public abstract class ParallelListIterableTestCase extends ParallelIterableTestCase
 {
@@ -53,4 +60,173 @@ public abstract class ParallelListIterableTestCase extends ParallelIterableTestC
     {
         return false;
     }
+
+    @Test
+    public void groupBy_preserves_encounter_order()
+    {
+        Integer[] elements = Interval.fromToBy(2000, 1, -1).toArray();
+        for (Integer batchSize : BATCH_SIZES)
+        {
+            this.batchSize = batchSize;
+            Assert.assertEquals(
+                    "Batch size: " + this.batchSize,
+                    this.getExpectedWith(elements).groupBy(each -> each % 7),
+                    this.newWith(elements).groupBy(each -> each % 7));
+            Assert.assertEquals(
+                    "Batch size: " + this.batchSize,
+                    this.getExpectedWith(elements).groupBy(IntegerPredicates.isOdd()::accept),
+                    this.newWith(elements).groupBy(IntegerPredicates.isOdd()::accept));
+        }
+    }
+
+    @Test
+    public void groupByEach_preserves_encounter_order()
+    {
+        Integer[] elements = Interval.fromToBy(200, 1, -1).toArray();
+        for (Integer batchSize : BATCH_SIZES)
+        {
+            this.batchSize = batchSize;
+            Assert.assertEquals(
+                    "Batch size: " + this.batchSize,
+                    this.getExpectedWith(elements).groupByEach(new NegativeIntervalFunction()),
+                    this.newWith(elements).groupByEach(new NegativeIntervalFunction()));
+        }
+    }
+
+    @Test
+    public void toArray_preserves_encounter_order()
+    {
+        Integer[] elements = Interval.fromToBy(2000, 1, -1).toArray();
+        for (Integer batchSize : BATCH_SIZES)
+        {
+            this.batchSize = batchSize;
+            Assert.assertArrayEquals(
+                    "Batch size: " + this.batchSize,
+                    this.getExpectedWith(elements).toArray(),
+                    this.newWith(elements).toArray());
+            Assert.assertArrayEquals(
+                    "Batch size: " + this.batchSize,
+                    this.getExpectedWith(elements).toArray(new Integer[0]),
+                    this.newWith(elements).toArray(new Integer[0]));
+        }
+    }
+
+    @Test
+    public void toArray_larger_array()
+    {
+        Integer[] target = {-1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1};
+        Integer[] result = this.classUnderTest().toArray(target);
+        Assert.assertSame(target, result);
+        Assert.assertArrayEquals(
+                this.getExpected().toArray(new Integer[]{-1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1}),
+                result);
+    }
+
+    @Test
+    public void flatCollect_preserves_encounter_order()
+    {
+        Integer[] elements = Interval.fromToBy(200, 1, -1).toArray();
+        Function<Integer, Iterable<Integer>> intervalFunction = Interval::zeroTo;
+        for (Integer batchSize : BATCH_SIZES)
+        {
+            this.batchSize = batchSize;
+            Assert.assertEquals(
+                    "Batch size: " + this.batchSize,
+                    this.getExpectedWith(elements).flatCollect(intervalFunction),
+                    this.newWith(elements).flatCollect(intervalFunction).toList());
+            Assert.assertEquals(
+                    "Batch size: " + this.batchSize,
+                    this.getExpectedWith(elements).flatCollect(intervalFunction).select(each -> each % 3 == 0).collect(each -> each * 2),
+                    this.newWith(elements).flatCollect(intervalFunction).select(each -> each % 3 == 0).collect(each -> each * 2).toList());
+        }
+    }
+
+    @Test
+    public void toSortedMap_keeps_last_value_in_encounter_order()
+    {
+        Integer[] elements = Interval.fromToBy(2000, 1, -1).toArray();
+        for (Integer batchSize : BATCH_SIZES)
+        {
+            this.batchSize = batchSize;
+            Assert.assertEquals(
+                    "Batch size: " + this.batchSize,
+                    this.getExpectedWith(elements).toSortedMap(each -> each % 37, each -> each),
+                    this.newWith(elements).toSortedMap(each -> each % 37, each -> each));
+        }
+    }
+
+    @Test
+    public void toMap_keeps_last_value_in_encounter_order()
+    {
+        Integer[] elements = Interval.fromToBy(2000, 1, -1).toArray();
+        for (Integer batchSize : BATCH_SIZES)
+        {
+            this.batchSize = batchSize;
+            Assert.assertEquals(
+                    "Batch size: " + this.batchSize,
+                    this.getExpectedWith(elements).toMap(each -> each % 37, each -> each),
+                    this.newWith(elements).toMap(each -> each % 37, each -> each));
+        }
+    }
+
+    @Test
+    public void detectFirst()
+    {
+        ListIterable<Integer> expected = this.getExpected();
+        for (Integer value : expected.toSet())
+        {
+            Assert.assertEquals(expected.detect(each -> !each.equals(value)), this.classUnderTest().detectFirst(each -> !each.equals(value)));
+            Assert.assertEquals(
+                    expected.select(each -> !each.equals(value)).detect(each -> each > 1),
+                    this.classUnderTest().select(each -> !each.equals(value)).detectFirst(each -> each > 1));
+        }
+        Assert.assertNull(this.classUnderTest().detectFirst(each -> each > 4));
+        Assert.assertEquals(expected.collect(String::valueOf).getFirst(), this.classUnderTest().collect(String::valueOf).detectFirst(each -> true));
+        Assert.assertEquals(
+                expected.flatCollect(each -> FastList.newListWith(each, each * 10)).detect(each -> each > 20),
+                this.classUnderTest().flatCollect(each -> FastList.newListWith(each, each * 10)).detectFirst(each -> each > 20));
+    }
+
+    @Test
+    public void detectFirst_returns_earliest_match()
+    {
+        Integer[] elements = Interval.fromToBy(2000, 1, -1).toArray();
+        ListIterable<Integer> expected = this.getExpectedWith(elements);
+        for (Integer batchSize : BATCH_SIZES)
+        {
+            this.batchSize = batchSize;
+            Assert.assertEquals("Batch size: " + this.batchSize, expected.detect(each -> each % 7 == 0), this.newWith(elements).detectFirst(each -> each % 7 == 0));
+            Assert.assertEquals("Batch size: " + this.batchSize, expected.detect(each -> each < 3), this.newWith(elements).detectFirst(each -> each < 3));
+            Assert.assertEquals(
+                    "Batch size: " + this.batchSize,
+                    expected.collect(each -> each * 2).detect(each -> each % 3 == 0),
+                    this.newWith(elements).collect(each -> each * 2).detectFirst(each -> each % 3 == 0));
+        }
+    }
+
+    @Test
+    public void short_circuit_stops_other_batches()
+    {
+        Integer[] elements = Interval.oneTo(1000).toArray();
+        Integer first = this.getExpectedWith(elements).getFirst();
+        this.batchSize = 100;
+
+        int batches = elements.length / this.batchSize;
+
+        GatedPredicate anySatisfy = new GatedPredicate(first, true);
+        Assert.assertTrue(this.newWith(elements).anySatisfy(anySatisfy));
+        anySatisfy.assertShortCircuitedAndOpen(batches);
+
+        GatedPredicate allSatisfy = new GatedPredicate(first, false);
+        Assert.assertFalse(this.newWith(elements).allSatisfy(allSatisfy));
+        allSatisfy.assertShortCircuitedAndOpen(batches);
+
+        GatedPredicate detect = new GatedPredicate(first, true);
+        Assert.assertEquals(first, this.newWith(elements).detect(detect));
+        detect.assertShortCircuitedAndOpen(batches);
+
+        GatedPredicate detectFirst = new GatedPredicate(first, true);
+        Assert.assertEquals(first, this.newWith(elements).detectFirst(detectFirst));
+        detectFirst.assertShortCircuitedAndOpen(batches);
+    }
 }
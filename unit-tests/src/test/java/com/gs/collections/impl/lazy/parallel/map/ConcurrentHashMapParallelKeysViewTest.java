@@ -0,0 +1,54 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.map;
+
+import com.gs.collections.api.set.ParallelUnsortedSetIterable;
+import com.gs.collections.impl.lazy.parallel.set.ParallelUnsortedSetIterableTestCase;
+import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
+import org.junit.Test;
+
+public class ConcurrentHashMapParallelKeysViewTest extends ParallelUnsortedSetIterableTestCase
+{
+    @Override
+    protected ParallelUnsortedSetIterable<Integer> classUnderTest()
+    {
+        return this.newWith(1, 2, 3, 4);
+    }
+
+    @Override
+    protected ParallelUnsortedSetIterable<Integer> newWith(Integer... littleElements)
+    {
+        ConcurrentHashMap<Integer, String> map = ConcurrentHashMap.newMap();
+        for (Integer each : littleElements)
+        {
+            map.put(each, String.valueOf(each));
+        }
+        return map.asParallel(this.executorService, this.batchSize).keysView();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void asParallel_small_batch()
+    {
+        ConcurrentHashMap.<Integer, String>newMap().asParallel(this.executorService, 0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void asParallel_null_executorService()
+    {
+        ConcurrentHashMap.<Integer, String>newMap().asParallel(null, 2);
+    }
+}
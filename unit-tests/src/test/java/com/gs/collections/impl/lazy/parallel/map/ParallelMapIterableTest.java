@@ -0,0 +1,173 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.map;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.multimap.Multimap;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.map.immutable.ImmutableUnifiedMap;
+import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.multimap.list.FastListMultimap;
+import com.gs.collections.impl.parallel.ParallelMapIterate;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.test.Verify;
+import com.gs.collections.impl.tuple.Tuples;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ParallelMapIterableTest
+{
+    private ExecutorService executorService;
+
+    @Before
+    public void setUp()
+    {
+        this.executorService = Executors.newFixedThreadPool(10);
+    }
+
+    @After
+    public void tearDown()
+    {
+        this.executorService.shutdownNow();
+    }
+
+    @Test
+    public void unifiedMap_forEachKeyValue()
+    {
+        UnifiedMap<Integer, Integer> map = UnifiedMap.newMap();
+        Interval.oneTo(20000).each((Integer each) -> map.put(each, each * 2));
+        for (int batchSize : new int[]{1, 2, 7, 100, 50000})
+        {
+            MutableMap<Integer, Integer> actual = ConcurrentHashMap.newMap();
+            map.asParallel(this.executorService, batchSize).forEachKeyValue(actual::put);
+            Assert.assertEquals(map, actual);
+        }
+    }
+
+    @Test
+    public void unifiedMap_collidingKeys()
+    {
+        UnifiedMap<CollidingInt, Integer> map = UnifiedMap.newMap();
+        for (int i = 0; i < 1000; i++)
+        {
+            map.put(new CollidingInt(i), i);
+        }
+        for (int batchSize : new int[]{1, 3, 64, 5000})
+        {
+            MutableMap<CollidingInt, Integer> actual = ConcurrentHashMap.newMap();
+            map.asParallel(this.executorService, batchSize).forEachKeyValue(actual::put);
+            Assert.assertEquals(map, actual);
+            Assert.assertEquals(
+                    map.keyValuesView().toSet(),
+                    map.asParallel(this.executorService, batchSize).keyValuesView().toSet());
+            Assert.assertEquals(
+                    Tuples.pair(new CollidingInt(500), 500),
+                    map.asParallel(this.executorService, batchSize).keyValuesView().detect(pair -> pair.getTwo() == 500));
+            Assert.assertTrue(map.asParallel(this.executorService, batchSize).valuesView().allSatisfy(Predicates.lessThan(1000)));
+            Assert.assertFalse(map.asParallel(this.executorService, batchSize).keysView().anySatisfy(key -> key.value < 0));
+        }
+    }
+
+    @Test
+    public void concurrentHashMap_keyValuesView()
+    {
+        ConcurrentHashMap<Integer, String> map = ConcurrentHashMap.newMap();
+        Interval.oneTo(10000).each((Integer each) -> map.put(each, String.valueOf(each)));
+        for (int batchSize : new int[]{1, 5, 100, 50000})
+        {
+            Assert.assertEquals(
+                    map.keyValuesView().toSet(),
+                    map.asParallel(this.executorService, batchSize).keyValuesView().toSet());
+            Assert.assertEquals(
+                    map.valuesView().toBag(),
+                    map.asParallel(this.executorService, batchSize).valuesView().toBag());
+        }
+    }
+
+    @Test
+    public void immutableUnifiedMap_keysView()
+    {
+        UnifiedMap<Integer, Integer> map = UnifiedMap.newMap();
+        Interval.oneTo(100).each((Integer each) -> map.put(each, each));
+        Assert.assertEquals(
+                map.keySet(),
+                new ImmutableUnifiedMap<>(map).asParallel(this.executorService, 3).keysView().toSet());
+    }
+
+    @Test
+    public void multimap_asParallelKeyMultiValuePairsView()
+    {
+        FastListMultimap<Integer, Integer> multimap = FastListMultimap.newMultimap();
+        Interval.oneTo(1000).each((Integer each) -> multimap.put(each % 37, each));
+        this.assertKeyMultiValuePairs(multimap);
+        this.assertKeyMultiValuePairs(multimap.toImmutable());
+    }
+
+    private void assertKeyMultiValuePairs(Multimap<Integer, Integer> multimap)
+    {
+        for (int batchSize : new int[]{1, 4, 1000})
+        {
+            MutableMap<Integer, RichIterable<Integer>> actual = ConcurrentHashMap.newMap();
+            multimap.asParallelKeyMultiValuePairsView(this.executorService, batchSize)
+                    .forEach((Pair<Integer, RichIterable<Integer>> pair) -> actual.put(pair.getOne(), pair.getTwo()));
+            Verify.assertSize(37, actual);
+            actual.forEachKeyValue((key, values) -> Assert.assertEquals(multimap.get(key).toList(), values.toList()));
+        }
+    }
+
+    @Test
+    public void parallelMapIterate_unifiedMap()
+    {
+        UnifiedMap<Integer, Integer> map = UnifiedMap.newMap();
+        Interval.oneTo(50000).each((Integer each) -> map.put(each, each));
+        MutableMap<Integer, Integer> actual = ConcurrentHashMap.newMap();
+        ParallelMapIterate.forEachKeyValue(map, actual::put, 100, 16, this.executorService);
+        Assert.assertEquals(map, actual);
+        Assert.assertEquals(UnifiedSet.newSet(map.keySet()), actual.keysView().toSet());
+    }
+
+    private static final class CollidingInt
+    {
+        private final int value;
+
+        private CollidingInt(int value)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            return o instanceof CollidingInt && ((CollidingInt) o).value == this.value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.value % 8;
+        }
+    }
+}
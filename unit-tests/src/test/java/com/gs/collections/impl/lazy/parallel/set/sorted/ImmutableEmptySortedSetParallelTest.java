@@ -26,6 +26,7 @@ import com.gs.collections.impl.block.factory.Predicates;
 import com.gs.collections.impl.block.factory.Predicates2;
 import com.gs.collections.impl.block.function.PassThruFunction0;
 import com.gs.collections.impl.factory.SortedSets;
+import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.set.sorted.mutable.TreeSortedSet;
 import org.junit.Assert;
 import org.junit.Test;
@@ -122,6 +123,19 @@ public class ImmutableEmptySortedSetParallelTest extends NonParallelSortedSetIte
         Assert.assertNull(this.classUnderTest().detect(Integer.valueOf(0)::equals));
     }
 
+    @Override
+    public void collect_detectFirst_returns_earliest_match()
+    {
+        Assert.assertNull(this.classUnderTest().collect(each -> each * 2).detectFirst(each -> true));
+        Assert.assertNull(this.classUnderTest().flatCollect(each -> FastList.newListWith(each, -each)).detectFirst(each -> true));
+    }
+
+    @Override
+    public void collect_detectFirst_short_circuits()
+    {
+        Assert.assertNull(this.classUnderTest().collect(each -> each * 2).detectFirst(Integer.valueOf(0)::equals));
+    }
+
     @Override
     public void detectIfNone()
     {
@@ -155,6 +169,13 @@ public class ImmutableEmptySortedSetParallelTest extends NonParallelSortedSetIte
         this.classUnderTest().max(Integer::compareTo);
     }
 
+    @Override
+    @Test(expected = NoSuchElementException.class)
+    public void reduce()
+    {
+        this.classUnderTest().reduce((integer1, integer2) -> integer1 + integer2);
+    }
+
     @Override
     @Test(expected = NoSuchElementException.class)
     public void minBy()
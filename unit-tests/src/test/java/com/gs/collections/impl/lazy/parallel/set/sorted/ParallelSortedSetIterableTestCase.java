@@ -20,7 +20,11 @@ import com.gs.collections.api.set.sorted.ParallelSortedSetIterable;
 import com.gs.collections.api.set.sorted.SortedSetIterable;
 import com.gs.collections.impl.block.factory.Comparators;
 import com.gs.collections.impl.lazy.parallel.ParallelIterableTestCase;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.set.sorted.mutable.TreeSortedSet;
+import org.junit.Assert;
+import org.junit.Test;
 
 public abstract class ParallelSortedSetIterableTestCase extends ParallelIterableTestCase
 {
@@ -50,4 +54,35 @@ public abstract class ParallelSortedSetIterableTestCase extends ParallelIterable
     {
         return true;
     }
+
+    @Test
+    public void collect_detectFirst_returns_earliest_match()
+    {
+        Integer[] elements = Interval.oneTo(2000).toArray();
+        SortedSetIterable<Integer> expected = this.getExpectedWith(elements);
+        for (Integer batchSize : BATCH_SIZES)
+        {
+            this.batchSize = batchSize;
+            Assert.assertEquals(
+                    "Batch size: " + this.batchSize,
+                    expected.collect(each -> each * 2).detect(each -> each % 3 == 0),
+                    ((ParallelSortedSetIterable<Integer>) this.newWith(elements)).collect(each -> each * 2).detectFirst(each -> each % 3 == 0));
+            Assert.assertEquals(
+                    "Batch size: " + this.batchSize,
+                    expected.flatCollect(each -> FastList.newListWith(each, -each)).detect(each -> each < 0 && each % 7 == 0),
+                    ((ParallelSortedSetIterable<Integer>) this.newWith(elements)).flatCollect(each -> FastList.newListWith(each, -each)).detectFirst(each -> each < 0 && each % 7 == 0));
+        }
+    }
+
+    @Test
+    public void collect_detectFirst_short_circuits()
+    {
+        Integer[] elements = Interval.oneTo(1000).toArray();
+        Integer first = this.getExpectedWith(elements).getFirst() * 2;
+        this.batchSize = 100;
+
+        GatedPredicate predicate = new GatedPredicate(first, true);
+        Assert.assertEquals(first, ((ParallelSortedSetIterable<Integer>) this.newWith(elements)).collect(each -> each * 2).detectFirst(predicate));
+        predicate.assertShortCircuitedAndOpen(elements.length / this.batchSize);
+    }
 }
@@ -23,6 +23,7 @@ import com.gs.collections.api.iterator.BooleanIterator;
 import com.gs.collections.impl.bag.mutable.primitive.BooleanHashBag;
 import com.gs.collections.impl.block.factory.primitive.BooleanPredicates;
 import com.gs.collections.impl.list.mutable.primitive.BooleanArrayList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
 import com.gs.collections.impl.set.mutable.primitive.BooleanHashSet;
 import com.gs.collections.impl.test.Verify;
 import org.junit.Assert;
@@ -168,4 +169,28 @@ public class LazyBooleanIterableAdapterTest
     {
         Assert.assertEquals(BooleanHashBag.newBagWith(false, true, true), this.iterable.toBag());
     }
+
+    @Test
+    public void collectPrimitive()
+    {
+        Assert.assertEquals(IntArrayList.newListWith(1, 0, 1), this.iterable.collectInt(each -> each ? 1 : 0).toList());
+        Assert.assertEquals(BooleanArrayList.newListWith(false, true, false), this.iterable.collectBoolean(each -> !each).toList());
+    }
+
+    @Test
+    public void flatCollectPrimitive()
+    {
+        Assert.assertEquals(
+                BooleanArrayList.newListWith(true, true, false, false, true, true),
+                this.iterable.flatCollectBoolean(each -> BooleanArrayList.newListWith(each, each)).toList());
+    }
+
+    @Test
+    public void takeDropDistinct()
+    {
+        Assert.assertEquals(BooleanArrayList.newListWith(true, false), this.iterable.take(2).toList());
+        Assert.assertEquals(BooleanArrayList.newListWith(false, true), this.iterable.drop(1).toList());
+        Assert.assertEquals(BooleanArrayList.newListWith(true, false), this.iterable.distinct().toList());
+        Verify.assertEmpty(this.iterable.drop(3));
+    }
 }
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.list;
+
+import com.gs.collections.api.list.primitive.MutableIntList;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.factory.Lists;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.primitive.DoubleArrayList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectLongHashMap;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ColumnarListTest
+{
+    private ColumnarList<Trade> trades;
+    private ColumnarList.ObjectColumn<Trade, String> symbol;
+    private ColumnarList.IntColumn<Trade> quantity;
+    private ColumnarList.LongColumn<Trade> timestamp;
+    private ColumnarList.DoubleColumn<Trade> price;
+
+    @Before
+    public void setUp()
+    {
+        this.trades = ColumnarList.newList();
+        this.symbol = this.trades.addObjectColumn(Trade::getSymbol);
+        this.quantity = this.trades.addIntColumn(Trade::getQuantity);
+        this.timestamp = this.trades.addLongColumn(Trade::getTimestamp);
+        this.price = this.trades.addDoubleColumn(Trade::getPrice);
+        this.trades.addAll(Lists.mutable.of(
+                new Trade("A", 10, 100L, 1.5),
+                new Trade("B", 20, 200L, 2.5),
+                new Trade("A", 30, 300L, 3.5),
+                new Trade("C", 40, 400L, 4.5)));
+    }
+
+    @Test
+    public void size()
+    {
+        Assert.assertEquals(4, this.trades.size());
+        Assert.assertTrue(this.trades.notEmpty());
+        Assert.assertFalse(this.trades.isEmpty());
+        ColumnarList<Trade> empty = ColumnarList.newList();
+        Assert.assertTrue(empty.isEmpty());
+        Verify.assertIterableEmpty(empty.rows());
+    }
+
+    @Test
+    public void values()
+    {
+        Assert.assertEquals(FastList.newListWith("A", "B", "A", "C"), this.symbol.values());
+        Assert.assertEquals(IntArrayList.newListWith(10, 20, 30, 40), this.quantity.values());
+        Assert.assertEquals(LongArrayList.newListWith(100L, 200L, 300L, 400L), this.timestamp.values());
+        Assert.assertEquals(DoubleArrayList.newListWith(1.5, 2.5, 3.5, 4.5), this.price.values());
+        Verify.assertThrows(UnsupportedOperationException.class, () -> ((MutableIntList) this.quantity.values()).add(1));
+    }
+
+    @Test
+    public void sum()
+    {
+        Assert.assertEquals(100L, this.quantity.sum());
+        Assert.assertEquals(1000L, this.timestamp.sum());
+        Assert.assertEquals(12.0, this.price.sum(), 0.0);
+        MutableIntList rows = IntArrayList.newListWith(1, 3);
+        Assert.assertEquals(60L, this.quantity.sum(rows));
+        Assert.assertEquals(600L, this.timestamp.sum(rows));
+        Assert.assertEquals(7.0, this.price.sum(rows), 0.0);
+    }
+
+    @Test
+    public void select()
+    {
+        Assert.assertEquals(IntArrayList.newListWith(0, 2), this.symbol.select(Predicates.equal("A")));
+        Assert.assertEquals(IntArrayList.newListWith(2, 3), this.quantity.select(each -> each > 25));
+        Assert.assertEquals(IntArrayList.newListWith(0, 1), this.timestamp.select(each -> each < 250L));
+        Assert.assertEquals(IntArrayList.newListWith(3), this.price.select(each -> each > 4.0));
+
+        MutableIntList large = this.quantity.select(each -> each > 15);
+        Assert.assertEquals(IntArrayList.newListWith(2), this.symbol.select(Predicates.equal("A"), large));
+        Assert.assertEquals(IntArrayList.newListWith(1, 2), this.timestamp.select(each -> each < 350L, large));
+        Assert.assertEquals(IntArrayList.newListWith(2, 3), this.price.select(each -> each > 3.0, large));
+        Assert.assertEquals(IntArrayList.newListWith(3), this.quantity.select(each -> each > 35, large));
+    }
+
+    @Test
+    public void groupBy()
+    {
+        Assert.assertEquals(
+                UnifiedMap.newWithKeysValues("A", IntArrayList.newListWith(0, 2), "B", IntArrayList.newListWith(1), "C", IntArrayList.newListWith(3)),
+                this.symbol.groupBy());
+        Assert.assertEquals(
+                UnifiedMap.newWithKeysValues("A", IntArrayList.newListWith(2), "C", IntArrayList.newListWith(3)),
+                this.symbol.groupBy(IntArrayList.newListWith(2, 3)));
+    }
+
+    @Test
+    public void sumBy()
+    {
+        Assert.assertEquals(ObjectDoubleHashMap.newWithKeysValues("A", 5.0, "B", 2.5, "C", 4.5), this.symbol.sumByDouble(this.price));
+        Assert.assertEquals(ObjectDoubleHashMap.newWithKeysValues("A", 3.5, "C", 4.5), this.symbol.sumByDouble(this.price, IntArrayList.newListWith(2, 3)));
+        Assert.assertEquals(ObjectLongHashMap.newWithKeysValues("A", 40L, "B", 20L, "C", 40L), this.symbol.sumByInt(this.quantity));
+        Assert.assertEquals(ObjectLongHashMap.newWithKeysValues("A", 400L, "B", 200L, "C", 400L), this.symbol.sumByLong(this.timestamp));
+    }
+
+    @Test
+    public void rows()
+    {
+        Assert.assertEquals(
+                FastList.newListWith("A", "B", "A", "C"),
+                this.trades.rows().collect(row -> row.get(this.symbol)).toList());
+        Assert.assertEquals(4, this.trades.rows().size());
+        Assert.assertEquals(
+                IntArrayList.newListWith(2, 3),
+                this.trades.rows().select(row -> row.getDouble(this.price) > 3.0).collectInt(ColumnarList.Row::getIndex).toList());
+        ColumnarList<Trade>.Row row = this.trades.getRow(1);
+        Assert.assertEquals(1, row.getIndex());
+        Assert.assertEquals("B", row.get(this.symbol));
+        Assert.assertEquals(20, row.getInt(this.quantity));
+        Assert.assertEquals(200L, row.getLong(this.timestamp));
+        Assert.assertEquals(2.5, row.getDouble(this.price), 0.0);
+        Assert.assertEquals("[B, 20, 200, 2.5]", row.toString());
+        Assert.assertEquals(FastList.newListWith(0, 1, 2, 3), FastList.newList(this.trades.rows()).collect(ColumnarList.Row::getIndex));
+    }
+
+    @Test
+    public void getRow_throws()
+    {
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> this.trades.getRow(4));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> this.trades.getRow(-1));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void addColumn_throws_when_rows_exist()
+    {
+        this.trades.addIntColumn(Trade::getQuantity);
+    }
+
+    @Test
+    public void foreignColumn_throws()
+    {
+        ColumnarList<Trade> other = ColumnarList.newList();
+        ColumnarList.DoubleColumn<Trade> otherPrice = other.addDoubleColumn(Trade::getPrice);
+        Verify.assertThrows(IllegalArgumentException.class, () -> this.symbol.sumByDouble(otherPrice));
+        Verify.assertThrows(IllegalArgumentException.class, () -> this.trades.getRow(0).getDouble(otherPrice));
+    }
+
+    @Test
+    public void add_throwing_column_function_leaves_columns_aligned()
+    {
+        ColumnarList<Trade> list = ColumnarList.newList();
+        ColumnarList.ObjectColumn<Trade, String> symbols = list.addObjectColumn(Trade::getSymbol);
+        ColumnarList.IntColumn<Trade> quantities = list.addIntColumn(Trade::getQuantity);
+        ColumnarList.LongColumn<Trade> timestamps = list.addLongColumn(Trade::getTimestamp);
+        ColumnarList.DoubleColumn<Trade> prices = list.addDoubleColumn(trade -> {
+            if (trade.getPrice() < 0.0)
+            {
+                throw new IllegalArgumentException("Negative price");
+            }
+            return trade.getPrice();
+        });
+        list.add(new Trade("A", 10, 100L, 1.5));
+        Verify.assertThrows(IllegalArgumentException.class, () -> list.add(new Trade("B", 20, 200L, -1.0)));
+        Assert.assertEquals(1, list.size());
+        Assert.assertEquals(1, symbols.values().size());
+        Assert.assertEquals(1, quantities.values().size());
+        Assert.assertEquals(1, timestamps.values().size());
+        Assert.assertEquals(1, prices.values().size());
+
+        list.add(new Trade("C", 30, 300L, 3.5));
+        Assert.assertEquals(FastList.newListWith("A", "C"), symbols.values());
+        Assert.assertEquals(IntArrayList.newListWith(10, 30), quantities.values());
+        Assert.assertEquals(LongArrayList.newListWith(100L, 300L), timestamps.values());
+        Assert.assertEquals(DoubleArrayList.newListWith(1.5, 3.5), prices.values());
+        Assert.assertEquals(30, list.getRow(1).getInt(quantities));
+    }
+
+    private static final class Trade
+    {
+        private final String symbol;
+        private final int quantity;
+        private final long timestamp;
+        private final double price;
+
+        private Trade(String symbol, int quantity, long timestamp, double price)
+        {
+            this.symbol = symbol;
+            this.quantity = quantity;
+            this.timestamp = timestamp;
+            this.price = price;
+        }
+
+        public String getSymbol()
+        {
+            return this.symbol;
+        }
+
+        public int getQuantity()
+        {
+            return this.quantity;
+        }
+
+        public long getTimestamp()
+        {
+            return this.timestamp;
+        }
+
+        public double getPrice()
+        {
+            return this.price;
+        }
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.list.immutable;
+
+import java.util.Iterator;
+import java.util.Random;
+
+import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.factory.Lists;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.block.procedure.CollectionAddProcedure;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.parallel.ParallelIterate;
+import com.gs.collections.impl.test.SerializeTestHelper;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableVectorList}.
+ */
+public class ImmutableVectorListTest extends AbstractImmutableListTestCase
+{
+    @Override
+    protected ImmutableList<Integer> classUnderTest()
+    {
+        return ImmutableVectorList.newListWith(1, 2, 3);
+    }
+
+    @Test
+    public void onlyGrowingSwitchesAboveThreshold()
+    {
+        int threshold = ImmutableVectorList.ARRAY_THRESHOLD;
+        Verify.assertInstanceOf(ImmutableArrayList.class, Lists.immutable.withAll(Interval.oneTo(threshold + 1)));
+        Verify.assertInstanceOf(ImmutableArrayList.class, FastList.newList(Interval.oneTo(threshold + 1)).toImmutable());
+
+        ImmutableList<Integer> array = Lists.immutable.withAll(Interval.oneTo(threshold));
+        ImmutableList<Integer> grown = array.newWith(threshold + 1);
+        Verify.assertInstanceOf(ImmutableVectorList.class, grown);
+        Assert.assertEquals(Interval.oneTo(threshold + 1), grown);
+        Assert.assertEquals(Interval.oneTo(threshold), array);
+
+        ImmutableList<Integer> concatenated = Lists.immutable.with(0).newWithAll(Interval.oneTo(threshold));
+        Verify.assertInstanceOf(ImmutableVectorList.class, concatenated);
+        Assert.assertEquals(Interval.zeroTo(threshold), concatenated);
+        Verify.assertInstanceOf(ImmutableArrayList.class, Lists.immutable.with(0).newWithAll(Interval.oneTo(threshold - 1)));
+    }
+
+    @Test
+    public void newWith()
+    {
+        ImmutableVectorList<Integer> list = ImmutableVectorList.empty();
+        MutableList<Integer> expected = FastList.newList();
+        for (int i = 0; i < 5000; i++)
+        {
+            ImmutableVectorList<Integer> next = list.newWith(i);
+            expected.add(i);
+            Assert.assertEquals(i, list.size());
+            list = next;
+        }
+        this.assertSameContents(expected, list);
+    }
+
+    @Test
+    public void newWithFirst()
+    {
+        ImmutableVectorList<Integer> list = ImmutableVectorList.newListWith(0);
+        for (int i = 1; i < 5000; i++)
+        {
+            list = list.newWithFirst(-i);
+        }
+        this.assertSameContents(Interval.fromTo(-4999, 0), list);
+        this.assertSameContents(Interval.fromTo(-4999, 1), list.newWith(1));
+    }
+
+    @Test
+    public void newWithAll()
+    {
+        ImmutableVectorList<Integer> list = ImmutableVectorList.newListWith(1, 2, 3);
+        Assert.assertEquals(FastList.newListWith(1, 2, 3, 4, 5), list.newWithAll(FastList.newListWith(4, 5)));
+        Assert.assertSame(list, list.newWithAll(FastList.<Integer>newList()));
+        Assert.assertSame(list, list.newWithAll(ImmutableVectorList.<Integer>empty()));
+        ImmutableVectorList<Integer> empty = ImmutableVectorList.empty();
+        Assert.assertSame(list, empty.newWithAll(list));
+
+        ImmutableVectorList<Integer> large = ImmutableVectorList.newList(Interval.oneTo(3000));
+        this.assertSameContents(Interval.oneTo(6000), large.newWithAll(Interval.fromTo(3001, 6000)));
+        this.assertSameContents(FastList.newList(Interval.oneTo(3000)).with(1, 2, 3), large.newWithAll(list));
+    }
+
+    @Test
+    public void newWithAllSmallLists()
+    {
+        ImmutableVectorList<Integer> left = ImmutableVectorList.empty();
+        ImmutableVectorList<Integer> right = ImmutableVectorList.empty();
+        MutableList<Integer> expected = FastList.newList();
+        for (int i = 0; i < 3000; i++)
+        {
+            ImmutableVectorList<Integer> small = ImmutableVectorList.newList(Interval.fromTo(i, i + i % 3));
+            left = left.newWithAll(small);
+            right = small.newWithAll(right);
+            expected.addAll(small);
+        }
+        this.assertSameContents(expected, left);
+        this.assertSameContents(expected, left.newWithAll(right).take(expected.size()));
+    }
+
+    @Test
+    public void newWithout()
+    {
+        ImmutableVectorList<Integer> list = ImmutableVectorList.newList(Interval.oneTo(2000));
+        Assert.assertSame(list, list.newWithout(0));
+        this.assertSameContents(Interval.fromTo(2, 2000), list.newWithout(1));
+        this.assertSameContents(Interval.oneTo(1999), list.newWithout(2000));
+        this.assertSameContents(FastList.newList(Interval.oneTo(999)).withAll(Interval.fromTo(1001, 2000)), list.newWithout(1000));
+    }
+
+    @Test
+    public void subListTakeAndDrop()
+    {
+        ImmutableVectorList<Integer> list = ImmutableVectorList.newList(Interval.zeroTo(9999));
+        Assert.assertEquals(Interval.fromTo(100, 8999), list.subList(100, 9000));
+        Verify.assertEmpty(list.subList(5, 5));
+        this.assertSameContents(Interval.fromTo(100, 8999), list.take(9000).drop(100));
+        this.assertSameContents(Interval.fromTo(1000, 1009), list.drop(1000).take(10));
+        Assert.assertSame(list, list.drop(0));
+        this.assertSameContents(Interval.zeroTo(4), list.take(5));
+        this.assertSameContents(Interval.fromTo(9995, 9999), list.drop(9995));
+        Assert.assertSame(list, list.take(20000));
+        Verify.assertEmpty(list.drop(20000));
+        Verify.assertThrows(IllegalArgumentException.class, () -> list.take(-1));
+        Verify.assertThrows(IllegalArgumentException.class, () -> list.drop(-1));
+    }
+
+    @Test
+    public void batchForEach()
+    {
+        ImmutableVectorList<Integer> list = ImmutableVectorList.newList(Interval.fromTo(-5, 0))
+                .newWithAll(Interval.oneTo(3000))
+                .newWithFirst(-6);
+        for (int sectionCount = 1; sectionCount <= 7; sectionCount++)
+        {
+            MutableList<Integer> result = FastList.newList();
+            for (int sectionIndex = 0; sectionIndex < sectionCount; sectionIndex++)
+            {
+                list.batchForEach(CollectionAddProcedure.on(result), sectionIndex, sectionCount);
+            }
+            Assert.assertEquals(list, result);
+        }
+        Assert.assertEquals(30, list.getBatchCount(100));
+        Assert.assertEquals(1, ImmutableVectorList.newListWith(1, 2).getBatchCount(100));
+    }
+
+    @Test
+    public void parallelSelect()
+    {
+        ImmutableVectorList<Integer> list = ImmutableVectorList.newList(Interval.oneTo(100000));
+        Assert.assertEquals(
+                list.select(Predicates.greaterThan(50000)),
+                ParallelIterate.select(list, Predicates.greaterThan(50000)));
+    }
+
+    @Test
+    public void randomOperations()
+    {
+        Random random = new Random(42L);
+        ImmutableVectorList<Integer> list = ImmutableVectorList.empty();
+        MutableList<Integer> expected = FastList.newList();
+        for (int step = 0; step < 2000; step++)
+        {
+            int operation = random.nextInt(6);
+            if (operation == 0)
+            {
+                int count = random.nextInt(100);
+                for (int i = 0; i < count; i++)
+                {
+                    list = list.newWith(step);
+                    expected.add(step);
+                }
+            }
+            else if (operation == 1)
+            {
+                int count = random.nextInt(100);
+                for (int i = 0; i < count; i++)
+                {
+                    list = list.newWithFirst(-step);
+                    expected.add(0, -step);
+                }
+            }
+            else if (operation == 2 || operation == 3)
+            {
+                ImmutableVectorList<Integer> other = ImmutableVectorList.newList(Interval.fromTo(step, step + random.nextInt(200)));
+                if (random.nextBoolean() && other.size() > 1)
+                {
+                    other = other.drop(1).newWithFirst(step);
+                }
+                list = list.newWithAll(other);
+                expected.addAll(other);
+            }
+            else if (operation == 4 && expected.size() > 2)
+            {
+                int from = random.nextInt(expected.size() / 2);
+                int to = expected.size() - random.nextInt(expected.size() / 4 + 1);
+                list = list.take(to).drop(from);
+                expected = FastList.newList(expected.subList(from, to));
+            }
+            else if (expected.size() > 20000)
+            {
+                list = list.drop(expected.size() / 2);
+                expected = FastList.newList(expected.subList(expected.size() / 2, expected.size()));
+            }
+            Assert.assertEquals(expected.size(), list.size());
+        }
+        this.assertSameContents(expected, list);
+    }
+
+    @Test
+    public void builder()
+    {
+        ImmutableVectorList.Builder<Integer> builder = ImmutableVectorList.newBuilder();
+        Assert.assertSame(ImmutableVectorList.empty(), builder.build());
+        builder.addAll(Interval.oneTo(1000));
+        ImmutableVectorList<Integer> first = builder.build();
+        builder.add(1001).add(1002);
+        ImmutableVectorList<Integer> second = builder.build();
+        Assert.assertEquals(1002, builder.size());
+        this.assertSameContents(Interval.oneTo(1000), first);
+        this.assertSameContents(Interval.oneTo(1002), second);
+        this.assertSameContents(Interval.oneTo(1001), first.newWith(1001));
+        this.assertSameContents(Interval.oneTo(1002), second);
+    }
+
+    @Test
+    public void largeSerialization()
+    {
+        ImmutableVectorList<Integer> list = ImmutableVectorList.newList(Interval.oneTo(3000)).newWithFirst(0);
+        ImmutableList<Integer> deserialized = SerializeTestHelper.serializeDeserialize(list);
+        Verify.assertInstanceOf(ImmutableVectorList.class, deserialized);
+        Verify.assertEqualsAndHashCode(list, deserialized);
+    }
+
+    private void assertSameContents(Iterable<Integer> expected, ImmutableVectorList<Integer> actual)
+    {
+        MutableList<Integer> expectedList = FastList.newList(expected);
+        Assert.assertEquals(expectedList.size(), actual.size());
+        Assert.assertEquals(expectedList, actual);
+        Assert.assertEquals(expectedList.hashCode(), actual.hashCode());
+        Assert.assertArrayEquals(expectedList.toArray(), actual.toArray());
+        for (int i = 0; i < expectedList.size(); i++)
+        {
+            Assert.assertEquals(expectedList.get(i), actual.get(i));
+        }
+        MutableList<Integer> iterated = FastList.newList();
+        for (Iterator<Integer> iterator = actual.iterator(); iterator.hasNext(); )
+        {
+            iterated.add(iterator.next());
+        }
+        Assert.assertEquals(expectedList, iterated);
+        MutableList<Integer> visited = FastList.newList();
+        actual.each(visited::add);
+        Assert.assertEquals(expectedList, visited);
+        actual.forEachWithIndex((each, index) -> Assert.assertEquals(expectedList.get(index), each));
+    }
+}
@@ -94,6 +94,19 @@ public class FastListTest extends AbstractListTestCase
                 FastList.newWithNValues(5, FastList::new));
     }
 
+    @Test
+    public void sortThisParallel()
+    {
+        FastList<Integer> integers = FastList.newList(Interval.oneTo(100_000).collect(each -> each * 7919 % 100_003));
+        Assert.assertEquals(integers.clone().sortThis(), integers.clone().sortThisParallel());
+        Assert.assertEquals(
+                integers.clone().sortThis(Collections.reverseOrder()),
+                integers.clone().sortThisParallel(Collections.reverseOrder()));
+        Assert.assertEquals(FastList.newListWith(1, 2, 3), FastList.newListWith(3, 1, 2).sortThisParallel());
+        FastList<Integer> empty = FastList.newList();
+        Assert.assertSame(empty, empty.sortThisParallel());
+    }
+
     @Test
     public void constructorWithCollection()
     {
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.immutable;
+
+import java.util.Random;
+
+import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.impl.factory.Lists;
+import com.gs.collections.impl.factory.Maps;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.test.Verify;
+import com.gs.collections.impl.tuple.Tuples;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ImmutableHashTrieMapTest extends ImmutableMapTestCase
+{
+    @Override
+    protected ImmutableMap<Integer, String> classUnderTest()
+    {
+        return ImmutableHashTrieMap.newMap(UnifiedMap.newWithKeysValues(1, "1", 2, "2", 3, "3", 4, "4"));
+    }
+
+    @Override
+    protected int size()
+    {
+        return 4;
+    }
+
+    @Test
+    @Override
+    public void testToString()
+    {
+        Assert.assertEquals("{1=1, 2=2, 3=3, 4=4}", this.classUnderTest().toString());
+    }
+
+    @Test
+    public void newWithKeyValue_leavesOriginalUnchanged()
+    {
+        ImmutableHashTrieMap<Integer, String> map = ImmutableHashTrieMap.newMap(this.classUnderTest().castToMap());
+        ImmutableHashTrieMap<Integer, String> added = map.newWithKeyValue(5, "5");
+        ImmutableHashTrieMap<Integer, String> replaced = map.newWithKeyValue(1, "one");
+        ImmutableHashTrieMap<Integer, String> removed = map.newWithoutKey(2);
+
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, "1", 2, "2", 3, "3", 4, "4"), map);
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, "1", 2, "2", 3, "3", 4, "4").withKeyValue(5, "5"), added);
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, "one", 2, "2", 3, "3", 4, "4"), replaced);
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, "1", 3, "3", 4, "4"), removed);
+        Assert.assertSame(map, map.newWithoutKey(5));
+        Assert.assertSame(map, map.newWithKeyValue(1, map.get(1)));
+        Assert.assertSame(ImmutableHashTrieMap.newMap(), ImmutableHashTrieMap.newMap().newWithKeyValue(1, 1).newWithoutKey(1));
+    }
+
+    @Test
+    public void nullKeyAndValue()
+    {
+        ImmutableHashTrieMap<Integer, String> map = ImmutableHashTrieMap.<Integer, String>newMap().newWithKeyValue(null, "null").newWithKeyValue(1, null);
+        Assert.assertEquals(2, map.size());
+        Assert.assertEquals("null", map.get(null));
+        Assert.assertTrue(map.containsKey(1));
+        Assert.assertTrue(map.containsValue(null));
+        Assert.assertNull(map.get(1));
+        Assert.assertFalse(map.containsKey(2));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, null), map.newWithoutKey(null));
+    }
+
+    @Test
+    public void hashCollisions()
+    {
+        ImmutableHashTrieMap<CollidingKey, Integer> map = ImmutableHashTrieMap.newMap();
+        for (int i = 0; i < 10; i++)
+        {
+            map = map.newWithKeyValue(new CollidingKey(i), i);
+        }
+        map = map.newWithKeyValue(new CollidingKey(100, 1), 100);
+        Assert.assertEquals(11, map.size());
+        for (int i = 0; i < 10; i++)
+        {
+            Assert.assertEquals(Integer.valueOf(i), map.get(new CollidingKey(i)));
+        }
+        Assert.assertEquals(Integer.valueOf(100), map.get(new CollidingKey(100, 1)));
+        Assert.assertNull(map.get(new CollidingKey(10)));
+
+        ImmutableHashTrieMap<CollidingKey, Integer> shrunk = map;
+        for (int i = 0; i < 10; i++)
+        {
+            shrunk = shrunk.newWithoutKey(new CollidingKey(i));
+            Assert.assertEquals(10 - i, shrunk.size());
+        }
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(new CollidingKey(100, 1), 100), shrunk);
+        Assert.assertEquals(11, map.size());
+    }
+
+    @Test
+    public void randomOperationsMatchUnifiedMap()
+    {
+        Random random = new Random(42L);
+        MutableMap<Integer, Integer> expected = UnifiedMap.newMap();
+        ImmutableHashTrieMap<Integer, Integer> actual = ImmutableHashTrieMap.newMap();
+        for (int i = 0; i < 20000; i++)
+        {
+            // Multiples of 1024 share their low bits, which forces deep paths through the trie.
+            int key = random.nextBoolean() ? random.nextInt(2000) : random.nextInt(200) << 10;
+            if (random.nextInt(3) == 0)
+            {
+                expected.remove(key);
+                actual = actual.newWithoutKey(key);
+            }
+            else
+            {
+                expected.put(key, i);
+                actual = actual.newWithKeyValue(key, i);
+            }
+        }
+        Assert.assertEquals(expected, actual);
+        Assert.assertEquals(actual, expected);
+        Assert.assertEquals(expected.hashCode(), actual.hashCode());
+        Assert.assertEquals(expected.keySet(), actual.keySet());
+        Verify.assertIterableSize(expected.size(), actual.keysView());
+        Assert.assertEquals(expected.valuesView().toBag(), actual.valuesView().toBag());
+        Assert.assertEquals(expected.keyValuesView().toSet(), actual.keyValuesView().toSet());
+        Assert.assertEquals(expected.valuesView().toBag(), actual.toBag());
+    }
+
+    @Test
+    public void builder()
+    {
+        ImmutableHashTrieMap<Integer, Integer> original = ImmutableHashTrieMap.newMap(Interval.oneTo(1000).toMap(each -> each, each -> each));
+        ImmutableHashTrieMap.Builder<Integer, Integer> builder = original.toBuilder();
+        for (int i = 1; i <= 1000; i += 2)
+        {
+            builder.remove(i);
+        }
+        for (int i = 1001; i <= 1500; i++)
+        {
+            builder.put(i, -i);
+        }
+        Assert.assertEquals(1000, builder.size());
+        Assert.assertEquals(Integer.valueOf(-1200), builder.get(1200));
+        ImmutableHashTrieMap<Integer, Integer> built = builder.build();
+
+        builder.put(2, 0).remove(4);
+        ImmutableHashTrieMap<Integer, Integer> builtAgain = builder.build();
+
+        Assert.assertEquals(1000, original.size());
+        Assert.assertEquals(Interval.oneTo(1000).toMap(each -> each, each -> each), original);
+        Assert.assertEquals(1000, built.size());
+        Assert.assertEquals(Integer.valueOf(2), built.get(2));
+        Assert.assertEquals(Integer.valueOf(4), built.get(4));
+        Assert.assertFalse(built.containsKey(1));
+        Assert.assertEquals(Integer.valueOf(-1500), built.get(1500));
+        Assert.assertEquals(999, builtAgain.size());
+        Assert.assertEquals(Integer.valueOf(0), builtAgain.get(2));
+        Assert.assertFalse(builtAgain.containsKey(4));
+    }
+
+    @Test
+    public void newWithAll()
+    {
+        ImmutableHashTrieMap<Integer, String> map = ImmutableHashTrieMap.newMap(this.classUnderTest().castToMap());
+        Assert.assertEquals(
+                UnifiedMap.newWithKeysValues(1, "1", 2, "two", 3, "3", 4, "4").withKeyValue(5, "5"),
+                map.newWithAllKeyValues(Lists.mutable.of(Tuples.pair(2, "two"), Tuples.pair(5, "5"))));
+        Assert.assertEquals(
+                UnifiedMap.newWithKeysValues(2, "2", 4, "4"),
+                map.newWithoutAllKeys(Lists.mutable.of(1, 3, 5)));
+    }
+
+    @Test
+    public void factory()
+    {
+        Verify.assertInstanceOf(ImmutableHashTrieMap.class, Maps.immutable.emptyPersistent());
+        ImmutableMap<Integer, String> map = Maps.immutable.withAllPersistent(UnifiedMap.newWithKeysValues(1, "1", 2, "2"));
+        Verify.assertInstanceOf(ImmutableHashTrieMap.class, map);
+        Verify.assertInstanceOf(ImmutableHashTrieMap.class, map.newWithKeyValue(3, "3").newWithoutKey(1));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, "1", 2, "2"), map);
+    }
+
+    private static final class CollidingKey
+    {
+        private final int value;
+        private final int hashCode;
+
+        private CollidingKey(int value)
+        {
+            this(value, 0);
+        }
+
+        private CollidingKey(int value, int hashCode)
+        {
+            this.value = value;
+            this.hashCode = hashCode;
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            return other instanceof CollidingKey && ((CollidingKey) other).value == this.value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.hashCode;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.mutable;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.impl.test.SerializeTestHelper;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link OpenHashMap}.
+ */
+public class OpenHashMapTest extends MutableMapTestCase
+{
+    @Override
+    public <K, V> MutableMap<K, V> newMap()
+    {
+        return OpenHashMap.newMap();
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeyValue(K key, V value)
+    {
+        return OpenHashMap.newWithKeysValues(key, value);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return OpenHashMap.newWithKeysValues(key1, value1, key2, value2);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return OpenHashMap.newWithKeysValues(key1, value1, key2, value2, key3, value3);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        return OpenHashMap.newWithKeysValues(key1, value1, key2, value2, key3, value3).withKeysValues(key4, value4);
+    }
+
+    @Test
+    public void growAndShrink()
+    {
+        OpenHashMap<Integer, String> map = OpenHashMap.newMap();
+        for (int i = 0; i < 1000; i++)
+        {
+            Assert.assertNull(map.put(i, String.valueOf(i)));
+        }
+        Verify.assertSize(1000, map);
+        for (int i = 0; i < 1000; i += 2)
+        {
+            Assert.assertEquals(String.valueOf(i), map.remove(i));
+        }
+        Verify.assertSize(500, map);
+        for (int i = 0; i < 1000; i++)
+        {
+            Assert.assertEquals(i % 2 == 0 ? null : String.valueOf(i), map.get(i));
+        }
+    }
+
+    @Test
+    public void collidingKeys()
+    {
+        OpenHashMap<CollidingKey, Integer> map = OpenHashMap.newMap();
+        for (int i = 0; i < 50; i++)
+        {
+            map.put(new CollidingKey(i), i);
+        }
+        Assert.assertEquals(50, map.getMaxProbeLength());
+        for (int i = 0; i < 50; i += 3)
+        {
+            Assert.assertEquals(Integer.valueOf(i), map.remove(new CollidingKey(i)));
+        }
+        for (int i = 0; i < 50; i++)
+        {
+            Assert.assertEquals(i % 3 == 0 ? null : Integer.valueOf(i), map.get(new CollidingKey(i)));
+        }
+    }
+
+    @Test
+    public void removeThroughIterator()
+    {
+        OpenHashMap<CollidingKey, Integer> map = OpenHashMap.newMap();
+        for (int i = 0; i < 100; i++)
+        {
+            map.put(new CollidingKey(i % 10 == 0 ? i : i % 4), i);
+        }
+        MutableMap<CollidingKey, Integer> expected = UnifiedMap.newMap(map);
+        int visited = 0;
+        for (Iterator<Map.Entry<CollidingKey, Integer>> iterator = map.entrySet().iterator(); iterator.hasNext(); )
+        {
+            Map.Entry<CollidingKey, Integer> entry = iterator.next();
+            Assert.assertEquals(expected.get(entry.getKey()), entry.getValue());
+            visited++;
+            if (entry.getValue() % 2 == 0)
+            {
+                iterator.remove();
+                expected.remove(entry.getKey());
+            }
+        }
+        Assert.assertEquals(13, visited);
+        Assert.assertEquals(expected, map);
+    }
+
+    @Test
+    public void getMaxProbeLength()
+    {
+        Assert.assertEquals(0, OpenHashMap.newMap().getMaxProbeLength());
+        OpenHashMap<Integer, Integer> map = OpenHashMap.newMap();
+        for (int i = 0; i < 100; i++)
+        {
+            map.put(i, i);
+        }
+        Verify.assertSize(100, map);
+        Assert.assertTrue(map.getMaxProbeLength() >= 1);
+    }
+
+    @Test
+    public void serializationWithNullKey()
+    {
+        OpenHashMap<Integer, String> map = OpenHashMap.newWithKeysValues(null, "null", 1, null, 2, "2");
+        Verify.assertPostSerializedEqualsAndHashCode(map);
+        OpenHashMap<Integer, String> copy = SerializeTestHelper.serializeDeserialize(map);
+        Assert.assertEquals("null", copy.get(null));
+        Assert.assertTrue(copy.containsKey(1));
+    }
+
+    private static final class CollidingKey
+    {
+        private final int value;
+
+        private CollidingKey(int value)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            return o instanceof CollidingKey && ((CollidingKey) o).value == this.value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 42;
+        }
+    }
+}
@@ -20,7 +20,9 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Random;
 import java.util.Set;
+import java.util.TreeMap;
 
 import com.gs.collections.api.LazyIterable;
 import com.gs.collections.api.list.MutableList;
@@ -275,22 +277,97 @@ public class ImmutableTreeMapTest extends ImmutableSortedMapTestCase
         new ImmutableTreeMap<Integer, String>(SortedMaps.mutable.of(1, "1", 2, "2", 3, "3", 4, "4")).keySet().clear();
     }
 
-    @Test(expected = UnsupportedOperationException.class)
+    @Test
     public void subMap()
     {
-        new ImmutableTreeMap<Integer, String>(SortedMaps.mutable.of(1, "1", 2, "2", 3, "3", 4, "4")).subMap(0, 1);
+        ImmutableTreeMap<Integer, String> map = new ImmutableTreeMap<Integer, String>(SortedMaps.mutable.of(1, "1", 2, "2", 3, "3", 4, "4"));
+        Assert.assertEquals(SortedMaps.mutable.of(2, "2", 3, "3"), map.subMap(2, 4));
+        Verify.assertEmpty(map.subMap(0, 1));
+        Assert.assertSame(map, map.subMap(0, 5));
+        Verify.assertThrows(IllegalArgumentException.class, () -> map.subMap(3, 2));
     }
 
-    @Test(expected = UnsupportedOperationException.class)
+    @Test
     public void headMap()
     {
-        new ImmutableTreeMap<Integer, String>(SortedMaps.mutable.of(1, "1", 2, "2", 3, "3", 4, "4")).headMap(1);
+        ImmutableTreeMap<Integer, String> map = new ImmutableTreeMap<Integer, String>(SortedMaps.mutable.of(1, "1", 2, "2", 3, "3", 4, "4"));
+        Assert.assertEquals(SortedMaps.mutable.of(1, "1", 2, "2"), map.headMap(3));
+        Verify.assertEmpty(map.headMap(1));
     }
 
-    @Test(expected = UnsupportedOperationException.class)
+    @Test
     public void tailMap()
     {
-        new ImmutableTreeMap<Integer, String>(SortedMaps.mutable.of(1, "1", 2, "2", 3, "3", 4, "4")).tailMap(0);
+        ImmutableTreeMap<Integer, String> map = new ImmutableTreeMap<Integer, String>(SortedMaps.mutable.of(1, "1", 2, "2", 3, "3", 4, "4"));
+        Assert.assertEquals(SortedMaps.mutable.of(3, "3", 4, "4"), map.tailMap(3));
+        Assert.assertSame(map, map.tailMap(0));
+        Verify.assertEmpty(map.tailMap(5));
+    }
+
+    @Test
+    public void floorKeyAndCeilingKey()
+    {
+        ImmutableSortedMap<Integer, String> map = SortedMaps.immutable.of(2, "2", 4, "4", 6, "6");
+        Assert.assertNull(map.floorKey(1));
+        Assert.assertEquals(Integer.valueOf(4), map.floorKey(4));
+        Assert.assertEquals(Integer.valueOf(4), map.floorKey(5));
+        Assert.assertEquals(Integer.valueOf(6), map.floorKey(7));
+        Assert.assertEquals(Integer.valueOf(2), map.ceilingKey(1));
+        Assert.assertEquals(Integer.valueOf(4), map.ceilingKey(4));
+        Assert.assertEquals(Integer.valueOf(6), map.ceilingKey(5));
+        Assert.assertNull(map.ceilingKey(7));
+        Assert.assertNull(SortedMaps.immutable.<Integer, String>of().floorKey(1));
+        Assert.assertNull(SortedMaps.immutable.<Integer, String>of().ceilingKey(1));
+    }
+
+    @Test
+    public void searchOptimized()
+    {
+        Random random = new Random(42L);
+        for (int size = 0; size < 300; size += 7)
+        {
+            TreeSortedMap<Long, String> longs = TreeSortedMap.newMap();
+            TreeSortedMap<Integer, String> ints = TreeSortedMap.newMap(Comparators.<Integer>reverseNaturalOrder());
+            TreeSortedMap<String, String> strings = TreeSortedMap.newMap();
+            for (int i = 0; i < size; i++)
+            {
+                int key = random.nextInt(size * 4);
+                longs.put((long) key, String.valueOf(key));
+                ints.put(key, String.valueOf(key));
+                strings.put(String.valueOf(key), String.valueOf(key));
+            }
+            this.assertSearchOptimized(longs, (long) size * 4);
+            this.assertSearchOptimized(ints, size * 4);
+            this.assertSearchOptimized(strings, String.valueOf(size * 4));
+        }
+    }
+
+    private <K> void assertSearchOptimized(TreeSortedMap<K, String> expected, K outOfRange)
+    {
+        ImmutableSortedMap<K, String> map = SortedMaps.immutable.withSortedMapSearchOptimized(expected);
+        Assert.assertEquals(expected, map);
+        Assert.assertEquals(expected.comparator(), map.comparator());
+        if (!expected.isEmpty())
+        {
+            Verify.assertPostSerializedEqualsAndHashCode(map);
+        }
+        TreeMap<K, String> navigable = new TreeMap<K, String>(expected);
+        for (K key : FastList.newList(expected.keySet()).with(outOfRange))
+        {
+            Assert.assertEquals(expected.get(key), map.get(key));
+            Assert.assertEquals(expected.containsKey(key), map.containsKey(key));
+            Assert.assertEquals(navigable.floorKey(key), map.floorKey(key));
+            Assert.assertEquals(navigable.ceilingKey(key), map.ceilingKey(key));
+            Assert.assertEquals(expected.headMap(key), map.castToSortedMap().headMap(key));
+            Assert.assertEquals(expected.tailMap(key), map.castToSortedMap().tailMap(key));
+        }
+    }
+
+    @Test(expected = ClassCastException.class)
+    public void searchOptimizedKeyTypeMismatch()
+    {
+        ImmutableSortedMap<Object, String> map = SortedMaps.immutable.withSortedMapSearchOptimized(TreeSortedMap.<Object, String>newMapWith(1L, "1", 2L, "2"));
+        map.get("1");
     }
 
     @Test
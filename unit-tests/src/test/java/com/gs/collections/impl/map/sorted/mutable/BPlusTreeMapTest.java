@@ -0,0 +1,202 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.sorted.mutable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BPlusTreeMapTest
+{
+    @Test
+    public void matchesTreeMap()
+    {
+        Random random = new Random(1L);
+        for (int round = 0; round < 60; round++)
+        {
+            int range = 1 + random.nextInt(round < 20 ? 200 : 20000);
+            TreeMap<Integer, Integer> expected = new TreeMap<>();
+            BPlusTreeMap<Integer, Integer> actual = new BPlusTreeMap<>();
+            if (random.nextBoolean())
+            {
+                for (int i = random.nextInt(range); i > 0; i--)
+                {
+                    expected.put(random.nextInt(range), i);
+                }
+                actual = new BPlusTreeMap<>(expected);
+            }
+            boolean ascending = random.nextInt(4) == 0;
+            int next = 0;
+            for (int operation = random.nextInt(10000); operation > 0; operation--)
+            {
+                int key = ascending ? next++ : random.nextInt(range);
+                int kind = random.nextInt(100);
+                if (kind < 55)
+                {
+                    Assert.assertEquals(expected.put(key, operation), actual.put(key, operation));
+                }
+                else if (kind < 90)
+                {
+                    Assert.assertEquals(expected.remove(key), actual.remove(key));
+                }
+                else if (kind < 95)
+                {
+                    int other = random.nextInt(range);
+                    int low = Math.min(key, other);
+                    int high = Math.max(key, other);
+                    assertSameContents(expected.subMap(low, high), actual.subMap(low, high));
+                    assertSameContents(expected.headMap(high), actual.headMap(high));
+                    assertSameContents(expected.tailMap(low), actual.tailMap(low));
+                    assertSameContents(expected.tailMap(low).headMap(high), actual.tailMap(low).headMap(high));
+                }
+                else if (kind < 98)
+                {
+                    int other = random.nextInt(range);
+                    Iterator<Integer> expectedIterator = expected.subMap(Math.min(key, other), Math.max(key, other)).keySet().iterator();
+                    Iterator<Integer> actualIterator = actual.subMap(Math.min(key, other), Math.max(key, other)).keySet().iterator();
+                    for (int i = 0; expectedIterator.hasNext(); i++)
+                    {
+                        Assert.assertEquals(expectedIterator.next(), actualIterator.next());
+                        if (i % 2 == 0)
+                        {
+                            expectedIterator.remove();
+                            actualIterator.remove();
+                        }
+                    }
+                    Assert.assertFalse(actualIterator.hasNext());
+                }
+                else
+                {
+                    int other = random.nextInt(range);
+                    expected.subMap(Math.min(key, other), Math.max(key, other)).clear();
+                    actual.subMap(Math.min(key, other), Math.max(key, other)).clear();
+                }
+                Assert.assertEquals(expected.size(), actual.size());
+            }
+            assertSameContents(expected, actual);
+            assertSameContents(expected, new BPlusTreeMap<>(actual));
+        }
+    }
+
+    private static void assertSameContents(SortedMap<Integer, Integer> expected, SortedMap<Integer, Integer> actual)
+    {
+        Assert.assertEquals(expected, actual);
+        Assert.assertEquals(actual, expected);
+        Assert.assertEquals(expected.hashCode(), actual.hashCode());
+        Assert.assertEquals(expected.size(), actual.size());
+        Assert.assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(actual.keySet()));
+        Assert.assertEquals(new ArrayList<>(expected.values()), new ArrayList<>(actual.values()));
+        if (!expected.isEmpty())
+        {
+            Assert.assertEquals(expected.firstKey(), actual.firstKey());
+            Assert.assertEquals(expected.lastKey(), actual.lastKey());
+        }
+    }
+
+    @Test
+    public void keySetMatchesTreeSet()
+    {
+        Random random = new Random(2L);
+        TreeSet<String> expected = new TreeSet<>(Collections.reverseOrder());
+        SortedSet<String> actual = BPlusTreeMap.newKeysOnlyMap(Collections.<String>reverseOrder()).keySet();
+        for (int i = 0; i < 20000; i++)
+        {
+            String element = String.valueOf(random.nextInt(3000));
+            if (random.nextInt(3) > 0)
+            {
+                Assert.assertEquals(expected.add(element), actual.add(element));
+            }
+            else
+            {
+                Assert.assertEquals(expected.remove(element), actual.remove(element));
+            }
+        }
+        Assert.assertEquals(expected, actual);
+        Assert.assertEquals(new ArrayList<>(expected), new ArrayList<>(actual));
+        Assert.assertEquals(new ArrayList<>(expected.subSet("2", "1")), new ArrayList<>(actual.subSet("2", "1")));
+        Assert.assertEquals(new ArrayList<>(expected), new ArrayList<>(BPlusTreeMap.newKeysOnlyMap(actual).keySet()));
+
+        expected.subSet("2", "1").add("15");
+        actual.subSet("2", "1").add("15");
+        Assert.assertEquals(expected, actual);
+        Verify.assertThrows(IllegalArgumentException.class, () -> actual.subSet("2", "1").add("3"));
+    }
+
+    @Test
+    public void emptyMap()
+    {
+        BPlusTreeMap<Integer, String> map = new BPlusTreeMap<>();
+        Verify.assertEmpty(map);
+        Assert.assertNull(map.get(1));
+        Assert.assertFalse(map.keySet().iterator().hasNext());
+        Verify.assertThrows(NoSuchElementException.class, map::firstKey);
+        Verify.assertThrows(NoSuchElementException.class, map::lastKey);
+        Verify.assertThrows(NoSuchElementException.class, () -> map.headMap(5).firstKey());
+        Verify.assertThrows(NullPointerException.class, () -> map.put(null, "null"));
+        Verify.assertThrows(IllegalArgumentException.class, () -> map.subMap(2, 1));
+        Verify.assertThrows(IllegalArgumentException.class, () -> map.headMap(5).put(5, "5"));
+    }
+
+    @Test
+    public void entrySetWritesThrough()
+    {
+        BPlusTreeMap<Integer, String> map = new BPlusTreeMap<>();
+        for (int i = 0; i < 1000; i++)
+        {
+            map.put(i, String.valueOf(i));
+        }
+        for (Map.Entry<Integer, String> entry : map.tailMap(500).entrySet())
+        {
+            entry.setValue(entry.getValue() + "!");
+        }
+        Assert.assertEquals("499", map.get(499));
+        Assert.assertEquals("500!", map.get(500));
+        Assert.assertTrue(map.entrySet().contains(new BPlusTreeMap<>(map.subMap(999, 1000)).entrySet().iterator().next()));
+        Assert.assertTrue(map.containsValue("999!"));
+        Assert.assertFalse(map.containsValue("999"));
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void iteratorIsFailFast()
+    {
+        BPlusTreeMap<Integer, String> map = new BPlusTreeMap<>();
+        map.put(1, "1");
+        map.put(2, "2");
+        Iterator<Integer> iterator = map.keySet().iterator();
+        iterator.next();
+        map.put(3, "3");
+        iterator.next();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void keySetOfMapRejectsAdd()
+    {
+        new BPlusTreeMap<Integer, String>().keySet().add(1);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.sorted.mutable;
+
+import java.util.Comparator;
+
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Runs the {@link TreeSortedMap} tests against maps created by {@link TreeSortedMap#newBTreeMap()}.
+ */
+public class BTreeSortedMapTest extends TreeSortedMapTest
+{
+    @Override
+    public <K, V> TreeSortedMap<K, V> newMap()
+    {
+        return TreeSortedMap.newBTreeMap();
+    }
+
+    @Override
+    public <K, V> TreeSortedMap<K, V> newMapWithKeyValue(K key, V value)
+    {
+        return TreeSortedMap.<K, V>newBTreeMap().with(key, value);
+    }
+
+    @Override
+    public <K, V> TreeSortedMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return TreeSortedMap.<K, V>newBTreeMap().with(key1, value1, key2, value2);
+    }
+
+    @Override
+    public <K, V> TreeSortedMap<K, V> newMapWithKeysValues(
+            K key1, V value1, K key2, V value2, K key3,
+            V value3)
+    {
+        return TreeSortedMap.<K, V>newBTreeMap().with(key1, value1, key2, value2, key3, value3);
+    }
+
+    @Override
+    public <K, V> TreeSortedMap<K, V> newMapWithKeysValues(
+            K key1, V value1, K key2, V value2, K key3,
+            V value3, K key4, V value4)
+    {
+        return TreeSortedMap.<K, V>newBTreeMap().with(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    @Override
+    public <K, V> TreeSortedMap<K, V> newMap(Comparator<? super K> comparator)
+    {
+        return TreeSortedMap.newBTreeMap(comparator);
+    }
+
+    @Override
+    public <K, V> TreeSortedMap<K, V> newMapWithKeyValue(Comparator<? super K> comparator, K key, V value)
+    {
+        return TreeSortedMap.<K, V>newBTreeMap(comparator).with(key, value);
+    }
+
+    @Override
+    public <K, V> TreeSortedMap<K, V> newMapWithKeysValues(Comparator<? super K> comparator, K key1, V value1, K key2, V value2)
+    {
+        return TreeSortedMap.<K, V>newBTreeMap(comparator).with(key1, value1, key2, value2);
+    }
+
+    @Override
+    public <K, V> TreeSortedMap<K, V> newMapWithKeysValues(Comparator<? super K> comparator,
+            K key1, V value1, K key2, V value2, K key3,
+            V value3)
+    {
+        return TreeSortedMap.<K, V>newBTreeMap(comparator).with(key1, value1, key2, value2, key3, value3);
+    }
+
+    @Override
+    public <K, V> TreeSortedMap<K, V> newMapWithKeysValues(Comparator<? super K> comparator,
+            K key1, V value1, K key2, V value2, K key3,
+            V value3, K key4, V value4)
+    {
+        return TreeSortedMap.<K, V>newBTreeMap(comparator).with(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    @Test
+    public void derivedMapsKeepTheBTree()
+    {
+        TreeSortedMap<Integer, String> map = this.newMapWithKeysValues(Comparators.<Integer>reverseNaturalOrder(), 1, "1", 2, "2", 3, "3");
+        TreeSortedMap<Integer, String> clone = map.clone();
+        Assert.assertEquals(map, clone);
+        Assert.assertEquals(map.comparator(), clone.newEmpty().comparator());
+        map.removeKey(1);
+        Assert.assertTrue(clone.containsKey(1));
+
+        TreeSortedMap<Integer, String> bulkLoaded = TreeSortedMap.newBTreeMap(clone);
+        Assert.assertEquals(clone, bulkLoaded);
+        Verify.assertListsEqual(clone.keySet().toList(), bulkLoaded.keySet().toList());
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.parallel;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ExecutorService;
+
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.test.Verify;
+import com.gs.collections.impl.tuple.Tuples;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ParallelArraySortTest
+{
+    private static final int SIZE = 10_007;
+
+    private final ExecutorService executor = ParallelIterate.newPooledExecutor(3, "ParallelArraySortTest", true);
+
+    @After
+    public void tearDown()
+    {
+        this.executor.shutdown();
+    }
+
+    @Test
+    public void sortOn()
+    {
+        for (int taskCount = 1; taskCount <= 9; taskCount++)
+        {
+            Integer[] actual = Interval.oneTo(SIZE).collect(each -> each * 7919 % SIZE).toArray(new Integer[SIZE + 5]);
+            Integer[] expected = actual.clone();
+            Arrays.sort(expected, 0, SIZE);
+            ParallelArraySort.sortOn(actual, SIZE, null, 1, taskCount, this.executor);
+            Assert.assertArrayEquals("Task count: " + taskCount, expected, actual);
+        }
+    }
+
+    @Test
+    public void sortOn_is_stable()
+    {
+        Comparator<Pair<Integer, Integer>> byOne = (pair1, pair2) -> pair1.getOne().compareTo(pair2.getOne());
+        for (int taskCount = 1; taskCount <= 9; taskCount++)
+        {
+            Pair<Integer, Integer>[] actual = Interval.oneTo(SIZE).collect(each -> Tuples.pair(each % 17, each)).toArray(new Pair[SIZE]);
+            Pair<Integer, Integer>[] expected = actual.clone();
+            Arrays.sort(expected, byOne);
+            ParallelArraySort.sortOn(actual, SIZE, byOne, 1, taskCount, this.executor);
+            Assert.assertArrayEquals("Task count: " + taskCount, expected, actual);
+        }
+    }
+
+    @Test
+    public void sortOn_primitives()
+    {
+        for (int taskCount = 1; taskCount <= 9; taskCount++)
+        {
+            int[] actualInts = new int[SIZE];
+            double[] actualDoubles = new double[SIZE];
+            for (int i = 0; i < SIZE; i++)
+            {
+                actualInts[i] = i * 7919 % SIZE - SIZE / 2;
+                actualDoubles[i] = i % 5 == 0 ? Double.NaN : i % 7 == 0 ? -0.0 : actualInts[i] / 3.0;
+            }
+            int[] expectedInts = actualInts.clone();
+            double[] expectedDoubles = actualDoubles.clone();
+            Arrays.sort(expectedInts);
+            Arrays.sort(expectedDoubles);
+            ParallelIntArraySort.sortOn(actualInts, SIZE, 1, taskCount, this.executor);
+            ParallelDoubleArraySort.sortOn(actualDoubles, SIZE, 1, taskCount, this.executor);
+            Assert.assertArrayEquals("Task count: " + taskCount, expectedInts, actualInts);
+            Assert.assertArrayEquals("Task count: " + taskCount, expectedDoubles, actualDoubles, 0.0);
+        }
+    }
+
+    @Test
+    public void sortOnException()
+    {
+        Object[] array = {1, 2, "3", 4};
+        Verify.assertThrows(
+                RuntimeException.class,
+                () -> ParallelArraySort.sortOn(array, array.length, null, 1, 2, this.executor));
+    }
+}
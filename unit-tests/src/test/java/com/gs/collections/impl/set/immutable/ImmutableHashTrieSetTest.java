@@ -0,0 +1,102 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.immutable;
+
+import com.gs.collections.api.set.ImmutableSet;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.impl.factory.Sets;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableHashTrieSet}.
+ */
+public class ImmutableHashTrieSetTest extends AbstractImmutableUnifiedSetTestCase
+{
+    @Override
+    public ImmutableSet<Integer> newSet(Integer... elements)
+    {
+        return ImmutableHashTrieSet.newSetWith(elements);
+    }
+
+    @Override
+    public ImmutableSet<Integer> newSetWith(int one, int two)
+    {
+        return ImmutableHashTrieSet.newSetWith(one, two);
+    }
+
+    @Override
+    public ImmutableSet<Integer> newSetWith(int one, int two, int three)
+    {
+        return ImmutableHashTrieSet.newSetWith(one, two, three);
+    }
+
+    @Override
+    public ImmutableSet<Integer> newSetWith(int... littleElements)
+    {
+        Integer[] bigElements = new Integer[littleElements.length];
+        for (int i = 0; i < littleElements.length; i++)
+        {
+            bigElements[i] = littleElements[i];
+        }
+        return ImmutableHashTrieSet.newSetWith(bigElements);
+    }
+
+    @Test
+    public void newWithAndWithout()
+    {
+        ImmutableHashTrieSet<Integer> set = ImmutableHashTrieSet.newSet(Interval.oneTo(100));
+        ImmutableHashTrieSet<Integer> added = set.newWith(101);
+        ImmutableHashTrieSet<Integer> removed = set.newWithout(50);
+        Verify.assertSize(100, set);
+        Verify.assertSize(101, added);
+        Verify.assertSize(99, removed);
+        Assert.assertFalse(removed.contains(50));
+        Assert.assertTrue(set.contains(50));
+        Assert.assertSame(set, set.newWith(1));
+        Assert.assertSame(set, set.newWithout(0));
+        Assert.assertEquals(UnifiedSet.newSet(Interval.oneTo(100)), set);
+        Assert.assertEquals(UnifiedSet.newSet(Interval.oneTo(100)).hashCode(), set.hashCode());
+    }
+
+    @Test
+    public void builder()
+    {
+        ImmutableHashTrieSet<Integer> set = ImmutableHashTrieSet.newSet(Interval.oneTo(100));
+        ImmutableHashTrieSet.Builder<Integer> builder = set.toBuilder().removeAll(Interval.oneTo(50)).addAll(Interval.fromTo(200, 210)).add(null);
+        Assert.assertEquals(62, builder.size());
+        Assert.assertTrue(builder.contains(null));
+        ImmutableHashTrieSet<Integer> built = builder.remove(200).build();
+
+        MutableSet<Integer> expected = UnifiedSet.newSet(Interval.fromTo(51, 100)).withAll(Interval.fromTo(201, 210)).with((Integer) null);
+        Assert.assertEquals(expected, built);
+        Assert.assertEquals(UnifiedSet.newSet(Interval.oneTo(100)), set);
+        Assert.assertSame(ImmutableHashTrieSet.newSet(), set.newWithoutAll(Interval.oneTo(100)));
+    }
+
+    @Test
+    public void factory()
+    {
+        Verify.assertInstanceOf(ImmutableHashTrieSet.class, Sets.immutable.emptyPersistent());
+        ImmutableSet<Integer> set = Sets.immutable.withAllPersistent(Interval.oneTo(3));
+        Verify.assertInstanceOf(ImmutableHashTrieSet.class, set.newWith(4).newWithout(1));
+        Assert.assertEquals(UnifiedSet.newSetWith(1, 2, 3), set);
+    }
+}
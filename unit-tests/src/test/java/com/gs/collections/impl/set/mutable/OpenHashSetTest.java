@@ -0,0 +1,135 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.mutable;
+
+import java.util.Iterator;
+
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link OpenHashSet}.
+ */
+public class OpenHashSetTest extends AbstractMutableSetTestCase
+{
+    @Override
+    protected <T> OpenHashSet<T> newWith(T... littleElements)
+    {
+        return OpenHashSet.newSetWith(littleElements);
+    }
+
+    @Test
+    public void growAndShrink()
+    {
+        OpenHashSet<Integer> set = OpenHashSet.newSet();
+        for (int i = 0; i < 1000; i++)
+        {
+            Assert.assertTrue(set.add(i));
+            Assert.assertFalse(set.add(i));
+        }
+        Verify.assertSize(1000, set);
+        for (int i = 0; i < 1000; i += 2)
+        {
+            Assert.assertTrue(set.remove(i));
+        }
+        Verify.assertSize(500, set);
+        for (int i = 0; i < 1000; i++)
+        {
+            Assert.assertEquals(i % 2 != 0, set.contains(i));
+        }
+    }
+
+    @Test
+    public void collidingElements()
+    {
+        OpenHashSet<CollidingElement> set = OpenHashSet.newSet();
+        for (int i = 0; i < 50; i++)
+        {
+            set.add(new CollidingElement(i));
+        }
+        Assert.assertTrue(set.getMaxProbeLength() >= 7);
+        for (int i = 0; i < 50; i += 3)
+        {
+            Assert.assertTrue(set.remove(new CollidingElement(i)));
+        }
+        for (int i = 0; i < 50; i++)
+        {
+            Assert.assertEquals(i % 3 != 0, set.contains(new CollidingElement(i)));
+        }
+    }
+
+    @Test
+    public void removeThroughIterator()
+    {
+        OpenHashSet<CollidingElement> set = OpenHashSet.newSet();
+        MutableSet<CollidingElement> expected = UnifiedSet.newSet();
+        for (int i = 0; i < 100; i++)
+        {
+            CollidingElement element = new CollidingElement(i);
+            set.add(element);
+            if (i % 2 != 0)
+            {
+                expected.add(element);
+            }
+        }
+        int visited = 0;
+        for (Iterator<CollidingElement> iterator = set.iterator(); iterator.hasNext(); )
+        {
+            visited++;
+            if (iterator.next().value % 2 == 0)
+            {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(100, visited);
+        Assert.assertEquals(expected, set);
+    }
+
+    @Test
+    public void getMaxProbeLength()
+    {
+        Assert.assertEquals(0, OpenHashSet.newSet().getMaxProbeLength());
+        OpenHashSet<Integer> set = OpenHashSet.newSet(Interval.oneTo(100));
+        Verify.assertSize(100, set);
+        Assert.assertTrue(set.getMaxProbeLength() >= 1);
+    }
+
+    private static final class CollidingElement
+    {
+        private final int value;
+
+        private CollidingElement(int value)
+        {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            return o instanceof CollidingElement && ((CollidingElement) o).value == this.value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.value & 7;
+        }
+    }
+}
@@ -668,24 +668,31 @@ public class ImmutableEmptySortedSetTest extends AbstractImmutableSortedSetTestC
     }
 
     @Override
-    @Test(expected = UnsupportedOperationException.class)
+    @Test
     public void subSet()
     {
-        this.classUnderTest().castToSortedSet().subSet(1, 4);
+        Verify.assertEmpty(this.classUnderTest().castToSortedSet().subSet(1, 4));
     }
 
     @Override
-    @Test(expected = UnsupportedOperationException.class)
+    @Test
     public void headSet()
     {
-        this.classUnderTest().castToSortedSet().headSet(4);
+        Verify.assertEmpty(this.classUnderTest().castToSortedSet().headSet(4));
     }
 
     @Override
-    @Test(expected = UnsupportedOperationException.class)
+    @Test
     public void tailSet()
     {
-        this.classUnderTest().castToSortedSet().tailSet(1);
+        Verify.assertEmpty(this.classUnderTest().castToSortedSet().tailSet(1));
+    }
+
+    @Test
+    public void floorAndCeiling()
+    {
+        Assert.assertNull(this.classUnderTest().floor(1));
+        Assert.assertNull(this.classUnderTest().ceiling(1));
     }
 
     @Override
@@ -19,6 +19,7 @@ package com.gs.collections.impl.set.sorted.immutable;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Random;
 import java.util.TreeSet;
 
 import com.gs.collections.api.set.sorted.ImmutableSortedSet;
@@ -95,24 +96,90 @@ public class ImmutableTreeSetTest
     }
 
     @Override
-    @Test(expected = UnsupportedOperationException.class)
+    @Test
     public void subSet()
     {
-        this.classUnderTest().castToSortedSet().subSet(1, 4);
+        ImmutableSortedSet<Integer> set = this.classUnderTest();
+        Assert.assertEquals(TreeSortedSet.newSetWith(2, 3), set.castToSortedSet().subSet(2, 4));
+        Verify.assertEmpty(set.castToSortedSet().subSet(0, 1));
+        Assert.assertSame(set, set.castToSortedSet().subSet(0, 5));
+        Verify.assertThrows(IllegalArgumentException.class, () -> set.castToSortedSet().subSet(3, 2));
     }
 
     @Override
-    @Test(expected = UnsupportedOperationException.class)
+    @Test
     public void headSet()
     {
-        this.classUnderTest().castToSortedSet().headSet(4);
+        ImmutableSortedSet<Integer> set = this.classUnderTest();
+        Assert.assertEquals(TreeSortedSet.newSetWith(1, 2, 3), set.castToSortedSet().headSet(4));
+        Verify.assertEmpty(set.castToSortedSet().headSet(1));
     }
 
     @Override
-    @Test(expected = UnsupportedOperationException.class)
+    @Test
     public void tailSet()
     {
-        this.classUnderTest().castToSortedSet().tailSet(1);
+        ImmutableSortedSet<Integer> set = this.classUnderTest();
+        Assert.assertEquals(TreeSortedSet.newSetWith(3, 4), set.castToSortedSet().tailSet(3));
+        Assert.assertSame(set, set.castToSortedSet().tailSet(1));
+        Verify.assertEmpty(set.castToSortedSet().tailSet(5));
+    }
+
+    @Test
+    public void floorAndCeiling()
+    {
+        ImmutableSortedSet<Integer> set = SortedSets.immutable.of(2, 4, 6);
+        Assert.assertNull(set.floor(1));
+        Assert.assertEquals(Integer.valueOf(4), set.floor(5));
+        Assert.assertEquals(Integer.valueOf(6), set.floor(7));
+        Assert.assertEquals(Integer.valueOf(2), set.ceiling(1));
+        Assert.assertEquals(Integer.valueOf(4), set.ceiling(4));
+        Assert.assertNull(set.ceiling(7));
+
+        ImmutableSortedSet<Integer> reversed = SortedSets.immutable.of(Comparators.<Integer>reverseNaturalOrder(), 2, 4, 6);
+        Assert.assertEquals(Integer.valueOf(6), reversed.floor(5));
+        Assert.assertEquals(Integer.valueOf(4), reversed.ceiling(5));
+    }
+
+    @Test
+    public void searchOptimized()
+    {
+        Random random = new Random(42L);
+        for (int size = 0; size < 300; size += 7)
+        {
+            TreeSet<Long> longs = new TreeSet<>();
+            TreeSet<Integer> ints = new TreeSet<>(Comparators.<Integer>reverseNaturalOrder());
+            TreeSet<String> strings = new TreeSet<>();
+            for (int i = 0; i < size; i++)
+            {
+                int element = random.nextInt(size * 4);
+                longs.add((long) element);
+                ints.add(element);
+                strings.add(String.valueOf(element));
+            }
+            this.assertSearchOptimized(longs, (long) size * 4);
+            this.assertSearchOptimized(ints, size * 4);
+            this.assertSearchOptimized(strings, String.valueOf(size * 4));
+        }
+    }
+
+    private <T> void assertSearchOptimized(TreeSet<T> expected, T outOfRange)
+    {
+        ImmutableSortedSet<T> set = SortedSets.immutable.withSortedSetSearchOptimized(expected);
+        Assert.assertEquals(expected, set);
+        Assert.assertEquals(expected.comparator(), set.comparator());
+        if (!expected.isEmpty())
+        {
+            Verify.assertPostSerializedEqualsAndHashCode(set);
+        }
+        for (T element : FastList.newList(expected).with(outOfRange))
+        {
+            Assert.assertEquals(expected.contains(element), set.contains(element));
+            Assert.assertEquals(expected.floor(element), set.floor(element));
+            Assert.assertEquals(expected.ceiling(element), set.ceiling(element));
+            Assert.assertEquals(expected.headSet(element), set.castToSortedSet().headSet(element));
+            Assert.assertEquals(expected.tailSet(element), set.castToSortedSet().tailSet(element));
+        }
     }
 
     @Override
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.sorted.mutable;
+
+import java.util.Comparator;
+
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.block.factory.IntegerPredicates;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Runs the {@link TreeSortedSet} tests against sets created by {@link TreeSortedSet#newBTreeSet()}.
+ */
+public class BTreeSortedSetTest extends TreeSortedSetTest
+{
+    @Override
+    protected <T> TreeSortedSet<T> newWith(T... elements)
+    {
+        return TreeSortedSet.<T>newBTreeSet().with(elements);
+    }
+
+    @Override
+    protected <T> TreeSortedSet<T> newWith(Comparator<? super T> comparator, T... elements)
+    {
+        return TreeSortedSet.<T>newBTreeSet(comparator).with(elements);
+    }
+
+    @Test
+    public void largeSet()
+    {
+        TreeSortedSet<Integer> set = TreeSortedSet.newBTreeSet(Comparators.<Integer>reverseNaturalOrder());
+        set.addAllIterable(Interval.oneTo(10000));
+        Verify.assertSize(10000, set);
+        Assert.assertEquals(Integer.valueOf(10000), set.first());
+        Assert.assertEquals(Integer.valueOf(1), set.last());
+        Verify.assertSortedSetsEqual(TreeSortedSet.newSet(Comparators.<Integer>reverseNaturalOrder(), Interval.fromTo(5000, 4001)), set.subSet(5000, 4000));
+        set.removeIf(IntegerPredicates.isEven());
+        Verify.assertSize(5000, set);
+        Assert.assertEquals(Integer.valueOf(9999), set.first());
+
+        TreeSortedSet<Integer> bulkLoaded = TreeSortedSet.newBTreeSet(set);
+        Verify.assertSortedSetsEqual(set, bulkLoaded);
+        Verify.assertSortedSetsEqual(set, set.clone());
+        Assert.assertEquals(set.comparator(), set.newEmpty().comparator());
+    }
+}
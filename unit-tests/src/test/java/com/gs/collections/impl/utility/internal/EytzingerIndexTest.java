@@ -0,0 +1,91 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.utility.internal;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import com.gs.collections.impl.block.factory.Comparators;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class EytzingerIndexTest
+{
+    @Test
+    public void matchesBinarySearch()
+    {
+        Random random = new Random(7L);
+        for (int size = 0; size < 200; size++)
+        {
+            Long[] longs = new Long[size];
+            Integer[] ints = new Integer[size];
+            int next = 0;
+            for (int i = 0; i < size; i++)
+            {
+                next += 1 + random.nextInt(3);
+                longs[i] = (long) next;
+                ints[i] = next;
+            }
+
+            EytzingerIndex longIndex = EytzingerIndex.newIndex(longs, null);
+            EytzingerIndex intIndex = EytzingerIndex.newIndex(ints, null);
+            if (size == 0)
+            {
+                Assert.assertNull(longIndex);
+                continue;
+            }
+            Assert.assertEquals(size, longIndex.size());
+            for (int probe = -1; probe <= next + 1; probe++)
+            {
+                assertIndex(longs, longIndex, (long) probe);
+                assertIndex(ints, intIndex, probe);
+            }
+        }
+    }
+
+    private static void assertIndex(Object[] sortedKeys, EytzingerIndex index, Object key)
+    {
+        int expected = Arrays.binarySearch(sortedKeys, key);
+        Assert.assertEquals(expected, index.indexOf(key));
+        int ceiling = expected >= 0 ? expected : -expected - 1;
+        int higher = expected >= 0 ? expected + 1 : -expected - 1;
+        Assert.assertEquals(ceiling, index.ceilingIndex(key));
+        Assert.assertEquals(higher, index.higherIndex(key));
+    }
+
+    @Test
+    public void onlyNaturallyOrderedLongsAndIntegersAreIndexed()
+    {
+        Assert.assertNull(EytzingerIndex.newIndex(new String[]{"a", "b"}, null));
+        Assert.assertNull(EytzingerIndex.newIndex(new Integer[]{2, 1}, Comparators.<Integer>reverseNaturalOrder()));
+        Assert.assertNull(EytzingerIndex.newIndex(new Number[]{1, 2L}, null));
+    }
+
+    @Test
+    public void presentAndAbsentKeys()
+    {
+        EytzingerIndex index = EytzingerIndex.newIndex(new Long[]{1L, 3L, 5L}, null);
+        Assert.assertEquals(1, index.indexOf(3L));
+        Assert.assertEquals(-3, index.indexOf(4L));
+    }
+
+    @Test(expected = ClassCastException.class)
+    public void incomparableKey()
+    {
+        EytzingerIndex.newIndex(new Long[]{1L, 3L, 5L}, null).indexOf("3");
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.utility.internal;
+
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OffHeapMemoryTest
+{
+    @Test
+    public void readsAndWritesWithinBlock()
+    {
+        OffHeapMemory memory = OffHeapMemory.allocate(16L);
+        try
+        {
+            Assert.assertEquals(16L, memory.size());
+            Assert.assertEquals(0L, memory.getLong(8L));
+            memory.putInt(0L, 42);
+            memory.putDouble(8L, 1.5);
+            Assert.assertEquals(42, memory.getInt(0L));
+            Assert.assertEquals(1.5, memory.getDouble(8L), 0.0);
+            memory.copyTo(0L, memory, 4L, 4L);
+            Assert.assertEquals(42, memory.getInt(4L));
+            memory.clear(0L, 8L);
+            Assert.assertEquals(0L, memory.getLong(0L));
+        }
+        finally
+        {
+            memory.free();
+        }
+    }
+
+    @Test
+    public void rejectsAccessOutsideBlock()
+    {
+        OffHeapMemory memory = OffHeapMemory.allocate(8L);
+        OffHeapMemory other = OffHeapMemory.allocate(4L);
+        try
+        {
+            Verify.assertThrows(IndexOutOfBoundsException.class, () -> memory.getByte(-1L));
+            Verify.assertThrows(IndexOutOfBoundsException.class, () -> memory.getLong(1L));
+            Verify.assertThrows(IndexOutOfBoundsException.class, () -> memory.putInt(5L, 1));
+            Verify.assertThrows(IndexOutOfBoundsException.class, () -> memory.clear(4L, 5L));
+            Verify.assertThrows(IndexOutOfBoundsException.class, () -> memory.clear(0L, -1L));
+            Verify.assertThrows(IndexOutOfBoundsException.class, () -> memory.getLong(Long.MAX_VALUE));
+            Verify.assertThrows(IndexOutOfBoundsException.class, () -> memory.copyTo(0L, other, 0L, 8L));
+        }
+        finally
+        {
+            memory.free();
+            other.free();
+        }
+    }
+
+    @Test
+    public void freedBlockRejectsAccess()
+    {
+        OffHeapMemory memory = OffHeapMemory.allocate(8L);
+        memory.free();
+        memory.free();
+        Assert.assertEquals(0L, memory.size());
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> memory.getByte(0L));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> memory.putLong(0L, 1L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeSizeThrows()
+    {
+        OffHeapMemory.allocate(-1L);
+    }
+}
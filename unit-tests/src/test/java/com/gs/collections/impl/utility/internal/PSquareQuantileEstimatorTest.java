@@ -0,0 +1,95 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.utility.internal;
+
+import java.util.Random;
+
+import com.gs.collections.impl.list.primitive.IntInterval;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PSquareQuantileEstimatorTest
+{
+    @Test
+    public void exactForFewValues()
+    {
+        PSquareQuantileEstimator estimator = new PSquareQuantileEstimator(25.0);
+        estimator.add(4.0);
+        estimator.add(1.0);
+        estimator.add(3.0);
+        estimator.add(2.0);
+        estimator.add(5.0);
+        Assert.assertEquals(5L, estimator.getCount());
+        Assert.assertEquals(2.0, estimator.getEstimate(), 0.0);
+    }
+
+    @Test
+    public void extremes()
+    {
+        PSquareQuantileEstimator min = new PSquareQuantileEstimator(0.0);
+        PSquareQuantileEstimator max = new PSquareQuantileEstimator(100.0);
+        int[] values = IntInterval.zeroTo(999).toArray();
+        shuffle(values, new Random(17L));
+        for (int value : values)
+        {
+            min.add(value);
+            max.add(value);
+        }
+        Assert.assertEquals(0.0, min.getEstimate(), 0.0);
+        Assert.assertEquals(999.0, max.getEstimate(), 0.0);
+    }
+
+    @Test
+    public void approximatesLargeStream()
+    {
+        PSquareQuantileEstimator median = new PSquareQuantileEstimator(50.0);
+        PSquareQuantileEstimator ninetieth = new PSquareQuantileEstimator(90.0);
+        int[] values = IntInterval.zeroTo(9999).toArray();
+        shuffle(values, new Random(42L));
+        for (int value : values)
+        {
+            median.add(value);
+            ninetieth.add(value);
+        }
+        Assert.assertEquals(10000L, median.getCount());
+        Assert.assertEquals(4999.5, median.getEstimate(), 100.0);
+        Assert.assertEquals(8999.1, ninetieth.getEstimate(), 100.0);
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void throwsOnEmpty()
+    {
+        new PSquareQuantileEstimator(50.0).getEstimate();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsOnOutOfRange()
+    {
+        new PSquareQuantileEstimator(100.5);
+    }
+
+    private static void shuffle(int[] values, Random random)
+    {
+        for (int i = values.length - 1; i > 0; i--)
+        {
+            int j = random.nextInt(i + 1);
+            int temp = values[i];
+            values[i] = values[j];
+            values[j] = temp;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.utility.internal.primitive;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import com.gs.collections.impl.list.mutable.primitive.DoubleArrayList;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DoubleOrderStatisticsTest
+{
+    @Test
+    public void medianMatchesSort()
+    {
+        Random random = new Random(7L);
+        for (int size = 1; size < 200; size++)
+        {
+            double[] values = new double[size];
+            for (int i = 0; i < size; i++)
+            {
+                values[i] = (double) random.nextInt(size);
+            }
+            double[] sorted = values.clone();
+            Arrays.sort(sorted);
+            double expected = (size & 1) == 1
+                    ? sorted[size >> 1]
+                    : (sorted[(size >> 1) - 1] + sorted[size >> 1]) / 2.0;
+            Assert.assertEquals(expected, DoubleOrderStatistics.median(values), 0.0);
+        }
+    }
+
+    @Test
+    public void medianOfAdversarialInputs()
+    {
+        double[] ascending = new double[100001];
+        double[] descending = new double[100001];
+        for (int i = 0; i < ascending.length; i++)
+        {
+            ascending[i] = (double) i;
+            descending[i] = (double) (ascending.length - 1 - i);
+        }
+        Assert.assertEquals(50000.0, DoubleOrderStatistics.median(ascending), 0.0);
+        Assert.assertEquals(50000.0, DoubleOrderStatistics.median(descending), 0.0);
+        double[] constant = new double[10001];
+        Arrays.fill(constant, 3.0);
+        Assert.assertEquals(3.0, DoubleOrderStatistics.median(constant), 0.0);
+    }
+
+    @Test
+    public void percentileOrdersLikeArraysSort()
+    {
+        double[] values = {Double.NaN, 1.0, -0.0, 0.0, Double.NEGATIVE_INFINITY};
+        Assert.assertEquals(Double.NEGATIVE_INFINITY, DoubleOrderStatistics.percentile(values.clone(), 0.0), 0.0);
+        Assert.assertEquals(1.0, DoubleOrderStatistics.percentile(values.clone(), 75.0), 0.0);
+        Assert.assertTrue(Double.isNaN(DoubleOrderStatistics.percentile(values.clone(), 100.0)));
+    }
+
+    @Test
+    public void percentilesMatchSinglePercentile()
+    {
+        Random random = new Random(11L);
+        double[] values = new double[1000];
+        for (int i = 0; i < values.length; i++)
+        {
+            values[i] = random.nextDouble();
+        }
+        double[] requested = {99.0, 1.0, 50.0, 50.0, 0.0, 75.5};
+        double[] actual = DoubleOrderStatistics.percentiles(values.clone(), requested);
+        for (int i = 0; i < requested.length; i++)
+        {
+            Assert.assertEquals(DoubleOrderStatistics.percentile(values.clone(), requested[i]), actual[i], 0.0);
+        }
+    }
+
+    @Test
+    public void topKAndBottomK()
+    {
+        DoubleArrayList list = DoubleArrayList.newListWith(5.0, 9.0, 1.0, 7.0, 3.0);
+        Assert.assertEquals(DoubleArrayList.newListWith(9.0, 7.0), DoubleOrderStatistics.topK(list, 2));
+        Assert.assertEquals(DoubleArrayList.newListWith(1.0, 3.0, 5.0), DoubleOrderStatistics.bottomK(list, 3));
+        Assert.assertEquals(DoubleArrayList.newListWith(9.0, 7.0, 5.0, 3.0, 1.0), DoubleOrderStatistics.topK(list, 10));
+        Assert.assertEquals(new DoubleArrayList(), DoubleOrderStatistics.bottomK(list, 0));
+    }
+}